@@ -32,6 +32,7 @@ dependencies {
         api(project(":driver-core"))
         api(project(":bson"))
         api(project(":bson-record-codec"))
+        api(project(":bson-codec-processor"))
 
         api(project(":driver-sync"))
         api(project(":driver-reactive-streams"))
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import ProjectExtensions.configureJarManifest
+import ProjectExtensions.configureMavenPublication
+
+plugins { id("project.java") }
+
+base.archivesName.set("bson-codec-processor")
+
+dependencies {
+    // The processor refers to the bson annotations by name only, but the tests compile and run the generated codecs
+    testImplementation(project(path = ":bson", configuration = "default"))
+    testAnnotationProcessor(sourceSets["main"].output)
+}
+
+// The samples include records
+tasks.named<JavaCompile>("compileTestJava") { options.release.set(17) }
+
+tasks.withType<Test>().configureEach { onlyIf { javaVersion.isCompatibleWith(JavaVersion.VERSION_17) } }
+
+configureMavenPublication {
+    pom {
+        name.set("BSON Codec Processor")
+        description.set("An annotation processor that generates BSON codecs for Java records and POJOs")
+        url.set("https://bsonspec.org")
+    }
+}
+
+configureJarManifest {
+    attributes["Automatic-Module-Name"] = "org.mongodb.bson.codec.processor"
+    attributes["Bundle-SymbolicName"] = "org.mongodb.bson-codec-processor"
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * An annotation processor that generates a codec for each record and POJO annotated with
+ * {@link org.bson.codecs.pojo.annotations.BsonGenerateCodec}.
+ *
+ * <p>Unlike the codecs of {@code PojoCodecProvider} and {@code RecordCodecProvider}, which discover the properties of a type by
+ * reflection when the codec is created and access them by reflection for each document, the generated codecs access the properties
+ * directly, which makes them cheaper to create and to run, and usable in a GraalVM native image without reflection configuration.</p>
+ *
+ * <p>To use it, add this library to the annotation processor path of the compiler, and register the provider of each generated codec,
+ * for example {@code new PersonBsonCodec.Provider()}, with the codec registry.</p>
+ *
+ * <p>The generated codecs support properties of any type whose codec can be found in the registry, including parameterized types such as
+ * {@code Map<String, List<Address>>}, but not type variables or wildcards. Unlike the codecs of {@code PojoCodecProvider}, they decode
+ * every type to itself, ignoring any discriminator, and don't generate missing ids.</p>
+ *
+ * @since 5.10
+ */
+public final class BsonCodecProcessor extends AbstractProcessor {
+    private static final String BSON_GENERATE_CODEC = "org.bson.codecs.pojo.annotations.BsonGenerateCodec";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(BSON_GENERATE_CODEC);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                try {
+                    writeCodec(new CodecModelBuilder(processingEnv, (TypeElement) element).build(), element);
+                } catch (InvalidElementException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+                }
+            }
+        }
+        return true;
+    }
+
+    private void writeCodec(final CodecModel model, final Element element) {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(model.getQualifiedCodecName(), element).openWriter()) {
+            writer.write(new CodecWriter(model).write());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    format("Unable to write the codec %s: %s", model.getQualifiedCodecName(), e.getMessage()), element);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.codecs.processor;
+
+import java.util.List;
+
+/**
+ * The model of a codec to generate, in which types and expressions are source code.
+ */
+final class CodecModel {
+    private final String packageName;
+    private final String typeName;
+    private final String codecName;
+    private final String discriminatorKey;
+    private final String discriminator;
+    private final String creatorExpression;
+    private final List<PropertyModel> properties;
+    private final List<PropertyModel> creatorParameters;
+
+    /**
+     * @param packageName       the package of the annotated type and of the codec
+     * @param typeName          the canonical name of the annotated type
+     * @param codecName         the simple name of the codec
+     * @param discriminatorKey  the discriminator key, or null if no discriminator is written
+     * @param discriminator     the discriminator value, or null if no discriminator is written
+     * @param creatorExpression the expression that creates an instance, without the parenthesized arguments, such as {@code new Person}
+     * @param properties        the properties, with the id property first if there is one
+     * @param creatorParameters the properties that are passed to the creator, in order
+     */
+    CodecModel(final String packageName, final String typeName, final String codecName, final String discriminatorKey,
+            final String discriminator, final String creatorExpression, final List<PropertyModel> properties,
+            final List<PropertyModel> creatorParameters) {
+        this.packageName = packageName;
+        this.typeName = typeName;
+        this.codecName = codecName;
+        this.discriminatorKey = discriminatorKey;
+        this.discriminator = discriminator;
+        this.creatorExpression = creatorExpression;
+        this.properties = properties;
+        this.creatorParameters = creatorParameters;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getTypeName() {
+        return typeName;
+    }
+
+    String getCodecName() {
+        return codecName;
+    }
+
+    String getQualifiedCodecName() {
+        return packageName.isEmpty() ? codecName : packageName + "." + codecName;
+    }
+
+    String getDiscriminatorKey() {
+        return discriminatorKey;
+    }
+
+    String getDiscriminator() {
+        return discriminator;
+    }
+
+    String getCreatorExpression() {
+        return creatorExpression;
+    }
+
+    List<PropertyModel> getProperties() {
+        return properties;
+    }
+
+    List<PropertyModel> getCreatorParameters() {
+        return creatorParameters;
+    }
+
+    /**
+     * The model of a property, in which types and expressions are source code.
+     */
+    static final class PropertyModel {
+        private final String documentName;
+        private final String type;
+        private final String boxedType;
+        private final boolean primitive;
+        private final String codecLookup;
+        private final String representation;
+        private final String getter;
+        private final String setter;
+        private final boolean setterIsField;
+
+        /**
+         * @param documentName   the name of the field in the document
+         * @param type           the type of the property
+         * @param boxedType      the type of the property, boxed if it is primitive
+         * @param primitive      whether the type is primitive
+         * @param codecLookup    the expression that gets the codec for the property from a registry named {@code registry}
+         * @param representation the name of the {@code BsonType} that the codec is configured to represent the property as, or null
+         * @param getter         the field, or the accessor method followed by {@code ()}, that reads the property, or null if it is not
+         *                       readable
+         * @param setter         the method or field that writes the property, or null if it is not writable
+         * @param setterIsField  whether the setter is a field rather than a method
+         */
+        PropertyModel(final String documentName, final String type, final String boxedType, final boolean primitive,
+                final String codecLookup, final String representation, final String getter, final String setter,
+                final boolean setterIsField) {
+            this.documentName = documentName;
+            this.type = type;
+            this.boxedType = boxedType;
+            this.primitive = primitive;
+            this.codecLookup = codecLookup;
+            this.representation = representation;
+            this.getter = getter;
+            this.setter = setter;
+            this.setterIsField = setterIsField;
+        }
+
+        String getDocumentName() {
+            return documentName;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        String getBoxedType() {
+            return boxedType;
+        }
+
+        boolean isPrimitive() {
+            return primitive;
+        }
+
+        boolean isParameterized() {
+            return type.indexOf('<') >= 0;
+        }
+
+        String getCodecLookup() {
+            return codecLookup;
+        }
+
+        String getRepresentation() {
+            return representation;
+        }
+
+        boolean isReadable() {
+            return getter != null;
+        }
+
+        boolean isWritable() {
+            return setter != null;
+        }
+
+        String getValueExpression(final String instance) {
+            return instance + "." + getter;
+        }
+
+        String getSetStatement(final String instance, final String value) {
+            return setterIsField ? instance + "." + setter + " = " + value + ";" : instance + "." + setter + "(" + value + ");";
+        }
+    }
+}
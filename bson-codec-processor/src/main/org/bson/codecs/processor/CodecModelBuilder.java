@@ -0,0 +1,513 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.processor.CodecModel.PropertyModel;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Builds the model of the codec for a type annotated with {@code BsonGenerateCodec}, following the rules by which the
+ * {@code ANNOTATION_CONVENTION} of {@code PojoCodecProvider}, and {@code RecordCodecProvider}, discover the properties of a type.
+ *
+ * <p>The processor can not depend on the bson library, as it runs in the compiler, so annotations are identified by name.</p>
+ */
+final class CodecModelBuilder {
+    private static final String ANNOTATIONS_PACKAGE = "org.bson.codecs.pojo.annotations.";
+    private static final String BSON_CREATOR = ANNOTATIONS_PACKAGE + "BsonCreator";
+    private static final String BSON_DISCRIMINATOR = ANNOTATIONS_PACKAGE + "BsonDiscriminator";
+    private static final String BSON_EXTRA_ELEMENTS = ANNOTATIONS_PACKAGE + "BsonExtraElements";
+    private static final String BSON_ID = ANNOTATIONS_PACKAGE + "BsonId";
+    private static final String BSON_IGNORE = ANNOTATIONS_PACKAGE + "BsonIgnore";
+    private static final String BSON_PROPERTY = ANNOTATIONS_PACKAGE + "BsonProperty";
+    private static final String BSON_REPRESENTATION = ANNOTATIONS_PACKAGE + "BsonRepresentation";
+    private static final String ID_PROPERTY_NAME = "_id";
+    private static final String DEFAULT_DISCRIMINATOR_KEY = "_t";
+    private static final String CODEC_SUFFIX = "BsonCodec";
+
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement type;
+    private final PackageElement packageElement;
+
+    CodecModelBuilder(final ProcessingEnvironment processingEnvironment, final TypeElement type) {
+        this.elements = processingEnvironment.getElementUtils();
+        this.types = processingEnvironment.getTypeUtils();
+        this.type = type;
+        this.packageElement = elements.getPackageOf(type);
+    }
+
+    CodecModel build() {
+        validateType();
+        boolean isRecord = type.getKind().name().equals("RECORD");
+        List<PropertyModel> properties = new ArrayList<>();
+        List<PropertyModel> creatorParameters = new ArrayList<>();
+        String creatorExpression;
+        String discriminatorKey = null;
+        String discriminator = null;
+        if (isRecord) {
+            validateRecord();
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    PropertyModel property = createProperty(getDocumentName(field.getSimpleName().toString(), field), field.asType(),
+                            getRepresentation(field), field.getSimpleName() + "()", null, false, field);
+                    properties.add(property);
+                    creatorParameters.add(property);
+                }
+            }
+            creatorExpression = "new " + type.getQualifiedName();
+        } else {
+            Map<String, PropertyBuilder> propertyBuilders = getPropertyBuilders();
+            PropertyBuilder conventionalIdPropertyBuilder = getConventionalIdPropertyBuilder(propertyBuilders);
+            for (PropertyBuilder propertyBuilder : propertyBuilders.values()) {
+                PropertyModel property = propertyBuilder.build(propertyBuilder == conventionalIdPropertyBuilder);
+                if (property != null) {
+                    properties.add(property);
+                }
+            }
+            creatorExpression = getCreator(properties, creatorParameters);
+            AnnotationMirror discriminatorAnnotation = getInheritedAnnotation(type, BSON_DISCRIMINATOR);
+            if (discriminatorAnnotation != null) {
+                String key = getStringValue(discriminatorAnnotation, "key");
+                String value = getStringValue(discriminatorAnnotation, "value");
+                discriminatorKey = key.isEmpty() ? DEFAULT_DISCRIMINATOR_KEY : key;
+                discriminator = value.isEmpty() ? elements.getBinaryName(type).toString() : value;
+            }
+        }
+        return new CodecModel(packageElement.getQualifiedName().toString(), type.getQualifiedName().toString(), getCodecName(),
+                discriminatorKey, discriminator, creatorExpression, idPropertyFirst(properties), creatorParameters);
+    }
+
+    private void validateType() {
+        if (type.getKind() != ElementKind.CLASS && !type.getKind().name().equals("RECORD")) {
+            throw new InvalidElementException("@BsonGenerateCodec is only supported on classes and records", type);
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidElementException("@BsonGenerateCodec is not supported on abstract classes", type);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidElementException("@BsonGenerateCodec is not supported on generic types", type);
+        }
+        for (Element current = type; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new InvalidElementException("@BsonGenerateCodec is not supported on private types", type);
+            }
+            if (currentType.getNestingKind() != NestingKind.TOP_LEVEL && currentType.getNestingKind() != NestingKind.MEMBER
+                    || currentType.getNestingKind() == NestingKind.MEMBER && !currentType.getModifiers().contains(Modifier.STATIC)
+                    && currentType.getKind() == ElementKind.CLASS) {
+                throw new InvalidElementException("@BsonGenerateCodec is only supported on top level and static nested types", type);
+            }
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (hasAnnotation(member, BSON_EXTRA_ELEMENTS)) {
+                throw new InvalidElementException("@BsonExtraElements is not supported by generated codecs", member);
+            }
+        }
+    }
+
+    private void validateRecord() {
+        if (hasAnnotation(type, BSON_DISCRIMINATOR)) {
+            throw new InvalidElementException("@BsonDiscriminator is not supported on records", type);
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (hasAnnotation(member, BSON_CREATOR)) {
+                throw new InvalidElementException("@BsonCreator is not supported on records", member);
+            }
+            if (hasAnnotation(member, BSON_IGNORE)) {
+                throw new InvalidElementException("@BsonIgnore is not supported on records", member);
+            }
+        }
+    }
+
+    private Map<String, PropertyBuilder> getPropertyBuilders() {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = type; current != null && !current.getQualifiedName().contentEquals("java.lang.Object");
+                current = getSuperclass(current)) {
+            hierarchy.add(0, current);
+        }
+        Map<String, PropertyBuilder> propertyBuilders = new LinkedHashMap<>();
+        for (TypeElement current : hierarchy) {
+            for (Element member : current.getEnclosedElements()) {
+                if (member.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                if (member.getKind() == ElementKind.FIELD) {
+                    PropertyBuilder propertyBuilder = propertyBuilders.computeIfAbsent(member.getSimpleName().toString(),
+                            PropertyBuilder::new);
+                    propertyBuilder.field = (VariableElement) member;
+                } else if (member.getKind() == ElementKind.METHOD) {
+                    ExecutableElement method = (ExecutableElement) member;
+                    if (isGetter(method)) {
+                        propertyBuilders.computeIfAbsent(toPropertyName(method), PropertyBuilder::new).getter = method;
+                    } else if (isSetter(method)) {
+                        propertyBuilders.computeIfAbsent(toPropertyName(method), PropertyBuilder::new).setter = method;
+                    }
+                }
+            }
+        }
+        return propertyBuilders;
+    }
+
+    /**
+     * Gets the property that is the id because it is named {@code _id} or {@code id}, as with the default conventions of
+     * {@code PojoCodecProvider}, if no property is annotated with {@code BsonId}.
+     */
+    private PropertyBuilder getConventionalIdPropertyBuilder(final Map<String, PropertyBuilder> propertyBuilders) {
+        PropertyBuilder conventionalIdPropertyBuilder = null;
+        for (PropertyBuilder propertyBuilder : propertyBuilders.values()) {
+            if (propertyBuilder.hasAnnotation(BSON_ID)) {
+                return null;
+            }
+            boolean isIdName = propertyBuilder.name.equals(ID_PROPERTY_NAME) || propertyBuilder.name.equals("id");
+            if (conventionalIdPropertyBuilder == null && isIdName) {
+                conventionalIdPropertyBuilder = propertyBuilder;
+            }
+        }
+        return conventionalIdPropertyBuilder;
+    }
+
+    private String getCreator(final List<PropertyModel> properties, final List<PropertyModel> creatorParameters) {
+        ExecutableElement creator = null;
+        for (Element member : type.getEnclosedElements()) {
+            if (hasAnnotation(member, BSON_CREATOR)) {
+                if (creator != null) {
+                    throw new InvalidElementException("Found multiple constructors / methods annotated with @BsonCreator", member);
+                }
+                creator = (ExecutableElement) member;
+            }
+        }
+        if (creator == null) {
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+                if (constructor.getParameters().isEmpty() && isAccessible(constructor)) {
+                    return "new " + type.getQualifiedName();
+                }
+            }
+            throw new InvalidElementException("A type without a @BsonCreator must have an accessible constructor without parameters", type);
+        }
+
+        if (!isAccessible(creator)) {
+            throw new InvalidElementException("The @BsonCreator constructor or method must not be private", creator);
+        }
+        String creatorExpression;
+        if (creator.getKind() == ElementKind.CONSTRUCTOR) {
+            creatorExpression = "new " + type.getQualifiedName();
+        } else if (creator.getModifiers().contains(Modifier.STATIC) && types.isAssignable(creator.getReturnType(), type.asType())) {
+            creatorExpression = type.getQualifiedName() + "." + creator.getSimpleName();
+        } else {
+            throw new InvalidElementException(format("The @BsonCreator method must be static and return %s", type.getSimpleName()),
+                    creator);
+        }
+
+        for (VariableElement parameter : creator.getParameters()) {
+            String documentName;
+            if (hasAnnotation(parameter, BSON_ID)) {
+                documentName = ID_PROPERTY_NAME;
+            } else if (hasAnnotation(parameter, BSON_PROPERTY)) {
+                documentName = getStringValue(getAnnotation(parameter, BSON_PROPERTY), "value");
+            } else {
+                throw new InvalidElementException("All parameters in the @BsonCreator method / constructor must be annotated with a "
+                        + "@BsonProperty", parameter);
+            }
+            PropertyModel property = findProperty(properties, documentName);
+            if (property == null && documentName.equals(ID_PROPERTY_NAME)) {
+                throw new InvalidElementException("A @BsonId annotation has been used with @BsonCreator but there is no known Id property",
+                        parameter);
+            } else if (property == null) {
+                property = createProperty(documentName, parameter.asType(), getRepresentation(parameter), null, null, false, parameter);
+                properties.add(property);
+            } else if (!property.getType().equals(getTypeSource(parameter.asType(), parameter))) {
+                throw new InvalidElementException(format("The type of the @BsonCreator parameter must be the type of the property '%s'",
+                        documentName), parameter);
+            }
+            creatorParameters.add(property);
+        }
+        return creatorExpression;
+    }
+
+    private PropertyModel findProperty(final List<PropertyModel> properties, final String documentName) {
+        for (PropertyModel property : properties) {
+            if (property.getDocumentName().equals(documentName)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private List<PropertyModel> idPropertyFirst(final List<PropertyModel> properties) {
+        List<PropertyModel> ordered = new ArrayList<>(properties.size());
+        for (PropertyModel property : properties) {
+            if (findProperty(ordered, property.getDocumentName()) != null) {
+                throw new InvalidElementException(format("Found multiple properties named '%s'", property.getDocumentName()), type);
+            }
+            if (property.getDocumentName().equals(ID_PROPERTY_NAME)) {
+                ordered.add(0, property);
+            } else {
+                ordered.add(property);
+            }
+        }
+        return ordered;
+    }
+
+    private PropertyModel createProperty(final String documentName, final TypeMirror propertyType, final String representation,
+            final String getter, final String setter, final boolean setterIsField, final Element element) {
+        boolean primitive = propertyType.getKind().isPrimitive();
+        String boxedType = primitive
+                ? types.boxedClass(types.getPrimitiveType(propertyType.getKind())).getQualifiedName().toString()
+                : getTypeSource(propertyType, element);
+        return new PropertyModel(documentName, getTypeSource(propertyType, element), boxedType, primitive,
+                getCodecLookup(propertyType, boxedType, element), representation, getter, setter, setterIsField);
+    }
+
+    private String getCodecLookup(final TypeMirror propertyType, final String boxedType, final Element element) {
+        if (propertyType.getKind() == TypeKind.DECLARED && !((DeclaredType) propertyType).getTypeArguments().isEmpty()) {
+            DeclaredType declaredType = (DeclaredType) propertyType;
+            return format("registry.get(%s.class, java.util.Arrays.<java.lang.reflect.Type>asList(%s))",
+                    ((TypeElement) declaredType.asElement()).getQualifiedName(), getTypeArgumentExpressions(declaredType, element));
+        }
+        return format("registry.get(%s.class)", boxedType);
+    }
+
+    private String getTypeArgumentExpressions(final DeclaredType declaredType, final Element element) {
+        StringBuilder expressions = new StringBuilder();
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+            expressions.append(expressions.length() == 0 ? "" : ", ");
+            if (typeArgument.getKind() == TypeKind.DECLARED && !((DeclaredType) typeArgument).getTypeArguments().isEmpty()) {
+                DeclaredType parameterizedTypeArgument = (DeclaredType) typeArgument;
+                expressions.append(format("new %s(%s.class, %s)", CodecWriter.PARAMETERIZED_TYPE_CLASS_NAME,
+                        ((TypeElement) parameterizedTypeArgument.asElement()).getQualifiedName(),
+                        getTypeArgumentExpressions(parameterizedTypeArgument, element)));
+            } else if (typeArgument.getKind() == TypeKind.DECLARED || typeArgument.getKind() == TypeKind.ARRAY) {
+                expressions.append(getTypeSource(typeArgument, element)).append(".class");
+            } else {
+                throw new InvalidElementException(format("Generated codecs do not support the type %s", typeArgument), element);
+            }
+        }
+        return expressions.toString();
+    }
+
+    private String getTypeSource(final TypeMirror typeMirror, final Element element) {
+        switch (typeMirror.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return typeMirror.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY:
+                TypeMirror componentType = ((ArrayType) typeMirror).getComponentType();
+                if (componentType.getKind() == TypeKind.DECLARED && !((DeclaredType) componentType).getTypeArguments().isEmpty()) {
+                    throw new InvalidElementException("Generated codecs do not support arrays of generic types", element);
+                }
+                return getTypeSource(componentType, element) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) typeMirror;
+                StringBuilder source = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+                if (!declaredType.getTypeArguments().isEmpty()) {
+                    source.append('<');
+                    for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+                        source.append(source.charAt(source.length() - 1) == '<' ? "" : ", ").append(getTypeSource(typeArgument, element));
+                    }
+                    source.append('>');
+                }
+                return source.toString();
+            default:
+                throw new InvalidElementException(format("Generated codecs do not support the type %s", typeMirror), element);
+        }
+    }
+
+    private String getCodecName() {
+        StringBuilder name = new StringBuilder(type.getSimpleName()).append(CODEC_SUFFIX);
+        for (Element current = type.getEnclosingElement(); current.getKind() != ElementKind.PACKAGE;
+                current = current.getEnclosingElement()) {
+            name.insert(0, current.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private String getDocumentName(final String propertyName, final Element... elementsToSearch) {
+        for (Element element : elementsToSearch) {
+            if (element != null && hasAnnotation(element, BSON_ID)) {
+                return ID_PROPERTY_NAME;
+            }
+        }
+        for (Element element : elementsToSearch) {
+            if (element != null && hasAnnotation(element, BSON_PROPERTY)) {
+                String value = getStringValue(getAnnotation(element, BSON_PROPERTY), "value");
+                if (!value.isEmpty()) {
+                    return value;
+                }
+            }
+        }
+        return propertyName;
+    }
+
+    private String getRepresentation(final Element... elementsToSearch) {
+        for (Element element : elementsToSearch) {
+            if (element != null && hasAnnotation(element, BSON_REPRESENTATION)) {
+                AnnotationValue value = getValue(getAnnotation(element, BSON_REPRESENTATION), "value");
+                return ((VariableElement) value.getValue()).getSimpleName().toString();
+            }
+        }
+        return null;
+    }
+
+    private boolean isAccessible(final Element member) {
+        if (member.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !member.getModifiers().contains(Modifier.PRIVATE) && elements.getPackageOf(member).equals(packageElement);
+    }
+
+    private TypeElement getSuperclass(final TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private AnnotationMirror getInheritedAnnotation(final TypeElement typeElement, final String annotationName) {
+        for (TypeElement current = typeElement; current != null; current = getSuperclass(current)) {
+            AnnotationMirror annotation = getAnnotation(current, annotationName);
+            if (annotation != null) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGetter(final ExecutableElement method) {
+        return method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID
+                && (hasPrefix(method, "get") || hasPrefix(method, "is"));
+    }
+
+    private static boolean isSetter(final ExecutableElement method) {
+        return method.getParameters().size() == 1 && hasPrefix(method, "set");
+    }
+
+    private static boolean hasPrefix(final ExecutableElement method, final String prefix) {
+        String name = method.getSimpleName().toString();
+        return name.startsWith(prefix) && name.length() > prefix.length() && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+    private static String toPropertyName(final ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        String propertyName = name.substring(name.startsWith("is") ? 2 : 3);
+        return Character.toLowerCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    private static boolean hasAnnotation(final Element element, final String annotationName) {
+        return getAnnotation(element, annotationName) != null;
+    }
+
+    private static AnnotationMirror getAnnotation(final Element element, final String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private String getStringValue(final AnnotationMirror annotation, final String name) {
+        return (String) getValue(annotation, name).getValue();
+    }
+
+    private AnnotationValue getValue(final AnnotationMirror annotation, final String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    /**
+     * Collects the members of a POJO class that make up a property.
+     */
+    private final class PropertyBuilder {
+        private final String name;
+        private VariableElement field;
+        private ExecutableElement getter;
+        private ExecutableElement setter;
+
+        PropertyBuilder(final String name) {
+            this.name = name;
+        }
+
+        PropertyModel build(final boolean isConventionalId) {
+            if (hasAnnotation(BSON_IGNORE) || field != null && field.getModifiers().contains(Modifier.TRANSIENT)) {
+                return null;
+            }
+            String getterSource = null;
+            if (getter != null && isAccessible(getter)) {
+                getterSource = getter.getSimpleName() + "()";
+            } else if (field != null && isAccessible(field)) {
+                getterSource = name;
+            }
+            String setterSource = null;
+            boolean setterIsField = false;
+            if (setter != null && isAccessible(setter)) {
+                setterSource = setter.getSimpleName().toString();
+            } else if (field != null && isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+                setterSource = name;
+                setterIsField = true;
+            }
+            if (getterSource == null && setterSource == null) {
+                return null;
+            }
+            TypeMirror propertyType = field != null ? field.asType()
+                    : getter != null ? getter.getReturnType() : setter.getParameters().get(0).asType();
+            Element element = field != null ? field : getter != null ? getter : setter;
+            String documentName = isConventionalId ? ID_PROPERTY_NAME : getDocumentName(name, field, getter, setter);
+            return createProperty(documentName, propertyType, getRepresentation(field, getter, setter),
+                    getterSource, setterSource, setterIsField, element);
+        }
+
+        private boolean hasAnnotation(final String annotationName) {
+            return field != null && CodecModelBuilder.hasAnnotation(field, annotationName)
+                    || getter != null && CodecModelBuilder.hasAnnotation(getter, annotationName)
+                    || setter != null && CodecModelBuilder.hasAnnotation(setter, annotationName);
+        }
+    }
+}
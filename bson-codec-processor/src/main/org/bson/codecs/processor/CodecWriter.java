@@ -0,0 +1,384 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.processor.CodecModel.PropertyModel;
+
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the source of the codec described by a {@link CodecModel}.
+ *
+ * <p>The generated codec looks up the codecs of its properties once, when it is constructed, and encodes and decodes each property with
+ * its own statements, so that none of the work is dispatched through reflection or through a generic model of the properties.</p>
+ */
+final class CodecWriter {
+    /**
+     * The name of the nested class of the codec that implements {@code ParameterizedType}, which is only generated if the codec
+     * looks up the codec of a type with type arguments that have type arguments of their own.
+     */
+    static final String PARAMETERIZED_TYPE_CLASS_NAME = "ParameterizedTypeImpl";
+    private static final String INDENT = "    ";
+
+    private final CodecModel model;
+    private final StringBuilder source = new StringBuilder();
+    private int indentation;
+
+    CodecWriter(final CodecModel model) {
+        this.model = model;
+    }
+
+    String write() {
+        if (!model.getPackageName().isEmpty()) {
+            line("package %s;", model.getPackageName());
+            line("");
+        }
+        if (hasPrimitiveProperty()) {
+            line("import org.bson.BsonInvalidOperationException;");
+        }
+        line("import org.bson.BsonReader;");
+        line("import org.bson.BsonType;");
+        line("import org.bson.BsonWriter;");
+        line("import org.bson.codecs.Codec;");
+        line("import org.bson.codecs.DecoderContext;");
+        line("import org.bson.codecs.EncoderContext;");
+        if (hasRepresentation()) {
+            line("import org.bson.codecs.RepresentationConfigurable;");
+            line("import org.bson.codecs.configuration.CodecConfigurationException;");
+        }
+        line("import org.bson.codecs.configuration.CodecProvider;");
+        line("import org.bson.codecs.configuration.CodecRegistry;");
+        line("");
+        line("/**");
+        line(" * A codec for {@link %s}, generated from its annotations by the BSON codec annotation processor.", model.getTypeName());
+        line(" */");
+        open("public final class %s implements Codec<%s> {", model.getCodecName(), model.getTypeName());
+        List<PropertyModel> properties = model.getProperties();
+        for (int i = 0; i < properties.size(); i++) {
+            line("private final Codec<%s> codec%d;", properties.get(i).getBoxedType(), i);
+        }
+        line("");
+        writeConstructor();
+        line("");
+        writeEncode();
+        line("");
+        writeDecode();
+        line("");
+        line("@Override");
+        open("public Class<%s> getEncoderClass() {", model.getTypeName());
+        line("return %s.class;", model.getTypeName());
+        close();
+        if (hasRepresentation()) {
+            line("");
+            writeWithRepresentation();
+        }
+        line("");
+        writeProvider();
+        if (hasNestedParameterizedProperty()) {
+            line("");
+            writeParameterizedType();
+        }
+        close();
+        return source.toString();
+    }
+
+    private void writeConstructor() {
+        line("/**");
+        line(" * Construct an instance.");
+        line(" *");
+        line(" * @param registry the registry from which to get the codecs of the properties");
+        line(" */");
+        List<PropertyModel> properties = model.getProperties();
+        if (hasParameterizedProperty()) {
+            line("@SuppressWarnings(\"unchecked\")");
+        }
+        open("public %s(final CodecRegistry registry) {", model.getCodecName());
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            String codec = property.isParameterized()
+                    ? format("(Codec<%s>) (Codec<?>) %s", property.getBoxedType(), property.getCodecLookup())
+                    : property.getCodecLookup();
+            if (property.getRepresentation() != null) {
+                codec = format("withRepresentation(%s, BsonType.%s)", codec, property.getRepresentation());
+            }
+            line("codec%d = %s;", i, codec);
+        }
+        close();
+    }
+
+    private void writeEncode() {
+        line("@Override");
+        open("public void encode(final BsonWriter writer, final %s value, final EncoderContext encoderContext) {", model.getTypeName());
+        line("writer.writeStartDocument();");
+        List<PropertyModel> properties = model.getProperties();
+        boolean discriminatorWritten = false;
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            if (!discriminatorWritten && !property.getDocumentName().equals("_id")) {
+                writeDiscriminator();
+                discriminatorWritten = true;
+            }
+            if (!property.isReadable()) {
+                continue;
+            }
+            if (property.isPrimitive()) {
+                line("writer.writeName(%s);", literal(property.getDocumentName()));
+                line("encoderContext.encodeWithChildContext(codec%d, writer, %s);", i, property.getValueExpression("value"));
+            } else {
+                line("%s value%d = %s;", property.getType(), i, property.getValueExpression("value"));
+                open("if (value%d != null) {", i);
+                line("writer.writeName(%s);", literal(property.getDocumentName()));
+                line("encoderContext.encodeWithChildContext(codec%d, writer, value%d);", i, i);
+                close();
+            }
+        }
+        if (!discriminatorWritten) {
+            writeDiscriminator();
+        }
+        line("writer.writeEndDocument();");
+        close();
+    }
+
+    private void writeDiscriminator() {
+        if (model.getDiscriminatorKey() != null) {
+            line("writer.writeString(%s, %s);", literal(model.getDiscriminatorKey()), literal(model.getDiscriminator()));
+        }
+    }
+
+    private void writeDecode() {
+        List<PropertyModel> properties = model.getProperties();
+        List<PropertyModel> creatorParameters = model.getCreatorParameters();
+        boolean createFirst = creatorParameters.isEmpty();
+
+        line("@Override");
+        open("public %s decode(final BsonReader reader, final DecoderContext decoderContext) {", model.getTypeName());
+        if (createFirst) {
+            line("%s instance = %s();", model.getTypeName(), model.getCreatorExpression());
+        } else {
+            // the values are held in local variables until the instance can be created
+            for (int i = 0; i < properties.size(); i++) {
+                PropertyModel property = properties.get(i);
+                if (creatorParameters.contains(property)) {
+                    line("%s value%d = %s;", property.getType(), i, defaultValue(property));
+                } else if (property.isWritable()) {
+                    line("%s value%d = %s;", property.getType(), i, defaultValue(property));
+                    line("boolean hasValue%d = false;", i);
+                }
+            }
+        }
+        line("reader.readStartDocument();");
+        open("while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {");
+        open("switch (reader.readName()) {");
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            boolean isCreatorParameter = creatorParameters.contains(property);
+            if (!isCreatorParameter && !property.isWritable()) {
+                continue;
+            }
+            line("case %s:", literal(property.getDocumentName()));
+            indentation++;
+            String target = createFirst ? null : "value" + i;
+            String decoded = format("decoderContext.decodeWithChildContext(codec%d, reader)", i);
+            open("if (reader.getCurrentBsonType() == BsonType.NULL) {");
+            line("reader.readNull();");
+            if (property.isPrimitive()) {
+                line("throw new BsonInvalidOperationException(%s);",
+                        literal("Null value on primitive field: " + property.getDocumentName()));
+            } else if (createFirst) {
+                line(property.getSetStatement("instance", "null"));
+            } else {
+                line("%s = null;", target);
+            }
+            indentation--;
+            open("} else {");
+            if (createFirst) {
+                line(property.getSetStatement("instance", decoded));
+            } else {
+                line("%s = %s;", target, decoded);
+            }
+            close();
+            if (!createFirst && !isCreatorParameter) {
+                line("hasValue%d = true;", i);
+            }
+            line("break;");
+            indentation--;
+        }
+        line("default:");
+        indentation++;
+        line("reader.skipValue();");
+        line("break;");
+        indentation--;
+        close();
+        close();
+        line("reader.readEndDocument();");
+        if (!createFirst) {
+            StringBuilder arguments = new StringBuilder();
+            for (PropertyModel parameter : creatorParameters) {
+                arguments.append(arguments.length() == 0 ? "" : ", ").append("value").append(properties.indexOf(parameter));
+            }
+            line("%s instance = %s(%s);", model.getTypeName(), model.getCreatorExpression(), arguments);
+            for (int i = 0; i < properties.size(); i++) {
+                PropertyModel property = properties.get(i);
+                if (!creatorParameters.contains(property) && property.isWritable()) {
+                    open("if (hasValue%d) {", i);
+                    line(property.getSetStatement("instance", "value" + i));
+                    close();
+                }
+            }
+        }
+        line("return instance;");
+        close();
+    }
+
+    private void writeWithRepresentation() {
+        line("@SuppressWarnings(\"unchecked\")");
+        open("private static <T> Codec<T> withRepresentation(final Codec<T> codec, final BsonType representation) {");
+        open("if (!(codec instanceof RepresentationConfigurable)) {");
+        line("throw new CodecConfigurationException(String.format(\"Codec for %s must implement RepresentationConfigurable to support \"");
+        line("        + \"BsonRepresentation\", codec.getEncoderClass()));");
+        close();
+        line("return ((RepresentationConfigurable<T>) codec).withRepresentation(representation);");
+        close();
+    }
+
+    private void writeProvider() {
+        line("/**");
+        line(" * A provider of the codec for {@link %s}.", model.getTypeName());
+        line(" */");
+        open("public static final class Provider implements CodecProvider {");
+        line("@Override");
+        line("@SuppressWarnings(\"unchecked\")");
+        open("public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {");
+        line("return clazz == %s.class ? (Codec<T>) new %s(registry) : null;", model.getTypeName(), model.getCodecName());
+        close();
+        close();
+    }
+
+    private void writeParameterizedType() {
+        open("private static final class %s implements java.lang.reflect.ParameterizedType {", PARAMETERIZED_TYPE_CLASS_NAME);
+        line("private final Class<?> rawType;");
+        line("private final java.lang.reflect.Type[] actualTypeArguments;");
+        line("");
+        open("%s(final Class<?> rawType, final java.lang.reflect.Type... actualTypeArguments) {", PARAMETERIZED_TYPE_CLASS_NAME);
+        line("this.rawType = rawType;");
+        line("this.actualTypeArguments = actualTypeArguments;");
+        close();
+        line("");
+        line("@Override");
+        open("public java.lang.reflect.Type[] getActualTypeArguments() {");
+        line("return actualTypeArguments.clone();");
+        close();
+        line("");
+        line("@Override");
+        open("public java.lang.reflect.Type getRawType() {");
+        line("return rawType;");
+        close();
+        line("");
+        line("@Override");
+        open("public java.lang.reflect.Type getOwnerType() {");
+        line("return null;");
+        close();
+        close();
+    }
+
+    private boolean hasNestedParameterizedProperty() {
+        for (PropertyModel property : model.getProperties()) {
+            if (property.getCodecLookup().contains(PARAMETERIZED_TYPE_CLASS_NAME)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasPrimitiveProperty() {
+        for (PropertyModel property : model.getProperties()) {
+            if (property.isPrimitive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasParameterizedProperty() {
+        for (PropertyModel property : model.getProperties()) {
+            if (property.isParameterized()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasRepresentation() {
+        for (PropertyModel property : model.getProperties()) {
+            if (property.getRepresentation() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String defaultValue(final PropertyModel property) {
+        if (!property.isPrimitive()) {
+            return "null";
+        }
+        return property.getType().equals("boolean") ? "false" : "0";
+    }
+
+    private static String literal(final String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        literal.append(format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                    break;
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void open(final String format, final Object... arguments) {
+        line(format, arguments);
+        indentation++;
+    }
+
+    private void close() {
+        indentation--;
+        line("}");
+    }
+
+    private void line(final String format, final Object... arguments) {
+        String line = arguments.length == 0 ? format : format(format, arguments);
+        if (!line.isEmpty()) {
+            for (int i = 0; i < indentation; i++) {
+                source.append(INDENT);
+            }
+        }
+        source.append(line).append('\n');
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.processor.samples.SampleImmutablePojo;
+import org.bson.codecs.processor.samples.SampleImmutablePojoBsonCodec;
+import org.bson.codecs.processor.samples.SamplePojo;
+import org.bson.codecs.processor.samples.SamplePojoBsonCodec;
+import org.bson.codecs.processor.samples.SampleRecord;
+import org.bson.codecs.processor.samples.SampleRecordBsonCodec;
+import org.bson.codecs.processor.samples.SampleRecord_ItemBsonCodec;
+import org.bson.conversions.Bson;
+import org.bson.json.JsonReader;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BsonCodecProcessorTest {
+    private static final CodecRegistry REGISTRY = fromProviders(new SamplePojoBsonCodec.Provider(),
+            new SampleImmutablePojoBsonCodec.Provider(), new SampleRecordBsonCodec.Provider(), new SampleRecord_ItemBsonCodec.Provider(),
+            Bson.DEFAULT_CODEC_REGISTRY);
+
+    @Test
+    void shouldRoundTripPojo() {
+        ObjectId id = new ObjectId();
+        SamplePojo pojo = new SamplePojo();
+        pojo.setId(id);
+        pojo.setName("name");
+        pojo.setCount(3);
+        pojo.setTags(asList("a", "b"));
+        Map<String, List<Integer>> scores = new HashMap<>();
+        scores.put("x", asList(1, 2));
+        pojo.setScores(scores);
+        pojo.note = "note";
+        pojo.setIgnored("ignored");
+        pojo.setCached("cached");
+
+        BsonDocument document = encode(SamplePojo.class, pojo);
+
+        assertEquals(new BsonDocument("_id", new BsonObjectId(id))
+                .append("type", new BsonString("sample"))
+                .append("note", new BsonString("note"))
+                .append("name", new BsonString("name"))
+                .append("count", new BsonInt32(3))
+                .append("labels", new BsonArray(asList(new BsonString("a"), new BsonString("b"))))
+                .append("scores", new BsonDocument("x", new BsonArray(asList(new BsonInt32(1), new BsonInt32(2))))), document);
+        assertEquals("_id", document.getFirstKey());
+
+        SamplePojo decoded = decode(SamplePojo.class, document);
+        assertEquals(id, decoded.getId());
+        assertEquals("name", decoded.getName());
+        assertEquals(3, decoded.getCount());
+        assertEquals(asList("a", "b"), decoded.getTags());
+        assertEquals(scores, decoded.getScores());
+        assertEquals("note", decoded.note);
+        assertNull(decoded.getIgnored());
+        assertNull(decoded.getCached());
+    }
+
+    @Test
+    void shouldRoundTripPojoWithCreator() {
+        SampleImmutablePojo pojo = SampleImmutablePojo.of("id", 42L);
+        pojo.setComment("comment");
+
+        BsonDocument document = encode(SampleImmutablePojo.class, pojo);
+
+        assertEquals(new BsonDocument("_id", new BsonString("id"))
+                .append("amount", new BsonInt64(42))
+                .append("comment", new BsonString("comment")), document);
+
+        SampleImmutablePojo decoded = decode(SampleImmutablePojo.class, document);
+        assertEquals("id", decoded.getId());
+        assertEquals(42L, decoded.getAmount());
+        assertEquals("comment", decoded.getComment());
+        assertNull(decode(SampleImmutablePojo.class, new BsonDocument("amount", new BsonInt64(1))).getComment());
+    }
+
+    @Test
+    void shouldRoundTripRecord() {
+        ObjectId id = new ObjectId();
+        SampleRecord sampleRecord = new SampleRecord(id.toHexString(), "name", 1.5,
+                asList(new SampleRecord.Item("a", 1), new SampleRecord.Item("b", 2)));
+
+        BsonDocument document = encode(SampleRecord.class, sampleRecord);
+
+        assertEquals(new BsonDocument("_id", new BsonObjectId(id))
+                .append("n", new BsonString("name"))
+                .append("score", new BsonDouble(1.5))
+                .append("items", new BsonArray(asList(
+                        new BsonDocument("sku", new BsonString("a")).append("quantity", new BsonInt32(1)),
+                        new BsonDocument("sku", new BsonString("b")).append("quantity", new BsonInt32(2))))), document);
+        assertEquals(sampleRecord, decode(SampleRecord.class, document));
+    }
+
+    @Test
+    void shouldSkipNullsAndUnknownFields() {
+        SampleRecord sampleRecord = new SampleRecord(null, null, 0, null);
+
+        assertEquals(new BsonDocument("score", new BsonDouble(0)), encode(SampleRecord.class, sampleRecord));
+        assertEquals(sampleRecord, decode(SampleRecord.class, new BsonDocument("n", BsonNull.VALUE)
+                .append("unknown", new BsonDocument("a", new BsonInt32(1)))
+                .append("score", new BsonDouble(0))));
+    }
+
+    @Test
+    void shouldThrowOnNullPrimitive() {
+        assertThrows(BsonInvalidOperationException.class, () -> decode(SampleRecord.class, new BsonDocument("score", BsonNull.VALUE)));
+    }
+
+    @Test
+    void shouldReportUnsupportedTypes() throws IOException {
+        assertCompilationError("@BsonGenerateCodec is not supported on generic types",
+                "@BsonGenerateCodec public class Sample<T> { public T value; }");
+        assertCompilationError("@BsonGenerateCodec is not supported on abstract classes",
+                "@BsonGenerateCodec public abstract class Sample { public String value; }");
+        assertCompilationError("A type without a @BsonCreator must have an accessible constructor without parameters",
+                "@BsonGenerateCodec public class Sample { private Sample() { } public String value; }");
+        assertCompilationError("All parameters in the @BsonCreator method / constructor must be annotated with a @BsonProperty",
+                "@BsonGenerateCodec public class Sample { @BsonCreator public Sample(String value) { } }");
+        assertCompilationError("Generated codecs do not support the type ?",
+                "@BsonGenerateCodec public class Sample { public java.util.List<?> values; }");
+        assertCompilationError("@BsonIgnore is not supported on records",
+                "@BsonGenerateCodec public record Sample(@BsonIgnore String value) { }");
+        assertCompilationError("Found multiple properties named '_id'",
+                "@BsonGenerateCodec public class Sample { @BsonId public String a; @BsonProperty(\"_id\") public String b; }");
+    }
+
+    @Test
+    void shouldCompileWithoutWarnings() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("@BsonGenerateCodec public class Sample { "
+                + "public int count; public java.util.Map<String, java.util.List<java.util.Set<String>>> values; }");
+        assertEquals(Collections.emptyList(), diagnostics);
+    }
+
+    private static <T> BsonDocument encode(final Class<T> clazz, final T value) {
+        BsonDocument document = new BsonDocument();
+        REGISTRY.get(clazz).encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private static <T> T decode(final Class<T> clazz, final BsonDocument document) {
+        Codec<T> codec = REGISTRY.get(clazz);
+        T value = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals(value.getClass(), codec.decode(new JsonReader(document.toJson()), DecoderContext.builder().build()).getClass());
+        return value;
+    }
+
+    private static void assertCompilationError(final String expectedMessage, final String sampleDeclaration) throws IOException {
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : compile(sampleDeclaration)) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        assertTrue(errors.contains(expectedMessage), expectedMessage + " not in " + errors);
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(final String sampleDeclaration) throws IOException {
+        String source = "package sample;\nimport org.bson.codecs.pojo.annotations.*;\n" + sampleDeclaration;
+        JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///sample/Sample.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        Path outputDirectory = Files.createTempDirectory("bson-codec-processor");
+        try {
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", outputDirectory.toString(),
+                            "-s", outputDirectory.toString(), "-Xlint:all,-processing"),
+                    null, Collections.singletonList(sourceFile));
+            task.setProcessors(Collections.singletonList(new BsonCodecProcessor()));
+            task.call();
+            return diagnostics.getDiagnostics();
+        } finally {
+            deleteRecursively(outputDirectory.toFile());
+        }
+    }
+
+    private static void deleteRecursively(final File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.codecs.processor.samples;
+
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonGenerateCodec;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+
+@BsonGenerateCodec
+public final class SampleImmutablePojo {
+    private final String id;
+    private final long amount;
+    private String comment;
+
+    private SampleImmutablePojo(final String id, final long amount) {
+        this.id = id;
+        this.amount = amount;
+    }
+
+    @BsonCreator
+    public static SampleImmutablePojo of(@BsonId final String id, @BsonProperty("amount") final long amount) {
+        return new SampleImmutablePojo(id, amount);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(final String comment) {
+        this.comment = comment;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.codecs.processor.samples;
+
+import org.bson.codecs.pojo.annotations.BsonDiscriminator;
+import org.bson.codecs.pojo.annotations.BsonGenerateCodec;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+import java.util.Map;
+
+@BsonGenerateCodec
+@BsonDiscriminator(key = "type", value = "sample")
+public class SamplePojo {
+    public String note;
+    private String name;
+    private int count;
+    @BsonProperty("labels")
+    private List<String> tags;
+    private Map<String, List<Integer>> scores;
+    @BsonId
+    private ObjectId id;
+    @BsonIgnore
+    private String ignored;
+    private transient String cached;
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public void setId(final ObjectId id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(final int count) {
+        this.count = count;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(final List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, List<Integer>> getScores() {
+        return scores;
+    }
+
+    public void setScores(final Map<String, List<Integer>> scores) {
+        this.scores = scores;
+    }
+
+    public String getIgnored() {
+        return ignored;
+    }
+
+    public void setIgnored(final String ignored) {
+        this.ignored = ignored;
+    }
+
+    public String getCached() {
+        return cached;
+    }
+
+    public void setCached(final String cached) {
+        this.cached = cached;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.codecs.processor.samples;
+
+import org.bson.BsonType;
+import org.bson.codecs.pojo.annotations.BsonGenerateCodec;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.codecs.pojo.annotations.BsonRepresentation;
+
+import java.util.List;
+
+@BsonGenerateCodec
+public record SampleRecord(@BsonId @BsonRepresentation(BsonType.OBJECT_ID) String id, @BsonProperty("n") String name, double score,
+                           List<Item> items) {
+
+    @BsonGenerateCodec
+    public record Item(String sku, int quantity) {
+    }
+}
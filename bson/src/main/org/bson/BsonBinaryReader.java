@@ -19,6 +19,7 @@ package org.bson;
 import org.bson.io.BsonInput;
 import org.bson.io.BsonInputMark;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
@@ -35,6 +36,7 @@ import static org.bson.assertions.Assertions.notNull;
 public class BsonBinaryReader extends AbstractBsonReader {
 
     private final BsonInput bsonInput;
+    private final FieldNameCache fieldNameCache;
 
     /**
      * Construct an instance.
@@ -51,10 +53,23 @@ public class BsonBinaryReader extends AbstractBsonReader {
      * @param bsonInput the input for this reader
      */
     public BsonBinaryReader(final BsonInput bsonInput) {
+        this(bsonInput, null);
+    }
+
+    /**
+     * Construct an instance that gets the names of fields from the given cache when possible, which avoids allocating a new string for
+     * each name that it reads. The cache is only used if the input is a {@link ByteBufferBsonInput}.
+     *
+     * @param bsonInput the input for this reader
+     * @param fieldNameCache the cache of field names, which may be null
+     * @since 5.10
+     */
+    public BsonBinaryReader(final BsonInput bsonInput, final FieldNameCache fieldNameCache) {
         if (bsonInput == null) {
             throw new IllegalArgumentException("bsonInput is null");
         }
         this.bsonInput = bsonInput;
+        this.fieldNameCache = bsonInput instanceof ByteBufferBsonInput ? fieldNameCache : null;
         setContext(new Context(null, BsonContextType.TOP_LEVEL, 0, 0));
     }
 
@@ -119,7 +134,8 @@ public class BsonBinaryReader extends AbstractBsonReader {
                     break;
                 case DOCUMENT:
                 case SCOPE_DOCUMENT:
-                    setCurrentName(bsonInput.readCString());
+                    setCurrentName(fieldNameCache == null ? bsonInput.readCString()
+                            : ((ByteBufferBsonInput) bsonInput).readCString(fieldNameCache));
                     setState(State.NAME);
                     break;
                 default:
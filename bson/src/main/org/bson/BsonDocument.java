@@ -21,6 +21,7 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.internal.CompactOrderedMap;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
@@ -107,6 +108,15 @@ public class BsonDocument extends BsonValue implements Map<String, BsonValue>, C
          map = new LinkedHashMap<>();
     }
 
+    /**
+     * Construct an empty document that stores its fields in the given map, which must be empty.
+     *
+     * @param map the map
+     */
+    BsonDocument(final CompactOrderedMap<BsonValue> map) {
+        this.map = map;
+    }
+
     @Override
     public <C> BsonDocument toBsonDocument(final Class<C> documentClass, final CodecRegistry codecRegistry) {
         return this;
@@ -856,7 +866,10 @@ public class BsonDocument extends BsonValue implements Map<String, BsonValue>, C
 
     @Override
     public BsonDocument clone() {
-        BsonDocument to = new BsonDocument(this.size());
+        return cloneInto(new BsonDocument(this.size()));
+    }
+
+    BsonDocument cloneInto(final BsonDocument to) {
         for (Entry<String, BsonValue> cur : entrySet()) {
             switch (cur.getValue().getBsonType()) {
                 case DOCUMENT:
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.internal.CompactOrderedMap;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+
+/**
+ * A {@link BsonDocument} that stores its fields in parallel arrays of names and values, in insertion order, rather than in a
+ * {@link java.util.LinkedHashMap}, which allocates an entry object for each field. Documents with more than a few fields also have
+ * an open-addressing hash table of the positions of the names.
+ *
+ * <p>This reduces the memory footprint of each field to a fraction of that of a {@code BsonDocument}, which matters most when an
+ * application holds many decoded documents with many fields. In exchange, removing a field is linear in the number of fields.</p>
+ *
+ * <p>Decoding to this class, for instance with {@code collection.withDocumentClass(CompactBsonDocument.class)}, also decodes nested
+ * documents that are field values to this class.</p>
+ *
+ * @see org.bson.codecs.CompactBsonDocumentCodec
+ * @since 5.10
+ */
+public final class CompactBsonDocument extends BsonDocument {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construct an empty document.
+     */
+    public CompactBsonDocument() {
+        super(new CompactOrderedMap<>());
+    }
+
+    /**
+     * Construct an empty document with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CompactBsonDocument(final int initialCapacity) {
+        super(new CompactOrderedMap<>(initialCapacity));
+    }
+
+    @Override
+    public CompactBsonDocument clone() {
+        return (CompactBsonDocument) cloneInto(new CompactBsonDocument(size()));
+    }
+
+    /**
+     * Write the replacement object, which is a {@link BsonDocument} with the same fields.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/output.html
+     * </p>
+     *
+     * @return the replacement
+     */
+    private Object writeReplace() {
+        BsonDocument document = new BsonDocument(size());
+        document.putAll(this);
+        return document;
+    }
+
+    /**
+     * Prevent normal deserialization.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/input.html
+     * </p>
+     *
+     * @param stream the stream
+     * @throws InvalidObjectException in all cases
+     */
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+}
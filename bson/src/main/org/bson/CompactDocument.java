@@ -0,0 +1,85 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.internal.CompactOrderedMap;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+
+/**
+ * A {@link Document} that stores its entries in parallel arrays of keys and values, in insertion order, rather than in a
+ * {@link java.util.LinkedHashMap}, which allocates an entry object for each entry. Documents with more than a few entries also have
+ * an open-addressing hash table of the positions of the keys.
+ *
+ * <p>This reduces the memory footprint of each entry to a fraction of that of a {@code Document}, which matters most when an
+ * application holds many decoded documents with many fields. In exchange, removing an entry is linear in the number of entries. A
+ * {@code CompactDocument} is equal to a {@code Document} with the same entries, and is serialized as one.</p>
+ *
+ * <p>Decoding to this class, for instance with {@code collection.withDocumentClass(CompactDocument.class)}, also decodes nested
+ * documents that are field values to this class.</p>
+ *
+ * @see org.bson.codecs.CompactDocumentCodec
+ * @since 5.10
+ */
+public final class CompactDocument extends Document {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an empty instance.
+     */
+    public CompactDocument() {
+        super(new CompactOrderedMap<>());
+    }
+
+    /**
+     * Creates an empty instance with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CompactDocument(final int initialCapacity) {
+        super(new CompactOrderedMap<>(initialCapacity));
+    }
+
+    /**
+     * Write the replacement object, which is a {@link Document} with the same entries.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/output.html
+     * </p>
+     *
+     * @return the replacement
+     */
+    private Object writeReplace() {
+        return new Document(this);
+    }
+
+    /**
+     * Prevent normal deserialization.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/input.html
+     * </p>
+     *
+     * @param stream the stream
+     * @throws InvalidObjectException in all cases
+     */
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+}
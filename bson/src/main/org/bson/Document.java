@@ -30,12 +30,18 @@ import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.internal.CompactOrderedMap;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
 import org.bson.json.JsonWriter;
 import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.Collection;
@@ -70,9 +76,15 @@ public class Document implements Map<String, Object>, Serializable, Bson {
     private static final long serialVersionUID = 6297731997167536582L;
 
     /**
-     * The map of keys to values.
+     * The serialized form, in which the map of keys to values is a {@link LinkedHashMap}, as it is in all the versions that store the
+     * entries in one.
      */
-    private final LinkedHashMap<String, Object> documentAsMap;
+    private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("documentAsMap", LinkedHashMap.class)};
+
+    /**
+     * The map of keys to values, which is only assigned after construction when deserializing.
+     */
+    private Map<String, Object> documentAsMap;
 
     /**
      * Creates an empty Document instance.
@@ -101,6 +113,15 @@ public class Document implements Map<String, Object>, Serializable, Bson {
         documentAsMap = new LinkedHashMap<>(map);
     }
 
+    /**
+     * Creates an empty Document instance that stores its entries in the given map, which must be empty.
+     *
+     * @param map the map
+     */
+    Document(final CompactOrderedMap<Object> map) {
+        documentAsMap = map;
+    }
+
 
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code Document}
@@ -525,7 +546,8 @@ public class Document implements Map<String, Object>, Serializable, Bson {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (o == null || (getClass() != o.getClass() && !(isDocumentOrCompactDocument(getClass())
+                && isDocumentOrCompactDocument(o.getClass())))) {
             return false;
         }
 
@@ -538,6 +560,13 @@ public class Document implements Map<String, Object>, Serializable, Bson {
         return true;
     }
 
+    /**
+     * A {@link CompactDocument} is equal to a {@code Document} with the same entries, but subclasses are not equal to either.
+     */
+    private static boolean isDocumentOrCompactDocument(final Class<?> clazz) {
+        return clazz == Document.class || clazz == CompactDocument.class;
+    }
+
     @Override
     public int hashCode() {
         return documentAsMap.hashCode();
@@ -549,4 +578,19 @@ public class Document implements Map<String, Object>, Serializable, Bson {
                + documentAsMap
                + '}';
     }
+
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        ObjectOutputStream.PutField fields = stream.putFields();
+        fields.put("documentAsMap", documentAsMap instanceof LinkedHashMap ? documentAsMap : new LinkedHashMap<>(documentAsMap));
+        stream.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        Object map = stream.readFields().get("documentAsMap", null);
+        if (!(map instanceof LinkedHashMap)) {
+            throw new InvalidObjectException("documentAsMap must be a LinkedHashMap");
+        }
+        documentAsMap = (LinkedHashMap<String, Object>) map;
+    }
 }
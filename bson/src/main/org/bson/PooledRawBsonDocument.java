@@ -0,0 +1,352 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.internal.BsonFieldIndex;
+import org.bson.io.BsonInputMark;
+import org.bson.io.ByteBufferBsonInput;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.Closeable;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+import static org.bson.assertions.Assertions.notNull;
+import static org.bson.codecs.BsonValueCodecProvider.getClassForBsonType;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+
+/**
+ * A BSON document that is represented using only the raw bytes, like {@link RawBsonDocument}, but whose bytes are a range of a
+ * reference-counted {@link ByteBuf} rather than a byte array.
+ *
+ * <p>Decoding a document of this type with {@link org.bson.codecs.PooledRawBsonDocumentCodec} from a {@link BsonBinaryReader} does not
+ * copy the bytes of the document. Instead, the document retains the buffer that the reader reads from, which, when the driver decodes
+ * the results of a cursor, is the pooled buffer of the message that the server replied with. That buffer is not reused until every
+ * document that retains it is {@linkplain #close() closed}, so the application must close each document as soon as it no longer needs
+ * it, and must not use a document after closing it. A document that must outlive its buffer can be copied with
+ * {@link #toRawBsonDocument()}.</p>
+ *
+ * <p>Nested documents and arrays are returned as {@link RawBsonDocument} and {@link RawBsonArray} copies, which remain usable after this
+ * document is closed.</p>
+ *
+ * @since 5.10
+ */
+public final class PooledRawBsonDocument extends BsonDocument implements Closeable {
+    private static final long serialVersionUID = 1L;
+    private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
+    private static final int MIN_BSON_DOCUMENT_SIZE = 5;
+
+    private final transient ByteBuf buffer;
+    private final int offset;
+    private final int length;
+    private final transient AtomicBoolean closed = new AtomicBoolean();
+    /**
+     * The index of the fields, which is built on first use by {@link #getFieldIndex()}.
+     */
+    private transient BsonFieldIndex fieldIndex;
+
+    /**
+     * Constructs a new instance that owns one reference to the given buffer, which it releases when it is closed. The caller must
+     * therefore {@linkplain ByteBuf#retain() retain} the buffer on behalf of the new instance if it continues to use the buffer.
+     *
+     * @param buffer the buffer
+     * @param offset the position in the buffer where the document starts
+     * @param length the length of the document
+     */
+    public PooledRawBsonDocument(final ByteBuf buffer, final int offset, final int length) {
+        notNull("buffer", buffer);
+        isTrueArgument("offset >= 0", offset >= 0);
+        isTrueArgument("length >= 5", length >= MIN_BSON_DOCUMENT_SIZE);
+        isTrueArgument("offset + length <= buffer.limit()", offset + length <= buffer.limit());
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns a {@code ByteBuf} of the bytes of this document, which shares the content of the buffer of this document. The returned
+     * buffer must be {@linkplain ByteBuf#release() released}, and must not be used after this document is closed.
+     *
+     * @return a byte buffer positioned at the start of this document, whose limit is the end of this document
+     */
+    public ByteBuf getByteBuffer() {
+        ensureOpen();
+        return buffer.duplicate().position(offset).limit(offset + length);
+    }
+
+    /**
+     * Returns the length in bytes of this document.
+     *
+     * @return the length
+     */
+    public int getByteLength() {
+        return length;
+    }
+
+    /**
+     * Copies this document into a {@link RawBsonDocument}, which remains usable after this document is closed.
+     *
+     * @return the copy
+     */
+    public RawBsonDocument toRawBsonDocument() {
+        ensureOpen();
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new RawBsonDocument(bytes);
+    }
+
+    /**
+     * Releases the buffer of this document, unless it is already released. A closed document must not be used.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public BsonValue put(final String key, final BsonValue value) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public BsonDocument append(final String key, final BsonValue value) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends BsonValue> m) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public BsonValue remove(final Object key) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return getFieldIndex().size();
+    }
+
+    @Override
+    public Set<Entry<String, BsonValue>> entrySet() {
+        return toBaseBsonDocument().entrySet();
+    }
+
+    @Override
+    public Collection<BsonValue> values() {
+        return toBaseBsonDocument().values();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return toBaseBsonDocument().keySet();
+    }
+
+    @Override
+    public String getFirstKey() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        try (BsonBinaryReader bsonReader = createReader()) {
+            bsonReader.readStartDocument();
+            return bsonReader.readName();
+        }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key can not be null");
+        }
+        return key instanceof String && getFieldIndex().indexOf(buffer, (String) key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return toBaseBsonDocument().containsValue(value);
+    }
+
+    @Override
+    public BsonValue get(final Object key) {
+        notNull("key", key);
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        BsonFieldIndex fieldIndex = getFieldIndex();
+        int position = fieldIndex.indexOf(buffer, (String) key);
+        if (position < 0) {
+            return null;
+        }
+        ByteBuf duplicate = getByteBuffer();
+        try (BsonBinaryReader bsonReader = BsonFieldIndex.createValueReader(duplicate, fieldIndex.getElementOffset(position))) {
+            return readValue(bsonReader);
+        } finally {
+            duplicate.release();
+        }
+    }
+
+    @Override
+    public BsonBinaryReader asBsonReader() {
+        return createReader();
+    }
+
+    @Override
+    public String toJson() {
+        return toJson(JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build());
+    }
+
+    @Override
+    public String toJson(final JsonWriterSettings settings) {
+        StringWriter writer = new StringWriter();
+        try (BsonBinaryReader bsonReader = createReader()) {
+            new JsonWriter(writer, settings).pipe(bsonReader);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return toBaseBsonDocument().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return toBaseBsonDocument().hashCode();
+    }
+
+    /**
+     * Returns a {@link RawBsonDocument} copy of this document, which remains usable after this document is closed.
+     *
+     * @return the copy
+     */
+    @Override
+    public BsonDocument clone() {
+        return toRawBsonDocument();
+    }
+
+    private void ensureOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("The document is closed");
+        }
+    }
+
+    private BsonFieldIndex getFieldIndex() {
+        ensureOpen();
+        BsonFieldIndex fieldIndex = this.fieldIndex;
+        if (fieldIndex == null) {
+            // the index is immutable, so threads that race to build it end up with equivalent indexes
+            ByteBuf duplicate = getByteBuffer();
+            try {
+                fieldIndex = BsonFieldIndex.indexDocument(duplicate);
+            } finally {
+                duplicate.release();
+            }
+            this.fieldIndex = fieldIndex;
+        }
+        return fieldIndex;
+    }
+
+    /**
+     * Creates a reader of this document, whose {@link BsonBinaryReader#close()} releases the buffer that it reads from, unlike that of
+     * a {@code BsonBinaryReader}, because that buffer is a {@linkplain ByteBuf#duplicate() duplicate}, which may retain the buffer of this
+     * document.
+     */
+    private BsonBinaryReader createReader() {
+        return new BsonBinaryReader(new ByteBufferBsonInput(getByteBuffer())) {
+            @Override
+            public void close() {
+                if (!isClosed()) {
+                    super.close();
+                    getBsonInput().close();
+                }
+            }
+        };
+    }
+
+    private static BsonValue readValue(final BsonBinaryReader bsonReader) {
+        BsonType bsonType = bsonReader.getCurrentBsonType();
+        if (bsonType == BsonType.DOCUMENT || bsonType == BsonType.ARRAY) {
+            BsonInputMark mark = bsonReader.getBsonInput().getMark(4);
+            byte[] bytes = new byte[bsonReader.getBsonInput().readInt32()];
+            mark.reset();
+            bsonReader.getBsonInput().readBytes(bytes);
+            return bsonType == BsonType.DOCUMENT ? new RawBsonDocument(bytes) : new RawBsonArray(bytes);
+        }
+        return REGISTRY.get(getClassForBsonType(bsonType)).decode(bsonReader, DecoderContext.builder().build());
+    }
+
+    // Transform to an org.bson.BsonDocument instance
+    private BsonDocument toBaseBsonDocument() {
+        try (BsonBinaryReader bsonReader = createReader()) {
+            return new BsonDocumentCodec().decode(bsonReader, DecoderContext.builder().build());
+        }
+    }
+
+    /**
+     * Write the replacement object, which is a {@link RawBsonDocument} copy of this document.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/output.html
+     * </p>
+     *
+     * @return the copy
+     */
+    private Object writeReplace() {
+        return toRawBsonDocument();
+    }
+
+    /**
+     * Prevent normal deserialization.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/input.html
+     * </p>
+     *
+     * @param stream the stream
+     * @throws InvalidObjectException in all cases
+     */
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+}
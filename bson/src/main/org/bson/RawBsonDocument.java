@@ -22,6 +22,7 @@ import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.internal.BsonFieldIndex;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonMode;
@@ -67,6 +68,11 @@ public final class RawBsonDocument extends BsonDocument {
      */
     private final int length;
 
+    /**
+     * The index of the fields, which is built on first use by {@link #getFieldIndex()}.
+     */
+    private transient BsonFieldIndex fieldIndex;
+
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code RawBsonDocument}
      *
@@ -230,31 +236,12 @@ public final class RawBsonDocument extends BsonDocument {
 
     @Override
     public boolean isEmpty() {
-        try (BsonBinaryReader bsonReader = createReader()) {
-            bsonReader.readStartDocument();
-            if (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                return false;
-            }
-            bsonReader.readEndDocument();
-        }
-
-        return true;
+        return size() == 0;
     }
 
     @Override
     public int size() {
-        int size = 0;
-        try (BsonBinaryReader bsonReader = createReader()) {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                size++;
-                bsonReader.readName();
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        }
-
-        return size;
+        return getFieldIndex().size();
     }
 
     @Override
@@ -290,18 +277,7 @@ public final class RawBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        try (BsonBinaryReader bsonReader = createReader()) {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        }
-
-        return false;
+        return key instanceof String && getFieldIndex().indexOf(getByteBuffer(), (String) key) >= 0;
     }
 
     @Override
@@ -323,19 +299,19 @@ public final class RawBsonDocument extends BsonDocument {
     @Override
     public BsonValue get(final Object key) {
         notNull("key", key);
-
-        try (BsonBinaryReader bsonReader = createReader()) {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return RawBsonValueHelper.decode(bytes, bsonReader);
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
+        if (!(key instanceof String)) {
+            return null;
         }
 
-        return null;
+        ByteBuf buffer = getByteBuffer();
+        BsonFieldIndex fieldIndex = getFieldIndex();
+        int position = fieldIndex.indexOf(buffer, (String) key);
+        if (position < 0) {
+            return null;
+        }
+        try (BsonBinaryReader bsonReader = BsonFieldIndex.createValueReader(buffer, fieldIndex.getElementOffset(position))) {
+            return RawBsonValueHelper.decode(bytes, bsonReader);
+        }
     }
 
     @Override
@@ -365,6 +341,16 @@ public final class RawBsonDocument extends BsonDocument {
         return new RawBsonDocument(bytes.clone(), offset, length);
     }
 
+    private BsonFieldIndex getFieldIndex() {
+        BsonFieldIndex fieldIndex = this.fieldIndex;
+        if (fieldIndex == null) {
+            // the index is immutable, so threads that race to build it end up with equivalent indexes
+            fieldIndex = BsonFieldIndex.indexDocument(getByteBuffer());
+            this.fieldIndex = fieldIndex;
+        }
+        return fieldIndex;
+    }
+
     private BsonBinaryReader createReader() {
         return new BsonBinaryReader(new ByteBufferBsonInput(getByteBuffer()));
     }
@@ -34,6 +34,7 @@ import org.bson.types.Symbol;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -100,6 +101,25 @@ public class BsonTypeClassMap {
         return bsonTypeOrdinalToClassMap[bsonType.getValue()];
     }
 
+    /**
+     * Returns a copy of this map in which the given BSON type is mapped to the given class.
+     *
+     * @param bsonType the BSON type
+     * @param clazz the class to map the BSON type to
+     * @return the copy
+     */
+    BsonTypeClassMap withMapping(final BsonType bsonType, final Class<?> clazz) {
+        Map<BsonType, Class<?>> mappings = new HashMap<>();
+        for (BsonType cur : BsonType.values()) {
+            Class<?> mappedClass = get(cur);
+            if (mappedClass != null) {
+                mappings.put(cur, mappedClass);
+            }
+        }
+        mappings.put(bsonType, clazz);
+        return new BsonTypeClassMap(mappings);
+    }
+
     private void addDefaults() {
         bsonTypeOrdinalToClassMap[BsonType.ARRAY.getValue()] = List.class;
         bsonTypeOrdinalToClassMap[BsonType.BINARY.getValue()] = Binary.class;
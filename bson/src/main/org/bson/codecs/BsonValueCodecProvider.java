@@ -40,6 +40,8 @@ import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.BsonUndefined;
 import org.bson.BsonValue;
+import org.bson.CompactBsonDocument;
+import org.bson.PooledRawBsonDocument;
 import org.bson.RawBsonDocument;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -107,6 +109,14 @@ public class BsonValueCodecProvider implements CodecProvider {
             return (Codec<T>) new RawBsonDocumentCodec();
         }
 
+        if (clazz == PooledRawBsonDocument.class) {
+            return (Codec<T>) new PooledRawBsonDocumentCodec();
+        }
+
+        if (clazz == CompactBsonDocument.class) {
+            return (Codec<T>) new CompactBsonDocumentCodec(registry);
+        }
+
         if (BsonDocument.class.isAssignableFrom(clazz)) {
             return (Codec<T>) new BsonDocumentCodec(registry);
         }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.CompactBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import static org.bson.assertions.Assertions.notNull;
+import static org.bson.codecs.BsonValueCodecProvider.getBsonTypeClassMap;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+
+/**
+ * A codec for {@link CompactBsonDocument} instances. Nested documents that are field values are decoded to {@code CompactBsonDocument}
+ * too.
+ *
+ * @since 5.10
+ */
+public class CompactBsonDocumentCodec implements CollectibleCodec<CompactBsonDocument> {
+    private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(new BsonValueCodecProvider());
+
+    private final BsonDocumentCodec bsonDocumentCodec;
+    private final BsonTypeCodecMap bsonTypeCodecMap;
+
+    /**
+     * Creates a new instance with a default codec registry that uses the {@link BsonValueCodecProvider}.
+     */
+    public CompactBsonDocumentCodec() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates a new instance initialised with the given codec registry.
+     *
+     * @param codecRegistry the {@code CodecRegistry} to use to look up the codecs for encoding and decoding to/from BSON
+     */
+    public CompactBsonDocumentCodec(final CodecRegistry codecRegistry) {
+        notNull("Codec registry", codecRegistry);
+        this.bsonDocumentCodec = new BsonDocumentCodec(codecRegistry);
+        this.bsonTypeCodecMap = new BsonTypeCodecMap(getBsonTypeClassMap().withMapping(BsonType.DOCUMENT, CompactBsonDocument.class),
+                codecRegistry);
+    }
+
+    @Override
+    public CompactBsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
+        CompactBsonDocument document = new CompactBsonDocument();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String fieldName = reader.readName();
+            document.append(fieldName, (BsonValue) bsonTypeCodecMap.get(reader.getCurrentBsonType()).decode(reader, decoderContext));
+        }
+
+        reader.readEndDocument();
+        return document;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final CompactBsonDocument value, final EncoderContext encoderContext) {
+        bsonDocumentCodec.encode(writer, value, encoderContext);
+    }
+
+    @Override
+    public Class<CompactBsonDocument> getEncoderClass() {
+        return CompactBsonDocument.class;
+    }
+
+    @Override
+    public CompactBsonDocument generateIdIfAbsentFromDocument(final CompactBsonDocument document) {
+        bsonDocumentCodec.generateIdIfAbsentFromDocument(document);
+        return document;
+    }
+
+    @Override
+    public boolean documentHasId(final CompactBsonDocument document) {
+        return bsonDocumentCodec.documentHasId(document);
+    }
+
+    @Override
+    public BsonValue getDocumentId(final CompactBsonDocument document) {
+        return bsonDocumentCodec.getDocumentId(document);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.CompactDocument;
+import org.bson.Document;
+import org.bson.Transformer;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import static java.util.Arrays.asList;
+import static org.bson.assertions.Assertions.notNull;
+import static org.bson.codecs.BsonTypeClassMap.DEFAULT_BSON_TYPE_CLASS_MAP;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+
+/**
+ * A codec for {@link CompactDocument} instances, which otherwise behaves like {@link DocumentCodec}. Nested documents that are field
+ * values are decoded to {@code CompactDocument} too, unless the {@link BsonTypeClassMap} maps {@link BsonType#DOCUMENT} to a class other
+ * than {@link Document}.
+ *
+ * @since 5.10
+ */
+public class CompactDocumentCodec implements CollectibleCodec<CompactDocument>, OverridableUuidRepresentationCodec<CompactDocument> {
+    private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(asList(new ValueCodecProvider(),
+            new CollectionCodecProvider(), new IterableCodecProvider(),
+            new BsonValueCodecProvider(), new DocumentCodecProvider(), new MapCodecProvider()));
+
+    private final DocumentCodec documentCodec;
+
+    /**
+     * Construct a new instance with a default {@code CodecRegistry}.
+     */
+    public CompactDocumentCodec() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Construct a new instance with the given registry.
+     *
+     * @param registry the registry
+     */
+    public CompactDocumentCodec(final CodecRegistry registry) {
+        this(registry, DEFAULT_BSON_TYPE_CLASS_MAP, null);
+    }
+
+    /**
+     * Construct a new instance with the given registry, BSON type class map and value transformer.
+     *
+     * @param registry         the registry
+     * @param bsonTypeClassMap the BSON type class map
+     * @param valueTransformer the value transformer to use as a final step when decoding the value of any field in the document, which
+     *                         may be null
+     * @see DocumentCodec#DocumentCodec(CodecRegistry, BsonTypeClassMap, Transformer)
+     */
+    public CompactDocumentCodec(final CodecRegistry registry, final BsonTypeClassMap bsonTypeClassMap, final Transformer valueTransformer) {
+        this(new DocumentCodec(registry, withCompactDocuments(notNull("bsonTypeClassMap", bsonTypeClassMap)), valueTransformer,
+                CompactDocument::new));
+    }
+
+    private CompactDocumentCodec(final DocumentCodec documentCodec) {
+        this.documentCodec = documentCodec;
+    }
+
+    @Override
+    public Codec<CompactDocument> withUuidRepresentation(final UuidRepresentation uuidRepresentation) {
+        Codec<Document> codec = documentCodec.withUuidRepresentation(uuidRepresentation);
+        return codec == documentCodec ? this : new CompactDocumentCodec((DocumentCodec) codec);
+    }
+
+    @Override
+    public CompactDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return (CompactDocument) documentCodec.decode(reader, decoderContext);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final CompactDocument value, final EncoderContext encoderContext) {
+        documentCodec.encode(writer, value, encoderContext);
+    }
+
+    @Override
+    public Class<CompactDocument> getEncoderClass() {
+        return CompactDocument.class;
+    }
+
+    @Override
+    public CompactDocument generateIdIfAbsentFromDocument(final CompactDocument document) {
+        documentCodec.generateIdIfAbsentFromDocument(document);
+        return document;
+    }
+
+    @Override
+    public boolean documentHasId(final CompactDocument document) {
+        return documentCodec.documentHasId(document);
+    }
+
+    @Override
+    public BsonValue getDocumentId(final CompactDocument document) {
+        return documentCodec.getDocumentId(document);
+    }
+
+    private static BsonTypeClassMap withCompactDocuments(final BsonTypeClassMap bsonTypeClassMap) {
+        return bsonTypeClassMap.get(BsonType.DOCUMENT) == Document.class
+                ? bsonTypeClassMap.withMapping(BsonType.DOCUMENT, CompactDocument.class)
+                : bsonTypeClassMap;
+    }
+}
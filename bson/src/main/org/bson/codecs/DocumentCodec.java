@@ -28,6 +28,7 @@ import org.bson.UuidRepresentation;
 import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static org.bson.assertions.Assertions.notNull;
@@ -55,6 +56,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
     private final IdGenerator idGenerator;
     private final Transformer valueTransformer;
     private final UuidRepresentation uuidRepresentation;
+    private final Supplier<? extends Document> documentFactory;
 
     /**
      * Construct a new instance with a default {@code CodecRegistry}.
@@ -96,17 +98,30 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
         this(registry, new BsonTypeCodecMap(notNull("bsonTypeClassMap", bsonTypeClassMap), registry), valueTransformer);
     }
 
+    /**
+     * Construct a new instance that decodes to the documents created by the given factory.
+     *
+     * @see CompactDocumentCodec
+     */
+    DocumentCodec(final CodecRegistry registry, final BsonTypeClassMap bsonTypeClassMap, final Transformer valueTransformer,
+                  final Supplier<? extends Document> documentFactory) {
+        this(registry, new BsonTypeCodecMap(notNull("bsonTypeClassMap", bsonTypeClassMap), registry), DEFAULT_ID_GENERATOR,
+                valueTransformer, UuidRepresentation.UNSPECIFIED, documentFactory);
+    }
+
     private DocumentCodec(final CodecRegistry registry, final BsonTypeCodecMap bsonTypeCodecMap, final Transformer valueTransformer) {
-        this(registry, bsonTypeCodecMap, DEFAULT_ID_GENERATOR, valueTransformer, UuidRepresentation.UNSPECIFIED);
+        this(registry, bsonTypeCodecMap, DEFAULT_ID_GENERATOR, valueTransformer, UuidRepresentation.UNSPECIFIED, Document::new);
     }
 
     private DocumentCodec(final CodecRegistry registry, final BsonTypeCodecMap bsonTypeCodecMap, final IdGenerator idGenerator,
-                          final Transformer valueTransformer, final UuidRepresentation uuidRepresentation) {
+                          final Transformer valueTransformer, final UuidRepresentation uuidRepresentation,
+                          final Supplier<? extends Document> documentFactory) {
         this.registry = notNull("registry", registry);
         this.bsonTypeCodecMap = bsonTypeCodecMap;
         this.idGenerator = idGenerator;
         this.valueTransformer = valueTransformer != null ? valueTransformer : value -> value;
         this.uuidRepresentation = uuidRepresentation;
+        this.documentFactory = documentFactory;
     }
 
     @Override
@@ -114,7 +129,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
         if (this.uuidRepresentation.equals(uuidRepresentation)) {
             return this;
         }
-        return new DocumentCodec(registry, bsonTypeCodecMap, idGenerator, valueTransformer, uuidRepresentation);
+        return new DocumentCodec(registry, bsonTypeCodecMap, idGenerator, valueTransformer, uuidRepresentation, documentFactory);
     }
 
     @Override
@@ -168,7 +183,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
 
     @Override
     public Document decode(final BsonReader reader, final DecoderContext decoderContext) {
-        Document document = new Document();
+        Document document = documentFactory.get();
 
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
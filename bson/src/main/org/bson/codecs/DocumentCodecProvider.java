@@ -16,6 +16,7 @@
 
 package org.bson.codecs;
 
+import org.bson.CompactDocument;
 import org.bson.Document;
 import org.bson.Transformer;
 import org.bson.codecs.configuration.CodecProvider;
@@ -87,6 +88,10 @@ public class DocumentCodecProvider implements CodecProvider {
             return (Codec<T>) new DocumentCodec(registry, bsonTypeClassMap, valueTransformer);
         }
 
+        if (clazz == CompactDocument.class) {
+            return (Codec<T>) new CompactDocumentCodec(registry, bsonTypeClassMap, valueTransformer);
+        }
+
         return null;
     }
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.AbstractBsonReader;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.PooledRawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.io.BsonInputMark;
+import org.bson.io.ByteBufferBsonInput;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A codec for {@link PooledRawBsonDocument}.
+ *
+ * <p>When decoding from a {@link BsonBinaryReader} that reads from a {@link ByteBufferBsonInput}, the decoded document
+ * {@linkplain ByteBuf#retain() retains} the buffer of the input and refers to the range of the document in it, without copying any
+ * bytes. Otherwise, the bytes of the document are copied into a new buffer.</p>
+ *
+ * @since 5.10
+ */
+public class PooledRawBsonDocumentCodec implements Codec<PooledRawBsonDocument> {
+
+    /**
+     * Constructs a new instance.
+     */
+    public PooledRawBsonDocumentCodec() {
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final PooledRawBsonDocument value, final EncoderContext encoderContext) {
+        ByteBuf buffer = value.getByteBuffer();
+        try {
+            if (writer instanceof BsonBinaryWriter && buffer.isBackedByArray()) {
+                ((BsonBinaryWriter) writer).pipe(buffer.array(), buffer.arrayOffset() + buffer.position(), value.getByteLength());
+            } else {
+                try (ByteBufferBsonInput input = new ByteBufferBsonInput(buffer.duplicate());
+                     BsonBinaryReader reader = new BsonBinaryReader(input)) {
+                    writer.pipe(reader);
+                }
+            }
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public PooledRawBsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader instanceof BsonBinaryReader && ((BsonBinaryReader) reader).getBsonInput() instanceof ByteBufferBsonInput) {
+            BsonBinaryReader binaryReader = (BsonBinaryReader) reader;
+            ByteBufferBsonInput input = (ByteBufferBsonInput) binaryReader.getBsonInput();
+            if (binaryReader.getState() == AbstractBsonReader.State.INITIAL) {
+                // the implied type of a top-level value is a document, which must be read before the value can be skipped
+                binaryReader.readBsonType();
+            }
+            int offset = input.getPosition();
+            BsonInputMark mark = input.getMark(4);
+            int length = input.readInt32();
+            mark.reset();
+            binaryReader.skipValue();
+            return new PooledRawBsonDocument(input.getBuffer().retain(), offset, length);
+        }
+        BasicOutputBuffer buffer = new BasicOutputBuffer(0);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.pipe(reader);
+            byte[] bytes = buffer.toByteArray();
+            return new PooledRawBsonDocument(new ByteBufNIO(ByteBuffer.wrap(bytes)), 0, bytes.length);
+        }
+    }
+
+    @Override
+    public Class<PooledRawBsonDocument> getEncoderClass() {
+        return PooledRawBsonDocument.class;
+    }
+}
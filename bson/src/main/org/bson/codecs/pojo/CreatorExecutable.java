@@ -21,6 +21,8 @@ import org.bson.codecs.pojo.annotations.BsonId;
 import org.bson.codecs.pojo.annotations.BsonProperty;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -28,12 +30,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Arrays.asList;
 
 final class CreatorExecutable<T> {
+    private static final Object[] NO_PARAMS = new Object[0];
+
     private final Class<T> clazz;
     private final Constructor<T> constructor;
     private final Method method;
+    // A handle of type (Object[])Object that spreads the parameters to the constructor or method, which is cheaper to invoke than
+    // Constructor.newInstance and Method.invoke, or null if the constructor or method is not accessible to this class
+    private final MethodHandle handle;
     private final List<BsonProperty> properties = new ArrayList<>();
     private final Integer idPropertyIndex;
     private final List<Class<?>> parameterTypes = new ArrayList<>();
@@ -80,6 +88,7 @@ final class CreatorExecutable<T> {
         }
 
         this.idPropertyIndex = idPropertyIndex;
+        this.handle = createHandle(constructor, method, parameterTypes.size());
     }
 
     Class<T> getType() {
@@ -105,6 +114,9 @@ final class CreatorExecutable<T> {
     @SuppressWarnings("unchecked")
     T getInstance() {
         checkHasAnExecutable();
+        if (handle != null) {
+            return invokeHandle(NO_PARAMS);
+        }
         try {
             if (constructor != null) {
                 return constructor.newInstance();
@@ -119,6 +131,9 @@ final class CreatorExecutable<T> {
     @SuppressWarnings("unchecked")
     T getInstance(final Object[] params) {
         checkHasAnExecutable();
+        if (handle != null) {
+            return invokeHandle(params);
+        }
         try {
             if (constructor != null) {
                 return constructor.newInstance(params);
@@ -130,6 +145,16 @@ final class CreatorExecutable<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private T invokeHandle(final Object[] params) {
+        try {
+            return (T) handle.invokeExact(params);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new CodecConfigurationException(t.getMessage(), t);
+        }
+    }
 
     CodecConfigurationException getError(final Class<?> clazz, final String msg) {
         return getError(clazz, constructor != null, msg);
@@ -143,6 +168,24 @@ final class CreatorExecutable<T> {
         }
     }
 
+    private static MethodHandle createHandle(final Constructor<?> constructor, final Method method, final int parameterCount) {
+        try {
+            MethodHandle handle;
+            if (constructor != null) {
+                handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            } else if (method != null) {
+                handle = MethodHandles.lookup().unreflect(method);
+            } else {
+                return null;
+            }
+            return handle.asFixedArity()
+                    .asSpreader(Object[].class, parameterCount)
+                    .asType(methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
     private static CodecConfigurationException getError(final Class<?> clazz, final boolean isConstructor, final String msg) {
         return new CodecConfigurationException(format("Invalid @BsonCreator %s in %s. %s", isConstructor ? "constructor" : "method",
                 clazz.getSimpleName(), msg));
@@ -17,10 +17,14 @@ package org.bson.codecs.pojo;
 
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.invoke.MethodHandle;
+
 import static java.lang.String.format;
 
 final class FieldPropertyAccessor<T> implements PropertyAccessor<T> {
     private final PropertyAccessorImpl<T> wrapped;
+    // null for final fields, which only Field.set can set
+    private final MethodHandle setterHandle;
 
     FieldPropertyAccessor(final PropertyAccessorImpl<T> wrapped) {
         this.wrapped = wrapped;
@@ -30,6 +34,7 @@ final class FieldPropertyAccessor<T> implements PropertyAccessor<T> {
             throw new CodecConfigurationException(format("Unable to make field accessible '%s' in %s",
                     wrapped.getPropertyMetadata().getName(), wrapped.getPropertyMetadata().getDeclaringClassName()), e);
         }
+        this.setterHandle = PropertyAccessorImpl.setterHandle(null, wrapped.getPropertyMetadata().getField());
     }
 
     @Override
@@ -40,10 +45,16 @@ final class FieldPropertyAccessor<T> implements PropertyAccessor<T> {
     @Override
     public <S> void set(final S instance, final T value) {
         try {
+            if (setterHandle != null) {
+                setterHandle.invokeExact((Object) instance, (Object) value);
+                return;
+            }
             wrapped.getPropertyMetadata().getField().set(instance, value);
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
             throw new CodecConfigurationException(format("Unable to set value for property '%s' in %s",
-                    wrapped.getPropertyMetadata().getName(), wrapped.getPropertyMetadata().getDeclaringClassName()), e);
+                    wrapped.getPropertyMetadata().getName(), wrapped.getPropertyMetadata().getDeclaringClassName()), t);
         }
     }
 }
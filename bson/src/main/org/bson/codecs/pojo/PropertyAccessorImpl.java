@@ -18,19 +18,46 @@ package org.bson.codecs.pojo;
 
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
 
 final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
 
     private final PropertyMetadata<T> propertyMetadata;
+    // Method handles are cheaper to invoke than Method.invoke and Field.get/set, and are used unless the getter, setter or field is
+    // inaccessible, in which case the reflective path reports the error
+    private final MethodHandle getterHandle;
+    private final MethodHandle setterHandle;
 
     PropertyAccessorImpl(final PropertyMetadata<T> propertyMetadata) {
         this.propertyMetadata = propertyMetadata;
+        this.getterHandle = propertyMetadata.isSerializable()
+                ? getterHandle(propertyMetadata.getGetter(), propertyMetadata.getField()) : null;
+        this.setterHandle = propertyMetadata.isDeserializable()
+                ? setterHandle(propertyMetadata.getSetter(), propertyMetadata.getField()) : null;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <S> T get(final S instance) {
+        if (getterHandle != null) {
+            try {
+                return (T) getterHandle.invokeExact((Object) instance);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw getError(t);
+            }
+        }
         try {
             if (propertyMetadata.isSerializable()) {
                 if (propertyMetadata.getGetter() != null) {
@@ -48,6 +75,16 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
 
     @Override
     public <S> void set(final S instance, final T value) {
+        if (setterHandle != null) {
+            try {
+                setterHandle.invokeExact((Object) instance, (Object) value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw setError(t);
+            }
+            return;
+        }
         try {
             if (propertyMetadata.isDeserializable()) {
                 if (propertyMetadata.getSetter() != null) {
@@ -65,12 +102,48 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
         return propertyMetadata;
     }
 
-    private CodecConfigurationException getError(final Exception cause) {
+    /**
+     * Gets a handle of type {@code (Object)Object} for the given getter, or else for the given field.
+     *
+     * @return the handle, or null if the member is static or is not accessible to this class
+     */
+    static MethodHandle getterHandle(final Method getter, final Field field) {
+        try {
+            if (getter != null) {
+                return isStatic(getter.getModifiers()) ? null : MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+            } else {
+                return isStatic(field.getModifiers()) ? null : MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            }
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a handle of type {@code (Object,Object)void} for the given setter, or else for the given field.
+     *
+     * <p>A field must not be final, and if it is not public it must have been made accessible.</p>
+     *
+     * @return the handle, or null if the member is static or is not accessible to this class
+     */
+    static MethodHandle setterHandle(final Method setter, final Field field) {
+        try {
+            if (setter != null) {
+                return isStatic(setter.getModifiers()) ? null : MethodHandles.lookup().unreflect(setter).asType(SETTER_TYPE);
+            } else {
+                return isStatic(field.getModifiers()) ? null : MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            }
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private CodecConfigurationException getError(final Throwable cause) {
         return new CodecConfigurationException(format("Unable to get value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
 
-    private CodecConfigurationException setError(final Exception cause) {
+    private CodecConfigurationException setError(final Throwable cause) {
         return new CodecConfigurationException(format("Unable to set value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that marks a record or POJO for which the {@code bson-codec-processor} annotation processor generates a codec at compile
+ * time.
+ *
+ * <p>For a type {@code com.example.Person}, the processor generates the codec {@code com.example.PersonBsonCodec}, and for a nested type
+ * {@code com.example.Outer.Person}, the codec {@code com.example.Outer_PersonBsonCodec}. Each codec has a nested {@code Provider} class,
+ * which is a {@link org.bson.codecs.configuration.CodecProvider} for the annotated type only.</p>
+ *
+ * <p>The generated codecs encode and decode properties with straight-line code instead of through reflection, and honor the
+ * {@link BsonId}, {@link BsonProperty}, {@link BsonIgnore}, {@link BsonCreator} and {@link BsonDiscriminator} annotations as the
+ * {@link org.bson.codecs.pojo.Conventions#ANNOTATION_CONVENTION} does. The annotation is retained only in class files, as it is not
+ * needed at run time.</p>
+ *
+ * @since 5.10
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface BsonGenerateCodec {
+}
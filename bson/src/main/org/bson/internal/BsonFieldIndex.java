@@ -0,0 +1,305 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
+import org.bson.ByteBuf;
+import org.bson.io.ByteBufferBsonInput;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * The offsets of the elements of an encoded BSON document or array, which give access to an element by position, and, for documents,
+ * by name, without scanning the encoded bytes.
+ *
+ * <p>An index is built by a single pass over the encoded bytes. It skips the values without decoding them, and does not create the
+ * names of the elements unless they contain non-ASCII characters. An index holds no reference to the buffer it was built from, so the
+ * same buffer must be passed to the methods that read the encoded bytes. Instances are immutable, and can therefore be published
+ * without synchronization.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BsonFieldIndex {
+    /**
+     * Documents with at most this number of elements are searched linearly, comparing the hashes of the names before the names.
+     */
+    private static final int MAX_LINEARLY_SEARCHED_SIZE = 8;
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * The offset of the type byte of each element, in the order of the elements.
+     */
+    private final int[] elementOffsets;
+    /**
+     * The {@link String#hashCode()} of the name of each element, or empty for arrays.
+     */
+    private final int[] nameHashes;
+    /**
+     * The names of the elements that are not ASCII, or {@code null} if all names are ASCII.
+     */
+    private final String[] nonAsciiNames;
+    /**
+     * An open addressing hash table of the elements by name, storing the position of an element plus one, or {@code null} if the
+     * document is searched linearly.
+     */
+    private final int[] hashTable;
+
+    /**
+     * Indexes the BSON document that starts at the position of the given buffer.
+     *
+     * @param buffer the buffer, whose position is not changed
+     * @return the index
+     */
+    public static BsonFieldIndex indexDocument(final ByteBuf buffer) {
+        return index(buffer, true);
+    }
+
+    /**
+     * Indexes the BSON array that starts at the position of the given buffer. The names of the elements are not indexed.
+     *
+     * @param buffer the buffer, whose position is not changed
+     * @return the index
+     */
+    public static BsonFieldIndex indexArray(final ByteBuf buffer) {
+        return index(buffer, false);
+    }
+
+    /**
+     * Creates a reader of the value of an element.
+     *
+     * @param buffer a buffer positioned at the start of the document that contains the element, which is owned by the returned reader
+     * @param elementOffset the {@linkplain #getElementOffset(int) offset} of the element
+     * @return a reader whose {@linkplain BsonBinaryReader#getCurrentBsonType() current type} is the type of the element, and whose next
+     * read is the value of the element
+     */
+    public static BsonBinaryReader createValueReader(final ByteBuf buffer, final int elementOffset) {
+        BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(buffer));
+        reader.readStartDocument();
+        buffer.position(elementOffset);
+        reader.readBsonType();
+        reader.skipName();
+        return reader;
+    }
+
+    /**
+     * Gets the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return elementOffsets.length;
+    }
+
+    /**
+     * Gets the offset in the buffer of the type byte of the element at the given position.
+     *
+     * @param position the position of the element
+     * @return the offset of the element
+     * @throws IndexOutOfBoundsException if there is no element at the position
+     */
+    public int getElementOffset(final int position) {
+        return elementOffsets[position];
+    }
+
+    /**
+     * Finds the first element with the given name.
+     *
+     * @param buffer the buffer that this index was built from
+     * @param name the name
+     * @return the position of the element, or -1 if there is none
+     */
+    public int indexOf(final ByteBuf buffer, final String name) {
+        int hash = name.hashCode();
+        if (hashTable == null) {
+            for (int i = 0; i < nameHashes.length; i++) {
+                if (nameHashes[i] == hash && nameEquals(buffer, i, name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = hashTable.length - 1;
+        for (int slot = spread(hash) & mask; hashTable[slot] != 0; slot = (slot + 1) & mask) {
+            int i = hashTable[slot] - 1;
+            if (nameHashes[i] == hash && nameEquals(buffer, i, name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean nameEquals(final ByteBuf buffer, final int position, final String name) {
+        if (nonAsciiNames != null && nonAsciiNames[position] != null) {
+            return nonAsciiNames[position].equals(name);
+        }
+        int nameOffset = elementOffsets[position] + 1;
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c == 0 || buffer.get(nameOffset + i) != c) {
+                return false;
+            }
+        }
+        return buffer.get(nameOffset + length) == 0;
+    }
+
+    private static BsonFieldIndex index(final ByteBuf buffer, final boolean indexNames) {
+        int documentOffset = buffer.position();
+        int end = documentOffset + readInt32(buffer, documentOffset) - 1;
+        int[] elementOffsets = new int[16];
+        int[] nameHashes = indexNames ? new int[16] : EMPTY;
+        String[] nonAsciiNames = null;
+        int size = 0;
+        int offset = documentOffset + 4;
+        while (offset < end) {
+            if (size == elementOffsets.length) {
+                elementOffsets = Arrays.copyOf(elementOffsets, size * 2);
+                if (indexNames) {
+                    nameHashes = Arrays.copyOf(nameHashes, size * 2);
+                }
+            }
+            elementOffsets[size] = offset;
+            byte type = buffer.get(offset);
+            int nameOffset = offset + 1;
+            int hash = 0;
+            boolean ascii = true;
+            offset = nameOffset;
+            for (byte b = buffer.get(offset); b != 0; b = buffer.get(++offset)) {
+                hash = 31 * hash + b;
+                ascii &= b > 0;
+            }
+            if (indexNames) {
+                if (!ascii) {
+                    byte[] nameBytes = new byte[offset - nameOffset];
+                    buffer.get(nameOffset, nameBytes);
+                    String name = new String(nameBytes, StandardCharsets.UTF_8);
+                    if (nonAsciiNames == null) {
+                        nonAsciiNames = new String[elementOffsets.length];
+                    } else if (nonAsciiNames.length < elementOffsets.length) {
+                        nonAsciiNames = Arrays.copyOf(nonAsciiNames, elementOffsets.length);
+                    }
+                    nonAsciiNames[size] = name;
+                    hash = name.hashCode();
+                }
+                nameHashes[size] = hash;
+            }
+            offset = skipValue(buffer, type, offset + 1);
+            size++;
+        }
+        if (offset != end || buffer.get(end) != 0) {
+            throw new BsonSerializationException("The size of the document does not match the size of its elements");
+        }
+        return new BsonFieldIndex(Arrays.copyOf(elementOffsets, size),
+                indexNames ? Arrays.copyOf(nameHashes, size) : EMPTY,
+                nonAsciiNames == null ? null : Arrays.copyOf(nonAsciiNames, size));
+    }
+
+    /**
+     * Returns the offset that follows the value of the given type that starts at the given offset.
+     */
+    private static int skipValue(final ByteBuf buffer, final byte type, final int valueOffset) {
+        BsonType bsonType = BsonType.findByValue(type);
+        if (bsonType == null) {
+            throw new BsonSerializationException(format("Detected unknown BSON type \"\\x%x\"", type));
+        }
+        switch (bsonType) {
+            case UNDEFINED:
+            case NULL:
+            case MIN_KEY:
+            case MAX_KEY:
+                return valueOffset;
+            case BOOLEAN:
+                return valueOffset + 1;
+            case INT32:
+                return valueOffset + 4;
+            case DOUBLE:
+            case DATE_TIME:
+            case TIMESTAMP:
+            case INT64:
+                return valueOffset + 8;
+            case OBJECT_ID:
+                return valueOffset + 12;
+            case DECIMAL128:
+                return valueOffset + 16;
+            case STRING:
+            case JAVASCRIPT:
+            case SYMBOL:
+                return valueOffset + 4 + readInt32(buffer, valueOffset);
+            case DOCUMENT:
+            case ARRAY:
+            case JAVASCRIPT_WITH_SCOPE:
+                return valueOffset + readInt32(buffer, valueOffset);
+            case BINARY:
+                return valueOffset + 5 + readInt32(buffer, valueOffset);
+            case REGULAR_EXPRESSION:
+                return skipCString(buffer, skipCString(buffer, valueOffset));
+            case DB_POINTER:
+                return valueOffset + 4 + readInt32(buffer, valueOffset) + 12;
+            default:
+                throw new BsonSerializationException(format("Unexpected BSON type %s of an element", bsonType));
+        }
+    }
+
+    private static int skipCString(final ByteBuf buffer, final int offset) {
+        int i = offset;
+        while (buffer.get(i) != 0) {
+            i++;
+        }
+        return i + 1;
+    }
+
+    /**
+     * Reads a little-endian {@code int32} regardless of the byte order of the buffer.
+     */
+    private static int readInt32(final ByteBuf buffer, final int offset) {
+        return (buffer.get(offset) & 0xff)
+                | (buffer.get(offset + 1) & 0xff) << 8
+                | (buffer.get(offset + 2) & 0xff) << 16
+                | (buffer.get(offset + 3) & 0xff) << 24;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private BsonFieldIndex(final int[] elementOffsets, final int[] nameHashes, final String[] nonAsciiNames) {
+        this.elementOffsets = elementOffsets;
+        this.nameHashes = nameHashes;
+        this.nonAsciiNames = nonAsciiNames;
+        if (nameHashes.length <= MAX_LINEARLY_SEARCHED_SIZE) {
+            hashTable = null;
+        } else {
+            // a load factor of at most 0.5 keeps the probe sequences short
+            int capacity = Integer.highestOneBit(nameHashes.length * 2 - 1) << 1;
+            int mask = capacity - 1;
+            hashTable = new int[capacity];
+            for (int i = 0; i < nameHashes.length; i++) {
+                int slot = spread(nameHashes[i]) & mask;
+                while (hashTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                // elements are added in order, so a name that is not unique is found at the position where it first appears
+                hashTable[slot] = i + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A map with string keys that iterates in insertion order, like {@link java.util.LinkedHashMap}, but that stores its keys and values in
+ * two parallel arrays instead of allocating an entry object for each mapping.
+ *
+ * <p>Maps with at most {@value #MAX_LINEARLY_SEARCHED_SIZE} mappings are searched linearly. Larger maps also have an open-addressing
+ * hash table, with linear probing, of the positions of the keys in the arrays. Removing a mapping shifts the mappings that follow it,
+ * and is therefore linear in the size of the map; decoded documents are rarely modified, let alone shrunk.</p>
+ *
+ * <p>Like {@link java.util.LinkedHashMap}, this class is not thread-safe, and permits {@code null} keys and values.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ *
+ * @param <V> the type of the values
+ */
+public final class CompactOrderedMap<V> extends AbstractMap<String, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    /**
+     * Maps with at most this number of mappings are searched linearly, without a hash table.
+     */
+    static final int MAX_LINEARLY_SEARCHED_SIZE = 8;
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private transient String[] keys;
+    private transient Object[] values;
+    private transient int size;
+    /**
+     * The positions in {@link #keys} plus one, indexed by the hashes of the keys, where zero marks an empty slot, or {@code null} if the
+     * map is searched linearly. The length is a power of two that is at least twice the length of {@link #keys}.
+     */
+    private transient int[] table;
+    private transient int modCount;
+    private transient Set<Entry<String, V>> entrySet;
+
+    /**
+     * Construct an empty instance with a default capacity.
+     */
+    public CompactOrderedMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an empty instance with room for the given number of mappings.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public CompactOrderedMap(final int initialCapacity) {
+        isTrueArgument("initialCapacity >= 0", initialCapacity >= 0);
+        keys = initialCapacity == 0 ? EMPTY_KEYS : new String[initialCapacity];
+        values = initialCapacity == 0 ? EMPTY_VALUES : new Object[initialCapacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final String key, final V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (size == keys.length) {
+            grow();
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        if (table != null) {
+            insertIntoTable(size - 1);
+        } else if (size > MAX_LINEARLY_SEARCHED_SIZE) {
+            rebuildTable();
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        table = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        Set<Entry<String, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private int indexOf(final Object key) {
+        if (table == null) {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (Objects.equals(keys[index], key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int index) {
+        int following = size - index - 1;
+        System.arraycopy(keys, index + 1, keys, index, following);
+        System.arraycopy(values, index + 1, values, index, following);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        if (table != null) {
+            // the positions of the following keys have changed
+            if (size > MAX_LINEARLY_SEARCHED_SIZE) {
+                rebuildTable();
+            } else {
+                table = null;
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1));
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        if (table != null) {
+            rebuildTable();
+        }
+    }
+
+    private void rebuildTable() {
+        int length = Integer.highestOneBit(Math.max(keys.length, 1) * 4 - 1);
+        if (table == null || table.length != length) {
+            table = new int[length];
+        } else {
+            Arrays.fill(table, 0);
+        }
+        for (int i = 0; i < size; i++) {
+            insertIntoTable(i);
+        }
+    }
+
+    private void insertIntoTable(final int index) {
+        int mask = table.length - 1;
+        int slot = hash(keys[index]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private static int hash(final Object key) {
+        int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            stream.writeObject(keys[i]);
+            stream.writeObject(values[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int size = stream.readInt();
+        if (size < 0) {
+            throw new InvalidObjectException("Negative size: " + size);
+        }
+        keys = size == 0 ? EMPTY_KEYS : new String[size];
+        values = size == 0 ? EMPTY_VALUES : new Object[size];
+        for (int i = 0; i < size; i++) {
+            put((String) stream.readObject(), (V) stream.readObject());
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, V>> {
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int index = indexOf(entry.getKey());
+            return index >= 0 && Objects.equals(values[index], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            removeAt(indexOf(((Entry<?, ?>) o).getKey()));
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            checkForComodification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new MapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * An entry that finds its mapping by key, so that it stays attached to it when removals shift the mappings.
+     * The position of the mapping when last found is kept to avoid searching for it while it has not moved.
+     */
+    private final class MapEntry implements Entry<String, V> {
+        private final String key;
+        private int index;
+
+        MapEntry(final int index) {
+            this.key = keys[index];
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[currentIndex()];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(final V value) {
+            int currentIndex = currentIndex();
+            V previous = (V) values[currentIndex];
+            values[currentIndex] = value;
+            return previous;
+        }
+
+        private int currentIndex() {
+            if (index >= size || !Objects.equals(keys[index], key)) {
+                index = indexOf(key);
+                if (index < 0) {
+                    throw new IllegalStateException("The mapping of the entry has been removed");
+                }
+            }
+            return index;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -63,6 +63,17 @@ public class ByteBufferBsonInput implements BsonInput {
         buffer.order(ByteOrder.LITTLE_ENDIAN);
     }
 
+    /**
+     * Gets the buffer that this instance reads from, which is positioned at the next byte to read.
+     *
+     * @return the buffer
+     * @since 5.10
+     */
+    public ByteBuf getBuffer() {
+        ensureOpen();
+        return buffer;
+    }
+
     @Override
     public int getPosition() {
         ensureOpen();
@@ -139,6 +150,33 @@ public class ByteBufferBsonInput implements BsonInput {
         return readString(size);
     }
 
+    /**
+     * Reads a BSON CString value, getting it from the given cache if possible.
+     *
+     * @param fieldNameCache the cache
+     * @return the string
+     * @see FieldNameCache
+     * @since 5.10
+     */
+    public String readCString(final FieldNameCache fieldNameCache) {
+        ensureOpen();
+        int size = computeCStringLength(buffer.position());
+        if (size <= 2 || size - 1 > FieldNameCache.MAX_NAME_LENGTH) {
+            // strings of at most one byte are already shared, and longer strings than the cache holds are not worth hashing
+            return readString(size);
+        }
+        int position = buffer.position();
+        buffer.position(position + size);
+        if (buffer.isBackedByArray()) {
+            return fieldNameCache.get(buffer.array(), buffer.arrayOffset() + position, size - 1);
+        }
+        if (scratchBuffer == null || size > scratchBuffer.length) {
+            scratchBuffer = new byte[size + (size >>> 1)];
+        }
+        buffer.get(position, scratchBuffer, 0, size - 1);
+        return fieldNameCache.get(scratchBuffer, 0, size - 1);
+    }
+
     private String readString(final int bsonStringSize) {
         if (bsonStringSize == 2) {
             byte asciiByte = buffer.get();               // if only one byte in the string, it must be ascii.
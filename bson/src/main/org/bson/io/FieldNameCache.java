@@ -0,0 +1,124 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A bounded cache of the field names decoded by a {@link org.bson.BsonBinaryReader}, keyed by their encoded bytes, which allows readers to
+ * return the same {@code String} instance for a name that they read repeatedly rather than allocate a new one each time.
+ *
+ * <p>The cache is direct-mapped: each name can be held in only one slot, which is chosen by a hash of its bytes, and a name that maps to
+ * an occupied slot replaces the name in it. The cache therefore holds at most as many names as its capacity, and is effective when the
+ * number of distinct field names that are read is well below the capacity, which is typical of documents that share a schema. Names longer
+ * than {@value #MAX_NAME_LENGTH} bytes are not cached.</p>
+ *
+ * <p>Instances are thread-safe without locking, and are intended to be shared by all the readers of an application. The driver decodes
+ * the replies of the server with a cache of its own if {@code MongoClientSettings.Builder.fieldNameCacheSize} is set.</p>
+ *
+ * @see org.bson.BsonBinaryReader#BsonBinaryReader(BsonInput, FieldNameCache)
+ * @since 5.10
+ */
+public final class FieldNameCache {
+    /**
+     * The length in bytes of the longest name that is cached.
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+
+    /**
+     * The slots, each of which is null or an immutable entry, which can therefore be read and replaced without synchronization.
+     */
+    private final Entry[] entries;
+
+    /**
+     * Construct an instance.
+     *
+     * @param capacity the number of names that the cache can hold, which is rounded up to a power of two
+     */
+    public FieldNameCache(final int capacity) {
+        isTrueArgument("capacity > 0", capacity > 0);
+        isTrueArgument("capacity <= 2^20", capacity <= 1 << 20);
+        entries = new Entry[Integer.highestOneBit(capacity * 2 - 1)];
+    }
+
+    /**
+     * Gets the capacity of this cache.
+     *
+     * @return the number of names that the cache can hold
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the name encoded by the given bytes, from the cache if possible.
+     *
+     * @param bytes  the array that holds the encoded name
+     * @param offset the offset of the name in the array
+     * @param length the length of the encoded name, excluding the null terminator
+     * @return the name
+     */
+    String get(final byte[] bytes, final int offset, final int length) {
+        if (length > MAX_NAME_LENGTH) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        int hash = hash(bytes, offset, length);
+        int slot = hash & (entries.length - 1);
+        Entry entry = entries[slot];
+        if (entry != null && entry.hash == hash && entry.matches(bytes, offset, length)) {
+            return entry.name;
+        }
+        String name = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        entries[slot] = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), name);
+        return name;
+    }
+
+    private static int hash(final byte[] bytes, final int offset, final int length) {
+        int hash = length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String name;
+
+        Entry(final int hash, final byte[] bytes, final String name) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.name = name;
+        }
+
+        boolean matches(final byte[] otherBytes, final int offset, final int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != otherBytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A buffer that decodes UTF-8 encoded JSON directly from bytes, without a {@link java.io.Reader}.
+ *
+ * <p>The bytes are held in an array, which is either the array that is parsed or a window onto the stream that is parsed, which is filled
+ * in chunks and which retains the bytes from the lowest mark onwards. Supplementary characters are returned as two surrogate characters,
+ * like a {@code Reader} would, and positions are offsets in bytes.</p>
+ */
+class JsonByteBuffer implements JsonBuffer {
+    private static final int INITIAL_WINDOW_SIZE = 8192;
+    private static final int[] NO_MARKS = new int[0];
+
+    private final InputStream inputStream;
+    private final ByteBuffer byteBuffer;
+    private byte[] bytes;
+    /**
+     * The position of the first byte of {@link #bytes}, which is greater than zero once a stream has been read past the first window.
+     */
+    private int offset;
+    private int index;
+    private int limit;
+    private int lastChar = -1;
+    private int lastCharIndex;
+    private boolean lastCharIsLowSurrogate;
+    private char pendingLowSurrogate;
+    private boolean eof;
+    private int[] marks = NO_MARKS;
+    private int markCount;
+
+    JsonByteBuffer(final byte[] bytes, final int offset, final int length) {
+        this.inputStream = null;
+        this.byteBuffer = null;
+        this.bytes = bytes;
+        this.index = offset;
+        this.limit = offset + length;
+        this.offset = -offset;
+        this.lastCharIndex = offset;
+    }
+
+    JsonByteBuffer(final ByteBuffer byteBuffer) {
+        this.inputStream = null;
+        this.byteBuffer = byteBuffer.hasArray() ? null : byteBuffer.duplicate();
+        if (byteBuffer.hasArray()) {
+            this.bytes = byteBuffer.array();
+            this.index = byteBuffer.arrayOffset() + byteBuffer.position();
+            this.limit = byteBuffer.arrayOffset() + byteBuffer.limit();
+            this.offset = -index;
+            this.lastCharIndex = index;
+        } else {
+            this.bytes = new byte[INITIAL_WINDOW_SIZE];
+        }
+    }
+
+    JsonByteBuffer(final InputStream inputStream) {
+        this(inputStream, INITIAL_WINDOW_SIZE);
+    }
+
+    JsonByteBuffer(final InputStream inputStream, final int initialWindowSize) {
+        this.inputStream = inputStream;
+        this.byteBuffer = null;
+        this.bytes = new byte[initialWindowSize];
+    }
+
+    @Override
+    public int getPosition() {
+        return offset + index;
+    }
+
+    @Override
+    public int read() {
+        if (eof) {
+            throw new JsonParseException("Trying to read past EOF.");
+        }
+        lastCharIsLowSurrogate = false;
+        if (pendingLowSurrogate != 0) {
+            lastChar = pendingLowSurrogate;
+            lastCharIsLowSurrogate = true;
+            pendingLowSurrogate = 0;
+            return lastChar;
+        }
+        if (index == limit && !fill(1)) {
+            eof = true;
+            return -1;
+        }
+        lastCharIndex = index;
+        int firstByte = bytes[index] & 0xFF;
+        if (firstByte < 0x80) {
+            index++;
+            lastChar = firstByte;
+            return firstByte;
+        }
+        return readMultiByteCharacter(firstByte);
+    }
+
+    @Override
+    public void unread(final int c) {
+        eof = false;
+        if (c != -1 && c == lastChar) {
+            if (lastCharIsLowSurrogate) {
+                pendingLowSurrogate = (char) c;
+            } else {
+                index = lastCharIndex;
+                pendingLowSurrogate = 0;
+            }
+            lastChar = -1;
+        }
+    }
+
+    @Override
+    public int mark() {
+        int position = getPosition();
+        if (markCount == 0 || marks[markCount - 1] != position) {
+            if (markCount == marks.length) {
+                marks = Arrays.copyOf(marks, Math.max(4, markCount * 2));
+            }
+            marks[markCount++] = position;
+        }
+        return position;
+    }
+
+    @Override
+    public void reset(final int markPos) {
+        if (markPos > getPosition()) {
+            throw new IllegalStateException("mark cannot reset ahead of position, only back");
+        }
+        int markIndex = indexOfMark(markPos);
+        if (markIndex == -1) {
+            throw new IllegalArgumentException("mark invalidated");
+        }
+        markCount = markIndex;
+        index = markPos - offset;
+        lastChar = -1;
+        pendingLowSurrogate = 0;
+    }
+
+    @Override
+    public void discard(final int markPos) {
+        int markIndex = indexOfMark(markPos);
+        if (markIndex != -1) {
+            markCount = markIndex;
+        }
+    }
+
+    /**
+     * Reads the characters up to, but excluding, the first occurrence of the terminator, a backslash or a non-ASCII character, and appends
+     * them to the builder. This allows the scanner to read the common case of a string of ASCII characters in bulk.
+     *
+     * @param builder    the builder to append to
+     * @param terminator the character that ends the run
+     */
+    void readAsciiRun(final StringBuilder builder, final int terminator) {
+        if (pendingLowSurrogate != 0 || eof) {
+            return;
+        }
+        while (index < limit || fill(1)) {
+            int end = index;
+            while (end < limit) {
+                int b = bytes[end];
+                if (b < 0 || b == terminator || b == '\\') {
+                    break;
+                }
+                builder.append((char) b);
+                end++;
+            }
+            index = end;
+            if (end < limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the ASCII digits up to the first character that is not one, and appends them to the builder.
+     *
+     * @param builder the builder to append to
+     */
+    void readAsciiDigits(final StringBuilder builder) {
+        if (pendingLowSurrogate != 0 || eof) {
+            return;
+        }
+        while (index < limit || fill(1)) {
+            int end = index;
+            while (end < limit) {
+                int b = bytes[end];
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                builder.append((char) b);
+                end++;
+            }
+            index = end;
+            if (end < limit) {
+                return;
+            }
+        }
+    }
+
+    private int readMultiByteCharacter(final int firstByte) {
+        int length;
+        int codePoint;
+        int minCodePoint;
+        if ((firstByte & 0xE0) == 0xC0) {
+            length = 2;
+            codePoint = firstByte & 0x1F;
+            minCodePoint = 0x80;
+        } else if ((firstByte & 0xF0) == 0xE0) {
+            length = 3;
+            codePoint = firstByte & 0x0F;
+            minCodePoint = 0x800;
+        } else if ((firstByte & 0xF8) == 0xF0) {
+            length = 4;
+            codePoint = firstByte & 0x07;
+            minCodePoint = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+        } else {
+            throw invalidUtf8();
+        }
+        if (limit - index < length && !fill(length)) {
+            throw invalidUtf8();
+        }
+        for (int i = 1; i < length; i++) {
+            int b = bytes[index + i];
+            if ((b & 0xC0) != 0x80) {
+                throw invalidUtf8();
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if (codePoint < minCodePoint || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            throw invalidUtf8();
+        }
+        index += length;
+        if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            pendingLowSurrogate = Character.lowSurrogate(codePoint);
+            lastChar = Character.highSurrogate(codePoint);
+        } else {
+            lastChar = codePoint;
+        }
+        return lastChar;
+    }
+
+    private JsonParseException invalidUtf8() {
+        return new JsonParseException("Invalid UTF-8 byte sequence in JSON input. Position: %d.", getPosition());
+    }
+
+    private int indexOfMark(final int markPos) {
+        for (int i = markCount - 1; i >= 0; i--) {
+            if (marks[i] == markPos) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads from the stream until at least the given number of bytes follow the current index, first discarding the bytes that precede
+     * both the lowest mark and the last character, which may still be unread.
+     *
+     * @return false if the end of the stream, or of the array, is reached first
+     */
+    private boolean fill(final int required) {
+        if (inputStream == null && byteBuffer == null) {
+            return limit - index >= required;
+        }
+        int retainFrom = Math.min(index, lastCharIndex);
+        if (markCount > 0) {
+            retainFrom = Math.min(retainFrom, marks[0] - offset);
+        }
+        if (retainFrom > 0) {
+            System.arraycopy(bytes, retainFrom, bytes, 0, limit - retainFrom);
+            offset += retainFrom;
+            index -= retainFrom;
+            lastCharIndex -= retainFrom;
+            limit -= retainFrom;
+        }
+        while (limit - index < required) {
+            if (limit == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            int count = readFromSource(bytes.length - limit);
+            if (count == -1) {
+                return false;
+            }
+            limit += count;
+        }
+        return true;
+    }
+
+    private int readFromSource(final int length) {
+        if (byteBuffer != null) {
+            if (!byteBuffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, byteBuffer.remaining());
+            byteBuffer.get(bytes, limit, count);
+            return count;
+        }
+        try {
+            return inputStream.read(bytes, limit, length);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+}
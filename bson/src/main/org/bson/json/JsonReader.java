@@ -33,7 +33,9 @@ import org.bson.types.MaxKey;
 import org.bson.types.MinKey;
 import org.bson.types.ObjectId;
 
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.DateFormat;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
@@ -92,7 +94,53 @@ public class JsonReader extends AbstractBsonReader {
         this(new JsonScanner(reader));
     }
 
-    private JsonReader(final JsonScanner scanner) {
+    /**
+     * Constructs a new instance with the given UTF-8 encoded bytes positioned at a JSON object.
+     *
+     * <p>
+     * The bytes are decoded as they are parsed, rather than first decoded to a {@code String}, and strings and numbers are scanned in
+     * bulk, which makes this the most efficient way to parse JSON that is already encoded, for instance to a {@code RawBsonDocument}
+     * with a {@link org.bson.codecs.RawBsonDocumentCodec}, which pipes the reader to a {@link org.bson.BsonBinaryWriter}. Positions in
+     * the messages of parse exceptions are offsets in bytes.
+     * </p>
+     *
+     * @param json the UTF-8 encoded bytes of a JSON object, which are not copied
+     * @since 5.10
+     */
+    public JsonReader(final byte[] json) {
+        this(new JsonScanner(new JsonByteBuffer(json, 0, json.length)));
+    }
+
+    /**
+     * Constructs a new instance with the given UTF-8 encoded bytes positioned at a JSON object.
+     *
+     * <p>
+     * The remaining bytes of the buffer are parsed, without changing its position, in the same way as by {@link #JsonReader(byte[])}.
+     * </p>
+     *
+     * @param json the UTF-8 encoded bytes of a JSON object, which are not copied if the buffer is backed by an array
+     * @since 5.10
+     */
+    public JsonReader(final ByteBuffer json) {
+        this(new JsonScanner(new JsonByteBuffer(json)));
+    }
+
+    /**
+     * Constructs a new instance with the given {@code InputStream} of UTF-8 encoded bytes positioned at a JSON object.
+     *
+     * <p>
+     * The stream is read in chunks, and the bytes are parsed in the same way as by {@link #JsonReader(byte[])}, which avoids the cost of
+     * decoding them with a {@link java.io.InputStreamReader}. The application is responsible for closing the {@code InputStream}.
+     * </p>
+     *
+     * @param inputStream an input stream of the UTF-8 encoded bytes of a JSON object
+     * @since 5.10
+     */
+    public JsonReader(final InputStream inputStream) {
+        this(new JsonScanner(new JsonByteBuffer(inputStream)));
+    }
+
+    JsonReader(final JsonScanner scanner) {
         this.scanner = scanner;
         setContext(new Context(null, BsonContextType.TOP_LEVEL));
     }
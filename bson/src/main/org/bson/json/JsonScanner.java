@@ -28,9 +28,14 @@ import java.io.Reader;
 class JsonScanner {
 
     private final JsonBuffer buffer;
+    /**
+     * The buffer if it decodes bytes, which lets strings and numbers be scanned in bulk, or null.
+     */
+    private final JsonByteBuffer byteBuffer;
 
     JsonScanner(final JsonBuffer buffer) {
         this.buffer = buffer;
+        this.byteBuffer = buffer instanceof JsonByteBuffer ? (JsonByteBuffer) buffer : null;
     }
 
     JsonScanner(final String json) {
@@ -253,6 +258,10 @@ class JsonScanner {
 
 
         while (true) {
+            if (byteBuffer != null && (state == NumberState.SAW_INTEGER_DIGITS || state == NumberState.SAW_FRACTION_DIGITS
+                    || state == NumberState.SAW_EXPONENT_DIGITS)) {
+                byteBuffer.readAsciiDigits(sb);
+            }
             c = buffer.read();
             switch (state) {
                 case SAW_LEADING_MINUS:
@@ -471,6 +480,9 @@ class JsonScanner {
         StringBuilder sb = new StringBuilder();
 
         while (true) {
+            if (byteBuffer != null) {
+                byteBuffer.readAsciiRun(sb, quoteCharacter);
+            }
             int c = buffer.read();
             if (c == '\\') {
                 c = buffer.read();
@@ -0,0 +1,659 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonBinarySubType;
+import org.bson.BsonSerializationException;
+import org.bson.ByteBuf;
+import org.bson.PooledRawBsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.io.OutputBuffer;
+import org.bson.types.Decimal128;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static java.lang.String.format;
+import static org.bson.assertions.Assertions.isTrueArgument;
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * Transcodes BSON documents directly to UTF-8 encoded relaxed or canonical Extended JSON.
+ *
+ * <p>The output is the UTF-8 encoding of what a {@link JsonWriter} with the default {@link JsonWriterSettings} for the same output mode
+ * writes, but it is written straight from the BSON bytes to an {@link OutputBuffer}, rather than by reading the document with a
+ * {@link org.bson.BsonBinaryReader} and converting each value to a {@code String}: field names and strings are copied without being
+ * decoded unless they contain non-ASCII characters, and integers are formatted directly into the output. Reusing an output buffer, for
+ * instance a {@link org.bson.io.BasicOutputBuffer} that is truncated to position zero after its content has been sent, lets an application
+ * transcode many documents without allocating a buffer for each.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see RawBsonDocument#toJson(JsonWriterSettings)
+ * @see PooledRawBsonDocument#toJson(JsonWriterSettings)
+ * @since 5.10
+ */
+public final class JsonTranscoder {
+    private static final int SCRATCH_SIZE = 1024;
+    private static final long LAST_MS_OF_YEAR_9999 = 253402300799999L;
+    private static final byte[] HEX_DIGITS = ascii("0123456789abcdef");
+    private static final byte[] UPPER_CASE_HEX_DIGITS = ascii("0123456789ABCDEF");
+    private static final byte[][] ASCII_ESCAPES = new byte[128][];
+
+    private static final byte[] VALUE_SEPARATOR = ascii(", ");
+    private static final byte[] NAME_SEPARATOR = ascii(": ");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] POINT_ZERO = ascii(".0");
+    private static final byte[] QUOTED_END = ascii("\"}");
+    private static final byte[] QUOTED_END_END = ascii("\"}}");
+    private static final byte[] END_END = ascii("}}");
+    private static final byte[] NUMBER_DOUBLE_START = ascii("{\"$numberDouble\": \"");
+    private static final byte[] NUMBER_INT_START = ascii("{\"$numberInt\": \"");
+    private static final byte[] NUMBER_LONG_START = ascii("{\"$numberLong\": \"");
+    private static final byte[] NUMBER_DECIMAL_START = ascii("{\"$numberDecimal\": \"");
+    private static final byte[] DATE_START = ascii("{\"$date\": \"");
+    private static final byte[] DATE_NUMBER_LONG_START = ascii("{\"$date\": {\"$numberLong\": \"");
+    private static final byte[] BINARY_START = ascii("{\"$binary\": {\"base64\": \"");
+    private static final byte[] BINARY_SUB_TYPE = ascii("\", \"subType\": \"");
+    private static final byte[] OBJECT_ID_START = ascii("{\"$oid\": \"");
+    private static final byte[] UNDEFINED = ascii("{\"$undefined\": true}");
+    private static final byte[] REGULAR_EXPRESSION_START = ascii("{\"$regularExpression\": {\"pattern\": ");
+    private static final byte[] REGULAR_EXPRESSION_OPTIONS = ascii(", \"options\": ");
+    private static final byte[] DB_POINTER_START = ascii("{\"$dbPointer\": {\"$ref\": ");
+    private static final byte[] REF_START = ascii("{\"$ref\": ");
+    private static final byte[] ID = ascii(", \"$id\": ");
+    private static final byte[] CODE_START = ascii("{\"$code\": ");
+    private static final byte[] SCOPE = ascii(", \"$scope\": ");
+    private static final byte[] SYMBOL_START = ascii("{\"$symbol\": ");
+    private static final byte[] TIMESTAMP_START = ascii("{\"$timestamp\": {\"t\": ");
+    private static final byte[] TIMESTAMP_INCREMENT = ascii(", \"i\": ");
+    private static final byte[] MIN_KEY = ascii("{\"$minKey\": 1}");
+    private static final byte[] MAX_KEY = ascii("{\"$maxKey\": 1}");
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ASCII_ESCAPES[c] = unicodeEscape((char) c);
+        }
+        ASCII_ESCAPES[0x7f] = unicodeEscape((char) 0x7f);
+        ASCII_ESCAPES['"'] = ascii("\\\"");
+        ASCII_ESCAPES['\\'] = ascii("\\\\");
+        ASCII_ESCAPES['\b'] = ascii("\\b");
+        ASCII_ESCAPES['\f'] = ascii("\\f");
+        ASCII_ESCAPES['\n'] = ascii("\\n");
+        ASCII_ESCAPES['\r'] = ascii("\\r");
+        ASCII_ESCAPES['\t'] = ascii("\\t");
+    }
+
+    private final JsonMode outputMode;
+
+    /**
+     * Construct an instance that transcodes to relaxed Extended JSON.
+     */
+    public JsonTranscoder() {
+        this(JsonMode.RELAXED);
+    }
+
+    /**
+     * Construct an instance that transcodes to the given output mode.
+     *
+     * @param outputMode the output mode, which must be {@link JsonMode#RELAXED} or {@link JsonMode#EXTENDED}
+     * @throws IllegalArgumentException if the output mode is neither relaxed nor canonical Extended JSON
+     */
+    public JsonTranscoder(final JsonMode outputMode) {
+        notNull("outputMode", outputMode);
+        isTrueArgument("outputMode is RELAXED or EXTENDED", outputMode == JsonMode.RELAXED || outputMode == JsonMode.EXTENDED);
+        this.outputMode = outputMode;
+    }
+
+    /**
+     * Gets the output mode.
+     *
+     * @return the output mode
+     */
+    public JsonMode getOutputMode() {
+        return outputMode;
+    }
+
+    /**
+     * Transcodes the document to JSON, which is appended to the output.
+     *
+     * @param document the document
+     * @param output   the output to append the UTF-8 encoded JSON to
+     * @throws BsonSerializationException if the document is not valid BSON
+     */
+    public void transcode(final RawBsonDocument document, final OutputBuffer output) {
+        notNull("document", document);
+        notNull("output", output);
+        transcode(document.getByteBuffer(), output);
+    }
+
+    /**
+     * Transcodes the document to JSON, which is appended to the output. The bytes of the document are read from its pooled buffer,
+     * without being copied.
+     *
+     * @param document the document, which must not be closed
+     * @param output   the output to append the UTF-8 encoded JSON to
+     * @throws BsonSerializationException if the document is not valid BSON
+     * @throws IllegalStateException if the document is closed
+     */
+    public void transcode(final PooledRawBsonDocument document, final OutputBuffer output) {
+        notNull("document", document);
+        notNull("output", output);
+        ByteBuf buffer = document.getByteBuffer();
+        try {
+            transcode(buffer, output);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void transcode(final ByteBuf buffer, final OutputBuffer output) {
+        ByteBuffer bson = buffer.asNIO().duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        Transcoding transcoding = new Transcoding(bson, output, outputMode == JsonMode.EXTENDED);
+        transcoding.writeDocument(bson.position(), bson.limit(), false);
+        transcoding.flush();
+    }
+
+    private static byte[] ascii(final String characters) {
+        return characters.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] unicodeEscape(final char c) {
+        return new byte[] {'\\', 'u', HEX_DIGITS[(c & 0xf000) >> 12], HEX_DIGITS[(c & 0x0f00) >> 8], HEX_DIGITS[(c & 0x00f0) >> 4],
+                HEX_DIGITS[c & 0x000f]};
+    }
+
+    /**
+     * Whether a character other than a quote, a backslash or an ASCII control character is written as is by
+     * {@link StrictCharacterStreamJsonWriter}, rather than escaped.
+     */
+    private static boolean isWrittenUnescaped(final char c) {
+        switch (Character.getType(c)) {
+            case Character.UPPERCASE_LETTER:
+            case Character.LOWERCASE_LETTER:
+            case Character.TITLECASE_LETTER:
+            case Character.OTHER_LETTER:
+            case Character.DECIMAL_DIGIT_NUMBER:
+            case Character.LETTER_NUMBER:
+            case Character.OTHER_NUMBER:
+            case Character.SPACE_SEPARATOR:
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.CURRENCY_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+            case Character.OTHER_SYMBOL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The state of a single transcoding, which reads the BSON at absolute positions and buffers the JSON in a scratch array, which is
+     * appended to the output when it is full.
+     */
+    private static final class Transcoding {
+        private final ByteBuffer bson;
+        private final OutputBuffer output;
+        private final boolean extended;
+        private final byte[] scratch = new byte[SCRATCH_SIZE];
+        private int count;
+
+        Transcoding(final ByteBuffer bson, final OutputBuffer output, final boolean extended) {
+            this.bson = bson;
+            this.output = output;
+            this.extended = extended;
+        }
+
+        /**
+         * Writes the document or array at the given position.
+         *
+         * @return the position that follows it
+         */
+        int writeDocument(final int start, final int limit, final boolean isArray) {
+            if (limit - start < 5) {
+                throw new BsonSerializationException("Unexpected end of BSON document");
+            }
+            int size = bson.getInt(start);
+            int end = start + size - 1;
+            if (size < 5 || size > limit - start || bson.get(end) != 0) {
+                throw new BsonSerializationException(format("Invalid BSON document size %d", size));
+            }
+            write(isArray ? (byte) '[' : (byte) '{');
+            int position = start + 4;
+            boolean hasElements = false;
+            byte type = bson.get(position++);
+            while (type != 0) {
+                int nameEnd = indexOfNull(position, end);
+                if (hasElements) {
+                    write(VALUE_SEPARATOR);
+                }
+                if (!isArray) {
+                    writeString(position, nameEnd - position);
+                    write(NAME_SEPARATOR);
+                }
+                position = writeValue(type, nameEnd + 1, end);
+                hasElements = true;
+                if (position > end) {
+                    throw new BsonSerializationException(format("Invalid BSON document size %d", size));
+                }
+                type = bson.get(position++);
+            }
+            if (position != end + 1) {
+                throw new BsonSerializationException(format("Invalid BSON document size %d", size));
+            }
+            write(isArray ? (byte) ']' : (byte) '}');
+            return position;
+        }
+
+        /**
+         * Writes the value of the given type at the given position.
+         *
+         * @return the position that follows it
+         */
+        private int writeValue(final byte type, final int position, final int limit) {
+            switch (type) {
+                case 0x01:
+                    checkAvailable(position, 8, limit);
+                    writeDouble(bson.getDouble(position));
+                    return position + 8;
+                case 0x02:
+                    return writeLengthPrefixedString(position, limit);
+                case 0x03:
+                    return writeDocument(position, limit, false);
+                case 0x04:
+                    return writeDocument(position, limit, true);
+                case 0x05:
+                    return writeBinary(position, limit);
+                case 0x06:
+                    write(UNDEFINED);
+                    return position;
+                case 0x07:
+                    checkAvailable(position, 12, limit);
+                    writeObjectId(position);
+                    return position + 12;
+                case 0x08:
+                    checkAvailable(position, 1, limit);
+                    byte booleanByte = bson.get(position);
+                    if (booleanByte != 0 && booleanByte != 1) {
+                        throw new BsonSerializationException(format("Expected a boolean value but found %d", booleanByte));
+                    }
+                    write(booleanByte == 1 ? TRUE : FALSE);
+                    return position + 1;
+                case 0x09:
+                    checkAvailable(position, 8, limit);
+                    writeDateTime(bson.getLong(position));
+                    return position + 8;
+                case 0x0A:
+                    write(NULL);
+                    return position;
+                case 0x0B:
+                    return writeRegularExpression(position, limit);
+                case 0x0C:
+                    write(extended ? DB_POINTER_START : REF_START);
+                    int idPosition = writeLengthPrefixedString(position, limit);
+                    checkAvailable(idPosition, 12, limit);
+                    write(ID);
+                    writeObjectId(idPosition);
+                    if (extended) {
+                        write(END_END);
+                    } else {
+                        write((byte) '}');
+                    }
+                    return idPosition + 12;
+                case 0x0D:
+                    write(CODE_START);
+                    int codeEnd = writeLengthPrefixedString(position, limit);
+                    write((byte) '}');
+                    return codeEnd;
+                case 0x0E:
+                    write(SYMBOL_START);
+                    int symbolEnd = writeLengthPrefixedString(position, limit);
+                    write((byte) '}');
+                    return symbolEnd;
+                case 0x0F:
+                    return writeJavaScriptWithScope(position, limit);
+                case 0x10:
+                    checkAvailable(position, 4, limit);
+                    writeNumber(bson.getInt(position), extended ? NUMBER_INT_START : null);
+                    return position + 4;
+                case 0x11:
+                    checkAvailable(position, 8, limit);
+                    write(TIMESTAMP_START);
+                    writeLong(Integer.toUnsignedLong(bson.getInt(position + 4)));
+                    write(TIMESTAMP_INCREMENT);
+                    writeLong(Integer.toUnsignedLong(bson.getInt(position)));
+                    write(END_END);
+                    return position + 8;
+                case 0x12:
+                    checkAvailable(position, 8, limit);
+                    writeNumber(bson.getLong(position), extended ? NUMBER_LONG_START : null);
+                    return position + 8;
+                case 0x13:
+                    checkAvailable(position, 16, limit);
+                    write(NUMBER_DECIMAL_START);
+                    writeAscii(Decimal128.fromIEEE754BIDEncoding(bson.getLong(position + 8), bson.getLong(position)).toString());
+                    write(QUOTED_END);
+                    return position + 16;
+                case 0x7F:
+                    write(MAX_KEY);
+                    return position;
+                case (byte) 0xFF:
+                    write(MIN_KEY);
+                    return position;
+                default:
+                    throw new BsonSerializationException(format("Detected unknown BSON type \"\\x%x\"", type));
+            }
+        }
+
+        private void writeDouble(final double value) {
+            boolean isFinite = !Double.isNaN(value) && !Double.isInfinite(value);
+            if (!extended && isFinite) {
+                writeDoubleDigits(value);
+            } else {
+                write(NUMBER_DOUBLE_START);
+                writeDoubleDigits(value);
+                write(QUOTED_END);
+            }
+        }
+
+        /**
+         * Writes the same digits as {@link JsonDoubleHelper#toString(double)}, directly if the value is a small integer.
+         */
+        private void writeDoubleDigits(final double value) {
+            if (value == (long) value && Math.abs(value) < 1e7 && (value != 0 || Double.doubleToRawLongBits(value) == 0)) {
+                writeLong((long) value);
+                write(POINT_ZERO);
+            } else {
+                writeAscii(JsonDoubleHelper.toString(value));
+            }
+        }
+
+        private void writeNumber(final long value, final byte[] extendedStart) {
+            if (extendedStart == null) {
+                writeLong(value);
+            } else {
+                write(extendedStart);
+                writeLong(value);
+                write(QUOTED_END);
+            }
+        }
+
+        private void writeDateTime(final long value) {
+            if (extended || value < 0 || value > LAST_MS_OF_YEAR_9999) {
+                write(DATE_NUMBER_LONG_START);
+                writeLong(value);
+                write(QUOTED_END_END);
+            } else {
+                write(DATE_START);
+                writeAscii(DateTimeFormatter.format(value));
+                write(QUOTED_END);
+            }
+        }
+
+        private void writeObjectId(final int position) {
+            write(OBJECT_ID_START);
+            ensure(24);
+            for (int i = position; i < position + 12; i++) {
+                int b = bson.get(i) & 0xff;
+                scratch[count++] = HEX_DIGITS[b >> 4];
+                scratch[count++] = HEX_DIGITS[b & 0x0f];
+            }
+            write(QUOTED_END);
+        }
+
+        private int writeBinary(final int position, final int limit) {
+            checkAvailable(position, 5, limit);
+            int size = bson.getInt(position);
+            byte subType = bson.get(position + 4);
+            int dataPosition = position + 5;
+            if (size < 0) {
+                throw new BsonSerializationException(format("Invalid binary size %d", size));
+            }
+            checkAvailable(dataPosition, size, limit);
+            int end = dataPosition + size;
+            if (subType == BsonBinarySubType.OLD_BINARY.getValue()) {
+                if (size < 4 || bson.getInt(dataPosition) != size - 4) {
+                    throw new BsonSerializationException("Binary sub type OldBinary has inconsistent sizes");
+                }
+                dataPosition += 4;
+            }
+            write(BINARY_START);
+            write(Base64.getEncoder().encode(copy(dataPosition, end - dataPosition)));
+            write(BINARY_SUB_TYPE);
+            ensure(2);
+            scratch[count++] = UPPER_CASE_HEX_DIGITS[(subType & 0xf0) >> 4];
+            scratch[count++] = UPPER_CASE_HEX_DIGITS[subType & 0x0f];
+            write(QUOTED_END_END);
+            return end;
+        }
+
+        private int writeRegularExpression(final int position, final int limit) {
+            int patternEnd = indexOfNull(position, limit);
+            int optionsEnd = indexOfNull(patternEnd + 1, limit);
+            write(REGULAR_EXPRESSION_START);
+            writeString(position, patternEnd - position);
+            write(REGULAR_EXPRESSION_OPTIONS);
+            int optionsLength = optionsEnd - patternEnd - 1;
+            if (areOptionsSorted(patternEnd + 1, optionsEnd)) {
+                writeString(patternEnd + 1, optionsLength);
+            } else {
+                // BsonRegularExpression sorts its options
+                char[] options = decode(patternEnd + 1, optionsLength).toCharArray();
+                Arrays.sort(options);
+                write((byte) '"');
+                writeEscaped(new String(options));
+                write((byte) '"');
+            }
+            write(END_END);
+            return optionsEnd + 1;
+        }
+
+        private boolean areOptionsSorted(final int start, final int end) {
+            for (int i = start + 1; i < end; i++) {
+                if (bson.get(i) < bson.get(i - 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int writeJavaScriptWithScope(final int position, final int limit) {
+            checkAvailable(position, 4, limit);
+            int size = bson.getInt(position);
+            if (size < 14 || size > limit - position) {
+                throw new BsonSerializationException(format("Invalid JavaScript with scope size %d", size));
+            }
+            int end = position + size;
+            write(CODE_START);
+            int scopePosition = writeLengthPrefixedString(position + 4, end);
+            write(SCOPE);
+            if (writeDocument(scopePosition, end, false) != end) {
+                throw new BsonSerializationException(format("Invalid JavaScript with scope size %d", size));
+            }
+            write((byte) '}');
+            return end;
+        }
+
+        /**
+         * Writes the string, which is preceded by its length, including the null terminator, at the given position.
+         *
+         * @return the position that follows it
+         */
+        private int writeLengthPrefixedString(final int position, final int limit) {
+            checkAvailable(position, 4, limit);
+            int size = bson.getInt(position);
+            if (size <= 0) {
+                throw new BsonSerializationException(format("While decoding a BSON string found a size that is not a positive number: %d",
+                        size));
+            }
+            checkAvailable(position + 4, size, limit);
+            int end = position + 4 + size - 1;
+            if (bson.get(end) != 0) {
+                throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+            }
+            writeString(position + 4, size - 1);
+            return end + 1;
+        }
+
+        /**
+         * Writes the UTF-8 encoded characters at the given position as a quoted and escaped JSON string, copying ASCII characters directly
+         * and decoding the rest of the string if it contains other characters.
+         */
+        private void writeString(final int start, final int length) {
+            write((byte) '"');
+            int end = start + length;
+            for (int i = start; i < end; i++) {
+                byte b = bson.get(i);
+                if (b < 0) {
+                    writeEscaped(decode(i, end - i));
+                    break;
+                }
+                byte[] escape = ASCII_ESCAPES[b];
+                if (escape == null) {
+                    write(b);
+                } else {
+                    write(escape);
+                }
+            }
+            write((byte) '"');
+        }
+
+        private void writeEscaped(final String characters) {
+            for (int i = 0; i < characters.length(); i++) {
+                char c = characters.charAt(i);
+                if (c < 0x80) {
+                    byte[] escape = ASCII_ESCAPES[c];
+                    if (escape == null) {
+                        write((byte) c);
+                    } else {
+                        write(escape);
+                    }
+                } else if (!isWrittenUnescaped(c)) {
+                    write(unicodeEscape(c));
+                } else if (c < 0x800) {
+                    ensure(2);
+                    scratch[count++] = (byte) (0xc0 | (c >> 6));
+                    scratch[count++] = (byte) (0x80 | (c & 0x3f));
+                } else {
+                    ensure(3);
+                    scratch[count++] = (byte) (0xe0 | (c >> 12));
+                    scratch[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    scratch[count++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        private void writeLong(final long value) {
+            ensure(20);
+            if (value < 0) {
+                scratch[count++] = '-';
+            }
+            // accumulate negatively so that Long.MIN_VALUE is handled
+            long remaining = value < 0 ? value : -value;
+            int digits = 1;
+            for (long quotient = remaining / 10; quotient != 0; quotient /= 10) {
+                digits++;
+            }
+            count += digits;
+            int digitPosition = count;
+            do {
+                scratch[--digitPosition] = (byte) ('0' - (remaining % 10));
+                remaining /= 10;
+            } while (remaining != 0);
+        }
+
+        private void writeAscii(final String characters) {
+            ensure(characters.length());
+            for (int i = 0; i < characters.length(); i++) {
+                scratch[count++] = (byte) characters.charAt(i);
+            }
+        }
+
+        private void write(final byte b) {
+            ensure(1);
+            scratch[count++] = b;
+        }
+
+        private void write(final byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+
+        private void write(final byte[] bytes, final int offset, final int length) {
+            if (length > SCRATCH_SIZE) {
+                flush();
+                output.writeBytes(bytes, offset, length);
+            } else {
+                ensure(length);
+                System.arraycopy(bytes, offset, scratch, count, length);
+                count += length;
+            }
+        }
+
+        private void ensure(final int length) {
+            if (count + length > SCRATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            output.writeBytes(scratch, 0, count);
+            count = 0;
+        }
+
+        private int indexOfNull(final int start, final int limit) {
+            for (int i = start; i < limit; i++) {
+                if (bson.get(i) == 0) {
+                    return i;
+                }
+            }
+            throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+        }
+
+        private void checkAvailable(final int position, final int length, final int limit) {
+            if (length > limit - position) {
+                throw new BsonSerializationException("Unexpected end of BSON document");
+            }
+        }
+
+        private String decode(final int start, final int length) {
+            if (bson.hasArray()) {
+                return new String(bson.array(), bson.arrayOffset() + start, length, StandardCharsets.UTF_8);
+            }
+            return new String(copy(start, length), StandardCharsets.UTF_8);
+        }
+
+        private byte[] copy(final int start, final int length) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = bson.get(start + i);
+            }
+            return bytes;
+        }
+    }
+}
@@ -30,6 +30,11 @@ import org.bson.conversions.Bson;
 import org.bson.json.JsonReader;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -73,6 +78,30 @@ public class DocumentTest {
         assertEquals(emptyDocument.hashCode(), new BsonDocument().hashCode());
     }
 
+    @Test
+    public void shouldBeEqualToCompactDocumentWithSameEntriesButNotToSubclass() {
+        CompactDocument compactDocument = new CompactDocument();
+        compactDocument.putAll(document);
+
+        assertEquals(document, compactDocument);
+        assertEquals(compactDocument, document);
+        assertEquals(document.hashCode(), compactDocument.hashCode());
+        assertNotEquals(document, new Document(document) { });
+        assertNotEquals(new Document(document) { }, document);
+    }
+
+    @Test
+    public void shouldSerializeCompactDocumentAsDocument() throws IOException, ClassNotFoundException {
+        CompactDocument compactDocument = new CompactDocument();
+        compactDocument.putAll(document);
+
+        Object deserialized = serializeAndDeserialize(compactDocument);
+
+        assertEquals(Document.class, deserialized.getClass());
+        assertEquals(document, deserialized);
+        assertEquals(document, serializeAndDeserialize(document));
+    }
+
     @Test
     public void toJsonShouldReturnEquivalent() {
         assertEquals(new DocumentCodec().decode(new JsonReader(document.toJson()), DecoderContext.builder().build()), document);
@@ -88,6 +117,14 @@ public class DocumentTest {
         assertEquals("{\"x\": 1, \"y\": [\"one\"], \"_id\": \"1\"}", d.toJson());
     }
 
+    private static Object serializeAndDeserialize(final Object object) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+    }
+
     // Test in Java to make sure none of the casts result in compiler warnings or class cast exceptions
     @Test
     public void shouldGetWithDefaultValue() {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.PooledRawBsonDocumentCodec;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.io.ByteBufferBsonInput;
+import org.bson.json.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PooledRawBsonDocumentTest {
+    private static final BsonDocument DOCUMENT = new BsonDocument("_id", new BsonInt32(1))
+            .append("name", new BsonString("one"))
+            .append("nested", new BsonDocument("a", new BsonInt32(2)))
+            .append("array", new BsonArray(asList(new BsonInt32(3), new BsonString("four"))));
+
+    @Test
+    void shouldDecodeWithoutCopyingAndReleaseOnClose() {
+        ByteBufNIO buffer = new ByteBufNIO(ByteBuffer.wrap(encode(new BsonDocument("batch", new BsonArray(asList(DOCUMENT, DOCUMENT))))));
+        PooledRawBsonDocument first;
+        PooledRawBsonDocument second;
+        try (ByteBufferBsonInput input = new ByteBufferBsonInput(buffer.retain()); BsonBinaryReader reader = new BsonBinaryReader(input)) {
+            reader.readStartDocument();
+            reader.readName("batch");
+            reader.readStartArray();
+            reader.readBsonType();
+            first = decode(reader);
+            reader.readBsonType();
+            second = decode(reader);
+            reader.readEndArray();
+            reader.readEndDocument();
+        }
+        assertEquals(3, buffer.getReferenceCount());
+
+        assertEquals(DOCUMENT, first);
+        assertEquals(DOCUMENT, second);
+        assertEquals(encode(DOCUMENT).length, first.getByteLength());
+
+        first.close();
+        first.close();
+        assertEquals(2, buffer.getReferenceCount());
+        second.close();
+        assertEquals(1, buffer.getReferenceCount());
+    }
+
+    @Test
+    void shouldDecodeTopLevelDocument() {
+        ByteBufNIO buffer = new ByteBufNIO(ByteBuffer.wrap(encode(DOCUMENT)));
+        PooledRawBsonDocument document;
+        try (ByteBufferBsonInput input = new ByteBufferBsonInput(buffer.retain()); BsonBinaryReader reader = new BsonBinaryReader(input)) {
+            document = decode(reader);
+        }
+
+        assertEquals(DOCUMENT, document);
+        document.close();
+        assertEquals(1, buffer.getReferenceCount());
+    }
+
+    @Test
+    void shouldCopyWhenNotDecodingFromBuffer() {
+        try (PooledRawBsonDocument document = decode(new JsonReader(DOCUMENT.toJson()))) {
+            assertEquals(DOCUMENT, document);
+        }
+    }
+
+    @Test
+    void shouldLookUpFields() {
+        try (PooledRawBsonDocument document = create(DOCUMENT)) {
+            assertEquals(4, document.size());
+            assertFalse(document.isEmpty());
+            assertEquals("_id", document.getFirstKey());
+            assertTrue(document.containsKey("nested"));
+            assertFalse(document.containsKey("missing"));
+            assertEquals(new BsonString("one"), document.get("name"));
+            assertNull(document.get("missing"));
+            assertInstanceOf(RawBsonDocument.class, document.get("nested"));
+            assertEquals(DOCUMENT.get("nested"), document.get("nested"));
+            assertInstanceOf(RawBsonArray.class, document.get("array"));
+            assertEquals(DOCUMENT.get("array"), document.get("array"));
+            assertEquals(DOCUMENT.toJson(), document.toJson());
+            assertEquals(DOCUMENT.hashCode(), document.hashCode());
+        }
+    }
+
+    @Test
+    void shouldEncode() {
+        try (PooledRawBsonDocument document = create(DOCUMENT)) {
+            BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+            try (BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer)) {
+                new PooledRawBsonDocumentCodec().encode(writer, document, EncoderContext.builder().build());
+            }
+            assertEquals(DOCUMENT, new RawBsonDocument(outputBuffer.toByteArray()));
+        }
+    }
+
+    @Test
+    void shouldOutliveCloseWhenCopied() {
+        PooledRawBsonDocument document = create(DOCUMENT);
+        BsonValue nested = document.get("nested");
+        RawBsonDocument copy = document.toRawBsonDocument();
+        document.close();
+
+        assertEquals(DOCUMENT, copy);
+        assertEquals(DOCUMENT.get("nested"), nested);
+    }
+
+    @Test
+    void shouldThrowWhenUsedAfterClose() {
+        PooledRawBsonDocument document = create(DOCUMENT);
+        document.close();
+
+        assertThrows(IllegalStateException.class, () -> document.get("name"));
+        assertThrows(IllegalStateException.class, document::size);
+        assertThrows(IllegalStateException.class, document::getByteBuffer);
+        assertThrows(IllegalStateException.class, document::toJson);
+    }
+
+    @Test
+    void shouldBeImmutable() {
+        try (PooledRawBsonDocument document = create(DOCUMENT)) {
+            assertThrows(UnsupportedOperationException.class, () -> document.put("x", BsonNull.VALUE));
+            assertThrows(UnsupportedOperationException.class, () -> document.remove("name"));
+            assertThrows(UnsupportedOperationException.class, document::clear);
+        }
+    }
+
+    private static PooledRawBsonDocument create(final BsonDocument document) {
+        byte[] bytes = encode(document);
+        return new PooledRawBsonDocument(new ByteBufNIO(ByteBuffer.wrap(bytes)), 0, bytes.length);
+    }
+
+    private static PooledRawBsonDocument decode(final BsonReader reader) {
+        return new PooledRawBsonDocumentCodec().decode(reader, DecoderContext.builder().build());
+    }
+
+    private static byte[] encode(final BsonDocument document) {
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer)) {
+            new BsonDocumentCodec().encode(writer, document, EncoderContext.builder().build());
+        }
+        return outputBuffer.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonType;
+import org.bson.CompactBsonDocument;
+import org.bson.CompactDocument;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class CompactDocumentCodecTest {
+    private static final CodecRegistry REGISTRY = fromProviders(asList(new ValueCodecProvider(), new BsonValueCodecProvider(),
+            new DocumentCodecProvider(), new CollectionCodecProvider(), new IterableCodecProvider(), new MapCodecProvider()));
+    private static final BsonDocument SOURCE = BsonDocument.parse(
+            "{_id: 1, a: 'a', b: {c: 2, d: [{e: 3}]}, f: 4, g: 5, h: 6, i: 7, j: 8, k: 9, l: 10}");
+
+    @Test
+    public void shouldDecodeCompactDocuments() {
+        CompactDocument document = REGISTRY.get(CompactDocument.class).decode(new BsonDocumentReader(SOURCE),
+                DecoderContext.builder().build());
+
+        assertEquals(Document.parse(SOURCE.toJson()), document);
+        assertEquals(Document.parse(SOURCE.toJson()).keySet(), document.keySet());
+        assertInstanceOf(CompactDocument.class, document.get("b"));
+        assertInstanceOf(Document.class, document.get("b", Document.class).getList("d", Document.class).get(0));
+        assertEquals(SOURCE, encode(REGISTRY.get(CompactDocument.class), document));
+    }
+
+    @Test
+    public void shouldDecodeCompactBsonDocuments() {
+        CompactBsonDocument document = REGISTRY.get(CompactBsonDocument.class).decode(new BsonDocumentReader(SOURCE),
+                DecoderContext.builder().build());
+
+        assertEquals(SOURCE, document);
+        assertEquals(SOURCE.keySet(), document.keySet());
+        assertInstanceOf(CompactBsonDocument.class, document.get("b"));
+        assertInstanceOf(CompactBsonDocument.class, document.clone());
+        assertEquals(SOURCE, encode(REGISTRY.get(CompactBsonDocument.class), document));
+    }
+
+    @Test
+    public void shouldRespectBsonTypeClassMapForNestedDocuments() {
+        BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap(singletonMap(BsonType.DOCUMENT, BsonDocument.class));
+        CompactDocument document = new CompactDocumentCodec(REGISTRY, bsonTypeClassMap, null).decode(new BsonDocumentReader(SOURCE),
+                DecoderContext.builder().build());
+
+        assertInstanceOf(BsonDocument.class, document.get("b"));
+        List<String> keys = asList("_id", "a", "b", "f", "g", "h", "i", "j", "k", "l");
+        assertEquals(keys, new ArrayList<>(document.keySet()));
+    }
+
+    private static <T> BsonDocument encode(final Encoder<T> encoder, final T value) {
+        BsonDocument document = new BsonDocument();
+        encoder.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+}
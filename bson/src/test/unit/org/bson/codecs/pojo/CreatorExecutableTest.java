@@ -0,0 +1,109 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CreatorExecutableTest {
+
+    @Test
+    public void shouldCreateInstancesWithConstructors() throws NoSuchMethodException {
+        assertEquals("default", new CreatorExecutable<>(Model.class, Model.class.getConstructor()).getInstance().name);
+        assertEquals("name", new CreatorExecutable<>(Model.class, Model.class.getConstructor(String.class))
+                .getInstance(new Object[] {"name"}).name);
+    }
+
+    @Test
+    public void shouldCreateInstancesWithFactoryMethods() throws NoSuchMethodException {
+        assertEquals("name", new CreatorExecutable<>(Model.class, Model.class.getMethod("create", String.class))
+                .getInstance(new Object[] {"name"}).name);
+    }
+
+    @Test
+    public void shouldReportAnInaccessibleConstructorWithReflection() throws NoSuchMethodException {
+        Constructor<Model> constructor = Model.class.getDeclaredConstructor(int.class);
+        CreatorExecutable<Model> creator = new CreatorExecutable<>(Model.class, constructor);
+
+        CodecConfigurationException e = assertThrows(CodecConfigurationException.class, () -> creator.getInstance(new Object[] {1}));
+        assertInstanceOf(IllegalAccessException.class, e.getCause());
+
+        constructor.setAccessible(true);
+        assertEquals("1", new CreatorExecutable<>(Model.class, constructor).getInstance(new Object[] {1}).name);
+    }
+
+    @Test
+    public void shouldWrapExceptionsThrownByTheCreator() throws NoSuchMethodException {
+        CreatorExecutable<Model> creator = new CreatorExecutable<>(Model.class, Model.class.getMethod("failing"));
+
+        CodecConfigurationException e = assertThrows(CodecConfigurationException.class, creator::getInstance);
+
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void shouldRethrowErrorsThrownByTheCreator() throws NoSuchMethodException {
+        CreatorExecutable<Model> creator = new CreatorExecutable<>(Model.class, Model.class.getMethod("broken"));
+
+        assertThrows(BrokenError.class, creator::getInstance);
+    }
+
+    @Test
+    public void shouldThrowWithoutAConstructorOrMethod() {
+        CreatorExecutable<Model> creator = new CreatorExecutable<>(Model.class, (Constructor<Model>) null);
+
+        assertThrows(CodecConfigurationException.class, creator::getInstance);
+    }
+
+    static final class BrokenError extends Error {
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static final class Model {
+        private final String name;
+
+        public Model() {
+            this("default");
+        }
+
+        public Model(final String name) {
+            this.name = name;
+        }
+
+        private Model(final int name) {
+            this(Integer.toString(name));
+        }
+
+        public static Model create(final String name) {
+            return new Model(name);
+        }
+
+        public static Model failing() {
+            throw new IllegalStateException();
+        }
+
+        public static Model broken() {
+            throw new BrokenError();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PropertyAccessorImplTest {
+
+    @Test
+    public void shouldGetAndSetWithMethodHandles() throws NoSuchMethodException {
+        Method getter = Model.class.getMethod("getValue");
+        Method setter = Model.class.getMethod("setValue", int.class);
+        PropertyAccessor<Integer> accessor = new PropertyAccessorImpl<>(metadata(Integer.class, getter, setter, null));
+        Model model = new Model();
+
+        accessor.set(model, 5);
+
+        assertNotNull(PropertyAccessorImpl.getterHandle(getter, null));
+        assertNotNull(PropertyAccessorImpl.setterHandle(setter, null));
+        assertEquals(5, model.getValue());
+        assertEquals(5, accessor.get(model));
+    }
+
+    @Test
+    public void shouldGetAndSetPublicFieldsWithMethodHandles() throws NoSuchFieldException {
+        Field field = Model.class.getField("label");
+        PropertyAccessor<String> accessor = new PropertyAccessorImpl<>(metadata(String.class, null, null, field));
+        Model model = new Model();
+
+        accessor.set(model, "label");
+
+        assertNotNull(PropertyAccessorImpl.getterHandle(null, field));
+        assertNotNull(PropertyAccessorImpl.setterHandle(null, field));
+        assertEquals("label", model.label);
+        assertEquals("label", accessor.get(model));
+    }
+
+    @Test
+    public void shouldUseReflectionForStaticGetters() throws NoSuchMethodException {
+        Method getter = Model.class.getMethod("getStaticValue");
+        PropertyAccessor<Integer> accessor = new PropertyAccessorImpl<>(metadata(Integer.class, getter, null, null));
+
+        assertNull(PropertyAccessorImpl.getterHandle(getter, null));
+        assertEquals(42, accessor.get(new Model()));
+    }
+
+    @Test
+    public void shouldReportAnInaccessibleGetterWithReflection() throws NoSuchMethodException {
+        Method getter = Model.class.getDeclaredMethod("getHidden");
+        PropertyAccessor<Integer> accessor = new PropertyAccessorImpl<>(metadata(Integer.class, getter, null, null));
+
+        CodecConfigurationException e = assertThrows(CodecConfigurationException.class, () -> accessor.get(new Model()));
+
+        assertNull(PropertyAccessorImpl.getterHandle(getter, null));
+        assertInstanceOf(IllegalAccessException.class, e.getCause());
+    }
+
+    @Test
+    public void shouldWrapExceptionsThrownByTheGetterOrSetter() throws NoSuchMethodException {
+        PropertyAccessor<Integer> accessor = new PropertyAccessorImpl<>(metadata(Integer.class, Model.class.getMethod("getFailing"),
+                Model.class.getMethod("setFailing", int.class), null));
+
+        CodecConfigurationException e = assertThrows(CodecConfigurationException.class, () -> accessor.get(new Model()));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        e = assertThrows(CodecConfigurationException.class, () -> accessor.set(new Model(), 1));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void shouldRethrowErrorsThrownByTheGetterOrSetter() throws NoSuchMethodException {
+        PropertyAccessor<Integer> accessor = new PropertyAccessorImpl<>(metadata(Integer.class, Model.class.getMethod("getBroken"),
+                Model.class.getMethod("setBroken", int.class), null));
+
+        assertThrows(BrokenError.class, () -> accessor.get(new Model()));
+        assertThrows(BrokenError.class, () -> accessor.set(new Model(), 1));
+    }
+
+    @Test
+    public void shouldSetPrivateFieldsWithMethodHandles() throws NoSuchFieldException {
+        Field field = Model.class.getDeclaredField("value");
+        FieldPropertyAccessor<Integer> accessor = new FieldPropertyAccessor<>(
+                new PropertyAccessorImpl<>(metadata(Integer.class, null, null, field)));
+        Model model = new Model();
+
+        accessor.set(model, 7);
+
+        assertNotNull(PropertyAccessorImpl.setterHandle(null, field));
+        assertEquals(7, model.getValue());
+    }
+
+    @Test
+    public void shouldSetFinalFieldsWithReflection() throws NoSuchFieldException {
+        Field field = Model.class.getDeclaredField("name");
+        FieldPropertyAccessor<String> accessor = new FieldPropertyAccessor<>(
+                new PropertyAccessorImpl<>(metadata(String.class, null, null, field)));
+        Model model = new Model();
+
+        accessor.set(model, "other");
+
+        assertNull(PropertyAccessorImpl.setterHandle(null, field));
+        assertEquals("other", model.getName());
+    }
+
+    @Test
+    public void shouldWrapExceptionsThrownWhenSettingAField() throws NoSuchFieldException {
+        Field field = Model.class.getDeclaredField("name");
+        FieldPropertyAccessor<Object> accessor = new FieldPropertyAccessor<>(
+                new PropertyAccessorImpl<>(metadata(Object.class, null, null, field)));
+
+        CodecConfigurationException e = assertThrows(CodecConfigurationException.class, () -> accessor.set(new Model(), 1));
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    private static <T> PropertyMetadata<T> metadata(final Class<T> type, final Method getter, final Method setter, final Field field) {
+        PropertyMetadata<T> metadata = new PropertyMetadata<>("property", Model.class.getSimpleName(), TypeData.builder(type).build());
+        metadata.setGetter(getter);
+        metadata.setSetter(setter);
+        return field == null ? metadata : metadata.field(field);
+    }
+
+    static final class BrokenError extends Error {
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static final class Model {
+        public String label;
+        private final String name;
+        private int value;
+
+        public Model() {
+            name = "name";
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(final int value) {
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public static int getStaticValue() {
+            return 42;
+        }
+
+        @SuppressWarnings("unused")
+        private int getHidden() {
+            return value;
+        }
+
+        public int getFailing() {
+            throw new IllegalStateException();
+        }
+
+        public void setFailing(final int value) {
+            throw new IllegalStateException();
+        }
+
+        public int getBroken() {
+            throw new BrokenError();
+        }
+
+        public void setBroken(final int value) {
+            throw new BrokenError();
+        }
+    }
+}
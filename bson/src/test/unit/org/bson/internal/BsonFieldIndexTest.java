@@ -0,0 +1,131 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class BsonFieldIndexTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 8, 9, 100})
+    void shouldFindEveryElementByName(final int size) {
+        BsonDocument document = createDocument(size);
+        ByteBuf buffer = new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer();
+
+        BsonFieldIndex index = BsonFieldIndex.indexDocument(buffer);
+
+        assertEquals(size, index.size());
+        int position = 0;
+        for (String name : document.keySet()) {
+            assertEquals(position, index.indexOf(buffer, name));
+            assertEquals(document.get(name), readValue(buffer, index.getElementOffset(position)));
+            position++;
+        }
+        assertEquals(-1, index.indexOf(buffer, "missing"));
+        assertEquals(-1, index.indexOf(buffer, "f"));
+        assertEquals(-1, index.indexOf(buffer, "f0\u0000"));
+    }
+
+    @Test
+    void shouldFindFirstElementWithDuplicateName() {
+        RawBsonDocument document = new RawBsonDocument(new byte[] {19, 0, 0, 0, 16, 'a', 0, 1, 0, 0, 0, 16, 'a', 0, 2, 0, 0, 0, 0});
+        ByteBuf buffer = document.getByteBuffer();
+
+        BsonFieldIndex index = BsonFieldIndex.indexDocument(buffer);
+
+        assertEquals(2, index.size());
+        assertEquals(0, index.indexOf(buffer, "a"));
+    }
+
+    @Test
+    void shouldIndexArrayElementsByPosition() {
+        BsonArray array = new BsonArray(asList(new BsonInt32(1), new BsonString("two"), new BsonDocument("three", new BsonInt32(3))));
+        // an array is encoded as a document whose names are the positions of the elements
+        BsonDocument arrayAsDocument = new BsonDocument();
+        for (int i = 0; i < array.size(); i++) {
+            arrayAsDocument.put(Integer.toString(i), array.get(i));
+        }
+        ByteBuf buffer = new RawBsonDocument(arrayAsDocument, new BsonDocumentCodec()).getByteBuffer();
+
+        BsonFieldIndex index = BsonFieldIndex.indexArray(buffer);
+
+        assertEquals(3, index.size());
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(array.get(i), readValue(buffer, index.getElementOffset(i)));
+        }
+        assertEquals(-1, index.indexOf(buffer, "0"));
+    }
+
+    private static BsonValue readValue(final ByteBuf buffer, final int elementOffset) {
+        try (BsonBinaryReader reader = BsonFieldIndex.createValueReader(buffer.duplicate(), elementOffset)) {
+            return new BsonValueCodec().decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    private static BsonDocument createDocument(final int size) {
+        BsonDocument document = new BsonDocument();
+        for (int i = 0; i < size; i++) {
+            switch (i % 7) {
+                case 0:
+                    document.put("f" + i, new BsonInt32(i));
+                    break;
+                case 1:
+                    document.put("été" + i, new BsonString("value" + i));
+                    break;
+                case 2:
+                    document.put("regex" + i, new BsonRegularExpression("^a.*", "i"));
+                    break;
+                case 3:
+                    document.put("binary" + i, new BsonBinary(new byte[] {1, 2, 3}));
+                    break;
+                case 4:
+                    document.put("document" + i, new BsonDocument("array", new BsonArray(asList(new BsonInt32(1), new BsonNull()))));
+                    break;
+                case 5:
+                    document.put("objectId" + i, new BsonObjectId(new ObjectId()));
+                    break;
+                default:
+                    document.put("$decimal" + i, new BsonDecimal128(Decimal128.parse("1.5")));
+                    break;
+            }
+        }
+        return document;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class CompactOrderedMapTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, CompactOrderedMap.MAX_LINEARLY_SEARCHED_SIZE, CompactOrderedMap.MAX_LINEARLY_SEARCHED_SIZE + 1, 100})
+    void shouldPreserveInsertionOrder(final int size) {
+        CompactOrderedMap<Integer> map = new CompactOrderedMap<>(0);
+        LinkedHashMap<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = size - 1; i >= 0; i--) {
+            assertNull(map.put("key" + i, i));
+            expected.put("key" + i, i);
+        }
+
+        assertMapEquals(expected, map);
+        for (int i = 0; i < size; i++) {
+            assertTrue(map.containsKey("key" + i));
+            assertEquals(i, (int) map.get("key" + i));
+        }
+        assertNull(map.get("missing"));
+    }
+
+    @Test
+    void shouldBehaveLikeLinkedHashMap() {
+        Random random = new Random(42);
+        CompactOrderedMap<Integer> map = new CompactOrderedMap<>();
+        LinkedHashMap<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            String key = "key" + random.nextInt(40);
+            int operation = random.nextInt(10);
+            if (operation < 6) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else if (operation < 8) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (operation < 9) {
+                map.entrySet().removeIf(entry -> entry.getValue() % 3 == 0);
+                expected.entrySet().removeIf(entry -> entry.getValue() % 3 == 0);
+            } else if (random.nextInt(20) == 0) {
+                map.clear();
+                expected.clear();
+            }
+            assertMapEquals(expected, map);
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+    }
+
+    @Test
+    void shouldSetValueThroughEntry() {
+        CompactOrderedMap<Integer> map = new CompactOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        map.entrySet().iterator().next().setValue(3);
+
+        assertEquals(3, (int) map.get("a"));
+        assertTrue(map.entrySet().contains(new AbstractMap.SimpleEntry<>("b", 2)));
+    }
+
+    @Test
+    void shouldKeepEntriesAttachedToTheirMappingsWhenMappingsAreRemoved() {
+        CompactOrderedMap<Integer> map = new CompactOrderedMap<>();
+        for (int i = 0; i < CompactOrderedMap.MAX_LINEARLY_SEARCHED_SIZE + 2; i++) {
+            map.put("key" + i, i);
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(map.entrySet());
+
+        map.remove("key0");
+        map.remove("key1");
+
+        assertEquals(5, (int) entries.get(5).getValue());
+        assertEquals(5, (int) entries.get(5).setValue(50));
+        assertEquals(50, (int) map.get("key5"));
+        assertEquals(4, (int) map.get("key4"));
+        assertThrows(IllegalStateException.class, () -> entries.get(0).getValue());
+    }
+
+    @Test
+    void shouldFailFastOnConcurrentModification() {
+        CompactOrderedMap<Integer> map = new CompactOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+
+        map.put("c", 3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void shouldSerialize() throws IOException, ClassNotFoundException {
+        CompactOrderedMap<Integer> map = new CompactOrderedMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> deserialized = (Map<String, Integer>) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+                .readObject();
+
+        assertMapEquals(map, deserialized);
+        assertEquals(5, (int) deserialized.get("key5"));
+    }
+
+    private static void assertMapEquals(final Map<String, Integer> expected, final Map<String, Integer> actual) {
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+    }
+}
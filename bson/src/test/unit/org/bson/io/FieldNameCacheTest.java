@@ -0,0 +1,117 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonType;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class FieldNameCacheTest {
+    private static final String LONG_NAME = new String(new char[FieldNameCache.MAX_NAME_LENGTH + 1]).replace('\0', 'x');
+    private static final BsonDocument DOCUMENT = new BsonDocument("_id", new BsonInt32(1))
+            .append("name", new BsonInt32(2))
+            .append("ünïcödé", new BsonInt32(3))
+            .append("nested", new BsonDocument("name", new BsonInt32(4)))
+            .append(LONG_NAME, new BsonInt32(5));
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldReuseCachedNames(final boolean direct) {
+        FieldNameCache cache = new FieldNameCache(64);
+
+        List<String> first = readNames(DOCUMENT, cache, direct);
+        List<String> second = readNames(DOCUMENT, cache, direct);
+
+        assertEquals(Arrays.asList("_id", "name", "ünïcödé", "nested", "name", LONG_NAME), first);
+        assertEquals(first, second);
+        for (int i = 0; i < first.size() - 1; i++) {
+            assertSame(first.get(i), second.get(i));
+        }
+        assertSame(first.get(1), first.get(4));
+        assertNotSame(first.get(5), second.get(5));
+    }
+
+    @Test
+    void shouldDecodeSameDocumentWithCache() {
+        FieldNameCache cache = new FieldNameCache(1);
+
+        for (int i = 0; i < 2; i++) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(encode(DOCUMENT, false)), cache)) {
+                assertEquals(DOCUMENT, new BsonDocumentCodec().decode(reader, DecoderContext.builder().build()));
+            }
+        }
+    }
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(1, new FieldNameCache(1).getCapacity());
+        assertEquals(1024, new FieldNameCache(1000).getCapacity());
+        assertEquals(1024, new FieldNameCache(1024).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new FieldNameCache(0));
+    }
+
+    private static List<String> readNames(final BsonDocument document, final FieldNameCache cache, final boolean direct) {
+        List<String> names = new ArrayList<>();
+        try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(encode(document, direct)), cache)) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                names.add(reader.readName());
+                if (reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                    reader.readStartDocument();
+                    reader.readBsonType();
+                    names.add(reader.readName());
+                    reader.skipValue();
+                    reader.readEndDocument();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+        }
+        return names;
+    }
+
+    private static ByteBufNIO encode(final BsonDocument document, final boolean direct) {
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer)) {
+            new BsonDocumentCodec().encode(writer, document, EncoderContext.builder().build());
+        }
+        byte[] bytes = outputBuffer.toByteArray();
+        ByteBuffer byteBuffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        byteBuffer.put(bytes).flip();
+        return new ByteBufNIO(byteBuffer);
+    }
+}
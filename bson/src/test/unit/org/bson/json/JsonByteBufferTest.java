@@ -0,0 +1,197 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonByteBufferTest {
+
+    @Test
+    public void testRead() {
+        JsonByteBuffer buffer = create("ABC");
+        assertEquals('A', buffer.read());
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testUnRead() {
+        JsonByteBuffer buffer = create("A");
+        buffer.unread(buffer.read());
+        assertEquals('A', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testPositionIsInBytes() {
+        JsonByteBuffer buffer = create("\u00e9BC");
+
+        buffer.read();
+        buffer.read();
+        assertEquals(3, buffer.getPosition());
+    }
+
+    @Test
+    public void testEOFCheck() {
+        JsonByteBuffer buffer = create("");
+
+        buffer.read();
+        assertThrows(JsonParseException.class, () -> buffer.read());
+    }
+
+    @Test
+    public void testMultiByteCharacters() {
+        String characters = "a\u00e9\u20ac\ud83d\ude00z";
+        for (JsonByteBuffer buffer : new JsonByteBuffer[] {create(characters), createStream(characters, 2)}) {
+            for (int i = 0; i < characters.length(); i++) {
+                assertEquals(characters.charAt(i), buffer.read());
+            }
+            assertEquals(-1, buffer.read());
+        }
+    }
+
+    @Test
+    public void testUnReadSurrogates() {
+        JsonByteBuffer buffer = create("\ud83d\ude00");
+        int high = buffer.read();
+        buffer.unread(high);
+        assertEquals(0xd83d, buffer.read());
+        int low = buffer.read();
+        buffer.unread(low);
+        assertEquals(0xde00, buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testInvalidUtf8() {
+        assertThrows(JsonParseException.class, () -> new JsonByteBuffer(new byte[] {(byte) 0x80}, 0, 1).read());
+        assertThrows(JsonParseException.class, () -> new JsonByteBuffer(new byte[] {(byte) 0xc3}, 0, 1).read());
+        assertThrows(JsonParseException.class, () -> new JsonByteBuffer(new byte[] {(byte) 0xc0, (byte) 0x80}, 0, 2).read());
+        assertThrows(JsonParseException.class,
+                () -> new JsonByteBuffer(new byte[] {(byte) 0xed, (byte) 0xa0, (byte) 0x80}, 0, 3).read());
+    }
+
+    @Test
+    public void testArraySlicesAndByteBuffers() {
+        byte[] bytes = "xxABCyy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip().position(2).limit(5);
+
+        for (JsonByteBuffer buffer : new JsonByteBuffer[] {new JsonByteBuffer(bytes, 2, 3),
+                new JsonByteBuffer((ByteBuffer) ByteBuffer.wrap(bytes).position(2).limit(5)), new JsonByteBuffer(direct)}) {
+            assertEquals(0, buffer.mark());
+            assertEquals('A', buffer.read());
+            assertEquals('B', buffer.read());
+            buffer.reset(0);
+            assertEquals('A', buffer.read());
+            assertEquals('B', buffer.read());
+            assertEquals('C', buffer.read());
+            assertEquals(3, buffer.getPosition());
+            assertEquals(-1, buffer.read());
+        }
+        assertEquals(2, direct.position());
+    }
+
+    @Test
+    public void testMarkAndReset() {
+        JsonByteBuffer buffer = createStream("ABCDEFGHIJKLMNOPQRSTUPWXYZ", 4);
+
+        int pos = buffer.mark();
+        assertEquals(0, pos);
+        assertEquals('A', buffer.read());
+
+        buffer.reset(pos);
+        assertEquals('A', buffer.read());
+
+        pos = buffer.mark();
+        buffer.discard(pos);
+        assertEquals('B', buffer.read());
+
+        pos = buffer.mark();
+        assertEquals(2, pos);
+
+        buffer.read();
+        buffer.mark();
+
+        buffer.read();
+        buffer.mark();
+
+        buffer.reset(pos + 1);
+        assertEquals(pos + 1, buffer.getPosition());
+        assertEquals('D', buffer.read());
+
+        pos = buffer.mark();
+        buffer.read();
+        buffer.read();
+        buffer.read();
+        buffer.read();
+        buffer.read();
+
+        buffer.reset(pos);
+        assertEquals('E', buffer.read());
+        assertEquals('F', buffer.read());
+        assertEquals('G', buffer.read());
+        assertEquals('H', buffer.read());
+        assertEquals('I', buffer.read());
+        assertEquals('J', buffer.read());
+    }
+
+    @Test
+    public void testReadAsciiRun() {
+        JsonByteBuffer buffer = createStream("abcdefghij\\k\"", 4);
+        StringBuilder builder = new StringBuilder();
+        buffer.readAsciiRun(builder, '"');
+        assertEquals("abcdefghij", builder.toString());
+        assertEquals('\\', buffer.read());
+        buffer.readAsciiRun(builder, '"');
+        assertEquals("abcdefghijk", builder.toString());
+        assertEquals('"', buffer.read());
+    }
+
+    @Test
+    public void testScanningAcrossWindows() {
+        BsonDocument document = BsonDocument.parse("{\"_id\": 12345678901, \"name\": \"caf\u00e9 \ud83d\ude00 \\\"quoted\\\"\", "
+                + "\"values\": [1.5e10, -0.25, 42, \"a much longer string than the window\"], \"nested\": {\"x\": true, \"y\": null}}");
+        byte[] json = document.toJson().getBytes(StandardCharsets.UTF_8);
+        for (int windowSize = 1; windowSize <= 16; windowSize++) {
+            JsonReader reader = new JsonReader(new JsonScanner(new JsonByteBuffer(new ByteArrayInputStream(json), windowSize)));
+            RawBsonDocument rawDocument = new RawBsonDocumentCodec().decode(reader, DecoderContext.builder().build());
+            assertEquals(document, rawDocument);
+        }
+    }
+
+    private static JsonByteBuffer create(final String characters) {
+        byte[] bytes = characters.getBytes(StandardCharsets.UTF_8);
+        return new JsonByteBuffer(bytes, 0, bytes.length);
+    }
+
+    private static JsonByteBuffer createStream(final String characters, final int initialWindowSize) {
+        return new JsonByteBuffer(new ByteArrayInputStream(characters.getBytes(StandardCharsets.UTF_8)), initialWindowSize);
+    }
+}
@@ -1325,6 +1325,22 @@ public class JsonReaderTest {
             }
             assertEquals(exClass, e.getClass());
         }
+        try {
+            testFunc.apply(new JsonReader(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            if (exClass == null) {
+                throw e;
+            }
+            assertEquals(exClass, e.getClass());
+        }
+        try {
+            testFunc.apply(new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        } catch (Exception e) {
+            if (exClass == null) {
+                throw e;
+            }
+            assertEquals(exClass, e.getClass());
+        }
     }
 
     private void testStringAndStream(final String json, final Function<AbstractBsonReader, Void> testFunc) {
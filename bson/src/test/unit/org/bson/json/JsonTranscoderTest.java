@@ -0,0 +1,176 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonSerializationException;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.PooledRawBsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonTranscoderTest {
+
+    @Test
+    public void shouldTranscodeAllTypesLikeJsonWriter() {
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId("5f1b2c3d4e5f6a7b8c9d0e1f")))
+                .append("double", new BsonDouble(42.0))
+                .append("fraction", new BsonDouble(-0.125))
+                .append("large", new BsonDouble(1.5e300))
+                .append("negativeZero", new BsonDouble(-0.0))
+                .append("nan", new BsonDouble(Double.NaN))
+                .append("infinity", new BsonDouble(Double.NEGATIVE_INFINITY))
+                .append("string", new BsonString("plain"))
+                .append("empty", new BsonDocument())
+                .append("nested", new BsonDocument("a", new BsonInt32(1)).append("b", new BsonArray()))
+                .append("array", new BsonArray(Arrays.asList(new BsonInt32(1), new BsonString("two"),
+                        new BsonDocument("three", BsonNull.VALUE))))
+                .append("binary", new BsonBinary(new byte[] {1, 2, 3, 4, 5}))
+                .append("userBinary", new BsonBinary((byte) 0x80, new byte[] {-1}))
+                .append("uuid", new BsonBinary(BsonBinarySubType.UUID_STANDARD, new byte[16]))
+                .append("undefined", new BsonUndefined())
+                .append("true", BsonBoolean.TRUE)
+                .append("false", BsonBoolean.FALSE)
+                .append("date", new BsonDateTime(1_600_000_000_123L))
+                .append("oldDate", new BsonDateTime(-1))
+                .append("null", BsonNull.VALUE)
+                .append("regex", new BsonRegularExpression("^a\\d+\"$", "xmi"))
+                .append("dbPointer", new BsonDbPointer("db.coll", new ObjectId("5f1b2c3d4e5f6a7b8c9d0e1f")))
+                .append("code", new BsonJavaScript("function() { return \"x\"; }"))
+                .append("symbol", new BsonSymbol("sym"))
+                .append("codeWithScope", new BsonJavaScriptWithScope("x", new BsonDocument("x", new BsonInt64(1))))
+                .append("int32", new BsonInt32(Integer.MIN_VALUE))
+                .append("timestamp", new BsonTimestamp(-1, -2))
+                .append("int64", new BsonInt64(Long.MIN_VALUE))
+                .append("maxInt64", new BsonInt64(Long.MAX_VALUE))
+                .append("decimal", new BsonDecimal128(Decimal128.parse("-1.05E+3")))
+                .append("minKey", new BsonMinKey())
+                .append("maxKey", new BsonMaxKey());
+
+        assertTranscodedLikeJsonWriter(document);
+    }
+
+    @Test
+    public void shouldEscapeStringsLikeJsonWriter() {
+        BsonDocument document = new BsonDocument("quote\"and\\backslash", new BsonString("tab\tnewline\ncontrol\u0001del\u007f"))
+                .append("caf\u00e9", new BsonString("\u00e9\u20ac\u4e2d\u0301\u200b\u00a0\u2028 emoji \ud83d\ude00 end"))
+                .append("ascii then non-ascii", new BsonString("abc\u00e9\"\\"));
+
+        assertTranscodedLikeJsonWriter(document);
+    }
+
+    @Test
+    public void shouldAppendToReusedOutput() {
+        JsonTranscoder transcoder = new JsonTranscoder();
+        BasicOutputBuffer output = new BasicOutputBuffer();
+        RawBsonDocument first = RawBsonDocument.parse("{a: 1}");
+        RawBsonDocument second = RawBsonDocument.parse("{b: 'x'}");
+
+        transcoder.transcode(first, output);
+        transcoder.transcode(second, output);
+        assertEquals(first.toJson() + second.toJson(), new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+        output.truncateToPosition(0);
+        transcoder.transcode(second, output);
+        assertEquals(second.toJson(), new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldTranscodeOutputLargerThanScratchBuffer() {
+        char[] characters = new char[5000];
+        Arrays.fill(characters, 'x');
+        BsonDocument document = new BsonDocument("long", new BsonString(new String(characters)))
+                .append("binary", new BsonBinary(new byte[3000]));
+
+        assertTranscodedLikeJsonWriter(document);
+    }
+
+    @Test
+    public void shouldTranscodePooledRawBsonDocument() {
+        RawBsonDocument rawDocument = RawBsonDocument.parse("{a: 1, b: {c: 'x'}, d: [1.5, true]}");
+        byte[] bytes = new byte[rawDocument.getByteBuffer().remaining() + 3];
+        rawDocument.getByteBuffer().get(bytes, 3, bytes.length - 3);
+        ByteBuf buffer = new ByteBufNIO(ByteBuffer.wrap(bytes));
+        PooledRawBsonDocument pooledDocument = new PooledRawBsonDocument(buffer, 3, bytes.length - 3);
+        BasicOutputBuffer output = new BasicOutputBuffer();
+
+        new JsonTranscoder().transcode(pooledDocument, output);
+
+        assertEquals(rawDocument.toJson(), new String(output.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(1, buffer.getReferenceCount());
+        pooledDocument.close();
+        assertThrows(IllegalStateException.class, () -> new JsonTranscoder().transcode(pooledDocument, new BasicOutputBuffer()));
+    }
+
+    @Test
+    public void shouldRejectUnsupportedOutputModes() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonTranscoder(JsonMode.SHELL));
+        assertThrows(IllegalArgumentException.class, () -> new JsonTranscoder(JsonMode.STRICT));
+    }
+
+    @Test
+    public void shouldRejectInvalidBson() {
+        byte[] bytes = new RawBsonDocument(new BsonDocument("a", new BsonString("b")), new BsonDocumentCodec())
+                .getByteBuffer().array().clone();
+        bytes[4] = 0x42;
+        assertThrows(BsonSerializationException.class, () -> new JsonTranscoder().transcode(new RawBsonDocument(bytes),
+                new BasicOutputBuffer()));
+    }
+
+    private static void assertTranscodedLikeJsonWriter(final BsonDocument document) {
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+        for (JsonMode outputMode : new JsonMode[] {JsonMode.RELAXED, JsonMode.EXTENDED}) {
+            BasicOutputBuffer output = new BasicOutputBuffer();
+            new JsonTranscoder(outputMode).transcode(rawDocument, output);
+            assertEquals(rawDocument.toJson(JsonWriterSettings.builder().outputMode(outputMode).build()),
+                    new String(output.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.CompactBsonDocumentCodec;
+import org.bson.codecs.CompactDocumentCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.benchmark.jmh.codec.BsonUtils.getDocumentAsBuffer;
+
+/**
+ * Benchmark of decoding documents to {@code BsonDocument} and {@code Document}, which are backed by a {@code LinkedHashMap}, and to
+ * their compact variants, and of reading every field of the decoded documents by name.
+ *
+ * <p>Run with {@code -prof gc} to compare the memory footprint: the {@code gc.alloc.rate.norm} of the {@code decode} benchmarks is the
+ * size of a decoded document plus a constant amount of garbage created by the reader.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class CompactDocumentBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"10", "30"})
+        public int fieldCount;
+
+        protected final BsonDocumentCodec bsonDocumentCodec = new BsonDocumentCodec();
+        protected final CompactBsonDocumentCodec compactBsonDocumentCodec = new CompactBsonDocumentCodec();
+        protected final DocumentCodec documentCodec = new DocumentCodec();
+        protected final CompactDocumentCodec compactDocumentCodec = new CompactDocumentCodec();
+        protected byte[] documentBytes;
+        protected String[] fieldNames;
+        protected BsonDocument bsonDocument;
+        protected BsonDocument compactBsonDocument;
+
+        @Setup
+        public void setup() throws IOException {
+            BsonDocument document = new BsonDocument("_id", new BsonObjectId());
+            for (int i = 1; i < fieldCount; i++) {
+                switch (i % 4) {
+                    case 0:
+                        document.append("count" + i, new BsonInt32(i));
+                        break;
+                    case 1:
+                        document.append("name" + i, new BsonString("value" + i));
+                        break;
+                    case 2:
+                        document.append("price" + i, new BsonDouble(i * 1.5));
+                        break;
+                    default:
+                        document.append("updated" + i, new BsonDateTime(1_700_000_000_000L + i));
+                        break;
+                }
+            }
+            documentBytes = getDocumentAsBuffer(document);
+            fieldNames = document.keySet().toArray(new String[0]);
+            bsonDocument = decode(bsonDocumentCodec, documentBytes);
+            compactBsonDocument = decode(compactBsonDocumentCodec, documentBytes);
+        }
+    }
+
+    @Benchmark
+    public void decodeBsonDocument(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(decode(input.bsonDocumentCodec, input.documentBytes));
+    }
+
+    @Benchmark
+    public void decodeCompactBsonDocument(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(decode(input.compactBsonDocumentCodec, input.documentBytes));
+    }
+
+    @Benchmark
+    public void decodeDocument(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(decode(input.documentCodec, input.documentBytes));
+    }
+
+    @Benchmark
+    public void decodeCompactDocument(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(decode(input.compactDocumentCodec, input.documentBytes));
+    }
+
+    @Benchmark
+    public void getBsonDocumentFields(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        getFields(input.bsonDocument, input.fieldNames, blackhole);
+    }
+
+    @Benchmark
+    public void getCompactBsonDocumentFields(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        getFields(input.compactBsonDocument, input.fieldNames, blackhole);
+    }
+
+    private static void getFields(final Map<String, ?> document, final String[] fieldNames, final Blackhole blackhole) {
+        for (String fieldName : fieldNames) {
+            blackhole.consume(document.get(fieldName));
+        }
+    }
+
+    private static <T> T decode(final Decoder<T> decoder, final byte[] documentBytes) {
+        return decoder.decode(new BsonBinaryReader(ByteBuffer.wrap(documentBytes)), DecoderContext.builder().build());
+    }
+}
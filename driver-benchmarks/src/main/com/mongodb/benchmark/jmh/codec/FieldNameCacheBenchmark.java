@@ -0,0 +1,86 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.benchmark.jmh.codec.BsonUtils.getDocumentAsBuffer;
+
+/**
+ * Benchmark of decoding a document with twenty fields with and without a {@link FieldNameCache}. Run with {@code -prof gc} to compare the
+ * allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class FieldNameCacheBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        protected final DocumentCodec documentCodec = new DocumentCodec();
+        protected final FieldNameCache fieldNameCache = new FieldNameCache(1024);
+        protected byte[] documentBytes;
+
+        @Setup
+        public void setup() throws IOException {
+            BsonDocument document = new BsonDocument();
+            for (int i = 0; i < 20; i++) {
+                document.append("customerAttribute" + i, new BsonInt32(i));
+            }
+            documentBytes = getDocumentAsBuffer(document);
+        }
+    }
+
+    @Benchmark
+    public void decodeWithoutCache(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(input.documentBytes))));
+        blackhole.consume(input.documentCodec.decode(reader, DecoderContext.builder().build()));
+    }
+
+    @Benchmark
+    public void decodeWithCache(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(input.documentBytes))),
+                input.fieldNameCache);
+        blackhole.consume(input.documentCodec.decode(reader, DecoderContext.builder().build()));
+    }
+}
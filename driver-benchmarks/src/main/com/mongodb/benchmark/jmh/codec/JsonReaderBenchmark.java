@@ -0,0 +1,100 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.json.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of parsing the same UTF-8 encoded JSON document to a {@code RawBsonDocument} by decoding it to a {@code String} first, through
+ * a {@code Reader}, and directly from its bytes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class JsonReaderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        protected final RawBsonDocumentCodec codec = new RawBsonDocumentCodec();
+        protected byte[] jsonBytes;
+
+        @Setup
+        public void setup() {
+            BsonArray orders = new BsonArray();
+            for (int i = 0; i < 100; i++) {
+                orders.add(new BsonDocument("orderId", new BsonInt64(1_000_000_000_000L + i))
+                        .append("customer", new BsonString("Customer with a reasonably long name " + i))
+                        .append("quantity", new BsonInt32(i))
+                        .append("price", new BsonDouble(i * 1.25))
+                        .append("shipped", BsonBoolean.valueOf(i % 2 == 0)));
+            }
+            jsonBytes = new BsonDocument("orders", orders).toJson().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public void parseString(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        JsonReader reader = new JsonReader(new String(input.jsonBytes, StandardCharsets.UTF_8));
+        blackhole.consume(input.codec.decode(reader, DecoderContext.builder().build()));
+    }
+
+    @Benchmark
+    public void parseReader(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(input.jsonBytes), StandardCharsets.UTF_8));
+        blackhole.consume(input.codec.decode(reader, DecoderContext.builder().build()));
+    }
+
+    @Benchmark
+    public void parseBytes(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        JsonReader reader = new JsonReader(input.jsonBytes);
+        blackhole.consume(input.codec.decode(reader, DecoderContext.builder().build()));
+    }
+
+    @Benchmark
+    public void parseInputStream(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        JsonReader reader = new JsonReader(new ByteArrayInputStream(input.jsonBytes));
+        blackhole.consume(input.codec.decode(reader, DecoderContext.builder().build()));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.json.JsonTranscoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of converting a {@link RawBsonDocument} to UTF-8 encoded relaxed Extended JSON with a {@code JsonWriter}, through
+ * {@link RawBsonDocument#toJson()}, and with a {@link JsonTranscoder} that appends to a reused output buffer. Run with {@code -prof gc} to
+ * compare the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class JsonTranscoderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        protected final JsonTranscoder transcoder = new JsonTranscoder();
+        protected RawBsonDocument document;
+
+        @Setup
+        public void setup() {
+            BsonArray orders = new BsonArray();
+            for (int i = 0; i < 100; i++) {
+                orders.add(new BsonDocument("_id", new BsonObjectId())
+                        .append("orderId", new BsonInt64(1_000_000_000_000L + i))
+                        .append("customer", new BsonString("Customer with a reasonably long name " + i))
+                        .append("quantity", new BsonInt32(i))
+                        .append("price", new BsonDouble(i * 1.25))
+                        .append("created", new BsonDateTime(1_600_000_000_000L + i))
+                        .append("shipped", BsonBoolean.valueOf(i % 2 == 0)));
+            }
+            document = new RawBsonDocument(new BsonDocument("orders", orders), new BsonDocumentCodec());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Output {
+        protected final BasicOutputBuffer buffer = new BasicOutputBuffer();
+    }
+
+    @Benchmark
+    public void jsonWriter(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.document.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void transcoder(@NonNull final Input input, @NonNull final Output output, @NonNull final Blackhole blackhole) {
+        output.buffer.truncateToPosition(0);
+        input.transcoder.transcode(input.document, output.buffer);
+        blackhole.consume(output.buffer.getInternalBuffer());
+    }
+}
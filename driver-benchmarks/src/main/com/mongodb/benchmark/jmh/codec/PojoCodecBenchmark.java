@@ -0,0 +1,279 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * Benchmark of encoding and decoding POJOs with the codecs of {@link PojoCodecProvider}, both for mutable POJOs, whose properties are
+ * accessed through getters and setters, and for immutable POJOs, which are created through a {@link BsonCreator} constructor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class PojoCodecBenchmark {
+    private static final int LINE_ITEM_COUNT = 10;
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        protected Codec<Order> orderCodec;
+        protected Codec<ImmutableOrder> immutableOrderCodec;
+        protected Order order;
+        protected ImmutableOrder immutableOrder;
+        protected byte[] orderBytes;
+        protected byte[] immutableOrderBytes;
+
+        @Setup
+        public void setup() {
+            CodecRegistry registry = fromRegistries(getDefaultCodecRegistry(),
+                    fromProviders(PojoCodecProvider.builder().register(Order.class, LineItem.class, ImmutableOrder.class,
+                            ImmutableLineItem.class).build()));
+            orderCodec = registry.get(Order.class);
+            immutableOrderCodec = registry.get(ImmutableOrder.class);
+
+            order = new Order();
+            order.setOrderId(42L);
+            order.setCustomer("customer");
+            order.setCreated(new Date(1_700_000_000_000L));
+            order.setShipped(true);
+            List<LineItem> lineItems = new ArrayList<>();
+            List<ImmutableLineItem> immutableLineItems = new ArrayList<>();
+            for (int i = 0; i < LINE_ITEM_COUNT; i++) {
+                LineItem lineItem = new LineItem();
+                lineItem.setSku("sku" + i);
+                lineItem.setQuantity(i);
+                lineItem.setPrice(i * 1.5);
+                lineItems.add(lineItem);
+                immutableLineItems.add(new ImmutableLineItem("sku" + i, i, i * 1.5));
+            }
+            order.setLineItems(lineItems);
+            immutableOrder = new ImmutableOrder(order.getOrderId(), order.getCustomer(), order.getCreated(), order.isShipped(),
+                    immutableLineItems);
+
+            orderBytes = encode(orderCodec, order);
+            immutableOrderBytes = encode(immutableOrderCodec, immutableOrder);
+        }
+    }
+
+    @Benchmark
+    public void encodeMutable(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(encode(input.orderCodec, input.order));
+    }
+
+    @Benchmark
+    public void decodeMutable(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(decode(input.orderCodec, input.orderBytes));
+    }
+
+    @Benchmark
+    public void encodeImmutable(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(encode(input.immutableOrderCodec, input.immutableOrder));
+    }
+
+    @Benchmark
+    public void decodeImmutable(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(decode(input.immutableOrderCodec, input.immutableOrderBytes));
+    }
+
+    private static <T> byte[] encode(final Codec<T> codec, final T value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, value, EncoderContext.builder().build());
+        }
+        return buffer.toByteArray();
+    }
+
+    private static <T> T decode(final Codec<T> codec, final byte[] bytes) {
+        return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DecoderContext.builder().build());
+    }
+
+    public static final class Order {
+        private long orderId;
+        private String customer;
+        private Date created;
+        private boolean shipped;
+        private List<LineItem> lineItems;
+
+        public long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(final long orderId) {
+            this.orderId = orderId;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(final String customer) {
+            this.customer = customer;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public void setCreated(final Date created) {
+            this.created = created;
+        }
+
+        public boolean isShipped() {
+            return shipped;
+        }
+
+        public void setShipped(final boolean shipped) {
+            this.shipped = shipped;
+        }
+
+        public List<LineItem> getLineItems() {
+            return lineItems;
+        }
+
+        public void setLineItems(final List<LineItem> lineItems) {
+            this.lineItems = lineItems;
+        }
+    }
+
+    public static final class LineItem {
+        private String sku;
+        private int quantity;
+        private double price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(final String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(final int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(final double price) {
+            this.price = price;
+        }
+    }
+
+    public static final class ImmutableOrder {
+        private final long orderId;
+        private final String customer;
+        private final Date created;
+        private final boolean shipped;
+        private final List<ImmutableLineItem> lineItems;
+
+        @BsonCreator
+        public ImmutableOrder(@BsonProperty("orderId") final long orderId, @BsonProperty("customer") final String customer,
+                @BsonProperty("created") final Date created, @BsonProperty("shipped") final boolean shipped,
+                @BsonProperty("lineItems") final List<ImmutableLineItem> lineItems) {
+            this.orderId = orderId;
+            this.customer = customer;
+            this.created = created;
+            this.shipped = shipped;
+            this.lineItems = lineItems;
+        }
+
+        public long getOrderId() {
+            return orderId;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public boolean isShipped() {
+            return shipped;
+        }
+
+        public List<ImmutableLineItem> getLineItems() {
+            return lineItems;
+        }
+    }
+
+    public static final class ImmutableLineItem {
+        private final String sku;
+        private final int quantity;
+        private final double price;
+
+        @BsonCreator
+        public ImmutableLineItem(@BsonProperty("sku") final String sku, @BsonProperty("quantity") final int quantity,
+                @BsonProperty("price") final double price) {
+            this.sku = sku;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public String getSku() {
+            return sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.benchmark.jmh.codec.BsonUtils.getDocumentAsBuffer;
+import static java.util.Arrays.asList;
+
+/**
+ * Benchmark of reading the fields of a command response the way the driver does, which is one field at a time by name.
+ *
+ * <p>{@link #indexedLookups} uses {@link RawBsonDocument}, which indexes the fields on first access, and therefore includes the cost
+ * of building the index. {@link #scanningLookups} scans the encoded document for each field, which is how the fields were found
+ * before they were indexed. The same index backs the documents that the driver creates from the messages it receives.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class RawBsonDocumentFieldLookupBenchmark {
+    private static final String[] RESPONSE_FIELDS = {"ok", "errmsg", "code", "writeErrors", "writeConcernError", "cursor",
+            "$clusterTime", "operationTime", "errorLabels"};
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        /**
+         * The number of documents in the first batch of the {@code find} response, which are fields of a document nested in the response.
+         */
+        @Param({"1", "101"})
+        public int batchSize;
+
+        protected byte[] responseBytes;
+
+        @Setup
+        public void setup() throws IOException {
+            BsonArray firstBatch = new BsonArray();
+            for (int i = 0; i < batchSize; i++) {
+                firstBatch.add(new BsonDocument("_id", new BsonObjectId())
+                        .append("name", new BsonString("name" + i))
+                        .append("price", new BsonDouble(i * 1.5))
+                        .append("tags", new BsonArray(asList(new BsonString("a"), new BsonString("b")))));
+            }
+            BsonDocument response = new BsonDocument("cursor", new BsonDocument("firstBatch", firstBatch)
+                    .append("id", new BsonInt64(8_426_917_104_523_213_019L))
+                    .append("ns", new BsonString("test.collection")))
+                    .append("ok", new BsonDouble(1))
+                    .append("$clusterTime", new BsonDocument("clusterTime", new BsonTimestamp(1_700_000_000, 1))
+                            .append("signature", new BsonDocument("hash", new BsonBinary(new byte[20]))
+                                    .append("keyId", new BsonInt64(7_300_000_000_000_000_000L))))
+                    .append("operationTime", new BsonTimestamp(1_700_000_000, 1));
+            responseBytes = getDocumentAsBuffer(response);
+        }
+    }
+
+    @Benchmark
+    public void indexedLookups(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        RawBsonDocument response = new RawBsonDocument(input.responseBytes);
+        for (String field : RESPONSE_FIELDS) {
+            blackhole.consume(response.get(field));
+        }
+    }
+
+    @Benchmark
+    public void scanningLookups(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        for (String field : RESPONSE_FIELDS) {
+            blackhole.consume(scan(input.responseBytes, field));
+        }
+    }
+
+    private static Object scan(final byte[] documentBytes, final String field) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(documentBytes))) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (reader.readName().equals(field)) {
+                    if (reader.getCurrentBsonType() == BsonType.DOCUMENT || reader.getCurrentBsonType() == BsonType.ARRAY) {
+                        // like the indexed lookup, do not decode nested documents
+                        reader.skipValue();
+                        return field;
+                    }
+                    return new BsonValueCodec().decode(reader, DecoderContext.builder().build());
+                }
+                reader.skipValue();
+            }
+            return null;
+        }
+    }
+}
@@ -52,6 +52,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.isTrue;
@@ -117,6 +119,9 @@ public final class MongoClientSettings {
     private final ContextProvider contextProvider;
     private final DnsClient dnsClient;
     private final InetAddressResolver inetAddressResolver;
+    private final ThreadFactory threadFactory;
+    private final ScheduledExecutorService backgroundScheduler;
+    private final int fieldNameCacheSize;
     private final ObservabilitySettings observabilitySettings;
     @Nullable
     private final Long timeoutMS;
@@ -204,6 +209,41 @@ public final class MongoClientSettings {
         return inetAddressResolver;
     }
 
+    /**
+     * Gets the explicitly set {@link ThreadFactory} to use for creating the background threads owned by the client.
+     *
+     * @return the thread factory
+     * @see Builder#threadFactory(ThreadFactory)
+     * @since 5.10
+     */
+    @Nullable
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    /**
+     * Gets the explicitly set scheduler to run the periodic background tasks of the client on.
+     *
+     * @return the background scheduler
+     * @see Builder#backgroundScheduler(ScheduledExecutorService)
+     * @since 5.10
+     */
+    @Nullable
+    public ScheduledExecutorService getBackgroundScheduler() {
+        return backgroundScheduler;
+    }
+
+    /**
+     * Gets the number of field names that the client caches to decode the replies of the server.
+     *
+     * @return the size of the field name cache, or 0 if the client does not cache field names
+     * @see Builder#fieldNameCacheSize(int)
+     * @since 5.10
+     */
+    public int getFieldNameCacheSize() {
+        return fieldNameCacheSize;
+    }
+
     /**
      * A builder for {@code MongoClientSettings} so that {@code MongoClientSettings} can be immutable, and to support easier construction
      * through chaining.
@@ -241,6 +281,9 @@ public final class MongoClientSettings {
         private ContextProvider contextProvider;
         private DnsClient dnsClient;
         private InetAddressResolver inetAddressResolver;
+        private ThreadFactory threadFactory;
+        private ScheduledExecutorService backgroundScheduler;
+        private int fieldNameCacheSize;
 
         private Builder() {
         }
@@ -262,6 +305,9 @@ public final class MongoClientSettings {
             dnsClient = settings.getDnsClient();
             timeoutMS = settings.getTimeout(MILLISECONDS);
             inetAddressResolver = settings.getInetAddressResolver();
+            threadFactory = settings.getThreadFactory();
+            backgroundScheduler = settings.getBackgroundScheduler();
+            fieldNameCacheSize = settings.getFieldNameCacheSize();
             transportSettings = settings.getTransportSettings();
             observabilitySettings = settings.getObservabilitySettings();
             autoEncryptionSettings = settings.getAutoEncryptionSettings();
@@ -694,6 +740,68 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets the {@link ThreadFactory} to use for creating the background threads owned by the client: the server monitors and
+         * round trip time monitors, the SRV record monitor, the connection pool maintenance and the buffer pool pruner.
+         *
+         * <p>If set, the threads are created by the thread factory and then named by the client. Otherwise, the client creates daemon
+         * platform threads. For example, {@code Thread.ofVirtual().factory()} makes the background threads virtual threads.</p>
+         *
+         * @param threadFactory the thread factory
+         * @return this
+         * @see #getThreadFactory()
+         * @since 5.10
+         */
+        public Builder threadFactory(@Nullable final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler to run the periodic background tasks of the client on: the round trip time sampling, the SRV record
+         * polling and the connection pool maintenance.
+         *
+         * <p>If set, these tasks are scheduled on it instead of each running in a thread of its own, so that many clients and servers
+         * may share a few threads. The scheduler may be shared between clients, and is not shut down when a client is closed.
+         * The scheduler only times the tasks, and never runs them in its own threads: the tasks may block for up to the connect timeout
+         * or the heartbeat socket timeout, so when one is due, it is handed over to a worker of the client. The workers are created
+         * with the {@linkplain #threadFactory(ThreadFactory) thread factory}, are reused by all the tasks of the client, and terminate
+         * when they have been idle for a minute, so that there are about as many as there are tasks running at the same time.</p>
+         *
+         * <p>Server heartbeats are not run with this scheduler: they still run in a thread per server, because awaiting a heartbeat
+         * blocks, and the driver does not implement non-blocking heartbeats. Those threads may be made lightweight with a
+         * {@linkplain #threadFactory(ThreadFactory) thread factory} that creates virtual threads.</p>
+         *
+         * @param backgroundScheduler the background scheduler
+         * @return this
+         * @see #getBackgroundScheduler()
+         * @since 5.10
+         */
+        public Builder backgroundScheduler(@Nullable final ScheduledExecutorService backgroundScheduler) {
+            this.backgroundScheduler = backgroundScheduler;
+            return this;
+        }
+
+        /**
+         * Sets the number of field names that the client caches to decode the replies of the server.
+         *
+         * <p>If greater than 0, the client decodes the replies of the server with a {@link org.bson.io.FieldNameCache} of its own, so that
+         * decoding documents that share their field names does not allocate a new {@code String} for each name. The cache is
+         * direct-mapped, so it pays off when the number of distinct field names read is well below its size. Otherwise, names keep
+         * evicting each other, and each miss allocates more than decoding without a cache. Defaults to 0, which disables the cache.</p>
+         *
+         * @param fieldNameCacheSize the size of the field name cache, which must be between 0 and 2<sup>20</sup>
+         * @return this
+         * @see #getFieldNameCacheSize()
+         * @since 5.10
+         */
+        public Builder fieldNameCacheSize(final int fieldNameCacheSize) {
+            isTrueArgument("fieldNameCacheSize >= 0", fieldNameCacheSize >= 0);
+            isTrueArgument("fieldNameCacheSize <= 2^20", fieldNameCacheSize <= 1 << 20);
+            this.fieldNameCacheSize = fieldNameCacheSize;
+            return this;
+        }
+
 
         /**
          * Sets the time limit for the full execution of an operation.
@@ -1108,6 +1216,9 @@ public final class MongoClientSettings {
                 && Objects.equals(autoEncryptionSettings, that.autoEncryptionSettings)
                 && Objects.equals(dnsClient, that.dnsClient)
                 && Objects.equals(inetAddressResolver, that.inetAddressResolver)
+                && Objects.equals(threadFactory, that.threadFactory)
+                && Objects.equals(backgroundScheduler, that.backgroundScheduler)
+                && fieldNameCacheSize == that.fieldNameCacheSize
                 && Objects.equals(contextProvider, that.contextProvider)
                 && Objects.equals(timeoutMS, that.timeoutMS);
     }
@@ -1118,7 +1229,8 @@ public final class MongoClientSettings {
                 commandListeners, codecRegistry, loggerSettings, clusterSettings, socketSettings,
                 heartbeatSocketSettings, connectionPoolSettings, serverSettings, sslSettings, applicationName, compressorList,
                 uuidRepresentation, serverApi, autoEncryptionSettings, heartbeatSocketTimeoutSetExplicitly,
-                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, contextProvider, timeoutMS);
+                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, threadFactory, backgroundScheduler,
+                fieldNameCacheSize, contextProvider, timeoutMS);
 
     }
 
@@ -1148,6 +1260,9 @@ public final class MongoClientSettings {
                 + ", autoEncryptionSettings=" + autoEncryptionSettings
                 + ", dnsClient=" + dnsClient
                 + ", inetAddressResolver=" + inetAddressResolver
+                + ", threadFactory=" + threadFactory
+                + ", backgroundScheduler=" + backgroundScheduler
+                + ", fieldNameCacheSize=" + fieldNameCacheSize
                 + ", contextProvider=" + contextProvider
                 + ", timeoutMS=" + timeoutMS
                 + '}';
@@ -1177,6 +1292,9 @@ public final class MongoClientSettings {
         serverApi = builder.serverApi;
         dnsClient = builder.dnsClient;
         inetAddressResolver = builder.inetAddressResolver;
+        threadFactory = builder.threadFactory;
+        backgroundScheduler = builder.backgroundScheduler;
+        fieldNameCacheSize = builder.fieldNameCacheSize;
         autoEncryptionSettings = builder.autoEncryptionSettings;
         heartbeatSocketSettings = SocketSettings.builder()
                 .readTimeout(builder.heartbeatSocketTimeoutMS == 0
@@ -19,6 +19,8 @@ package com.mongodb.client.gridfs.model;
 import com.mongodb.lang.Nullable;
 import org.bson.Document;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * GridFS upload options
  * <p>
@@ -29,6 +31,8 @@ import org.bson.Document;
 public final class GridFSUploadOptions {
     private Integer chunkSizeBytes;
     private Document metadata;
+    private Integer chunksPerBatch;
+    private Integer maxBatchesInFlight;
 
     /**
      * Construct a new instance.
@@ -80,4 +84,62 @@ public final class GridFSUploadOptions {
         return this;
     }
 
+    /**
+     * The number of chunks to insert with each command.
+     *
+     * <p>If no value has been set then, each chunk is inserted with a command of its own.</p>
+     *
+     * @return the number of chunks per batch if set or null
+     * @since 5.10
+     */
+    @Nullable
+    public Integer getChunksPerBatch() {
+        return chunksPerBatch;
+    }
+
+    /**
+     * Sets the number of chunks to insert with each command.
+     *
+     * <p>Inserting the chunks of a large file in batches reduces the number of round trips to the server, at the cost of buffering
+     * a batch of chunks in memory. The batches are split further if they exceed the maximum message size of the server.</p>
+     *
+     * @param chunksPerBatch the number of chunks per batch, which must be positive
+     * @return this
+     * @since 5.10
+     */
+    public GridFSUploadOptions chunksPerBatch(@Nullable final Integer chunksPerBatch) {
+        isTrueArgument("chunksPerBatch > 0", chunksPerBatch == null || chunksPerBatch > 0);
+        this.chunksPerBatch = chunksPerBatch;
+        return this;
+    }
+
+    /**
+     * The maximum number of batches of chunks being inserted concurrently.
+     *
+     * <p>If no value has been set then, the number is chosen so that up to 256 chunks are being inserted concurrently.</p>
+     *
+     * @return the maximum number of batches being inserted concurrently if set or null
+     * @since 5.10
+     */
+    @Nullable
+    public Integer getMaxBatchesInFlight() {
+        return maxBatchesInFlight;
+    }
+
+    /**
+     * Sets the maximum number of batches of chunks being inserted concurrently.
+     *
+     * <p>Only applies to uploads from a {@code Publisher}. An {@code OutputStream} inserts the batches one at a time, from the
+     * thread writing to it.</p>
+     *
+     * @param maxBatchesInFlight the maximum number of batches being inserted concurrently, which must be positive
+     * @return this
+     * @since 5.10
+     */
+    public GridFSUploadOptions maxBatchesInFlight(@Nullable final Integer maxBatchesInFlight) {
+        isTrueArgument("maxBatchesInFlight > 0", maxBatchesInFlight == null || maxBatchesInFlight > 0);
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        return this;
+    }
+
 }
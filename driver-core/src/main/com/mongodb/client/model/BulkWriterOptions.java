@@ -0,0 +1,233 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.model;
+
+import com.mongodb.lang.Nullable;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * The options to apply to a bulk writer, which inserts a stream of documents into a collection in batches.
+ *
+ * <p>Documents are grouped into batches of at most {@link #getMaxBatchCount()} documents and {@link #getMaxBatchSize()} bytes of
+ * encoded BSON. These limits are fixed when the writer is created and are not read from the server. Each batch is sent as one bulk
+ * write, which the driver splits into several commands if the batch exceeds the {@code maxWriteBatchSize}, {@code maxBsonObjectSize}
+ * or {@code maxMessageSizeBytes} reported by the server it is sent to.</p>
+ *
+ * @since 5.10
+ * @mongodb.driver.manual reference/command/insert/ Insert Command
+ */
+public final class BulkWriterOptions {
+    private boolean ordered = true;
+    private Boolean bypassDocumentValidation;
+    private BsonValue comment;
+    private int maxBatchCount = 100_000;
+    private int maxBatchSize = 16 * 1024 * 1024;
+    private int maxInFlightBatches = 1;
+    private boolean groupByShard;
+
+    /**
+     * Gets whether the documents should be inserted in the order provided, stopping on the first failed batch. The default is true.
+     * If false, the writer will attempt to insert all the documents regardless of any failures.
+     *
+     * @return whether the documents should be inserted in order
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Sets whether the documents should be inserted in the order provided.
+     *
+     * @param ordered true if documents should be inserted in order
+     * @return this
+     */
+    public BulkWriterOptions ordered(final boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Gets the bypass document level validation flag
+     *
+     * @return the bypass document level validation flag
+     */
+    @Nullable
+    public Boolean getBypassDocumentValidation() {
+        return bypassDocumentValidation;
+    }
+
+    /**
+     * Sets the bypass document level validation flag.
+     *
+     * @param bypassDocumentValidation If true, allows the write to opt-out of document level validation.
+     * @return this
+     */
+    public BulkWriterOptions bypassDocumentValidation(@Nullable final Boolean bypassDocumentValidation) {
+        this.bypassDocumentValidation = bypassDocumentValidation;
+        return this;
+    }
+
+    /**
+     * @return the comment for the bulk writes. A null value means no comment is set.
+     * @mongodb.server.release 4.4
+     */
+    @Nullable
+    public BsonValue getComment() {
+        return comment;
+    }
+
+    /**
+     * Sets the comment for the bulk writes. A null value means no comment is set.
+     *
+     * @param comment the comment
+     * @return this
+     * @mongodb.server.release 4.4
+     */
+    public BulkWriterOptions comment(@Nullable final String comment) {
+        this.comment = comment != null ? new BsonString(comment) : null;
+        return this;
+    }
+
+    /**
+     * Sets the comment for the bulk writes. A null value means no comment is set.
+     *
+     * @param comment the comment
+     * @return this
+     * @mongodb.server.release 4.4
+     */
+    public BulkWriterOptions comment(@Nullable final BsonValue comment) {
+        this.comment = comment;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of documents in a batch. The default is 100,000, which is the {@code maxWriteBatchSize} of servers that
+     * do not set it otherwise, but is not read from the server.
+     *
+     * @return the maximum number of documents in a batch
+     */
+    public int getMaxBatchCount() {
+        return maxBatchCount;
+    }
+
+    /**
+     * Sets the maximum number of documents in a batch.
+     *
+     * @param maxBatchCount the maximum number of documents in a batch, which must be greater than zero
+     * @return this
+     */
+    public BulkWriterOptions maxBatchCount(final int maxBatchCount) {
+        isTrueArgument("maxBatchCount > 0", maxBatchCount > 0);
+        this.maxBatchCount = maxBatchCount;
+        return this;
+    }
+
+    /**
+     * Gets the maximum total size in bytes of the encoded documents in a batch. The default is 16 MiB, which is the
+     * {@code maxBsonObjectSize} of servers that do not set it otherwise, but is not read from the server. A batch larger than the
+     * {@code maxMessageSizeBytes} of the server is sent in several commands.
+     *
+     * <p>A batch always contains at least one document, so a single document larger than this size is sent in a batch of its own.</p>
+     *
+     * @return the maximum size in bytes of a batch
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum total size in bytes of the encoded documents in a batch.
+     *
+     * @param maxBatchSize the maximum size in bytes of a batch, which must be greater than zero
+     * @return this
+     */
+    public BulkWriterOptions maxBatchSize(final int maxBatchSize) {
+        isTrueArgument("maxBatchSize > 0", maxBatchSize > 0);
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches that are written concurrently. The default is 1.
+     *
+     * <p>Ordered writers always write one batch at a time, so this setting only applies when {@link #isOrdered()} is false. Each
+     * batch in flight holds its encoded documents in memory and uses a connection from the pool while it is written.</p>
+     *
+     * @return the maximum number of batches in flight
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * Sets the maximum number of batches that are written concurrently.
+     *
+     * @param maxInFlightBatches the maximum number of batches in flight, which must be greater than zero
+     * @return this
+     */
+    public BulkWriterOptions maxInFlightBatches(final int maxInFlightBatches) {
+        isTrueArgument("maxInFlightBatches > 0", maxInFlightBatches > 0);
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
+    /**
+     * Gets whether the documents are grouped into batches per shard when the collection is sharded on a ranged shard key. The default
+     * is false.
+     *
+     * <p>The writer reads the chunk ranges of the collection from the {@code config.collections} and {@code config.chunks} collections,
+     * which requires the privilege to read the {@code config} database, and refreshes them periodically and when a shard reports that
+     * they are stale. Each batch then holds documents owned by a single shard, so that mongos forwards it to one shard instead of
+     * splitting it. Up to a batch per shard may be pending in memory. Documents are not grouped if the chunk ranges can not be read,
+     * if the collection is not sharded, or if it is sharded on a hashed shard key.</p>
+     *
+     * <p>Grouping reorders the documents, so this setting only applies when {@link #isOrdered()} is false.</p>
+     *
+     * @return whether the documents are grouped into batches per shard
+     * @mongodb.driver.manual core/sharding-data-partitioning/ Data Partitioning with Chunks
+     */
+    public boolean isGroupByShard() {
+        return groupByShard;
+    }
+
+    /**
+     * Sets whether the documents are grouped into batches per shard when the collection is sharded on a ranged shard key.
+     *
+     * @param groupByShard whether the documents are grouped into batches per shard
+     * @return this
+     */
+    public BulkWriterOptions groupByShard(final boolean groupByShard) {
+        this.groupByShard = groupByShard;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriterOptions{"
+                + "ordered=" + ordered
+                + ", bypassDocumentValidation=" + bypassDocumentValidation
+                + ", comment=" + comment
+                + ", maxBatchCount=" + maxBatchCount
+                + ", maxBatchSize=" + maxBatchSize
+                + ", maxInFlightBatches=" + maxInFlightBatches
+                + ", groupByShard=" + groupByShard
+                + '}';
+    }
+}
@@ -87,4 +87,25 @@ public interface ClientBulkWriteOptions {
      * @return {@code this}.
      */
     ClientBulkWriteOptions verboseResults(@Nullable Boolean verboseResults);
+
+    /**
+     * Sets the maximum number of {@code bulkWrite} administration commands that may be executed concurrently
+     * in an {@linkplain #ordered(Boolean) unordered} execution.
+     * <p>
+     * If the value is greater than 1, the {@linkplain ClientNamespacedWriteModel individual write operations} are split into
+     * up to that many contiguous ranges, each of which is executed in its own batches, on its own connection, and in its own implicit
+     * session. Indexes in the {@linkplain ClientBulkWriteResult result} and in {@link com.mongodb.ClientBulkWriteException}
+     * still refer to the individual write operations as specified, and the results of all ranges are combined.</p>
+     * <p>
+     * The value is ignored in an ordered execution, and when a {@link com.mongodb.session.ClientSession} is specified,
+     * because a session must not be used concurrently.
+     * If a {@linkplain com.mongodb.ClientBulkWriteException#getCause() top-level error} occurs in one range,
+     * the other ranges are still executed.</p>
+     *
+     * @param maxConcurrentBatches The maximum number of concurrently executed commands, which must be positive.
+     * If {@code null}, the client defaults to 1.
+     * @return {@code this}.
+     * @since 5.10
+     */
+    ClientBulkWriteOptions maxConcurrentBatches(@Nullable Integer maxConcurrentBatches);
 }
@@ -21,6 +21,7 @@ import com.mongodb.lang.Nullable;
 
 import java.util.concurrent.ExecutorService;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 /**
@@ -32,9 +33,15 @@ import static com.mongodb.assertions.Assertions.notNull;
 public final class AsyncTransportSettings extends TransportSettings {
 
     private final ExecutorService executorService;
+    private final boolean directBuffersEnabled;
+    private final long maxDirectBufferPoolSize;
+    private final int selectorCount;
 
     private AsyncTransportSettings(final Builder builder) {
         this.executorService = builder.executorService;
+        this.directBuffersEnabled = builder.directBuffersEnabled;
+        this.maxDirectBufferPoolSize = builder.maxDirectBufferPoolSize;
+        this.selectorCount = builder.selectorCount;
     }
 
     static Builder builder() {
@@ -47,6 +54,9 @@ public final class AsyncTransportSettings extends TransportSettings {
     public static final class Builder {
 
         private ExecutorService executorService;
+        private boolean directBuffersEnabled;
+        private long maxDirectBufferPoolSize = 64L * 1024 * 1024;
+        private int selectorCount = Runtime.getRuntime().availableProcessors();
 
         private Builder() {
         }
@@ -69,6 +79,55 @@ public final class AsyncTransportSettings extends TransportSettings {
             return this;
         }
 
+        /**
+         * Sets whether the buffers used to read from and write to sockets are allocated outside of the Java heap.
+         *
+         * <p>Direct buffers spare the JDK from copying each outgoing and incoming message through a temporary direct buffer,
+         * at the cost of memory that is not accounted for in the heap. Direct buffers are pooled per mongo client,
+         * and released when the mongo client is closed.</p>
+         *
+         * @param directBuffersEnabled true if direct buffers should be used
+         * @return this
+         * @see #isDirectBuffersEnabled()
+         * @since 5.10
+         */
+        public Builder directBuffersEnabled(final boolean directBuffersEnabled) {
+            this.directBuffersEnabled = directBuffersEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total size in bytes of the direct buffers retained by the pool between uses.
+         * Only applies if {@linkplain #directBuffersEnabled(boolean) direct buffers are enabled}.
+         *
+         * @param maxDirectBufferPoolSize the maximum pool size in bytes, which must be positive
+         * @return this
+         * @see #getMaxDirectBufferPoolSize()
+         * @since 5.10
+         */
+        public Builder maxDirectBufferPoolSize(final long maxDirectBufferPoolSize) {
+            isTrueArgument("maxDirectBufferPoolSize > 0", maxDirectBufferPoolSize > 0);
+            this.maxDirectBufferPoolSize = maxDirectBufferPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of selector threads that drive the sockets when {@linkplain SslSettings#isEnabled() TLS is enabled}.
+         *
+         * <p>Sockets are spread across the selector threads, so that reading from and writing to many sockets is not limited to
+         * a single thread. Defaults to the {@linkplain Runtime#availableProcessors() number of available processors}.</p>
+         *
+         * @param selectorCount the number of selector threads, which must be positive
+         * @return this
+         * @see #getSelectorCount()
+         * @since 5.10
+         */
+        public Builder selectorCount(final int selectorCount) {
+            isTrueArgument("selectorCount > 0", selectorCount > 0);
+            this.selectorCount = selectorCount;
+            return this;
+        }
+
         /**
          * Build an instance of {@link AsyncTransportSettings}
          * @return an instance of {@link AsyncTransportSettings}
@@ -89,10 +148,47 @@ public final class AsyncTransportSettings extends TransportSettings {
         return executorService;
     }
 
+    /**
+     * Gets whether direct buffers are used for socket reads and writes. The default is false.
+     *
+     * @return true if direct buffers are used
+     * @see Builder#directBuffersEnabled(boolean)
+     * @since 5.10
+     */
+    public boolean isDirectBuffersEnabled() {
+        return directBuffersEnabled;
+    }
+
+    /**
+     * Gets the maximum total size in bytes of the direct buffers retained by the pool. The default is 64 MiB.
+     *
+     * @return the maximum pool size in bytes
+     * @see Builder#maxDirectBufferPoolSize(long)
+     * @since 5.10
+     */
+    public long getMaxDirectBufferPoolSize() {
+        return maxDirectBufferPoolSize;
+    }
+
+    /**
+     * Gets the number of selector threads that drive the sockets when TLS is enabled.
+     * The default is the number of available processors.
+     *
+     * @return the number of selector threads
+     * @see Builder#selectorCount(int)
+     * @since 5.10
+     */
+    public int getSelectorCount() {
+        return selectorCount;
+    }
+
     @Override
     public String toString() {
         return "AsyncTransportSettings{"
                 + "executorService=" + executorService
+                + ", directBuffersEnabled=" + directBuffersEnabled
+                + ", maxDirectBufferPoolSize=" + maxDirectBufferPoolSize
+                + ", selectorCount=" + selectorCount
                 + '}';
     }
 }
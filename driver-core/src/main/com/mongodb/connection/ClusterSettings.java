@@ -56,6 +56,9 @@ public final class ClusterSettings {
     private final String requiredReplicaSetName;
     private final ServerSelector serverSelector;
     private final long localThresholdMS;
+    private final Double operationLatencyPercentile;
+    private final double operationLatencyRatio;
+    private final Double hedgeDelayPercentile;
     private final long serverSelectionTimeoutMS;
     private final List<ClusterListener> clusterListeners;
 
@@ -95,6 +98,9 @@ public final class ClusterSettings {
         private ServerSelector serverSelector;
         private long serverSelectionTimeoutMS = MILLISECONDS.convert(30, TimeUnit.SECONDS);
         private long localThresholdMS = MILLISECONDS.convert(15, MILLISECONDS);
+        private Double operationLatencyPercentile;
+        private double operationLatencyRatio = 2;
+        private Double hedgeDelayPercentile;
         private List<ClusterListener> clusterListeners = new ArrayList<>();
 
         private Builder() {
@@ -119,6 +125,9 @@ public final class ClusterSettings {
             requiredReplicaSetName = clusterSettings.requiredReplicaSetName;
             requiredClusterType = clusterSettings.requiredClusterType;
             localThresholdMS = clusterSettings.localThresholdMS;
+            operationLatencyPercentile = clusterSettings.operationLatencyPercentile;
+            operationLatencyRatio = clusterSettings.operationLatencyRatio;
+            hedgeDelayPercentile = clusterSettings.hedgeDelayPercentile;
             serverSelectionTimeoutMS = clusterSettings.serverSelectionTimeoutMS;
             clusterListeners = new ArrayList<>(clusterSettings.clusterListeners);
             serverSelector = clusterSettings.serverSelector;
@@ -260,6 +269,54 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * Sets the percentile of the recent round trip times of the commands executed on each server that server selection compares to
+         * avoid slow servers, for example 99 to compare the 99th percentiles. The default is null, which disables the comparison.
+         *
+         * @param operationLatencyPercentile the percentile, which must be greater than 0 and less than 100, or null
+         * @return this
+         * @see #getOperationLatencyPercentile()
+         * @since 5.10
+         */
+        public Builder operationLatencyPercentile(@Nullable final Double operationLatencyPercentile) {
+            isTrueArgument("operationLatencyPercentile > 0 and < 100", operationLatencyPercentile == null
+                    || (operationLatencyPercentile > 0 && operationLatencyPercentile < 100));
+            this.operationLatencyPercentile = operationLatencyPercentile;
+            return this;
+        }
+
+        /**
+         * Sets the ratio of the {@linkplain #operationLatencyPercentile(Double) percentile} of the round trip times of the fastest
+         * server above which the percentile of a server is too slow for the server to be selected. The default is 2.
+         *
+         * @param operationLatencyRatio the ratio, which must be &gt;= 1
+         * @return this
+         * @see #getOperationLatencyRatio()
+         * @since 5.10
+         */
+        public Builder operationLatencyRatio(final double operationLatencyRatio) {
+            isTrueArgument("operationLatencyRatio >= 1", operationLatencyRatio >= 1);
+            this.operationLatencyRatio = operationLatencyRatio;
+            return this;
+        }
+
+        /**
+         * Sets the percentile of the recent round trip times of the commands executed on the eligible servers after which a read that
+         * has not completed is hedged, for example 95 to hedge reads that are slower than the 95th percentile. The default is null,
+         * which disables hedged reads.
+         *
+         * @param hedgeDelayPercentile the percentile, which must be greater than 0 and less than 100, or null
+         * @return this
+         * @see #getHedgeDelayPercentile()
+         * @since 5.10
+         */
+        public Builder hedgeDelayPercentile(@Nullable final Double hedgeDelayPercentile) {
+            isTrueArgument("hedgeDelayPercentile > 0 and < 100", hedgeDelayPercentile == null
+                    || (hedgeDelayPercentile > 0 && hedgeDelayPercentile < 100));
+            this.hedgeDelayPercentile = hedgeDelayPercentile;
+            return this;
+        }
+
         /**
          * Adds a server selector for the cluster to apply before selecting a server.
          *
@@ -530,6 +587,68 @@ public final class ClusterSettings {
         return timeUnit.convert(localThresholdMS, MILLISECONDS);
     }
 
+    /**
+     * Gets the percentile of the recent round trip times of the commands executed on each server that server selection compares to
+     * avoid slow servers.
+     *
+     * <p>Each server tracks the round trip times of the commands that the driver executed on it in the last 10 to 20 seconds. When
+     * choosing among multiple servers, the MongoClient does not send a request to a server whose percentile is both more than
+     * {@linkplain #getOperationLatencyRatio() a ratio} of, and more than {@linkplain #getLocalThreshold(TimeUnit) the local threshold}
+     * above, the percentile of the fastest server. This avoids a server that responds to monitoring in time but is slow to execute
+     * operations, for example a secondary with a degraded disk. Servers that were not sent enough requests recently are not
+     * avoided, so a server that became fast again is soon selected again.</p>
+     *
+     * <p>For example, let's say that the client is choosing a secondary among server1, server2, and server3, whose 99th percentiles
+     * are 20, 30, and 400 milliseconds respectively. With a percentile of 99, a ratio of 2 and a local threshold of 15 milliseconds,
+     * the client sends the query to either server1 or server2.</p>
+     *
+     * <p>Default is null, which disables the comparison.</p>
+     *
+     * @return the percentile, or null
+     * @since 5.10
+     */
+    @Nullable
+    public Double getOperationLatencyPercentile() {
+        return operationLatencyPercentile;
+    }
+
+    /**
+     * Gets the ratio of the {@linkplain #getOperationLatencyPercentile() percentile} of the round trip times of the fastest server
+     * above which the percentile of a server is too slow for the server to be selected.
+     *
+     * <p>Default is 2.</p>
+     *
+     * @return the ratio
+     * @since 5.10
+     */
+    public double getOperationLatencyRatio() {
+        return operationLatencyRatio;
+    }
+
+    /**
+     * Gets the percentile of the recent round trip times of the commands executed on the eligible servers after which a read that has
+     * not completed is hedged.
+     *
+     * <p>When a find or aggregate that reads from a replica set with a read preference that allows secondaries has not completed after
+     * the delay, the MongoClient sends the same read to another eligible server and uses the result that arrives first. The cursor of
+     * the other read is killed. The delay is the median, over the eligible servers, of the percentile of the round trip times of the
+     * commands that the driver executed on each server in the last 10 to 20 seconds, so a read is hedged only if it is slower than
+     * what is usual for the replica set, for example because the server it was sent to is paused by garbage collection. Reads are not
+     * hedged when none of the eligible servers was sent enough requests recently.</p>
+     *
+     * <p>Hedged reads are only done by the reactive streams driver, and not for operations executed with an explicit session. A
+     * synchronous MongoClient ignores this setting, and logs a warning when it is created with it.</p>
+     *
+     * <p>Default is null, which disables hedged reads.</p>
+     *
+     * @return the percentile, or null
+     * @since 5.10
+     */
+    @Nullable
+    public Double getHedgeDelayPercentile() {
+        return hedgeDelayPercentile;
+    }
+
     /**
      * Gets the cluster listeners.  The default value is an empty list.
      *
@@ -550,6 +669,9 @@ public final class ClusterSettings {
         }
         ClusterSettings that = (ClusterSettings) o;
         return localThresholdMS == that.localThresholdMS
+                && Objects.equals(operationLatencyPercentile, that.operationLatencyPercentile)
+                && Double.compare(operationLatencyRatio, that.operationLatencyRatio) == 0
+                && Objects.equals(hedgeDelayPercentile, that.hedgeDelayPercentile)
                 && serverSelectionTimeoutMS == that.serverSelectionTimeoutMS
                 && Objects.equals(srvHost, that.srvHost)
                 && Objects.equals(srvMaxHosts, that.srvMaxHosts)
@@ -565,7 +687,8 @@ public final class ClusterSettings {
     @Override
     public int hashCode() {
         return Objects.hash(srvHost, srvMaxHosts, srvServiceName, hosts, mode, requiredClusterType, requiredReplicaSetName, serverSelector,
-                localThresholdMS, serverSelectionTimeoutMS, clusterListeners);
+                localThresholdMS, operationLatencyPercentile, operationLatencyRatio, hedgeDelayPercentile, serverSelectionTimeoutMS,
+                clusterListeners);
     }
 
     @Override
@@ -582,6 +705,9 @@ public final class ClusterSettings {
                + ", clusterListeners='" + clusterListeners + '\''
                + ", serverSelectionTimeout='" + serverSelectionTimeoutMS + " ms" + '\''
                + ", localThreshold='" + localThresholdMS + " ms" + '\''
+               + (operationLatencyPercentile == null ? "" : ", operationLatencyPercentile=" + operationLatencyPercentile
+                       + ", operationLatencyRatio=" + operationLatencyRatio)
+               + (hedgeDelayPercentile == null ? "" : ", hedgeDelayPercentile=" + hedgeDelayPercentile)
                + '}';
     }
 
@@ -656,6 +782,9 @@ public final class ClusterSettings {
         }
         requiredClusterType = builder.requiredClusterType;
         localThresholdMS = builder.localThresholdMS;
+        operationLatencyPercentile = builder.operationLatencyPercentile;
+        operationLatencyRatio = builder.operationLatencyRatio;
+        hedgeDelayPercentile = builder.hedgeDelayPercentile;
         serverSelector = builder.serverSelector;
         serverSelectionTimeoutMS = builder.serverSelectionTimeoutMS;
         clusterListeners = unmodifiableList(builder.clusterListeners);
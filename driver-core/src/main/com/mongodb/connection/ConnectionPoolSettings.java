@@ -52,6 +52,8 @@ public class ConnectionPoolSettings {
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
     private final int maxConnecting;
+    private final int maxConcurrentOperationsPerConnection;
+    private final boolean minSizeWarmUp;
 
     /**
      * Gets a Builder for creating a new ConnectionPoolSettings instance.
@@ -87,6 +89,8 @@ public class ConnectionPoolSettings {
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
         private int maxConnecting = 2;
+        private int maxConcurrentOperationsPerConnection = 1;
+        private boolean minSizeWarmUp;
 
         Builder() {
         }
@@ -111,6 +115,8 @@ public class ConnectionPoolSettings {
             maintenanceInitialDelayMS = connectionPoolSettings.maintenanceInitialDelayMS;
             maintenanceFrequencyMS = connectionPoolSettings.maintenanceFrequencyMS;
             maxConnecting = connectionPoolSettings.maxConnecting;
+            maxConcurrentOperationsPerConnection = connectionPoolSettings.maxConcurrentOperationsPerConnection;
+            minSizeWarmUp = connectionPoolSettings.minSizeWarmUp;
             return this;
         }
 
@@ -272,6 +278,44 @@ public class ConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * The maximum number of synchronous operations that may have a request in flight on the same connection at the same time.
+         *
+         * <p>If greater than 1, requests from concurrent operations are pipelined over a connection, and their replies are
+         * correlated by request id, so that fewer connections need to be opened and authenticated under high concurrency.
+         * A new connection is only checked out of the pool once every connection already in use carries this many operations.
+         * Connections are not shared when the driver is connected to a load balancer, nor between asynchronous operations, and the
+         * {@code getMore} commands of cursors are sent over connections of their own, because the server holds those of tailable
+         * cursors and change streams until there are results.</p>
+         *
+         * <p>Default is 1, which means that each operation has exclusive use of its connection.</p>
+         *
+         * @param maxConcurrentOperationsPerConnection the maximum number of operations per connection. Must be positive.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#getMaxConcurrentOperationsPerConnection()
+         * @since 5.10
+         */
+        public Builder maxConcurrentOperationsPerConnection(final int maxConcurrentOperationsPerConnection) {
+            this.maxConcurrentOperationsPerConnection = maxConcurrentOperationsPerConnection;
+            return this;
+        }
+
+        /**
+         * Sets whether the pool opens the connections it needs to reach its {@linkplain #minSize(int) minimum size} in parallel, up to
+         * {@linkplain #maxConnecting(int) maxConnecting} at a time, instead of one after the other.
+         *
+         * <p>Default is false.</p>
+         *
+         * @param minSizeWarmUp whether to warm up the pool to its minimum size
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isMinSizeWarmUp()
+         * @since 5.10
+         */
+        public Builder minSizeWarmUp(final boolean minSizeWarmUp) {
+            this.minSizeWarmUp = minSizeWarmUp;
+            return this;
+        }
+
         /**
          * Creates a new ConnectionPoolSettings object with the settings initialised on this builder.
          *
@@ -456,6 +500,38 @@ public class ConnectionPoolSettings {
         return maxConnecting;
     }
 
+    /**
+     * The maximum number of synchronous operations that may have a request in flight on the same connection at the same time.
+     * <p>
+     * Default is 1.</p>
+     *
+     * @return The maximum number of operations per connection.
+     * @see Builder#maxConcurrentOperationsPerConnection(int)
+     * @since 5.10
+     */
+    public int getMaxConcurrentOperationsPerConnection() {
+        return maxConcurrentOperationsPerConnection;
+    }
+
+    /**
+     * Whether the pool opens the connections it needs to reach its {@linkplain #getMinSize() minimum size} in parallel, up to
+     * {@linkplain #getMaxConnecting() maxConnecting} at a time, instead of one after the other.
+     * <p>
+     * The background maintenance of the pool runs as soon as the pool becomes ready, when the driver starts and each time the pool
+     * is ready again after being cleared, so the pool is then warmed up before the first operations need connections. Each warm-up
+     * is reported by a {@link com.mongodb.event.ConnectionPoolWarmUpStartedEvent} and a
+     * {@link com.mongodb.event.ConnectionPoolWarmUpCompletedEvent}.</p>
+     * <p>
+     * Default is false.</p>
+     *
+     * @return whether to warm up the pool to its minimum size
+     * @see Builder#minSizeWarmUp(boolean)
+     * @since 5.10
+     */
+    public boolean isMinSizeWarmUp() {
+        return minSizeWarmUp;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -494,6 +570,12 @@ public class ConnectionPoolSettings {
         if (maxConnecting != that.maxConnecting) {
             return false;
         }
+        if (maxConcurrentOperationsPerConnection != that.maxConcurrentOperationsPerConnection) {
+            return false;
+        }
+        if (minSizeWarmUp != that.minSizeWarmUp) {
+            return false;
+        }
         return true;
     }
 
@@ -508,6 +590,8 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
         result = 31 * result + connectionPoolListeners.hashCode();
         result = 31 * result + maxConnecting;
+        result = 31 * result + maxConcurrentOperationsPerConnection;
+        result = 31 * result + (minSizeWarmUp ? 1 : 0);
         return result;
     }
 
@@ -523,6 +607,8 @@ public class ConnectionPoolSettings {
                 + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
                 + ", connectionPoolListeners=" + connectionPoolListeners
                 + ", maxConnecting=" + maxConnecting
+                + ", maxConcurrentOperationsPerConnection=" + maxConcurrentOperationsPerConnection
+                + ", minSizeWarmUp=" + minSizeWarmUp
                 + '}';
     }
 
@@ -535,6 +621,7 @@ public class ConnectionPoolSettings {
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
         isTrue("maxConnecting > 0", builder.maxConnecting > 0);
+        isTrue("maxConcurrentOperationsPerConnection > 0", builder.maxConcurrentOperationsPerConnection > 0);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -545,5 +632,7 @@ public class ConnectionPoolSettings {
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
         connectionPoolListeners = unmodifiableList(builder.connectionPoolListeners);
         maxConnecting = builder.maxConnecting;
+        maxConcurrentOperationsPerConnection = builder.maxConcurrentOperationsPerConnection;
+        minSizeWarmUp = builder.minSizeWarmUp;
     }
 }
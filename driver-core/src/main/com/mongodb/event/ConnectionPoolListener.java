@@ -51,6 +51,26 @@ public interface ConnectionPoolListener extends EventListener {
     default void connectionPoolReady(ConnectionPoolReadyEvent event) {
     }
 
+    /**
+     * Invoked when a connection pool starts opening connections in parallel to reach a target size. The default implementation does
+     * nothing.
+     *
+     * @param event the event
+     * @since 5.10
+     */
+    default void connectionPoolWarmUpStarted(ConnectionPoolWarmUpStartedEvent event) {
+    }
+
+    /**
+     * Invoked when a connection pool stops opening connections in parallel to reach a target size. The default implementation does
+     * nothing.
+     *
+     * @param event the event
+     * @since 5.10
+     */
+    default void connectionPoolWarmUpCompleted(ConnectionPoolWarmUpCompletedEvent event) {
+    }
+
     /**
      * Invoked when a connection pool is closed. The default implementation does nothing.
      *
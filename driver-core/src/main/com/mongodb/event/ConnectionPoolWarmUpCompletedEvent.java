@@ -0,0 +1,120 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * An event signifying that a connection pool stopped opening connections to reach a target size, either because it reached it or
+ * because opening a connection failed.
+ *
+ * @see ConnectionPoolWarmUpStartedEvent
+ * @since 5.10
+ */
+public final class ConnectionPoolWarmUpCompletedEvent {
+    private final ServerId serverId;
+    private final int targetSize;
+    private final int size;
+    private final long elapsedTimeNanos;
+    @Nullable
+    private final Throwable failure;
+
+    /**
+     * Constructs a new instance of the event.
+     *
+     * @param serverId the server id
+     * @param targetSize the number of connections that the pool was warmed up to
+     * @param size the number of connections in the pool when the warm-up completed
+     * @param elapsedTimeNanos the time the warm-up took
+     * @param failure the reason the warm-up stopped before reaching the target size, or null
+     */
+    public ConnectionPoolWarmUpCompletedEvent(final ServerId serverId, final int targetSize, final int size,
+            final long elapsedTimeNanos, @Nullable final Throwable failure) {
+        this.serverId = assertNotNull(serverId);
+        isTrueArgument("elapsed time is not negative", elapsedTimeNanos >= 0);
+        this.targetSize = targetSize;
+        this.size = size;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * Gets the server id
+     *
+     * @return the server id
+     */
+    public ServerId getServerId() {
+        return serverId;
+    }
+
+    /**
+     * Gets the number of connections that the pool was warmed up to.
+     *
+     * @return the target size
+     */
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * Gets the number of connections in the pool when the warm-up completed, including the connections in use. It may differ from
+     * the target size if the warm-up failed, or if connections were checked out or closed concurrently.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The time elapsed between emitting the {@link ConnectionPoolWarmUpStartedEvent} and emitting this event.
+     *
+     * @param timeUnit The time unit of the result.
+     * {@link TimeUnit#convert(long, TimeUnit)} specifies how the conversion from nanoseconds to {@code timeUnit} is done.
+     * @return The time the warm-up took.
+     */
+    public long getElapsedTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the reason the warm-up stopped before reaching the target size.
+     *
+     * @return the failure, or null if opening connections did not fail
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolWarmUpCompletedEvent{"
+                + "serverId=" + serverId
+                + ", targetSize=" + targetSize
+                + ", size=" + size
+                + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + ", failure=" + failure
+                + '}';
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.connection.ServerId;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * An event signifying that a connection pool started opening connections in parallel to reach a target size. Each connection
+ * opened is then reported by a {@link ConnectionCreatedEvent} and a {@link ConnectionReadyEvent}, and the end of the warm-up by a
+ * {@link ConnectionPoolWarmUpCompletedEvent}.
+ *
+ * @see com.mongodb.connection.ConnectionPoolSettings#isMinSizeWarmUp()
+ * @since 5.10
+ */
+public final class ConnectionPoolWarmUpStartedEvent {
+    private final ServerId serverId;
+    private final int targetSize;
+    private final int size;
+
+    /**
+     * Constructs a new instance of the event.
+     *
+     * @param serverId the server id
+     * @param targetSize the number of connections that the pool is warmed up to
+     * @param size the number of connections in the pool when the warm-up started
+     */
+    public ConnectionPoolWarmUpStartedEvent(final ServerId serverId, final int targetSize, final int size) {
+        this.serverId = assertNotNull(serverId);
+        isTrueArgument("size < targetSize", size < targetSize);
+        this.targetSize = targetSize;
+        this.size = size;
+    }
+
+    /**
+     * Gets the server id
+     *
+     * @return the server id
+     */
+    public ServerId getServerId() {
+        return serverId;
+    }
+
+    /**
+     * Gets the number of connections that the pool is warmed up to.
+     *
+     * @return the target size
+     */
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * Gets the number of connections in the pool when the warm-up started, including the connections in use.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolWarmUpStartedEvent{"
+                + "serverId=" + serverId
+                + ", targetSize=" + targetSize
+                + ", size=" + size
+                + '}';
+    }
+}
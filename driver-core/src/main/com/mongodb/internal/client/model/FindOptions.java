@@ -58,6 +58,9 @@ public final class FindOptions {
     private boolean showRecordId;
     private Boolean allowDiskUse;
     private TimeoutMode timeoutMode;
+    private boolean exhaust;
+    private int prefetchBatches;
+    private long maxPrefetchBytes = 32 * 1024 * 1024;
 
     /**
      * Construct a new instance.
@@ -71,7 +74,7 @@ public final class FindOptions {
             final Bson sort, final CursorType cursorType, final boolean noCursorTimeout, final boolean partial,
             final Collation collation, final BsonValue comment, final Bson hint, final String hintString, final Bson variables,
             final Bson max, final Bson min, final boolean returnKey, final boolean showRecordId, final Boolean allowDiskUse,
-            final TimeoutMode timeoutMode) {
+            final TimeoutMode timeoutMode, final boolean exhaust, final int prefetchBatches, final long maxPrefetchBytes) {
         this.batchSize = batchSize;
         this.limit = limit;
         this.projection = projection;
@@ -93,12 +96,16 @@ public final class FindOptions {
         this.showRecordId = showRecordId;
         this.allowDiskUse = allowDiskUse;
         this.timeoutMode = timeoutMode;
+        this.exhaust = exhaust;
+        this.prefetchBatches = prefetchBatches;
+        this.maxPrefetchBytes = maxPrefetchBytes;
     }
     //CHECKSTYLE:ON
 
     public FindOptions withBatchSize(final int batchSize) {
         return new FindOptions(batchSize, limit, projection, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
-                partial, collation, comment, hint, hintString, variables, max, min, returnKey, showRecordId, allowDiskUse, timeoutMode);
+                partial, collation, comment, hint, hintString, variables, max, min, returnKey, showRecordId, allowDiskUse, timeoutMode,
+                exhaust, prefetchBatches, maxPrefetchBytes);
     }
 
     /**
@@ -602,4 +609,65 @@ public final class FindOptions {
         this.allowDiskUse = allowDiskUse;
         return this;
     }
+
+    /**
+     * Returns whether the server streams the batches of the cursor.
+     *
+     * @return the exhaust value
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets whether the server streams the batches following the first {@code getMore} without waiting for further {@code getMore}
+     * commands.
+     *
+     * @param exhaust the exhaust value
+     * @return this
+     */
+    public FindOptions exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    /**
+     * Gets the number of batches to fetch in the background ahead of the application.
+     *
+     * @return the number of batches to prefetch
+     */
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * Sets the number of batches to fetch in the background ahead of the application, or 0 to fetch batches only when needed.
+     *
+     * @param prefetchBatches the number of batches to prefetch
+     * @return this
+     */
+    public FindOptions prefetchBatches(final int prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    /**
+     * Gets the size in bytes of the prefetched batches above which no more batches are prefetched.
+     *
+     * @return the maximum size of the prefetched batches
+     */
+    public long getMaxPrefetchBytes() {
+        return maxPrefetchBytes;
+    }
+
+    /**
+     * Sets the size in bytes of the prefetched batches above which no more batches are prefetched.
+     *
+     * @param maxPrefetchBytes the maximum size of the prefetched batches
+     * @return this
+     */
+    public FindOptions maxPrefetchBytes(final long maxPrefetchBytes) {
+        this.maxPrefetchBytes = maxPrefetchBytes;
+        return this;
+    }
 }
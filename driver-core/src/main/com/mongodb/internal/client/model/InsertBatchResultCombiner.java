@@ -0,0 +1,161 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.client.model;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.WriteConcernError;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static java.util.Comparator.comparingInt;
+
+/**
+ * Combines the results of the batches of a bulk writer, which may complete out of order, into a single result. The results and
+ * exceptions must already be {@linkplain InsertBatcher.Batch#mapResult(BulkWriteResult) mapped} to indexes in the stream of
+ * documents.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class InsertBatchResultCombiner {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean ordered;
+    private final WriteConcern writeConcern;
+    private int insertedCount;
+    private final List<BulkWriteInsert> inserts = new ArrayList<>();
+    private final List<MongoBulkWriteException> exceptions = new ArrayList<>();
+    @Nullable
+    private RuntimeException failure;
+
+    public InsertBatchResultCombiner(final boolean ordered, final WriteConcern writeConcern) {
+        this.ordered = ordered;
+        this.writeConcern = notNull("writeConcern", writeConcern);
+    }
+
+    public void addResult(final BulkWriteResult result) {
+        withLock(lock, () -> {
+            if (result.wasAcknowledged()) {
+                insertedCount += result.getInsertedCount();
+                inserts.addAll(result.getInserts());
+            }
+        });
+    }
+
+    public void addError(final MongoBulkWriteException exception) {
+        withLock(lock, () -> {
+            addResult(exception.getWriteResult());
+            exceptions.add(exception);
+        });
+    }
+
+    /**
+     * Adds a failure other than a bulk write exception, after which the outcome of the batch is unknown.
+     *
+     * @param failure the failure
+     */
+    public void addFailure(final RuntimeException failure) {
+        withLock(lock, () -> {
+            if (this.failure == null) {
+                this.failure = failure;
+            } else if (this.failure != failure) {
+                this.failure.addSuppressed(failure);
+            }
+        });
+    }
+
+    /**
+     * @return true if a failure has been added, or if the writes are ordered and a bulk write exception has been added
+     */
+    public boolean shouldStopSendingMoreBatches() {
+        return withLock(lock, () -> failure != null || (ordered && !exceptions.isEmpty()));
+    }
+
+    public boolean hasErrors() {
+        return withLock(lock, () -> failure != null || !exceptions.isEmpty());
+    }
+
+    /**
+     * Gets the combined result.
+     *
+     * @return the result
+     * @throws RuntimeException the first failure, if one has been added
+     * @throws MongoBulkWriteException the combined bulk write exception, if one has been added
+     */
+    public BulkWriteResult getResult() {
+        return withLock(lock, () -> {
+            RuntimeException error = createError();
+            if (error != null) {
+                throw error;
+            }
+            return createResult();
+        });
+    }
+
+    /**
+     * @return the first failure, the combined bulk write exception, or null if there were no errors
+     */
+    @Nullable
+    public RuntimeException getError() {
+        return withLock(lock, this::createError);
+    }
+
+    @Nullable
+    private RuntimeException createError() {
+        if (failure != null) {
+            return failure;
+        }
+        if (exceptions.isEmpty()) {
+            return null;
+        }
+        List<BulkWriteError> writeErrors = new ArrayList<>();
+        Set<String> errorLabels = new HashSet<>();
+        WriteConcernError writeConcernError = null;
+        for (MongoBulkWriteException exception : exceptions) {
+            writeErrors.addAll(exception.getWriteErrors());
+            errorLabels.addAll(exception.getErrorLabels());
+            if (exception.getWriteConcernError() != null) {
+                writeConcernError = exception.getWriteConcernError();
+            }
+        }
+        writeErrors.sort(comparingInt(BulkWriteError::getIndex));
+        return new MongoBulkWriteException(createResult(), writeErrors, writeConcernError, exceptions.get(0).getServerAddress(),
+                errorLabels);
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}.
+     */
+    private BulkWriteResult createResult() {
+        if (!writeConcern.isAcknowledged()) {
+            return BulkWriteResult.unacknowledged();
+        }
+        List<BulkWriteInsert> sortedInserts = new ArrayList<>(inserts);
+        sortedInserts.sort(comparingInt(BulkWriteInsert::getIndex));
+        return BulkWriteResult.acknowledged(insertedCount, 0, 0, 0, Collections.emptyList(), sortedInserts);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.client.model;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.BulkWriterOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.internal.operation.ShardRoutingTable;
+import com.mongodb.lang.Nullable;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Groups a stream of documents into batches of encoded documents for a bulk writer.
+ *
+ * <p>Each document is encoded exactly once, with the codec of the collection, so that the batches can be cut on the size of the
+ * encoded documents and sent without encoding them again. Indexes are counted from the first document added since the last
+ * {@link #reset()}.</p>
+ *
+ * <p>With a {@linkplain #shardRoutingTable(ShardRoutingTable) routing table}, the documents are grouped into a batch per shard, so
+ * that mongos does not have to split each batch into smaller batches for each shard. The indexes of the documents of a batch are
+ * then not contiguous, and up to a batch per shard may be pending.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class InsertBatcher<TDocument> {
+    private final Codec<TDocument> codec;
+    private final int maxBatchCount;
+    private final int maxBatchSize;
+    private final PendingBatch unroutedBatch = new PendingBatch();
+    private final Map<String, PendingBatch> shardBatches = new LinkedHashMap<>();
+    @Nullable
+    private ShardRoutingTable shardRoutingTable;
+    private int nextIndex;
+
+    public InsertBatcher(final Codec<TDocument> codec, final BulkWriterOptions options) {
+        this.codec = notNull("codec", codec);
+        this.maxBatchCount = options.getMaxBatchCount();
+        this.maxBatchSize = options.getMaxBatchSize();
+    }
+
+    /**
+     * Sets the routing table used to group the documents added from now on per shard.
+     *
+     * @param shardRoutingTable the routing table, or null to stop grouping documents per shard
+     */
+    public void shardRoutingTable(@Nullable final ShardRoutingTable shardRoutingTable) {
+        this.shardRoutingTable = shardRoutingTable;
+    }
+
+    /**
+     * Adds a document to the current batch.
+     *
+     * @param document the document
+     * @return the batch that has been completed by adding the document, or null if no batch has been completed
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Batch add(final TDocument document) {
+        TDocument documentWithId = codec instanceof CollectibleCodec
+                ? ((CollectibleCodec<TDocument>) codec).generateIdIfAbsentFromDocument(notNull("document", document))
+                : notNull("document", document);
+        RawBsonDocument encodedDocument = new RawBsonDocument(documentWithId, codec);
+
+        PendingBatch pendingBatch = getPendingBatch(encodedDocument);
+        Batch completed = null;
+        if (!pendingBatch.isEmpty() && pendingBatch.size + encodedDocument.getByteLength() > maxBatchSize) {
+            completed = pendingBatch.complete();
+        }
+        pendingBatch.add(encodedDocument, nextIndex++);
+        if (pendingBatch.requests.size() == maxBatchCount) {
+            completed = pendingBatch.complete();
+        }
+        return completed;
+    }
+
+    /**
+     * Completes a pending batch. Call until it returns null to complete all the pending batches.
+     *
+     * @return a pending batch, or null if no documents have been added since the last batches were completed
+     */
+    @Nullable
+    public Batch drain() {
+        if (!unroutedBatch.isEmpty()) {
+            return unroutedBatch.complete();
+        }
+        Iterator<PendingBatch> iterator = shardBatches.values().iterator();
+        while (iterator.hasNext()) {
+            PendingBatch pendingBatch = iterator.next();
+            iterator.remove();
+            if (!pendingBatch.isEmpty()) {
+                return pendingBatch.complete();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Discards the pending batches and counts the indexes of the following documents from zero again.
+     */
+    public void reset() {
+        unroutedBatch.clear();
+        shardBatches.clear();
+        nextIndex = 0;
+    }
+
+    private PendingBatch getPendingBatch(final RawBsonDocument document) {
+        String shard = shardRoutingTable == null ? null : shardRoutingTable.getShard(document);
+        return shard == null ? unroutedBatch : shardBatches.computeIfAbsent(shard, k -> new PendingBatch());
+    }
+
+    /**
+     * Creates the options of the bulk write of each batch.
+     *
+     * @param options the bulk writer options
+     * @return the bulk write options
+     */
+    public static BulkWriteOptions createBulkWriteOptions(final BulkWriterOptions options) {
+        return new BulkWriteOptions()
+                .ordered(options.isOrdered())
+                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                .comment(options.getComment());
+    }
+
+    private static final class PendingBatch {
+        private List<InsertOneModel<RawBsonDocument>> requests = new ArrayList<>();
+        private int[] indexes = new int[16];
+        private long size;
+
+        boolean isEmpty() {
+            return requests.isEmpty();
+        }
+
+        void add(final RawBsonDocument document, final int index) {
+            if (requests.size() == indexes.length) {
+                indexes = Arrays.copyOf(indexes, indexes.length * 2);
+            }
+            indexes[requests.size()] = index;
+            requests.add(new InsertOneModel<>(document));
+            size += document.getByteLength();
+        }
+
+        Batch complete() {
+            Batch batch = new Batch(Arrays.copyOf(indexes, requests.size()), requests);
+            clear();
+            return batch;
+        }
+
+        void clear() {
+            requests = new ArrayList<>();
+            size = 0;
+        }
+    }
+
+    /**
+     * A batch of encoded documents, written with a single bulk write.
+     */
+    public static final class Batch {
+        private final int[] indexes;
+        private final List<InsertOneModel<RawBsonDocument>> requests;
+
+        Batch(final int[] indexes, final List<InsertOneModel<RawBsonDocument>> requests) {
+            this.indexes = indexes;
+            this.requests = Collections.unmodifiableList(requests);
+        }
+
+        /**
+         * @return the index of the first document of the batch in the stream of documents
+         */
+        public int getStartIndex() {
+            return indexes[0];
+        }
+
+        public List<InsertOneModel<RawBsonDocument>> getRequests() {
+            return requests;
+        }
+
+        /**
+         * Maps the indexes of a result of the bulk write of this batch to indexes in the stream of documents.
+         *
+         * @param result the result of the bulk write of this batch
+         * @return the mapped result
+         */
+        public BulkWriteResult mapResult(final BulkWriteResult result) {
+            if (!result.wasAcknowledged()) {
+                return result;
+            }
+            List<BulkWriteInsert> inserts = new ArrayList<>(result.getInserts().size());
+            for (BulkWriteInsert insert : result.getInserts()) {
+                inserts.add(new BulkWriteInsert(indexes[insert.getIndex()], insert.getId()));
+            }
+            return BulkWriteResult.acknowledged(result.getInsertedCount(), 0, 0, 0, Collections.emptyList(), inserts);
+        }
+
+        /**
+         * Maps the indexes of an exception of the bulk write of this batch to indexes in the stream of documents.
+         *
+         * @param exception the exception of the bulk write of this batch
+         * @return the mapped exception
+         */
+        public MongoBulkWriteException mapException(final MongoBulkWriteException exception) {
+            List<BulkWriteError> writeErrors = new ArrayList<>(exception.getWriteErrors().size());
+            for (BulkWriteError writeError : exception.getWriteErrors()) {
+                writeErrors.add(new BulkWriteError(writeError.getCode(), writeError.getMessage(), writeError.getDetails(),
+                        indexes[writeError.getIndex()]));
+            }
+            return new MongoBulkWriteException(mapResult(exception.getWriteResult()), writeErrors, exception.getWriteConcernError(),
+                    exception.getServerAddress(), exception.getErrorLabels());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.client.model;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.internal.ExpirableValue;
+import com.mongodb.internal.operation.ShardRoutingTable;
+import com.mongodb.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Caches the {@linkplain ShardRoutingTable routing table} of the collection of a bulk writer.
+ *
+ * <p>Chunks of a sharded collection may be split and migrated while the bulk writer runs, and mongos reports a stale routing table to
+ * clients only rarely, so the cached routing table also expires after a while.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class ShardRoutingTableCache {
+    private static final Duration LIFETIME = Duration.ofMinutes(1);
+    /**
+     * The {@code StaleShardVersion}, {@code StaleEpoch} and {@code StaleConfig} error codes.
+     */
+    private static final List<Integer> STALE_ROUTING_ERROR_CODES = Arrays.asList(63, 150, 13388);
+
+    private volatile ExpirableValue<ShardRoutingTable> routingTable = ExpirableValue.expired();
+
+    /**
+     * @return the routing table, or null if it must be loaded again
+     */
+    @Nullable
+    public ShardRoutingTable get() {
+        return routingTable.getValue().orElse(null);
+    }
+
+    public void set(final ShardRoutingTable routingTable) {
+        this.routingTable = ExpirableValue.expirable(notNull("routingTable", routingTable), LIFETIME);
+    }
+
+    public void invalidate() {
+        routingTable = ExpirableValue.expired();
+    }
+
+    /**
+     * Invalidates the routing table if an exception shows that the routing table of mongos was stale.
+     *
+     * @param exception the exception of a bulk write
+     */
+    public void invalidateIfStale(final Throwable exception) {
+        if (isStaleRoutingError(exception)) {
+            invalidate();
+        }
+    }
+
+    private static boolean isStaleRoutingError(final Throwable exception) {
+        if (exception instanceof MongoBulkWriteException) {
+            for (BulkWriteError writeError : ((MongoBulkWriteException) exception).getWriteErrors()) {
+                if (STALE_ROUTING_ERROR_CODES.contains(writeError.getCode())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return exception instanceof MongoException && STALE_ROUTING_ERROR_CODES.contains(((MongoException) exception).getCode());
+    }
+}
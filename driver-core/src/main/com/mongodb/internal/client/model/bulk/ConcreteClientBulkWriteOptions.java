@@ -22,6 +22,7 @@ import org.bson.conversions.Bson;
 
 import java.util.Optional;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static java.util.Optional.ofNullable;
 
 /**
@@ -30,6 +31,7 @@ import static java.util.Optional.ofNullable;
 public final class ConcreteClientBulkWriteOptions implements ClientBulkWriteOptions {
     private static final Boolean CLIENT_DEFAULT_ORDERED = true;
     private static final Boolean CLIENT_DEFAULT_VERBOSE_RESULTS = false;
+    private static final Integer CLIENT_DEFAULT_MAX_CONCURRENT_BATCHES = 1;
 
     @Nullable
     private Boolean ordered;
@@ -41,6 +43,8 @@ public final class ConcreteClientBulkWriteOptions implements ClientBulkWriteOpti
     private BsonValue comment;
     @Nullable
     private Boolean verboseResults;
+    @Nullable
+    private Integer maxConcurrentBatches;
 
     public ConcreteClientBulkWriteOptions() {
     }
@@ -110,6 +114,20 @@ public final class ConcreteClientBulkWriteOptions implements ClientBulkWriteOpti
         return verboseResults == null ? CLIENT_DEFAULT_VERBOSE_RESULTS : verboseResults;
     }
 
+    @Override
+    public ClientBulkWriteOptions maxConcurrentBatches(@Nullable final Integer maxConcurrentBatches) {
+        isTrueArgument("maxConcurrentBatches > 0", maxConcurrentBatches == null || maxConcurrentBatches > 0);
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        return this;
+    }
+
+    /**
+     * @see #maxConcurrentBatches(Integer)
+     */
+    public int getMaxConcurrentBatches() {
+        return maxConcurrentBatches == null ? CLIENT_DEFAULT_MAX_CONCURRENT_BATCHES : maxConcurrentBatches;
+    }
+
     @Override
     public String toString() {
         return "ClientBulkWriteOptions{"
@@ -118,6 +136,7 @@ public final class ConcreteClientBulkWriteOptions implements ClientBulkWriteOpti
                 + ", let=" + let
                 + ", comment=" + comment
                 + ", verboseResults=" + verboseResults
+                + ", maxConcurrentBatches=" + maxConcurrentBatches
                 + '}';
     }
 }
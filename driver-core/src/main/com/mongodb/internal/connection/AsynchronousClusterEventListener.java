@@ -33,13 +33,16 @@ import com.mongodb.event.ServerOpeningEvent;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.lang.Nullable;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newThread;
 
 /**
  * An implementation of a listener for all cluster-related events.  Its purpose is the following:
@@ -70,20 +73,21 @@ final class AsynchronousClusterEventListener implements ClusterListener, ServerL
     }
 
     static AsynchronousClusterEventListener startNew(final ClusterId clusterId, final ClusterListener clusterListener,
-            final ServerListener serverListener, final ServerMonitorListener serverMonitorListener) {
+            final ServerListener serverListener, final ServerMonitorListener serverMonitorListener,
+            @Nullable final ThreadFactory threadFactory) {
         AsynchronousClusterEventListener result = new AsynchronousClusterEventListener(clusterId, clusterListener, serverListener,
-                serverMonitorListener);
+                serverMonitorListener, threadFactory);
         result.publishingThread.start();
         return result;
     }
 
     private AsynchronousClusterEventListener(final ClusterId clusterId, final ClusterListener clusterListener,
-            final ServerListener serverListener, final ServerMonitorListener serverMonitorListener) {
+            final ServerListener serverListener, final ServerMonitorListener serverMonitorListener,
+            @Nullable final ThreadFactory threadFactory) {
         this.clusterListener = notNull("clusterListener", clusterListener);
         this.serverListener = notNull("serverListener", serverListener);
         this.serverMonitorListener = notNull("serverMonitorListener", serverMonitorListener);
-        publishingThread = new Thread(this::publishEvents, "cluster-event-publisher-" + clusterId.getValue());
-        publishingThread.setDaemon(true);
+        publishingThread = newThread(threadFactory, this::publishEvents, "cluster-event-publisher-" + clusterId.getValue());
     }
 
     @VisibleForTesting(otherwise = PRIVATE)
@@ -32,22 +32,25 @@ public final class AsynchronousSocketChannelStreamFactoryFactory implements Stre
     private final InetAddressResolver inetAddressResolver;
     @Nullable
     private final AsynchronousChannelGroup group;
+    private final PowerOfTwoBufferPool bufferPool;
 
     public AsynchronousSocketChannelStreamFactoryFactory(final InetAddressResolver inetAddressResolver) {
-        this(inetAddressResolver, null);
+        this(inetAddressResolver, null, PowerOfTwoBufferPool.DEFAULT);
     }
 
     AsynchronousSocketChannelStreamFactoryFactory(
             final InetAddressResolver inetAddressResolver,
-            @Nullable final AsynchronousChannelGroup group) {
+            @Nullable final AsynchronousChannelGroup group,
+            final PowerOfTwoBufferPool bufferPool) {
         this.inetAddressResolver = inetAddressResolver;
         this.group = group;
+        this.bufferPool = bufferPool;
     }
 
     @Override
     public StreamFactory create(final SocketSettings socketSettings, final SslSettings sslSettings) {
         return new AsynchronousSocketChannelStreamFactory(
-                inetAddressResolver, socketSettings, sslSettings, group);
+                inetAddressResolver, socketSettings, sslSettings, group, bufferPool);
     }
 
     @Override
@@ -55,5 +58,8 @@ public final class AsynchronousSocketChannelStreamFactoryFactory implements Stre
         if (group != null) {
             group.shutdown();
         }
+        if (bufferPool != PowerOfTwoBufferPool.DEFAULT) {
+            bufferPool.disablePruning();
+        }
     }
 }
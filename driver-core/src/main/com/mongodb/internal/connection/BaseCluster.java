@@ -44,6 +44,7 @@ import com.mongodb.internal.logging.StructuredLogger;
 import com.mongodb.internal.selector.AtMostTwoRandomServerSelector;
 import com.mongodb.internal.selector.LatencyMinimizingServerSelector;
 import com.mongodb.internal.selector.MinimumOperationCountServerSelector;
+import com.mongodb.internal.selector.OperationLatencyServerSelector;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.Nullable;
 import com.mongodb.selector.CompositeServerSelector;
@@ -365,12 +366,22 @@ abstract class BaseCluster implements Cluster {
                 serverDeprioritization.getServerSelector(),
                 settings.getServerSelector(), // may be null
                 new LatencyMinimizingServerSelector(settings.getLocalThreshold(MILLISECONDS), MILLISECONDS),
+                getOperationLatencyServerSelector(serversSnapshot, settings), // may be null
                 AtMostTwoRandomServerSelector.instance(),
                 new MinimumOperationCountServerSelector(serversSnapshot)
         ).filter(Objects::nonNull).collect(toList());
         return new CompositeServerSelector(selectors);
     }
 
+    @Nullable
+    private static ServerSelector getOperationLatencyServerSelector(final ServersSnapshot serversSnapshot, final ClusterSettings settings) {
+        Double percentile = settings.getOperationLatencyPercentile();
+        return percentile == null
+                ? null
+                : new OperationLatencyServerSelector(serversSnapshot, percentile, settings.getOperationLatencyRatio(),
+                        settings.getLocalThreshold(MILLISECONDS), MILLISECONDS);
+    }
+
     private static ServerSelector getRaceConditionPreFilteringSelector(final ServersSnapshot serversSnapshot) {
         // The set of `Server`s maintained by the `Cluster` is updated concurrently with `clusterDescription` being read.
         // Additionally, that set of servers continues to be concurrently updated while `serverSelector` selects.
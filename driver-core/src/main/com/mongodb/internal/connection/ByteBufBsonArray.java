@@ -16,11 +16,13 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.lang.Nullable;
 import org.bson.BsonArray;
 import org.bson.BsonBinaryReader;
 import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.ByteBuf;
+import org.bson.internal.BsonFieldIndex;
 import org.bson.io.ByteBufferBsonInput;
 
 import java.util.ArrayList;
@@ -32,9 +34,15 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 
 import static com.mongodb.internal.connection.ByteBufBsonHelper.readBsonValue;
+import static org.bson.internal.BsonFieldIndex.createValueReader;
 
 final class ByteBufBsonArray extends BsonArray {
     private final ByteBuf byteBuf;
+    /**
+     * Built on first use by {@link #getFieldIndex()}.
+     */
+    @Nullable
+    private BsonFieldIndex fieldIndex;
 
     ByteBufBsonArray(final ByteBuf byteBuf) {
         this.byteBuf = byteBuf;
@@ -59,16 +67,12 @@ final class ByteBufBsonArray extends BsonArray {
 
     @Override
     public int size() {
-        int size = 0;
-        for (BsonValue ignored : this) {
-            size++;
-        }
-        return size;
+        return getFieldIndex().size();
     }
 
     @Override
     public boolean isEmpty() {
-        return !iterator().hasNext();
+        return size() == 0;
     }
 
     @Override
@@ -143,18 +147,16 @@ final class ByteBufBsonArray extends BsonArray {
 
     @Override
     public BsonValue get(final int index) {
-        if (index < 0) {
+        BsonFieldIndex fieldIndex = getFieldIndex();
+        if (index < 0 || index >= fieldIndex.size()) {
             throw new IndexOutOfBoundsException("Index out of range: " + index);
         }
-
-        int i = 0;
-        for (BsonValue cur : this) {
-            if (i++ == index) {
-                return cur;
-            }
+        ByteBuf duplicatedByteBuf = byteBuf.duplicate();
+        try (BsonBinaryReader bsonReader = createValueReader(duplicatedByteBuf, fieldIndex.getElementOffset(index))) {
+            return readBsonValue(duplicatedByteBuf, bsonReader);
+        } finally {
+            duplicatedByteBuf.release();
         }
-
-        throw new IndexOutOfBoundsException("Index out of range: " + index);
     }
 
     @Override
@@ -267,6 +269,15 @@ final class ByteBufBsonArray extends BsonArray {
         throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
     }
 
+    private BsonFieldIndex getFieldIndex() {
+        BsonFieldIndex fieldIndex = this.fieldIndex;
+        if (fieldIndex == null) {
+            fieldIndex = BsonFieldIndex.indexArray(byteBuf);
+            this.fieldIndex = fieldIndex;
+        }
+        return fieldIndex;
+    }
+
     private class ByteBufBsonArrayIterator implements Iterator<BsonValue> {
         private final ByteBuf duplicatedByteBuf = byteBuf.duplicate();
         private final BsonBinaryReader bsonReader;
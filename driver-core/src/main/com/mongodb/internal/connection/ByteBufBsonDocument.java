@@ -25,6 +25,7 @@ import org.bson.ByteBuf;
 import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.DecoderContext;
+import org.bson.internal.BsonFieldIndex;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonWriter;
@@ -47,11 +48,18 @@ import java.util.Set;
 import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.connection.ByteBufBsonHelper.readBsonValue;
+import static org.bson.internal.BsonFieldIndex.createValueReader;
 
 final class ByteBufBsonDocument extends BsonDocument {
     private static final long serialVersionUID = 2L;
 
     private final transient ByteBuf byteBuf;
+    /**
+     * Built on first use by {@link #getFieldIndex()}. Command responses are typically read field by field, which this turns from a scan
+     * of the document per field into a lookup.
+     */
+    @Nullable
+    private transient BsonFieldIndex fieldIndex;
 
     /**
      * Create a list of ByteBufBsonDocument from a buffer positioned at the start of the first document of an OP_MSG Section
@@ -171,38 +179,12 @@ final class ByteBufBsonDocument extends BsonDocument {
 
     @Override
     public boolean isEmpty() {
-        return assertNotNull(findInDocument(new Finder<Boolean>() {
-            @Override
-            public Boolean find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
-                return false;
-            }
-
-            @Override
-            public Boolean notFound() {
-                return true;
-            }
-        }));
+        return size() == 0;
     }
 
     @Override
     public int size() {
-        return assertNotNull(findInDocument(new Finder<Integer>() {
-            private int size;
-
-            @Override
-            @Nullable
-            public Integer find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
-                size++;
-                bsonReader.readName();
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Override
-            public Integer notFound() {
-                return size;
-            }
-        }));
+        return getFieldIndex().size();
     }
 
     @Override
@@ -226,22 +208,7 @@ final class ByteBufBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        Boolean containsKey = findInDocument(new Finder<Boolean>() {
-            @Override
-            public Boolean find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Override
-            public Boolean notFound() {
-                return false;
-            }
-        });
-        return containsKey != null ? containsKey : false;
+        return key instanceof String && getFieldIndex().indexOf(byteBuf, (String) key) >= 0;
     }
 
     @Override
@@ -268,22 +235,20 @@ final class ByteBufBsonDocument extends BsonDocument {
     @Override
     public BsonValue get(final Object key) {
         notNull("key", key);
-        return findInDocument(new Finder<BsonValue>() {
-            @Override
-            public BsonValue find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
-                if (bsonReader.readName().equals(key)) {
-                    return readBsonValue(byteBuf, bsonReader);
-                }
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Nullable
-            @Override
-            public BsonValue notFound() {
-                return null;
-            }
-        });
+        if (!(key instanceof String)) {
+            return null;
+        }
+        BsonFieldIndex fieldIndex = getFieldIndex();
+        int position = fieldIndex.indexOf(byteBuf, (String) key);
+        if (position < 0) {
+            return null;
+        }
+        ByteBuf duplicateByteBuf = byteBuf.duplicate();
+        try (BsonBinaryReader bsonReader = createValueReader(duplicateByteBuf, fieldIndex.getElementOffset(position))) {
+            return readBsonValue(duplicateByteBuf, bsonReader);
+        } finally {
+            duplicateByteBuf.release();
+        }
     }
 
     /**
@@ -306,6 +271,16 @@ final class ByteBufBsonDocument extends BsonDocument {
         }));
     }
 
+    private BsonFieldIndex getFieldIndex() {
+        BsonFieldIndex fieldIndex = this.fieldIndex;
+        if (fieldIndex == null) {
+            // the index is immutable, so threads that race to build it end up with equivalent indexes
+            fieldIndex = BsonFieldIndex.indexDocument(byteBuf);
+            this.fieldIndex = fieldIndex;
+        }
+        return fieldIndex;
+    }
+
     private interface Finder<T> {
         @Nullable
         T find(ByteBuf byteBuf, BsonBinaryReader bsonReader);
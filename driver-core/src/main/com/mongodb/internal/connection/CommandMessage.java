@@ -230,6 +230,26 @@ public final class CommandMessage extends RequestMessage {
         }
     }
 
+    boolean isExhaustAllowed() {
+        return exhaustAllowed;
+    }
+
+    /**
+     * Returns whether the command is a {@code getMore}, which the server holds until there are results or {@code maxAwaitTimeMS} elapses
+     * when the cursor is a tailable {@code awaitData} one or a change stream.
+     */
+    boolean isGetMore() {
+        return command.getFirstKey().equals("getMore");
+    }
+
+    /**
+     * Returns a copy of this message that does not allow the server to stream replies. Must be called before this message is encoded.
+     */
+    CommandMessage withoutExhaustAllowed() {
+        return new CommandMessage(database, command, commandFieldNameValidator, readPreference, getSettings(), responseExpected, false,
+                sequences, clusterConnectionMode, serverApi);
+    }
+
     @Override
     protected void encodeMessageBody(final ByteBufferBsonOutput bsonOutput, final OperationContext operationContext) {
         this.firstDocumentPosition = useOpMsg() ? writeOpMsg(bsonOutput, operationContext) : writeOpQuery(bsonOutput);
@@ -31,4 +31,12 @@ public interface CommandProtocol<T> {
     void executeAsync(InternalConnection connection, SingleResultCallback<T> callback);
 
     CommandProtocol<T> withSessionContext(SessionContext sessionContext);
+
+    /**
+     * @return whether the round trip time of the command reflects how fast the server responds, which is not the case for commands
+     * without a response, or that wait for data on the server
+     */
+    default boolean isRoundTripTimeRepresentative() {
+        return true;
+    }
 }
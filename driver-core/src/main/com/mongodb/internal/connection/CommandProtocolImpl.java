@@ -36,12 +36,21 @@ class CommandProtocolImpl<T> implements CommandProtocol<T> {
     private final FieldNameValidator commandFieldNameValidator;
     private final Decoder<T> commandResultDecoder;
     private final boolean responseExpected;
+    private final boolean exhaustAllowed;
     private final ClusterConnectionMode clusterConnectionMode;
     private final OperationContext operationContext;
 
     CommandProtocolImpl(final String database, final BsonDocument command, final FieldNameValidator commandFieldNameValidator,
             @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final boolean responseExpected,
             final MessageSequences sequences, final ClusterConnectionMode clusterConnectionMode, final OperationContext operationContext) {
+        this(database, command, commandFieldNameValidator, readPreference, commandResultDecoder, responseExpected, false, sequences,
+                clusterConnectionMode, operationContext);
+    }
+
+    CommandProtocolImpl(final String database, final BsonDocument command, final FieldNameValidator commandFieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final boolean responseExpected,
+            final boolean exhaustAllowed, final MessageSequences sequences, final ClusterConnectionMode clusterConnectionMode,
+            final OperationContext operationContext) {
         notNull("database", database);
         this.database = notNull("database", database);
         this.command = notNull("command", command);
@@ -49,6 +58,7 @@ class CommandProtocolImpl<T> implements CommandProtocol<T> {
         this.readPreference = readPreference;
         this.commandResultDecoder = notNull("commandResultDecoder", commandResultDecoder);
         this.responseExpected = responseExpected;
+        this.exhaustAllowed = exhaustAllowed;
         this.sequences = sequences;
         this.clusterConnectionMode = notNull("clusterConnectionMode", clusterConnectionMode);
         this.operationContext = operationContext;
@@ -79,13 +89,19 @@ class CommandProtocolImpl<T> implements CommandProtocol<T> {
     @Override
     public CommandProtocolImpl<T> withSessionContext(final SessionContext sessionContext) {
         return new CommandProtocolImpl<>(database, command, commandFieldNameValidator, readPreference,
-                commandResultDecoder, responseExpected, sequences, clusterConnectionMode,
+                commandResultDecoder, responseExpected, exhaustAllowed, sequences, clusterConnectionMode,
                 operationContext.withSessionContext(sessionContext));
     }
 
+    @Override
+    public boolean isRoundTripTimeRepresentative() {
+        // a `getMore` with `maxTimeMS` waits for new data of a tailable, await data cursor
+        return responseExpected && !(command.containsKey("getMore") && command.containsKey("maxTimeMS"));
+    }
+
     private CommandMessage getCommandMessage(final InternalConnection connection) {
         return new CommandMessage(database, command, commandFieldNameValidator, readPreference,
                     getMessageSettings(connection.getDescription(), connection.getInitialServerDescription()), responseExpected,
-                sequences, clusterConnectionMode, operationContext.getServerApi());
+                exhaustAllowed, sequences, clusterConnectionMode, operationContext.getServerApi());
     }
 }
@@ -206,13 +206,27 @@ public class ConcurrentPool<T> implements Pool<T> {
      */
     public void ensureMinSize(final int minSize, final Consumer<T> initAndRelease) {
         while (getCount() < minSize) {
-            if (!stateAndPermits.acquirePermit(0, TimeUnit.MILLISECONDS)) {
+            if (!tryAddNew(initAndRelease)) {
                 break;
             }
-            initAndRelease.accept(createNewAndReleasePermitIfFailure());
         }
     }
 
+    /**
+     * Try to add one new item to this pool.
+     * The {@code initAndRelease} action throwing an exception causes this method to re-throw that exception.
+     *
+     * @param initAndRelease See {@link #ensureMinSize(int, Consumer)}.
+     * @return {@code false} if and only if the pool is at its maximum size and no item was added.
+     */
+    public boolean tryAddNew(final Consumer<T> initAndRelease) {
+        if (!stateAndPermits.acquirePermit(0, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        initAndRelease.accept(createNewAndReleasePermitIfFailure());
+        return true;
+    }
+
     private T createNewAndReleasePermitIfFailure() {
         try {
             T newMember = itemFactory.create();
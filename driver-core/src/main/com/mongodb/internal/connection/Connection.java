@@ -53,6 +53,27 @@ public interface Connection extends ReferenceCounted {
             @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder, OperationContext operationContext,
             boolean responseExpected, MessageSequences sequences);
 
+    /**
+     * Executes the command like {@link #command(String, BsonDocument, FieldNameValidator, ReadPreference, Decoder, OperationContext)},
+     * but allows the server to stream more replies to it without further requests. If the server does so, {@link #hasMoreToCome()}
+     * returns {@code true}, and the remaining replies must be read via {@link #receiveMoreToCome(Decoder, OperationContext)} before the
+     * connection may be used for anything else. An implementation may ignore the permission, in which case the server replies as usual.
+     */
+    @Nullable
+    <T> T commandExhaustAllowed(String database, BsonDocument command, FieldNameValidator fieldNameValidator,
+            @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder, OperationContext operationContext);
+
+    /**
+     * Returns {@code true} iff the server has more replies to stream to the last command executed via
+     * {@link #commandExhaustAllowed(String, BsonDocument, FieldNameValidator, ReadPreference, Decoder, OperationContext)}.
+     */
+    boolean hasMoreToCome();
+
+    /**
+     * Reads the next reply streamed by the server. Must be called only if {@link #hasMoreToCome()}.
+     */
+    @Nullable
+    <T> T receiveMoreToCome(Decoder<T> commandResultDecoder, OperationContext operationContext);
 
     enum PinningMode {
         CURSOR,
@@ -71,6 +71,14 @@ interface ConnectionPool extends Closeable {
      */
     void ready();
 
+    /**
+     * Opens connections, up to {@linkplain com.mongodb.connection.ConnectionPoolSettings#getMaxConnecting() maxConnecting} at a time,
+     * until the pool has {@code targetSize} connections or its maximum size, and blocks until they are opened.
+     *
+     * @throws MongoConnectionPoolClearedException If detects that the pool is {@linkplain #invalidate(Throwable) paused}.
+     */
+    void warmUp(int targetSize);
+
     /**
      * Mark the pool as closed, release the underlying resources and render the pool unusable.
      */
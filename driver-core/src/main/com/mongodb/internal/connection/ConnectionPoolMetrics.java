@@ -0,0 +1,174 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ServerId;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a connection pool and of the connections it pools.
+ *
+ * <p>Unlike {@link com.mongodb.event.ConnectionPoolListener} and {@link com.mongodb.event.CommandListener} events, recording metrics
+ * does not allocate: counts are kept in {@link LongAdder}s, and times in {@link OperationLatencyHistogram}s. The metrics are only
+ * created, and so recorded, when a {@link Registry} is configured.</p>
+ *
+ * <p>The {@linkplain #getCommandLatencies() command latencies} are recorded by {@link DefaultServer}, around the round trip of each
+ * command, rather than by the code that sends command events, so that the histogram is the one latency-aware server selection and
+ * hedged reads already read. There is one such histogram per pool, covering all the commands, which are not told apart by name.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class ConnectionPoolMetrics {
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder checkedOut = new LongAdder();
+    private final LongAdder checkedIn = new LongAdder();
+    private final LongAdder checkOutFailed = new LongAdder();
+    private final LongAdder checkOutsInProgress = new LongAdder();
+    private final LongAdder pending = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final OperationLatencyHistogram checkOutLatencies = new OperationLatencyHistogram();
+    private final OperationLatencyHistogram commandLatencies = new OperationLatencyHistogram();
+
+    void connectionCreated() {
+        created.increment();
+    }
+
+    void connectionClosed() {
+        closed.increment();
+    }
+
+    void checkOutStarted() {
+        checkOutsInProgress.increment();
+    }
+
+    void checkedOut(final long elapsedTimeNanos) {
+        checkOutsInProgress.decrement();
+        checkedOut.increment();
+        checkOutLatencies.record(elapsedTimeNanos);
+    }
+
+    void checkOutFailed() {
+        checkOutsInProgress.decrement();
+        checkOutFailed.increment();
+    }
+
+    void checkedIn() {
+        checkedIn.increment();
+    }
+
+    void openStarted() {
+        pending.increment();
+    }
+
+    void openCompleted() {
+        pending.decrement();
+    }
+
+    void messageSent(final long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    void messageReceived(final long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    /**
+     * @return the number of connections in the pool, including those checked out and those being opened
+     */
+    public long getSize() {
+        return Math.max(0, created.sum() - closed.sum());
+    }
+
+    /**
+     * @return the number of connections checked out
+     */
+    public long getCheckedOutCount() {
+        return Math.max(0, checkedOut.sum() - checkedIn.sum());
+    }
+
+    /**
+     * @return the number of connections being opened
+     */
+    public long getPendingCount() {
+        return Math.max(0, pending.sum());
+    }
+
+    /**
+     * @return the number of connections available to be checked out
+     */
+    public long getIdleCount() {
+        return Math.max(0, getSize() - getCheckedOutCount() - getPendingCount());
+    }
+
+    /**
+     * @return the number of checkouts in progress, that is of the requests waiting for a connection
+     */
+    public long getWaitQueueSize() {
+        return Math.max(0, checkOutsInProgress.sum());
+    }
+
+    /**
+     * @return the number of failed checkouts
+     */
+    public long getCheckOutFailedCount() {
+        return checkOutFailed.sum();
+    }
+
+    /**
+     * @return the number of bytes of the messages sent on the pooled connections
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * @return the number of bytes of the messages received on the pooled connections
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return the distribution of the recent checkout times
+     */
+    public OperationLatencyHistogram getCheckOutLatencies() {
+        return checkOutLatencies;
+    }
+
+    /**
+     * @return the distribution of the round trip times of the commands recently executed on the pooled connections
+     */
+    public OperationLatencyHistogram getCommandLatencies() {
+        return commandLatencies;
+    }
+
+    /**
+     * Exposes the metrics of connection pools, for example to a monitoring system.
+     * A connection pool registers its metrics when it is created, and unregisters them when it is closed.
+     */
+    @ThreadSafe
+    public interface Registry {
+        void register(ServerId serverId, ConnectionPoolMetrics metrics);
+
+        void unregister(ConnectionPoolMetrics metrics);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoException;
+import com.mongodb.ReadPreference;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster.ServersSnapshot;
+import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerSelector;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * Warms up the connection pools of the servers of a cluster that operations may be executed on.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class ConnectionPoolWarmUp {
+
+    /**
+     * Waits until at least one server of the cluster is selectable, then {@linkplain Server#warmUpConnectionPool(int) warms up} the
+     * connection pool of each server that is selectable with the {@link ReadPreference#nearest()} read preference.
+     * The connection pools are warmed up one after the other, each opening up to
+     * {@linkplain com.mongodb.connection.ConnectionPoolSettings#getMaxConnecting() maxConnecting} connections at a time.
+     *
+     * @param cluster the cluster
+     * @param targetSize the number of connections to warm up each connection pool to
+     * @param operationContext the operation context, whose timeout limits how long to wait for a selectable server
+     * @throws MongoException the first exception thrown while warming up a connection pool, with the exceptions thrown while warming up
+     * the other connection pools {@linkplain Throwable#getSuppressed() suppressed}
+     */
+    public static void warmUpConnectionPools(final Cluster cluster, final int targetSize, final OperationContext operationContext) {
+        isTrueArgument("targetSize >= 0", targetSize >= 0);
+        ServerSelector serverSelector = new ReadPreferenceServerSelector(ReadPreference.nearest());
+        cluster.selectServer(serverSelector, operationContext);
+        ServersSnapshot serversSnapshot = cluster.getServersSnapshot(Timeout.infinite(), operationContext.getTimeoutContext());
+        MongoException failure = null;
+        for (ServerDescription serverDescription : serverSelector.select(cluster.getCurrentDescription())) {
+            Server server = serversSnapshot.getServer(serverDescription.getAddress());
+            if (server == null) {
+                continue;
+            }
+            try {
+                server.warmUpConnectionPool(targetSize);
+            } catch (MongoException e) {
+                failure = addFailure(failure, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static MongoException addFailure(@Nullable final MongoException failure, final MongoException e) {
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    private ConnectionPoolWarmUp() {
+    }
+}
@@ -35,10 +35,13 @@ import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.thread.BackgroundScheduler;
 import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.DnsClient;
 
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static com.mongodb.internal.connection.DefaultClusterFactory.ClusterEnvironment.detectCluster;
 import static com.mongodb.internal.event.EventListenerHelper.NO_OP_CLUSTER_LISTENER;
@@ -71,9 +74,14 @@ public final class DefaultClusterFactory {
                                  @Nullable final String applicationName,
                                  @Nullable final MongoDriverInformation mongoDriverInformation,
                                  final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-                                 @Nullable final DnsClient dnsClient) {
+                                 @Nullable final DnsClient dnsClient, @Nullable final ThreadFactory threadFactory,
+                                 @Nullable final ScheduledExecutorService sharedBackgroundScheduler) {
 
         detectAndLogClusterEnvironment(originalClusterSettings);
+        // the shared scheduler only times the background tasks, which run on workers of the client as they may block
+        ScheduledExecutorService backgroundScheduler = sharedBackgroundScheduler == null
+                ? null
+                : new BackgroundScheduler(sharedBackgroundScheduler, threadFactory);
 
         ClusterId clusterId = new ClusterId(applicationName);
         ClusterSettings clusterSettings;
@@ -90,7 +98,8 @@ public final class DefaultClusterFactory {
         } else {
             AsynchronousClusterEventListener clusterEventListener =
                     AsynchronousClusterEventListener.startNew(clusterId, getClusterListener(originalClusterSettings),
-                            getServerListener(originalServerSettings), getServerMonitorListener(originalServerSettings));
+                            getServerListener(originalServerSettings), getServerMonitorListener(originalServerSettings),
+                            threadFactory);
 
             clusterSettings = ClusterSettings.builder(originalClusterSettings)
                     .clusterListenerList(singletonList(clusterEventListener))
@@ -101,7 +110,8 @@ public final class DefaultClusterFactory {
                     .build();
         }
 
-        DnsSrvRecordMonitorFactory dnsSrvRecordMonitorFactory = new DefaultDnsSrvRecordMonitorFactory(clusterId, serverSettings, dnsClient);
+        DnsSrvRecordMonitorFactory dnsSrvRecordMonitorFactory = new DefaultDnsSrvRecordMonitorFactory(clusterId, serverSettings, dnsClient,
+                threadFactory, backgroundScheduler);
         InternalOperationContextFactory clusterOperationContextFactory =
                 new InternalOperationContextFactory(clusterTimeoutSettings, serverApi);
         InternalOperationContextFactory heartBeatOperationContextFactory =
@@ -114,14 +124,14 @@ public final class DefaultClusterFactory {
         if (clusterSettings.getMode() == ClusterConnectionMode.LOAD_BALANCED) {
             ClusterableServerFactory serverFactory = new LoadBalancedClusterableServerFactory(serverSettings,
                     connectionPoolSettings, internalConnectionPoolSettings, streamFactory, credential, loggerSettings, commandListener,
-                    compressorList, serverApi, clusterOperationContextFactory);
+                    compressorList, serverApi, clusterOperationContextFactory, threadFactory, backgroundScheduler);
             return new LoadBalancedCluster(clusterId, clusterSettings, serverFactory, clientMetadata, dnsSrvRecordMonitorFactory);
         } else {
             ClusterableServerFactory serverFactory = new DefaultClusterableServerFactory(serverSettings,
                     connectionPoolSettings, internalConnectionPoolSettings,
                     clusterOperationContextFactory, streamFactory, heartBeatOperationContextFactory, heartbeatStreamFactory, credential,
                     loggerSettings, commandListener, compressorList,
-                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN);
+                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN, threadFactory, backgroundScheduler);
 
             if (clusterSettings.getMode() == ClusterConnectionMode.SINGLE) {
                 return new SingleServerCluster(clusterId, clusterSettings, serverFactory, clientMetadata);
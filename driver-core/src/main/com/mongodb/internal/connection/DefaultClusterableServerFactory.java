@@ -22,6 +22,7 @@ import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerApi;
 import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
@@ -31,6 +32,8 @@ import com.mongodb.internal.inject.SameObjectProvider;
 import com.mongodb.lang.Nullable;
 
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static com.mongodb.internal.event.EventListenerHelper.singleServerListener;
 import static java.util.Collections.emptyList;
@@ -53,6 +56,10 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
     @Nullable
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
+    @Nullable
+    private final ThreadFactory threadFactory;
+    @Nullable
+    private final ScheduledExecutorService backgroundScheduler;
 
     public DefaultClusterableServerFactory(
             final ServerSettings serverSettings, final ConnectionPoolSettings connectionPoolSettings,
@@ -61,7 +68,9 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
             final InternalOperationContextFactory heartbeatOperationContextFactory, final StreamFactory heartbeatStreamFactory,
             @Nullable final MongoCredential credential, final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment) {
+            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment,
+            @Nullable final ThreadFactory threadFactory,
+            @Nullable final ScheduledExecutorService backgroundScheduler) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -75,6 +84,8 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         this.compressorList = compressorList;
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
+        this.threadFactory = threadFactory;
+        this.backgroundScheduler = backgroundScheduler;
     }
 
     @Override
@@ -88,19 +99,46 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
                 // no credentials, compressor list, or command listener for the server monitor factory
                 new InternalStreamConnectionFactory(clusterMode, true, heartbeatStreamFactory, null, clientMetadata,
                          emptyList(), loggerSettings, null, serverApi),
-                clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, heartbeatOperationContextFactory);
+                clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, heartbeatOperationContextFactory, threadFactory,
+                backgroundScheduler);
 
+        int maxConcurrentOperationsPerConnection = connectionPoolSettings.getMaxConcurrentOperationsPerConnection();
+        boolean shareConnections = maxConcurrentOperationsPerConnection > 1;
+        ConnectionPoolMetrics connectionPoolMetrics = internalConnectionPoolSettings.getMetricsRegistry() == null
+                ? null : new ConnectionPoolMetrics();
         ConnectionPool connectionPool = new DefaultConnectionPool(serverId,
-                new InternalStreamConnectionFactory(clusterMode, streamFactory, credential, clientMetadata,
-                         compressorList, loggerSettings, commandListener, serverApi),
-                connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, clusterOperationContextFactory);
+                new InternalStreamConnectionFactory(clusterMode, false, streamFactory, credential, clientMetadata,
+                         compressorList, loggerSettings, commandListener, serverApi, shareConnections, connectionPoolMetrics,
+                         internalConnectionPoolSettings.getFieldNameCache()),
+                connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, clusterOperationContextFactory,
+                connectionPoolMetrics, threadFactory, backgroundScheduler);
+        if (shareConnections) {
+            connectionPool = new SharingConnectionPool(connectionPool, maxConcurrentOperationsPerConnection);
+        }
         ServerListener serverListener = singleServerListener(serverSettings);
         SdamServerDescriptionManager sdam = new DefaultSdamServerDescriptionManager(cluster, serverId, serverListener, serverMonitor,
                 connectionPool, clusterMode);
         sdamProvider.initialize(sdam);
         serverMonitor.start();
         return new DefaultServer(serverId, clusterMode, connectionPool, new DefaultConnectionFactory(), serverMonitor,
-                sdam, serverListener, commandListener, cluster.getClock(), true);
+                sdam, serverListener, commandListener, cluster.getClock(), true,
+                getCommandLatencies(cluster.getSettings(), connectionPoolMetrics));
+    }
+
+    /**
+     * Recording the round trip time of each command costs a clock read and an atomic increment, which is only paid if the times are read:
+     * by the {@linkplain ClusterSettings#getOperationLatencyPercentile() latency-aware server selection}, by the
+     * {@linkplain ClusterSettings#getHedgeDelayPercentile() hedged reads}, or by the registry of the metrics of the pool.
+     */
+    @Nullable
+    private static OperationLatencyHistogram getCommandLatencies(final ClusterSettings clusterSettings,
+            @Nullable final ConnectionPoolMetrics connectionPoolMetrics) {
+        if (connectionPoolMetrics != null) {
+            return connectionPoolMetrics.getCommandLatencies();
+        }
+        return clusterSettings.getOperationLatencyPercentile() != null || clusterSettings.getHedgeDelayPercentile() != null
+                ? new OperationLatencyHistogram()
+                : null;
     }
 
     @Override
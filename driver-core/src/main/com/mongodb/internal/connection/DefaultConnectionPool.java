@@ -18,6 +18,7 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoConnectionPoolClearedException;
 import com.mongodb.MongoException;
+import com.mongodb.MongoInternalException;
 import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoServerUnavailableException;
 import com.mongodb.MongoTimeoutException;
@@ -41,6 +42,8 @@ import com.mongodb.event.ConnectionPoolClosedEvent;
 import com.mongodb.event.ConnectionPoolCreatedEvent;
 import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.event.ConnectionPoolReadyEvent;
+import com.mongodb.event.ConnectionPoolWarmUpCompletedEvent;
+import com.mongodb.event.ConnectionPoolWarmUpStartedEvent;
 import com.mongodb.event.ConnectionReadyEvent;
 import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.VisibleForTesting;
@@ -70,12 +73,15 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -86,7 +92,6 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.mongodb.assertions.Assertions.assertFalse;
@@ -119,9 +124,11 @@ import static com.mongodb.internal.logging.LogMessage.Entry.Name.SERVER_HOST;
 import static com.mongodb.internal.logging.LogMessage.Entry.Name.SERVER_PORT;
 import static com.mongodb.internal.logging.LogMessage.Entry.Name.SERVICE_ID;
 import static com.mongodb.internal.logging.LogMessage.Level.DEBUG;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 @ThreadSafe
 final class DefaultConnectionPool implements ConnectionPool {
@@ -132,6 +139,7 @@ final class DefaultConnectionPool implements ConnectionPool {
     private final InternalOperationContextFactory operationContextFactory;
     private final BackgroundMaintenanceManager backgroundMaintenance;
     private final AsyncWorkManager asyncWorkManager;
+    private final WarmUpWorkManager warmUpWorkManager;
     private final ConnectionPoolListener connectionPoolListener;
     private final ServerId serverId;
     private final PinnedStatsManager pinnedStatsManager = new PinnedStatsManager();
@@ -140,6 +148,14 @@ final class DefaultConnectionPool implements ConnectionPool {
     private final OpenConcurrencyLimiter openConcurrencyLimiter;
     private final StateAndGeneration stateAndGeneration;
     private final OptionalProvider<SdamServerDescriptionManager> sdamProvider;
+    @Nullable
+    private final ConnectionPoolMetrics metrics;
+    @Nullable
+    private final ConnectionPoolMetrics.Registry metricsRegistry;
+    @Nullable
+    private final ThreadFactory threadFactory;
+    @Nullable
+    private final ScheduledExecutorService backgroundScheduler;
 
     @VisibleForTesting(otherwise = PRIVATE)
     DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
@@ -162,8 +178,37 @@ final class DefaultConnectionPool implements ConnectionPool {
             final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
             final OptionalProvider<SdamServerDescriptionManager> sdamProvider,
             final InternalOperationContextFactory operationContextFactory) {
+        this(serverId, internalConnectionFactory, settings, internalSettings, sdamProvider, operationContextFactory, null);
+    }
+
+    /**
+     * @param metrics Shared with the {@code internalConnectionFactory}, which records the bytes sent and received on the connections,
+     *                or null not to record them. They are only registered if both they and the
+     *                {@linkplain InternalConnectionPoolSettings#getMetricsRegistry() registry} are not null.
+     */
+    DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
+            final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
+            final OptionalProvider<SdamServerDescriptionManager> sdamProvider,
+            final InternalOperationContextFactory operationContextFactory, @Nullable final ConnectionPoolMetrics metrics) {
+        this(serverId, internalConnectionFactory, settings, internalSettings, sdamProvider, operationContextFactory, metrics, null,
+                null);
+    }
+
+    /**
+     * @param threadFactory The {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory} to create the background
+     *                      threads of the pool with, or null to create daemon platform threads.
+     * @param backgroundScheduler The {@linkplain com.mongodb.internal.thread.BackgroundScheduler scheduler} to run the
+     *                            maintenance with, or null to run it in a thread of the pool's own.
+     */
+    DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
+            final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
+            final OptionalProvider<SdamServerDescriptionManager> sdamProvider,
+            final InternalOperationContextFactory operationContextFactory, @Nullable final ConnectionPoolMetrics metrics,
+            @Nullable final ThreadFactory threadFactory, @Nullable final ScheduledExecutorService backgroundScheduler) {
         this.serverId = notNull("serverId", serverId);
         this.settings = notNull("settings", settings);
+        this.threadFactory = threadFactory;
+        this.backgroundScheduler = backgroundScheduler;
         UsageTrackingInternalConnectionItemFactory connectionItemFactory =
                 new UsageTrackingInternalConnectionItemFactory(internalConnectionFactory);
         pool = new ConcurrentPool<>(maxSize(settings), connectionItemFactory, format("The server at %s is no longer available",
@@ -174,7 +219,8 @@ final class DefaultConnectionPool implements ConnectionPool {
         backgroundMaintenance = new BackgroundMaintenanceManager();
         connectionPoolCreated(connectionPoolListener, serverId, settings);
         openConcurrencyLimiter = new OpenConcurrencyLimiter(settings.getMaxConnecting());
-        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager());
+        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager(), threadFactory);
+        warmUpWorkManager = new WarmUpWorkManager(settings.getMaxConnecting() - 1, threadFactory);
         stateAndGeneration = new StateAndGeneration();
         connectionGenerationSupplier = new ConnectionGenerationSupplier() {
             @Override
@@ -187,6 +233,11 @@ final class DefaultConnectionPool implements ConnectionPool {
                 return serviceStateManager.getGeneration(serviceId);
             }
         };
+        this.metrics = metrics;
+        metricsRegistry = internalSettings.getMetricsRegistry();
+        if (metrics != null && metricsRegistry != null) {
+            metricsRegistry.register(serverId, metrics);
+        }
     }
 
     @Override
@@ -269,6 +320,9 @@ final class DefaultConnectionPool implements ConnectionPool {
             reason = Reason.UNKNOWN;
         }
 
+        if (metrics != null) {
+            metrics.checkOutFailed();
+        }
         Duration checkoutDuration = checkoutStart.elapsed();
         ClusterId clusterId = serverId.getClusterId();
         if (requiresLogging(clusterId)) {
@@ -320,7 +374,11 @@ final class DefaultConnectionPool implements ConnectionPool {
             pool.close();
             backgroundMaintenance.close();
             asyncWorkManager.close();
+            warmUpWorkManager.close();
             openConcurrencyLimiter.signalClosedOrPaused();
+            if (metrics != null && metricsRegistry != null) {
+                metricsRegistry.unregister(metrics);
+            }
             logEventMessage("Connection pool closed", "Connection pool closed for {}:{}");
 
             connectionPoolListener.connectionPoolClosed(new ConnectionPoolClosedEvent(serverId));
@@ -423,41 +481,124 @@ final class DefaultConnectionPool implements ConnectionPool {
      */
     @VisibleForTesting(otherwise = PRIVATE)
     void doMaintenance() {
-        Predicate<Exception> silentlyComplete = e ->
-                e instanceof MongoInterruptedException || e instanceof MongoTimeoutException
-                        || e instanceof MongoConnectionPoolClearedException || ConcurrentPool.isPoolClosedException(e);
         try {
             pool.prune();
             if (shouldEnsureMinSize()) {
-                pool.ensureMinSize(settings.getMinSize(), newConnection -> {
-                    try {
-                        OperationContext operationContext = operationContextFactory.createMaintenanceContext();
-                        openConcurrencyLimiter.openImmediatelyAndTryHandOverOrRelease(operationContext, new PooledConnection(newConnection));
-                    } catch (MongoException | MongoOpenConnectionInternalException e) {
-                        RuntimeException actualException = e instanceof MongoOpenConnectionInternalException
-                                ? (RuntimeException) e.getCause()
-                                : e;
-                        try {
-                            sdamProvider.optional().ifPresent(sdam -> {
-                                if (!silentlyComplete.test(actualException)) {
-                                    sdam.handleExceptionBeforeHandshake(SdamIssue.of(actualException, sdam.context(newConnection)));
-                                }
-                            });
-                        } catch (Exception suppressed) {
-                            actualException.addSuppressed(suppressed);
-                        }
-                        throw actualException;
-                    }
-                });
+                if (settings.isMinSizeWarmUp()) {
+                    warmUp(settings.getMinSize());
+                } else {
+                    pool.ensureMinSize(settings.getMinSize(), newConnection -> openAndRelease(newConnection, false));
+                }
             }
         } catch (Exception e) {
-            if (!silentlyComplete.test(e)) {
+            if (!silentlyCompletesMaintenance(e)) {
                 LOGGER.warn("Exception thrown during connection pool background maintenance task", e);
                 throw e;
             }
         }
     }
 
+    @Override
+    public void warmUp(final int targetSize) {
+        int actualTargetSize = Math.min(targetSize, pool.getMaxSize());
+        int size = pool.getCount();
+        if (size >= actualTargetSize) {
+            return;
+        }
+        stateAndGeneration.throwIfClosedOrPaused();
+        StartTime startTime = StartTime.now();
+        connectionPoolListener.connectionPoolWarmUpStarted(new ConnectionPoolWarmUpStartedEvent(serverId, actualTargetSize, size));
+        AtomicInteger remaining = new AtomicInteger(actualTargetSize - size);
+        int parallelism = Math.min(settings.getMaxConnecting(), remaining.get());
+        RuntimeException failure = null;
+        try {
+            // the calling thread is one of the threads opening connections
+            List<Future<?>> futures = new ArrayList<>(parallelism - 1);
+            for (int i = 1; i < parallelism; i++) {
+                Future<?> future = warmUpWorkManager.submit(() -> openForWarmUp(remaining));
+                if (future == null) {
+                    // the pool is closed, which the calling thread reports
+                    break;
+                }
+                futures.add(future);
+            }
+            try {
+                openForWarmUp(remaining);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                                : new MongoInternalException("Exception thrown while warming up the connection pool", e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // the workers stop after opening the connections they are opening
+            remaining.set(0);
+            failure = interruptAndCreateMongoInterruptedException("Interrupted while warming up the connection pool", e);
+        } finally {
+            connectionPoolListener.connectionPoolWarmUpCompleted(new ConnectionPoolWarmUpCompletedEvent(serverId, actualTargetSize,
+                    pool.getCount(), startTime.elapsed().toNanos(), failure));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void openForWarmUp(final AtomicInteger remaining) {
+        try {
+            while (remaining.getAndDecrement() > 0) {
+                if (!pool.tryAddNew(newConnection -> openAndRelease(newConnection, true))) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            remaining.set(0);
+            throw e;
+        }
+    }
+
+    /**
+     * @param waitForOpenPermit Whether to wait for one of the {@linkplain ConnectionPoolSettings#getMaxConnecting() maxConnecting}
+     * permits to open the connection, or to fail with a {@link MongoTimeoutException} if none is available.
+     */
+    private void openAndRelease(final UsageTrackingInternalConnection newConnection, final boolean waitForOpenPermit) {
+        try {
+            OperationContext operationContext = operationContextFactory.createMaintenanceContext();
+            if (waitForOpenPermit) {
+                StartTime startTime = StartTime.now();
+                openConcurrencyLimiter.openAndTryHandOverOrRelease(operationContext, new PooledConnection(newConnection),
+                        operationContext.getTimeoutContext().startMaxWaitTimeout(startTime), startTime);
+            } else {
+                openConcurrencyLimiter.openImmediatelyAndTryHandOverOrRelease(operationContext, new PooledConnection(newConnection));
+            }
+        } catch (MongoException | MongoOpenConnectionInternalException e) {
+            RuntimeException actualException = e instanceof MongoOpenConnectionInternalException
+                    ? (RuntimeException) e.getCause()
+                    : e;
+            try {
+                sdamProvider.optional().ifPresent(sdam -> {
+                    if (!silentlyCompletesMaintenance(actualException)) {
+                        sdam.handleExceptionBeforeHandshake(SdamIssue.of(actualException, sdam.context(newConnection)));
+                    }
+                });
+            } catch (Exception suppressed) {
+                actualException.addSuppressed(suppressed);
+            }
+            throw actualException;
+        }
+    }
+
+    private static boolean silentlyCompletesMaintenance(final Exception e) {
+        return e instanceof MongoInterruptedException || e instanceof MongoTimeoutException
+                || e instanceof MongoConnectionPoolClearedException || ConcurrentPool.isPoolClosedException(e);
+    }
+
     private boolean shouldEnsureMinSize() {
         return settings.getMinSize() > 0;
     }
@@ -526,6 +667,10 @@ final class DefaultConnectionPool implements ConnectionPool {
      */
     private StartTime connectionCreated(final ConnectionPoolListener connectionPoolListener, final ConnectionId connectionId) {
         StartTime openStart = StartTime.now();
+        if (metrics != null) {
+            metrics.connectionCreated();
+            metrics.openStarted();
+        }
         logEventMessage("Connection created",
                 "Connection created: address={}:{}, driver-generated ID={}",
                 connectionId.getLocalValue());
@@ -540,6 +685,9 @@ final class DefaultConnectionPool implements ConnectionPool {
      */
     private void connectionClosed(final ConnectionPoolListener connectionPoolListener, final ConnectionId connectionId,
                                   final ConnectionClosedEvent.Reason reason) {
+        if (metrics != null) {
+            metrics.connectionClosed();
+        }
         ClusterId clusterId = serverId.getClusterId();
         if (requiresLogging(clusterId)) {
             String errorReason = "There was a socket exception raised by this connection";
@@ -562,6 +710,9 @@ final class DefaultConnectionPool implements ConnectionPool {
             final PooledConnection connection,
             final StartTime checkoutStart) {
         Duration checkoutDuration = checkoutStart.elapsed();
+        if (metrics != null) {
+            metrics.checkedOut(checkoutDuration.toNanos());
+        }
         ConnectionId connectionId = getId(connection);
         ClusterId clusterId = serverId.getClusterId();
         if (requiresLogging(clusterId)) {
@@ -585,6 +736,9 @@ final class DefaultConnectionPool implements ConnectionPool {
      */
     private StartTime connectionCheckoutStarted(final OperationContext operationContext) {
         StartTime checkoutStart = StartTime.now();
+        if (metrics != null) {
+            metrics.checkOutStarted();
+        }
         logEventMessage("Connection checkout started", "Checkout started for connection to {}:{}");
 
         connectionPoolListener.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId, operationContext.getId()));
@@ -667,7 +821,8 @@ final class DefaultConnectionPool implements ConnectionPool {
             if (!isClosed.getAndSet(true)) {
                 unmarkAsPinned();
                 connectionCheckedIn();
-                if (wrapped.isClosed() || shouldPrune(wrapped)) {
+                // a connection with unread streamed replies cannot be reused
+                if (wrapped.isClosed() || wrapped.hasMoreToCome() || shouldPrune(wrapped)) {
                     pool.release(wrapped, true);
                 } else {
                     openConcurrencyLimiter.tryHandOverOrRelease(wrapped);
@@ -676,6 +831,9 @@ final class DefaultConnectionPool implements ConnectionPool {
         }
 
         private void connectionCheckedIn() {
+            if (metrics != null) {
+                metrics.checkedIn();
+            }
             ConnectionId connectionId = getId(wrapped);
             logEventMessage("Connection checked in",
                     "Connection checked in: address={}:{}, driver-generated ID={}",
@@ -705,6 +863,9 @@ final class DefaultConnectionPool implements ConnectionPool {
          * Must not throw {@link Exception}s.
          */
         private void closeAndHandleOpenFailure() {
+            if (metrics != null) {
+                metrics.openCompleted();
+            }
             if (!isClosed.getAndSet(true)) {
                 if (wrapped.getDescription().getServiceId() != null) {
                     invalidate(assertNotNull(wrapped.getDescription().getServiceId()), wrapped.getGeneration());
@@ -717,6 +878,9 @@ final class DefaultConnectionPool implements ConnectionPool {
          * Must not throw {@link Exception}s.
          */
         private void handleOpenSuccess(final StartTime openStart) {
+            if (metrics != null) {
+                metrics.openCompleted();
+            }
             Duration openDuration = openStart.elapsed();
             ConnectionId connectionId = getId(this);
             ClusterId clusterId = serverId.getClusterId();
@@ -924,11 +1088,15 @@ final class DefaultConnectionPool implements ConnectionPool {
         void openImmediatelyAndTryHandOverOrRelease(final OperationContext operationContext,
                 final PooledConnection connection) throws MongoTimeoutException {
             StartTime startTime = StartTime.now();
-            Timeout timeout = startTime.asTimeout();
+            openAndTryHandOverOrRelease(operationContext, connection, startTime.asTimeout(), startTime);
+        }
+
+        void openAndTryHandOverOrRelease(final OperationContext operationContext, final PooledConnection connection,
+                final Timeout maxWaitTimeout, final StartTime startTime) throws MongoTimeoutException {
             assertNull(openWithConcurrencyLimit(
                     operationContext,
                     connection, OpenWithConcurrencyLimitMode.TRY_HAND_OVER_OR_RELEASE,
-                    timeout, startTime));
+                    maxWaitTimeout, startTime));
         }
 
         /**
@@ -1289,8 +1457,11 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final Lock lock;
         @Nullable
         private ExecutorService worker;
+        @Nullable
+        private final ThreadFactory threadFactory;
 
-        AsyncWorkManager(final boolean prestart) {
+        AsyncWorkManager(final boolean prestart, @Nullable final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
             state = State.NEW;
             tasks = new LinkedBlockingQueue<>();
             lock = new StampedLock().asWriteLock();
@@ -1320,7 +1491,7 @@ final class DefaultConnectionPool implements ConnectionPool {
         private boolean initUnlessClosed() {
             boolean result = true;
             if (state == State.NEW) {
-                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter"));
+                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter", threadFactory));
                 worker.execute(() -> runAndLogUncaught(this::workerRun));
                 state = State.INITIALIZED;
             } else if (state == State.CLOSED) {
@@ -1394,6 +1565,68 @@ final class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
+    /**
+     * The workers that open connections concurrently with the thread {@linkplain DefaultConnectionPool#warmUp(int) warming up} the
+     * pool, of which there are at most {@linkplain ConnectionPoolSettings#getMaxConnecting() maxConnecting} - 1, as the calling thread
+     * is one of the threads opening connections. They are created on the first warm-up that needs them and terminate after being idle
+     * for {@value #KEEP_ALIVE_SECONDS} seconds, so that neither the warm-ups done by the
+     * {@linkplain BackgroundMaintenanceManager maintenance} nor those requested by the application create an executor each.
+     */
+    @ThreadSafe
+    private static final class WarmUpWorkManager implements AutoCloseable {
+        private static final long KEEP_ALIVE_SECONDS = 60;
+
+        private final int maxWorkers;
+        @Nullable
+        private final ThreadFactory threadFactory;
+        private final Lock lock;
+        @Nullable
+        private ThreadPoolExecutor workers;
+        private boolean closed;
+
+        WarmUpWorkManager(final int maxWorkers, @Nullable final ThreadFactory threadFactory) {
+            this.maxWorkers = maxWorkers;
+            this.threadFactory = threadFactory;
+            lock = new ReentrantLock();
+        }
+
+        /**
+         * @return {@code null} iff this {@link WarmUpWorkManager} is {@linkplain #close() closed}.
+         */
+        @Nullable
+        Future<?> submit(final Runnable task) {
+            return withLock(lock, () -> {
+                if (closed) {
+                    return null;
+                }
+                ThreadPoolExecutor result = workers;
+                if (result == null) {
+                    assertTrue(maxWorkers > 0);
+                    result = new ThreadPoolExecutor(maxWorkers, maxWorkers, KEEP_ALIVE_SECONDS, SECONDS, new LinkedBlockingQueue<>(),
+                            new DaemonThreadFactory("ConnectionPoolWarmUp", threadFactory));
+                    result.allowCoreThreadTimeOut(true);
+                    workers = result;
+                }
+                return result.submit(task);
+            });
+        }
+
+        /**
+         * {@linkplain Thread#interrupt() Interrupts} all workers.
+         */
+        @Override
+        public void close() {
+            withLock(lock, () -> {
+                if (!closed) {
+                    closed = true;
+                    if (workers != null) {
+                        workers.shutdownNow();
+                    }
+                }
+            });
+        }
+    }
+
     /**
      * An action that is allowed to be completed (failed or executed) at most once, and a timeout associated with it.
      */
@@ -1441,52 +1674,83 @@ final class DefaultConnectionPool implements ConnectionPool {
     /**
      * Methods {@link #start()} and {@link #runOnceAndStop()} must be called sequentially. Each {@link #start()} must be followed by
      * {@link #runOnceAndStop()} unless {@link BackgroundMaintenanceManager} is {@linkplain #close() closed}.
+     * Unlike them, {@link #close()} may be called concurrently with either, which is why all three are guarded by a lock:
+     * otherwise a {@link #start()} racing with {@link #close()} could schedule maintenance on a
+     * {@linkplain DefaultConnectionPool#backgroundScheduler shared scheduler} that nothing would ever cancel.
      * <p>
      * This class implements
      * <a href="https://github.com/mongodb/specifications/blob/master/source/connection-monitoring-and-pooling/connection-monitoring-and-pooling.md#background-thread">
      * CMAP background thread</a>.
      */
-    @NotThreadSafe
+    @ThreadSafe
     private final class BackgroundMaintenanceManager implements AutoCloseable {
         @Nullable
         private final ScheduledExecutorService maintainer;
+        /**
+         * Whether the {@link #maintainer} is the shared {@link DefaultConnectionPool#backgroundScheduler}, which must not be shut down.
+         */
+        private final boolean sharedMaintainer;
+        private final Lock lock;
         @Nullable
         private Future<?> cancellationHandle;
         private boolean initialStart;
+        private boolean closed;
 
         private BackgroundMaintenanceManager() {
-            maintainer = settings.getMaintenanceInitialDelay(NANOSECONDS) < Long.MAX_VALUE
-                    ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer"))
-                    : null;
+            if (settings.getMaintenanceInitialDelay(NANOSECONDS) == Long.MAX_VALUE) {
+                maintainer = null;
+            } else if (backgroundScheduler != null) {
+                maintainer = backgroundScheduler;
+            } else {
+                maintainer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer", threadFactory));
+            }
+            sharedMaintainer = maintainer != null && maintainer == backgroundScheduler;
+            lock = new ReentrantLock();
             cancellationHandle = null;
             initialStart = true;
         }
 
         void start() {
-            if (maintainer != null) {
-                assertTrue(cancellationHandle == null);
-                cancellationHandle = ignoreRejectedExectution(() -> maintainer.scheduleAtFixedRate(
-                        DefaultConnectionPool.this::doMaintenance,
-                        initialStart ? settings.getMaintenanceInitialDelay(MILLISECONDS) : 0,
-                        settings.getMaintenanceFrequency(MILLISECONDS), MILLISECONDS));
-                initialStart = false;
-            }
+            withLock(lock, () -> {
+                if (maintainer != null && !closed) {
+                    assertTrue(cancellationHandle == null);
+                    cancellationHandle = ignoreRejectedExectution(() -> maintainer.scheduleAtFixedRate(
+                            DefaultConnectionPool.this::doMaintenance,
+                            initialStart ? settings.getMaintenanceInitialDelay(MILLISECONDS) : 0,
+                            settings.getMaintenanceFrequency(MILLISECONDS), MILLISECONDS));
+                    initialStart = false;
+                }
+            });
         }
 
         void runOnceAndStop() {
-            if (maintainer != null) {
-                if (cancellationHandle != null) {
-                    cancellationHandle.cancel(false);
-                    cancellationHandle = null;
+            withLock(lock, () -> {
+                if (maintainer != null && !closed) {
+                    cancel();
+                    ignoreRejectedExectution(() -> maintainer.execute(DefaultConnectionPool.this::doMaintenance));
                 }
-                ignoreRejectedExectution(() -> maintainer.execute(DefaultConnectionPool.this::doMaintenance));
-            }
+            });
         }
 
         @Override
         public void close() {
-            if (maintainer != null) {
-                maintainer.shutdownNow();
+            withLock(lock, () -> {
+                closed = true;
+                if (maintainer == null) {
+                    return;
+                }
+                if (sharedMaintainer) {
+                    cancel();
+                } else {
+                    maintainer.shutdownNow();
+                }
+            });
+        }
+
+        private void cancel() {
+            if (cancellationHandle != null) {
+                cancellationHandle.cancel(false);
+                cancellationHandle = null;
             }
         }
 
@@ -24,14 +24,22 @@ import com.mongodb.connection.ClusterType;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.dns.DnsResolver;
+import com.mongodb.lang.Nullable;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
+import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.internal.connection.ServerAddressHelper.createServerAddress;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newThread;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
     private static final Logger LOGGER = Loggers.getLogger("cluster");
@@ -42,31 +50,73 @@ class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
     private final long noRecordsRescanFrequencyMillis;
     private final DnsSrvRecordInitializer dnsSrvRecordInitializer;
     private final DnsResolver dnsResolver;
+    @Nullable
     private final Thread monitorThread;
+    @Nullable
+    private final ScheduledExecutorService backgroundScheduler;
+    private final DnsSrvRecordMonitorRunnable monitorRunnable;
+    @Nullable
+    private volatile Future<?> scheduledRescan;
     private volatile boolean isClosed;
 
     DefaultDnsSrvRecordMonitor(final String hostName, final String srvServiceName, final long rescanFrequencyMillis, final long noRecordsRescanFrequencyMillis,
             final DnsSrvRecordInitializer dnsSrvRecordInitializer, final ClusterId clusterId,
             final DnsResolver dnsResolver) {
+        this(hostName, srvServiceName, rescanFrequencyMillis, noRecordsRescanFrequencyMillis, dnsSrvRecordInitializer, clusterId,
+                dnsResolver, null, null);
+    }
+
+    /**
+     * @param backgroundScheduler The {@linkplain com.mongodb.internal.thread.BackgroundScheduler scheduler} to poll the SRV
+     *                            records with, or null to poll them in a thread created with {@code threadFactory}.
+     */
+    DefaultDnsSrvRecordMonitor(final String hostName, final String srvServiceName, final long rescanFrequencyMillis,
+            final long noRecordsRescanFrequencyMillis, final DnsSrvRecordInitializer dnsSrvRecordInitializer, final ClusterId clusterId,
+            final DnsResolver dnsResolver, @Nullable final ThreadFactory threadFactory,
+            @Nullable final ScheduledExecutorService backgroundScheduler) {
         this.hostName = hostName;
         this.srvServiceName = srvServiceName;
         this.rescanFrequencyMillis = rescanFrequencyMillis;
         this.noRecordsRescanFrequencyMillis = noRecordsRescanFrequencyMillis;
         this.dnsSrvRecordInitializer = dnsSrvRecordInitializer;
         this.dnsResolver = dnsResolver;
-        monitorThread = new Thread(new DnsSrvRecordMonitorRunnable(), "cluster-" + clusterId + "-srv-" + hostName);
-        monitorThread.setDaemon(true);
+        this.backgroundScheduler = backgroundScheduler;
+        monitorRunnable = new DnsSrvRecordMonitorRunnable();
+        monitorThread = backgroundScheduler == null
+                ? newThread(threadFactory, monitorRunnable, "cluster-" + clusterId + "-srv-" + hostName)
+                : null;
     }
 
     @Override
     public void start() {
-        monitorThread.start();
+        if (monitorThread != null) {
+            monitorThread.start();
+        } else {
+            scheduleRescan(0);
+        }
     }
 
     @Override
     public void close() {
         isClosed = true;
-        monitorThread.interrupt();
+        if (monitorThread != null) {
+            monitorThread.interrupt();
+        }
+        Future<?> scheduledRescan = this.scheduledRescan;
+        if (scheduledRescan != null) {
+            scheduledRescan.cancel(false);
+        }
+    }
+
+    private void scheduleRescan(final long delayMillis) {
+        if (isClosed) {
+            return;
+        }
+        try {
+            scheduledRescan = assertNotNull(backgroundScheduler).schedule(monitorRunnable::rescanScheduled, delayMillis, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("The SRV record monitor could not be scheduled", e);
+        }
     }
 
     private class DnsSrvRecordMonitorRunnable implements Runnable {
@@ -77,34 +127,7 @@ class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
         public void run() {
             try {
                 while (!isClosed && shouldContinueMonitoring()) {
-                    try {
-                        List<String> resolvedHostNames = dnsResolver.resolveHostFromSrvRecords(hostName, srvServiceName);
-                        Set<ServerAddress> hosts = createServerAddressSet(resolvedHostNames);
-
-                        if (isClosed) {
-                            return;
-                        }
-
-                        if (!hosts.equals(currentHosts)) {
-                            try {
-                                dnsSrvRecordInitializer.initialize(unmodifiableSet(hosts));
-                                currentHosts = hosts;
-                            } catch (Exception e) {
-                                LOGGER.warn("Exception in monitor thread during notification of DNS resolution state change", e);
-                            }
-                        }
-                    } catch (MongoException e) {
-                        if (currentHosts.isEmpty()) {
-                            dnsSrvRecordInitializer.initialize(e);
-                        }
-                        LOGGER.info("Exception while resolving SRV records", e);
-                    } catch (Exception e) {
-                        if (currentHosts.isEmpty()) {
-                            dnsSrvRecordInitializer.initialize(new MongoInternalException("Unexpected runtime exception", e));
-                        }
-                        LOGGER.info("Unexpected runtime exception while resolving SRV record", e);
-                    }
-
+                    rescan();
                     try {
                         Thread.sleep(getRescanFrequencyMillis());
                     } catch (InterruptedException closed) {
@@ -118,6 +141,55 @@ class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
             }
         }
 
+        /**
+         * Runs one iteration of {@link #run()} and schedules the next one, as the {@link #run()} loop would.
+         */
+        void rescanScheduled() {
+            try {
+                if (isClosed || !shouldContinueMonitoring()) {
+                    return;
+                }
+                rescan();
+            } catch (Throwable t) {
+                LOGGER.error(this + " stopped working. You may want to recreate the MongoClient", t);
+                throw t;
+            }
+            clusterType = dnsSrvRecordInitializer.getClusterType();
+            if (shouldContinueMonitoring()) {
+                scheduleRescan(getRescanFrequencyMillis());
+            }
+        }
+
+        private void rescan() {
+            try {
+                List<String> resolvedHostNames = dnsResolver.resolveHostFromSrvRecords(hostName, srvServiceName);
+                Set<ServerAddress> hosts = createServerAddressSet(resolvedHostNames);
+
+                if (isClosed) {
+                    return;
+                }
+
+                if (!hosts.equals(currentHosts)) {
+                    try {
+                        dnsSrvRecordInitializer.initialize(unmodifiableSet(hosts));
+                        currentHosts = hosts;
+                    } catch (Exception e) {
+                        LOGGER.warn("Exception in monitor thread during notification of DNS resolution state change", e);
+                    }
+                }
+            } catch (MongoException e) {
+                if (currentHosts.isEmpty()) {
+                    dnsSrvRecordInitializer.initialize(e);
+                }
+                LOGGER.info("Exception while resolving SRV records", e);
+            } catch (Exception e) {
+                if (currentHosts.isEmpty()) {
+                    dnsSrvRecordInitializer.initialize(new MongoInternalException("Unexpected runtime exception", e));
+                }
+                LOGGER.info("Unexpected runtime exception while resolving SRV record", e);
+            }
+        }
+
         private boolean shouldContinueMonitoring() {
             return clusterType == ClusterType.UNKNOWN || clusterType == ClusterType.SHARDED;
         }
@@ -22,6 +22,9 @@ import com.mongodb.internal.dns.DefaultDnsResolver;
 import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.DnsClient;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
@@ -35,16 +38,25 @@ public class DefaultDnsSrvRecordMonitorFactory implements DnsSrvRecordMonitorFac
     private final ClusterId clusterId;
     private final long noRecordsRescanFrequency;
     private final DnsClient dnsClient;
-
-    public DefaultDnsSrvRecordMonitorFactory(final ClusterId clusterId, final ServerSettings serverSettings, @Nullable final DnsClient dnsClient) {
+    @Nullable
+    private final ThreadFactory threadFactory;
+    @Nullable
+    private final ScheduledExecutorService backgroundScheduler;
+
+    public DefaultDnsSrvRecordMonitorFactory(final ClusterId clusterId, final ServerSettings serverSettings, @Nullable final DnsClient dnsClient,
+            @Nullable final ThreadFactory threadFactory,
+            @Nullable final ScheduledExecutorService backgroundScheduler) {
         this.clusterId = clusterId;
         this.noRecordsRescanFrequency = serverSettings.getHeartbeatFrequency(MILLISECONDS);
         this.dnsClient = dnsClient;
+        this.threadFactory = threadFactory;
+        this.backgroundScheduler = backgroundScheduler;
     }
 
     @Override
     public DnsSrvRecordMonitor create(final String hostName, final String srvServiceName, final DnsSrvRecordInitializer dnsSrvRecordInitializer) {
         return new DefaultDnsSrvRecordMonitor(hostName, srvServiceName, DEFAULT_RESCAN_FREQUENCY_MILLIS, noRecordsRescanFrequency,
-                dnsSrvRecordInitializer, clusterId, new DefaultDnsResolver(dnsClient));
+                dnsSrvRecordInitializer, clusterId, new DefaultDnsResolver(dnsClient), threadFactory,
+                backgroundScheduler);
     }
 }
@@ -18,6 +18,8 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoException;
 import com.mongodb.MongoServerUnavailableException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoSocketReadTimeoutException;
 import com.mongodb.ReadPreference;
 import com.mongodb.connection.ClusterConnectionMode;
 import com.mongodb.connection.ConnectionDescription;
@@ -59,12 +61,27 @@ class DefaultServer implements ClusterableServer {
     private final ClusterClock clusterClock;
     @Nullable
     private final AtomicInteger operationCount;
+    @Nullable
+    private final OperationLatencyHistogram operationLatencies;
     private volatile boolean isClosed;
 
     DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
             final ConnectionFactory connectionFactory, final ServerMonitor serverMonitor,
             final SdamServerDescriptionManager sdam, final ServerListener serverListener,
             final CommandListener commandListener, final ClusterClock clusterClock, final boolean trackOperationCount) {
+        this(serverId, clusterConnectionMode, connectionPool, connectionFactory, serverMonitor, sdam, serverListener, commandListener,
+                clusterClock, trackOperationCount, null);
+    }
+
+    /**
+     * @param operationLatencies where to record the round trip times of the commands executed on this server, or {@code null} not to
+     * record them
+     */
+    DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
+            final ConnectionFactory connectionFactory, final ServerMonitor serverMonitor,
+            final SdamServerDescriptionManager sdam, final ServerListener serverListener,
+            final CommandListener commandListener, final ClusterClock clusterClock, final boolean trackOperationCount,
+            @Nullable final OperationLatencyHistogram operationLatencies) {
         this.sdam = assertNotNull(sdam);
         this.serverListener = notNull("serverListener", serverListener);
         this.commandListener = commandListener;
@@ -79,6 +96,7 @@ class DefaultServer implements ClusterableServer {
 
         this.serverMonitor = serverMonitor;
         operationCount = trackOperationCount ? new AtomicInteger() : null;
+        this.operationLatencies = operationLatencies;
     }
 
     @Override
@@ -136,6 +154,17 @@ class DefaultServer implements ClusterableServer {
         return operationCount == null ? -1 : operationCount.get();
     }
 
+    @Nullable
+    @Override
+    public OperationLatencyHistogram operationLatencies() {
+        return operationLatencies;
+    }
+
+    @Override
+    public void warmUpConnectionPool(final int targetSize) {
+        connectionPool.warmUp(targetSize);
+    }
+
     private void operationBegin() {
         if (operationCount != null) {
             operationCount.incrementAndGet();
@@ -201,11 +230,15 @@ class DefaultServer implements ClusterableServer {
         @Override
         public <T> T execute(final CommandProtocol<T> protocol, final InternalConnection connection,
                              final SessionContext sessionContext) {
+            long startNanos = operationLatencies == null ? 0 : System.nanoTime();
             try {
-                return protocol
+                T result = protocol
                         .withSessionContext(new ClusterClockAdvancingSessionContext(sessionContext, clusterClock))
                         .execute(connection);
+                recordOperationLatency(protocol, startNanos, null);
+                return result;
             } catch (MongoException e) {
+                recordOperationLatency(protocol, startNanos, e);
                 try {
                     sdam.handleExceptionAfterHandshake(SdamIssue.of(e, sdam.context(connection)));
                 } catch (Exception suppressed) {
@@ -226,8 +259,10 @@ class DefaultServer implements ClusterableServer {
         @Override
         public <T> void executeAsync(final CommandProtocol<T> protocol, final InternalConnection connection,
                                      final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+            long startNanos = operationLatencies == null ? 0 : System.nanoTime();
             protocol.withSessionContext(new ClusterClockAdvancingSessionContext(sessionContext, clusterClock))
                     .executeAsync(connection, errorHandlingCallback((result, t) -> {
+                recordOperationLatency(protocol, startNanos, t);
                 if (t != null) {
                     try {
                         sdam.handleExceptionAfterHandshake(SdamIssue.of(t, sdam.context(connection)));
@@ -248,6 +283,14 @@ class DefaultServer implements ClusterableServer {
                 }
             }, LOGGER));
         }
+
+        private void recordOperationLatency(final CommandProtocol<?> protocol, final long startNanos, @Nullable final Throwable t) {
+            // a network error other than a read timeout tells nothing about how fast the server responds
+            if (operationLatencies != null && protocol.isRoundTripTimeRepresentative()
+                    && (!(t instanceof MongoSocketException) || t instanceof MongoSocketReadTimeoutException)) {
+                operationLatencies.record(System.nanoTime() - startNanos);
+            }
+        }
     }
 
     private static final class OperationCountTrackingConnection implements Connection {
@@ -306,6 +349,24 @@ class DefaultServer implements ClusterableServer {
                     responseExpected, sequences);
         }
 
+        @Override
+        public <T> T commandExhaustAllowed(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                final OperationContext operationContext) {
+            return wrapped.commandExhaustAllowed(database, command, fieldNameValidator, readPreference, commandResultDecoder,
+                    operationContext);
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return wrapped.hasMoreToCome();
+        }
+
+        @Override
+        public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+            return wrapped.receiveMoreToCome(commandResultDecoder, operationContext);
+        }
+
         @Override
         public void markAsPinned(final PinningMode pinningMode) {
             wrapped.markAsPinned(pinningMode);
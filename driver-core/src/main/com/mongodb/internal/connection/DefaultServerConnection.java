@@ -85,6 +85,27 @@ public class DefaultServerConnection extends AbstractReferenceCounted implements
                 operationContext.getSessionContext());
     }
 
+    @Nullable
+    @Override
+    public <T> T commandExhaustAllowed(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeProtocol(
+                new CommandProtocolImpl<>(database, command, fieldNameValidator, readPreference, commandResultDecoder,
+                        true, true, EmptyMessageSequences.INSTANCE, clusterConnectionMode, operationContext),
+                operationContext.getSessionContext());
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return wrapped.hasMoreToCome();
+    }
+
+    @Nullable
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeProtocol(new MoreToComeProtocol<>(commandResultDecoder, operationContext), operationContext.getSessionContext());
+    }
+
     @Override
     public <T> void commandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
             @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext,
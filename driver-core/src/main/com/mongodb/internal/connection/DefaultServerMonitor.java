@@ -46,6 +46,10 @@ import org.bson.codecs.BsonDocumentCodec;
 import org.bson.types.ObjectId;
 
 import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -75,6 +79,7 @@ import static com.mongodb.internal.logging.LogMessage.Entry.Name.SERVER_HOST;
 import static com.mongodb.internal.logging.LogMessage.Entry.Name.SERVER_PORT;
 import static com.mongodb.internal.logging.LogMessage.Entry.Name.TOPOLOGY_ID;
 import static com.mongodb.internal.logging.LogMessage.Level.DEBUG;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newThread;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -96,6 +101,10 @@ class DefaultServerMonitor implements ServerMonitor {
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
     private final ServerSettings serverSettings;
+    @Nullable
+    private final ThreadFactory threadFactory;
+    @Nullable
+    private final ScheduledExecutorService backgroundScheduler;
     private final ServerMonitor monitor;
     /**
      * Must be guarded by {@link #lock}.
@@ -114,6 +123,26 @@ class DefaultServerMonitor implements ServerMonitor {
             final boolean isFunctionAsAServiceEnvironment,
             final Provider<SdamServerDescriptionManager> sdamProvider,
             final InternalOperationContextFactory operationContextFactory) {
+        this(serverId, serverSettings, internalConnectionFactory, clusterConnectionMode, serverApi, isFunctionAsAServiceEnvironment,
+                sdamProvider, operationContextFactory, null, null);
+    }
+
+    /**
+     * @param threadFactory The {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory} to create the monitoring
+     *                      threads with, or null to create daemon platform threads.
+     * @param backgroundScheduler The {@linkplain com.mongodb.internal.thread.BackgroundScheduler scheduler} to sample the
+     *                            round trip time with, or null to sample it in a thread of its own.
+     *                            The heartbeats are always sent from a thread of their own, because awaiting them blocks.
+     */
+    DefaultServerMonitor(final ServerId serverId, final ServerSettings serverSettings,
+            final InternalConnectionFactory internalConnectionFactory,
+            final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final ServerApi serverApi,
+            final boolean isFunctionAsAServiceEnvironment,
+            final Provider<SdamServerDescriptionManager> sdamProvider,
+            final InternalOperationContextFactory operationContextFactory,
+            @Nullable final ThreadFactory threadFactory,
+            @Nullable final ScheduledExecutorService backgroundScheduler) {
         this.serverSettings = notNull("serverSettings", serverSettings);
         this.serverId = notNull("serverId", serverId);
         this.serverMonitorListener = singleServerMonitorListener(serverSettings);
@@ -123,6 +152,8 @@ class DefaultServerMonitor implements ServerMonitor {
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
         this.sdamProvider = sdamProvider;
+        this.threadFactory = threadFactory;
+        this.backgroundScheduler = backgroundScheduler;
         monitor = new ServerMonitor();
         roundTripTimeMonitor = null;
         isClosed = false;
@@ -134,7 +165,8 @@ class DefaultServerMonitor implements ServerMonitor {
         monitor.start();
     }
 
-    private void ensureRoundTripTimeMonitorStarted() {
+    @VisibleForTesting(otherwise = PRIVATE)
+    void ensureRoundTripTimeMonitorStarted() {
         withLock(lock, () -> {
             if (!isClosed && roundTripTimeMonitor == null) {
                 roundTripTimeMonitor = new RoundTripTimeMonitor();
@@ -174,20 +206,34 @@ class DefaultServerMonitor implements ServerMonitor {
         return monitor;
     }
 
-    class ServerMonitor extends Thread implements AutoCloseable {
+    class ServerMonitor implements Runnable, AutoCloseable {
+        private final Thread thread;
         private volatile InternalConnection connection = null;
         private volatile boolean alreadyLoggedHeartBeatStarted = false;
         private volatile boolean currentCheckCancelled;
         private volatile long lookupStartTimeNanos;
 
         ServerMonitor() {
-            super("cluster-" + serverId.getClusterId().getValue() + "-" + serverId.getAddress());
-            setDaemon(true);
+            thread = newThread(threadFactory, this, "cluster-" + serverId.getClusterId().getValue() + "-" + serverId.getAddress());
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        @VisibleForTesting(otherwise = PRIVATE)
+        void join() throws InterruptedException {
+            thread.join();
+        }
+
+        @Override
+        public String toString() {
+            return thread.toString();
         }
 
         @Override
         public void close() {
-            interrupt();
+            thread.interrupt();
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -504,17 +550,46 @@ class DefaultServerMonitor implements ServerMonitor {
     }
 
 
-    private class RoundTripTimeMonitor extends Thread implements AutoCloseable {
+    private class RoundTripTimeMonitor implements Runnable, AutoCloseable {
+        private final String name;
+        @Nullable
+        private final Thread thread;
+        @Nullable
+        private volatile Future<?> scheduledSampling;
         private volatile InternalConnection connection = null;
 
         RoundTripTimeMonitor() {
-            super("cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress());
-            setDaemon(true);
+            name = "cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress();
+            thread = backgroundScheduler == null ? newThread(threadFactory, this, name) : null;
+        }
+
+        void start() {
+            if (thread != null) {
+                thread.start();
+                return;
+            }
+            try {
+                scheduledSampling = assertNotNull(backgroundScheduler).scheduleWithFixedDelay(this::sampleScheduled, 0,
+                        serverSettings.getHeartbeatFrequency(MILLISECONDS), MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn(format("%s for %s could not be scheduled", this, serverId), e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return thread == null ? name : thread.toString();
         }
 
         @Override
         public void close() {
-            interrupt();
+            if (thread != null) {
+                thread.interrupt();
+            }
+            Future<?> scheduledSampling = this.scheduledSampling;
+            if (scheduledSampling != null) {
+                scheduledSampling.cancel(false);
+            }
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -525,18 +600,7 @@ class DefaultServerMonitor implements ServerMonitor {
         public void run() {
             try {
                 while (!isClosed) {
-                    try {
-                        if (connection == null) {
-                            initialize();
-                        } else {
-                            pingServer(connection);
-                        }
-                    } catch (Exception t) {
-                        if (connection != null) {
-                            connection.close();
-                            connection = null;
-                        }
-                    }
+                    sample();
                     waitForNext();
                 }
             } catch (InterruptedException closed) {
@@ -551,6 +615,37 @@ class DefaultServerMonitor implements ServerMonitor {
             }
         }
 
+        private void sampleScheduled() {
+            try {
+                sample();
+            } catch (Throwable t) {
+                LOGGER.error(format("%s for %s stopped working. You may want to recreate the MongoClient", this, serverId), t);
+                throw t;
+            }
+            InternalConnection connection = this.connection;
+            if (isClosed && connection != null) {
+                connection.close();
+            }
+        }
+
+        private void sample() {
+            if (isClosed) {
+                return;
+            }
+            try {
+                if (connection == null) {
+                    initialize();
+                } else {
+                    pingServer(connection);
+                }
+            } catch (Exception t) {
+                if (connection != null) {
+                    connection.close();
+                    connection = null;
+                }
+            }
+        }
+
         private void initialize() {
             connection = null;
             connection = internalConnectionFactory.create(serverId);
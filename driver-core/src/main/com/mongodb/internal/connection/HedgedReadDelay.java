@@ -0,0 +1,86 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.VisibleForTesting;
+import com.mongodb.internal.connection.Cluster.ServersSnapshot;
+import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.time.Timeout;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.internal.VisibleForTesting.AccessModifier.PRIVATE;
+
+/**
+ * Computes how long a read waits for a response before the driver hedges it by sending the same read to another eligible server.
+ *
+ * <p>The delay is the median, over the eligible servers, of the percentile of the recent
+ * {@linkplain Server#operationLatencies() round trip times of commands} of each server. Unlike the percentile of the fastest or of the
+ * slowest server, the median is not skewed by the one server whose pauses hedging is meant to hide.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class HedgedReadDelay {
+
+    /**
+     * @param percentile the percentile of the round trip times, greater than 0 and less than 100
+     * @return the delay, or -1 if the read must not be hedged because the cluster is not a replica set, fewer than two servers are
+     * eligible for the read preference, or none of the eligible servers has enough recent round trip times
+     */
+    public static long getHedgeDelay(final Cluster cluster, final ReadPreference readPreference, final double percentile,
+            final TimeoutContext timeoutContext, final TimeUnit timeUnit) {
+        ClusterDescription clusterDescription = cluster.getCurrentDescription();
+        if (clusterDescription.getType() != ClusterType.REPLICA_SET) {
+            return -1;
+        }
+        return getHedgeDelay(new ReadPreferenceServerSelector(readPreference).select(clusterDescription),
+                cluster.getServersSnapshot(Timeout.infinite(), timeoutContext), percentile, timeUnit);
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    static long getHedgeDelay(final List<ServerDescription> eligibleServerDescriptions, final ServersSnapshot serversSnapshot,
+            final double percentile, final TimeUnit timeUnit) {
+        if (eligibleServerDescriptions.size() < 2) {
+            return -1;
+        }
+        long[] latencies = new long[eligibleServerDescriptions.size()];
+        int count = 0;
+        for (ServerDescription serverDescription : eligibleServerDescriptions) {
+            Server server = serversSnapshot.getServer(serverDescription.getAddress());
+            OperationLatencyHistogram operationLatencies = server == null ? null : server.operationLatencies();
+            long latency = operationLatencies == null ? -1 : operationLatencies.getPercentile(percentile, timeUnit);
+            if (latency >= 0) {
+                latencies[count++] = latency;
+            }
+        }
+        if (count == 0) {
+            return -1;
+        }
+        Arrays.sort(latencies, 0, count);
+        return latencies[(count - 1) / 2];
+    }
+
+    private HedgedReadDelay() {
+    }
+}
@@ -17,6 +17,8 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.lang.Nullable;
+import org.bson.io.FieldNameCache;
 
 import java.util.Objects;
 
@@ -26,9 +28,17 @@ import java.util.Objects;
 @Immutable
 public final class InternalConnectionPoolSettings {
     private final boolean prestartAsyncWorkManager;
+    @Nullable
+    private final ConnectionPoolMetrics.Registry metricsRegistry;
+    private final int fieldNameCacheSize;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
 
     private InternalConnectionPoolSettings(final Builder builder) {
         prestartAsyncWorkManager = builder.prestartAsyncWorkManager;
+        metricsRegistry = builder.metricsRegistry;
+        fieldNameCacheSize = builder.fieldNameCacheSize;
+        fieldNameCache = fieldNameCacheSize == 0 ? null : new FieldNameCache(fieldNameCacheSize);
     }
 
     public static Builder builder() {
@@ -47,6 +57,32 @@ public final class InternalConnectionPoolSettings {
         return prestartAsyncWorkManager;
     }
 
+    /**
+     * Specifies where the pool registers its {@link ConnectionPoolMetrics}.
+     * <p>
+     * Default is {@code null}, in which case the metrics are not registered.
+     *
+     * @return The registry of the metrics of the pool, or {@code null}.
+     * @see Builder#metricsRegistry(ConnectionPoolMetrics.Registry)
+     */
+    @Nullable
+    public ConnectionPoolMetrics.Registry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * The cache of the field names of the replies of the server, which is shared by the connections of all the pools of a client.
+     * <p>
+     * Default is {@code null}, in which case the names are not cached.
+     *
+     * @return The field name cache, or {@code null}.
+     * @see Builder#fieldNameCacheSize(int)
+     */
+    @Nullable
+    public FieldNameCache getFieldNameCache() {
+        return fieldNameCache;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -56,24 +92,31 @@ public final class InternalConnectionPoolSettings {
             return false;
         }
         InternalConnectionPoolSettings that = (InternalConnectionPoolSettings) o;
-        return prestartAsyncWorkManager == that.prestartAsyncWorkManager;
+        return prestartAsyncWorkManager == that.prestartAsyncWorkManager
+                && Objects.equals(metricsRegistry, that.metricsRegistry)
+                && fieldNameCacheSize == that.fieldNameCacheSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(prestartAsyncWorkManager);
+        return Objects.hash(prestartAsyncWorkManager, metricsRegistry, fieldNameCacheSize);
     }
 
     @Override
     public String toString() {
         return "InternalConnectionPoolSettings{"
                 + "prestartAsyncWorkManager=" + prestartAsyncWorkManager
+                + ", metricsRegistry=" + metricsRegistry
+                + ", fieldNameCacheSize=" + fieldNameCacheSize
                 + '}';
     }
 
     @NotThreadSafe
     public static final class Builder {
         private boolean prestartAsyncWorkManager = false;
+        @Nullable
+        private ConnectionPoolMetrics.Registry metricsRegistry;
+        private int fieldNameCacheSize;
 
         private Builder() {
         }
@@ -90,6 +133,30 @@ public final class InternalConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * Allows to register the metrics of the pool.
+         *
+         * @param metricsRegistry The registry of the metrics of the pool, or {@code null}.
+         * @return {@code this}.
+         * @see InternalConnectionPoolSettings#getMetricsRegistry()
+         */
+        public Builder metricsRegistry(@Nullable final ConnectionPoolMetrics.Registry metricsRegistry) {
+            this.metricsRegistry = metricsRegistry;
+            return this;
+        }
+
+        /**
+         * Allows to cache the field names of the replies of the server.
+         *
+         * @param fieldNameCacheSize The size of the field name cache, or 0 to not cache field names.
+         * @return {@code this}.
+         * @see InternalConnectionPoolSettings#getFieldNameCache()
+         */
+        public Builder fieldNameCacheSize(final int fieldNameCacheSize) {
+            this.fieldNameCacheSize = fieldNameCacheSize;
+            return this;
+        }
+
         public InternalConnectionPoolSettings build() {
             return new InternalConnectionPoolSettings(this);
         }
@@ -60,6 +60,7 @@ import org.bson.ByteBuf;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
@@ -71,12 +72,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.assertNull;
 import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.lockInterruptibly;
 import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
 import static com.mongodb.internal.async.AsyncRunnable.beginAsync;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
@@ -158,6 +161,13 @@ public class InternalStreamConnection implements InternalConnection {
     private final Map<Byte, Compressor> compressorMap;
     private volatile boolean hasMoreToCome;
     private volatile int responseTo;
+    @Nullable
+    private final ResponseDemultiplexer responseDemultiplexer;
+    @Nullable
+    private final ConnectionPoolMetrics metrics;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
+    private final ReentrantLock sendLock = new ReentrantLock();
     private int generation = NOT_INITIALIZED_GENERATION;
 
     // Package-level access provided to avoid duplicating the list in test code
@@ -187,6 +197,56 @@ public class InternalStreamConnection implements InternalConnection {
             final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings,
             final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, loggerSettings, commandListener, connectionInitializer, false);
+    }
+
+    /**
+     * @param pipelined whether concurrent threads may each have a request in flight on this connection, in which case the synchronous
+     * methods correlate replies with requests by request id. Exhaust ({@code moreToCome}) replies are not supported in this mode.
+     */
+    public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer,
+            final boolean pipelined) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, loggerSettings, commandListener, connectionInitializer, pipelined, null);
+    }
+
+    /**
+     * @param metrics the metrics of the pool of this connection, to which the sizes of the messages sent and received are added
+     */
+    public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer,
+            final boolean pipelined, @Nullable final ConnectionPoolMetrics metrics) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, loggerSettings, commandListener, connectionInitializer, pipelined, metrics, null);
+    }
+
+    /**
+     * @param metrics the metrics of the pool of this connection, to which the sizes of the messages sent and received are added
+     * @param fieldNameCache the cache of the field names of the command results, shared by the connections of a client
+     */
+    public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer,
+            final boolean pipelined, @Nullable final ConnectionPoolMetrics metrics, @Nullable final FieldNameCache fieldNameCache) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.authenticator = authenticator;
         this.isMonitoringConnection = isMonitoringConnection;
@@ -198,6 +258,9 @@ public class InternalStreamConnection implements InternalConnection {
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.connectionInitializer = notNull("connectionInitializer", connectionInitializer);
+        this.responseDemultiplexer = pipelined ? new ResponseDemultiplexer(serverId.getAddress()) : null;
+        this.metrics = metrics;
+        this.fieldNameCache = fieldNameCache;
         description = new ConnectionDescription(serverId);
         initialServerDescription = ServerDescription.builder()
                 .address(serverId.getAddress())
@@ -362,8 +425,13 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public void close() {
         // All but the first call is a no-op
-        if (!isClosed.getAndSet(true) && (stream != null)) {
-            stream.close();
+        if (!isClosed.getAndSet(true)) {
+            if (stream != null) {
+                stream.close();
+            }
+            if (responseDemultiplexer != null) {
+                responseDemultiplexer.close();
+            }
         }
     }
 
@@ -491,7 +559,8 @@ public class InternalStreamConnection implements InternalConnection {
         }
 
         if (message.isResponseExpected()) {
-            return receiveCommandMessageResponse(decoder, commandEventSender, operationContext, tracingSpan);
+            return receiveCommandMessageResponse(decoder, commandEventSender, operationContext, tracingSpan,
+                    responseDemultiplexer == null ? responseTo : message.getId());
         } else {
             commandEventSender.sendSucceededEventForOneWayCommand();
             if (tracingSpan != null) {
@@ -504,6 +573,7 @@ public class InternalStreamConnection implements InternalConnection {
 
     @Override
     public <T> void send(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+        assertNull(responseDemultiplexer);
         try (ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this)) {
             message.encode(bsonOutput, operationContext);
             sendCommandMessage(message, bsonOutput, operationContext);
@@ -516,7 +586,7 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public <T> T receive(final Decoder<T> decoder, final OperationContext operationContext) {
         isTrue("Response is expected", hasMoreToCome);
-        return receiveCommandMessageResponse(decoder, new NoOpCommandEventSender(), operationContext, null);
+        return receiveCommandMessageResponse(decoder, new NoOpCommandEventSender(), operationContext, null, responseTo);
     }
 
     @Override
@@ -562,24 +632,26 @@ public class InternalStreamConnection implements InternalConnection {
     }
 
     private <T> T receiveCommandMessageResponse(final Decoder<T> decoder, final CommandEventSender commandEventSender,
-            final OperationContext operationContext, @Nullable final Span tracingSpan) {
+            final OperationContext operationContext, @Nullable final Span tracingSpan, final int expectedResponseTo) {
         boolean commandSuccessful = false;
-        try (ResponseBuffers responseBuffers = receiveResponseBuffers(operationContext)) {
+        try (ResponseBuffers responseBuffers = receiveResponseBuffers(expectedResponseTo, operationContext)) {
             updateSessionContext(operationContext.getSessionContext(), responseBuffers);
             if (!isCommandOk(responseBuffers)) {
-                throw getCommandFailureException(responseBuffers.getResponseDocument(responseTo,
+                throw getCommandFailureException(responseBuffers.getResponseDocument(expectedResponseTo,
                         new BsonDocumentCodec()), description.getServerAddress(), operationContext.getTimeoutContext());
             }
 
             commandSuccessful = true;
             commandEventSender.sendSucceededEvent(responseBuffers);
 
-            T commandResult = getCommandResult(decoder, responseBuffers, responseTo, operationContext.getTimeoutContext());
-            hasMoreToCome = responseBuffers.getReplyHeader().hasMoreToCome();
-            if (hasMoreToCome) {
-                responseTo = responseBuffers.getReplyHeader().getRequestId();
-            } else {
-                responseTo = 0;
+            T commandResult = getCommandResult(decoder, responseBuffers, expectedResponseTo, operationContext.getTimeoutContext());
+            if (responseDemultiplexer == null) {
+                hasMoreToCome = responseBuffers.getReplyHeader().hasMoreToCome();
+                if (hasMoreToCome) {
+                    responseTo = responseBuffers.getReplyHeader().getRequestId();
+                } else {
+                    responseTo = 0;
+                }
             }
 
             return commandResult;
@@ -762,7 +834,7 @@ public class InternalStreamConnection implements InternalConnection {
                                    final ResponseBuffers responseBuffers,
                                    final int messageId,
                                    final TimeoutContext timeoutContext) {
-        T result = new ReplyMessage<>(responseBuffers, decoder, messageId).getDocument();
+        T result = new ReplyMessage<>(responseBuffers, decoder, messageId, fieldNameCache).getDocument();
         MongoException writeConcernBasedError = createSpecialWriteConcernException(responseBuffers,
                 description.getServerAddress(),
                 timeoutContext);
@@ -781,11 +853,19 @@ public class InternalStreamConnection implements InternalConnection {
         if (isClosed()) {
             throw new MongoSocketClosedException("Cannot write to a closed stream", getServerAddress());
         }
+        if (responseDemultiplexer != null) {
+            lockInterruptibly(sendLock);
+        }
         try {
+            recordMessageSent(byteBuffers);
             stream.write(byteBuffers, operationContext);
         } catch (Exception e) {
             close();
             throwTranslatedWriteException(e, operationContext);
+        } finally {
+            if (responseDemultiplexer != null) {
+                sendLock.unlock();
+            }
         }
     }
 
@@ -802,6 +882,7 @@ public class InternalStreamConnection implements InternalConnection {
             }
             c.complete(c);
         }).thenRunTryCatchAsyncBlocks(c -> {
+            recordMessageSent(byteBuffers);
             stream.writeAsync(byteBuffers, operationContext, c.asHandler());
         }, Exception.class, (e, c) -> {
             try {
@@ -820,7 +901,7 @@ public class InternalStreamConnection implements InternalConnection {
             throw new MongoSocketClosedException("Cannot read from a closed stream", getServerAddress());
         }
 
-        return receiveResponseBuffers(operationContext);
+        return receiveResponseBuffers(responseTo, operationContext);
     }
 
     @Override
@@ -872,6 +953,22 @@ public class InternalStreamConnection implements InternalConnection {
         return description.getConnectionId();
     }
 
+    private void recordMessageSent(final List<ByteBuf> byteBuffers) {
+        if (metrics != null) {
+            long bytes = 0;
+            for (int i = 0; i < byteBuffers.size(); i++) {
+                bytes += byteBuffers.get(i).remaining();
+            }
+            metrics.messageSent(bytes);
+        }
+    }
+
+    private void recordMessageReceived(final MessageHeader messageHeader) {
+        if (metrics != null) {
+            metrics.messageReceived(messageHeader.getMessageLength());
+        }
+    }
+
     private ServerAddress getServerAddress() {
         return description.getServerAddress();
     }
@@ -937,6 +1034,14 @@ public class InternalStreamConnection implements InternalConnection {
                 getServerAddress(), e);
     }
 
+    private ResponseBuffers receiveResponseBuffers(final int expectedResponseTo, final OperationContext operationContext) {
+        if (responseDemultiplexer == null) {
+            return receiveResponseBuffers(operationContext);
+        }
+        return responseDemultiplexer.receive(expectedResponseTo, operationContext.getTimeoutContext(),
+                () -> receiveResponseBuffers(operationContext));
+    }
+
     private ResponseBuffers receiveResponseBuffers(final OperationContext operationContext) {
         try {
             ByteBuf messageHeaderBuffer = stream.read(MESSAGE_HEADER_LENGTH, operationContext);
@@ -946,6 +1051,7 @@ public class InternalStreamConnection implements InternalConnection {
             } finally {
                 messageHeaderBuffer.release();
             }
+            recordMessageReceived(messageHeader);
 
             ByteBuf messageBuffer = stream.read(messageHeader.getMessageLength() - MESSAGE_HEADER_LENGTH, operationContext);
             boolean releaseMessageBuffer = true;
@@ -1008,6 +1114,7 @@ public class InternalStreamConnection implements InternalConnection {
             try {
                 assertNotNull(result);
                 MessageHeader messageHeader = new MessageHeader(result, description.getMaxMessageSize());
+                recordMessageReceived(messageHeader);
                 readAsync(messageHeader.getMessageLength() - MESSAGE_HEADER_LENGTH, operationContext,
                         new MessageCallback(messageHeader));
             } catch (Throwable localThrowable) {
@@ -24,6 +24,7 @@ import com.mongodb.connection.ClusterConnectionMode;
 import com.mongodb.connection.ServerId;
 import com.mongodb.event.CommandListener;
 import com.mongodb.lang.Nullable;
+import org.bson.io.FieldNameCache;
 
 import java.util.List;
 
@@ -40,6 +41,11 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     @Nullable
     private final ServerApi serverApi;
     private final MongoCredentialWithCache credential;
+    private final boolean pipelined;
+    @Nullable
+    private final ConnectionPoolMetrics metrics;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
 
     InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode,
                                     final StreamFactory streamFactory,
@@ -58,6 +64,39 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                                     final ClientMetadata clientMetadata,
             final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, clientMetadata, compressorList,
+                loggerSettings, commandListener, serverApi, false);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+            final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi,
+            final boolean pipelined) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, clientMetadata, compressorList,
+                loggerSettings, commandListener, serverApi, pipelined, null);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+            final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi,
+            final boolean pipelined, @Nullable final ConnectionPoolMetrics metrics) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, clientMetadata, compressorList,
+                loggerSettings, commandListener, serverApi, pipelined, metrics, null);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+            final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi,
+            final boolean pipelined, @Nullable final ConnectionPoolMetrics metrics, @Nullable final FieldNameCache fieldNameCache) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.isMonitoringConnection = isMonitoringConnection;
         this.streamFactory = notNull("streamFactory", streamFactory);
@@ -67,6 +106,9 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
         this.serverApi = serverApi;
         this.clientMetadata = clientMetadata;
         this.credential = credential;
+        this.pipelined = pipelined;
+        this.metrics = metrics;
+        this.fieldNameCache = fieldNameCache;
     }
 
     @Override
@@ -78,7 +120,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                 clusterConnectionMode, authenticator,
                 isMonitoringConnection, serverId, connectionGenerationSupplier,
                 streamFactory, compressorList, loggerSettings, commandListener,
-                connectionInitializer);
+                connectionInitializer, pipelined, metrics, fieldNameCache);
     }
 
     private Authenticator createAuthenticator(final MongoCredentialWithCache credential) {
@@ -31,6 +31,8 @@ import com.mongodb.internal.inject.EmptyProvider;
 import com.mongodb.lang.Nullable;
 
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static com.mongodb.internal.event.EventListenerHelper.singleServerListener;
 
@@ -49,6 +51,10 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     private final List<MongoCompressor> compressorList;
     private final ServerApi serverApi;
     private final InternalOperationContextFactory operationContextFactory;
+    @Nullable
+    private final ThreadFactory threadFactory;
+    @Nullable
+    private final ScheduledExecutorService backgroundScheduler;
 
     public LoadBalancedClusterableServerFactory(final ServerSettings serverSettings,
             final ConnectionPoolSettings connectionPoolSettings,
@@ -57,7 +63,8 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
             final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
             final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-            final InternalOperationContextFactory operationContextFactory) {
+            final InternalOperationContextFactory operationContextFactory, @Nullable final ThreadFactory threadFactory,
+            @Nullable final ScheduledExecutorService backgroundScheduler) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -68,14 +75,20 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
         this.compressorList = compressorList;
         this.serverApi = serverApi;
         this.operationContextFactory = operationContextFactory;
+        this.threadFactory = threadFactory;
+        this.backgroundScheduler = backgroundScheduler;
     }
 
     @Override
     public ClusterableServer create(final Cluster cluster, final ServerAddress serverAddress) {
+        ConnectionPoolMetrics connectionPoolMetrics = internalConnectionPoolSettings.getMetricsRegistry() == null
+                ? null : new ConnectionPoolMetrics();
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(cluster.getClusterId(), serverAddress),
-                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, streamFactory, credential, cluster.getClientMetadata(),
-                        compressorList, loggerSettings, commandListener, serverApi),
-                connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), operationContextFactory);
+                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, false, streamFactory, credential,
+                        cluster.getClientMetadata(), compressorList, loggerSettings, commandListener, serverApi, false,
+                        connectionPoolMetrics, internalConnectionPoolSettings.getFieldNameCache()),
+                connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), operationContextFactory,
+                connectionPoolMetrics, threadFactory, backgroundScheduler);
         connectionPool.ready();
 
         return new LoadBalancedServer(new ServerId(cluster.getClusterId(), serverAddress), connectionPool, new DefaultConnectionFactory(),
@@ -149,6 +149,17 @@ public class LoadBalancedServer implements ClusterableServer {
         return -1;
     }
 
+    @Nullable
+    @Override
+    public OperationLatencyHistogram operationLatencies() {
+        return null;
+    }
+
+    @Override
+    public void warmUpConnectionPool(final int targetSize) {
+        connectionPool.warmUp(targetSize);
+    }
+
     @VisibleForTesting(otherwise = PRIVATE)
     ConnectionPool getConnectionPool() {
         return connectionPool;
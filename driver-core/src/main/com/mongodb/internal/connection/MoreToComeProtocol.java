@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.internal.session.SessionContext;
+import com.mongodb.lang.Nullable;
+import org.bson.codecs.Decoder;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Reads the next reply that the server streams to a command sent with the {@code exhaustAllowed} flag.
+ */
+class MoreToComeProtocol<T> implements CommandProtocol<T> {
+    private final Decoder<T> commandResultDecoder;
+    private final OperationContext operationContext;
+
+    MoreToComeProtocol(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        this.commandResultDecoder = notNull("commandResultDecoder", commandResultDecoder);
+        this.operationContext = operationContext;
+    }
+
+    @Nullable
+    @Override
+    public T execute(final InternalConnection connection) {
+        return connection.receive(commandResultDecoder, operationContext);
+    }
+
+    @Override
+    public void executeAsync(final InternalConnection connection, final SingleResultCallback<T> callback) {
+        callback.onResult(null, new UnsupportedOperationException("Streamed replies can only be received synchronously"));
+    }
+
+    @Override
+    public MoreToComeProtocol<T> withSessionContext(final SessionContext sessionContext) {
+        return new MoreToComeProtocol<>(commandResultDecoder, operationContext.withSessionContext(sessionContext));
+    }
+}
@@ -224,16 +224,44 @@ public class OperationContext {
         return withTimeoutContext(timeoutContextOverrideFunction.apply(timeoutContext));
     }
 
+    /**
+     * Create a new OperationContext for an attempt that hedges the attempt executed with {@code hedgedOperationContext}:
+     * server selection deprioritizes the server that the hedged attempt selected, regardless of the cluster type.
+     */
+    public OperationContext withHedgedAttemptServerDeprioritization(final OperationContext hedgedOperationContext) {
+        return new OperationContext(id, requestContext, sessionContext, timeoutContext,
+                hedgedOperationContext.serverDeprioritization.forHedgedAttempt(), tracingManager, serverApi, operationName, tracingSpan);
+    }
+
     public static final class ServerDeprioritization {
         @Nullable
-        private ServerAddress candidate;
+        private volatile ServerAddress candidate;
         private final Set<ServerAddress> deprioritized;
         private final DeprioritizingSelector selector;
+        private final boolean hedgedAttempt;
 
         private ServerDeprioritization() {
+            this(false);
+        }
+
+        private ServerDeprioritization(final boolean hedgedAttempt) {
             candidate = null;
             deprioritized = new HashSet<>();
             selector = new DeprioritizingSelector();
+            this.hedgedAttempt = hedgedAttempt;
+        }
+
+        /**
+         * May be called concurrently with the attempt that uses this {@link ServerDeprioritization}, which is why it only reads the
+         * {@linkplain #updateCandidate(ServerAddress) candidate}.
+         */
+        private ServerDeprioritization forHedgedAttempt() {
+            ServerDeprioritization result = new ServerDeprioritization(true);
+            ServerAddress hedgedCandidate = candidate;
+            if (hedgedCandidate != null) {
+                result.deprioritized.add(hedgedCandidate);
+            }
+            return result;
         }
 
         /**
@@ -280,7 +308,7 @@ public class OperationContext {
             }
 
             private boolean isEnabled(final ClusterType clusterType) {
-                return clusterType == ClusterType.SHARDED;
+                return hedgedAttempt || clusterType == ClusterType.SHARDED;
             }
         }
     }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.internal.VisibleForTesting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The distribution of the round trip times of the commands recently executed on a server.
+ *
+ * <p>Round trip times are counted in logarithmic buckets, with eight buckets per power of two microseconds, so that percentiles are
+ * approximated within 12.5%. Only the round trip times recorded in the last one to two {@linkplain #WINDOW_NANOS windows} are
+ * counted, so that a server that recovers from a slowdown is soon selected again.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class OperationLatencyHistogram {
+    private static final long WINDOW_NANOS = SECONDS.toNanos(10);
+    private static final int MIN_SAMPLE_COUNT = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private volatile Window current;
+    private volatile Window previous;
+    private final Lock rotationLock = new ReentrantLock();
+
+    public OperationLatencyHistogram() {
+        this(System.nanoTime());
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    OperationLatencyHistogram(final long nowNanos) {
+        current = new Window(nowNanos);
+        previous = new Window(nowNanos - WINDOW_NANOS);
+    }
+
+    /**
+     * Records the round trip time of a command.
+     *
+     * @param latencyNanos the round trip time in nanoseconds
+     */
+    public void record(final long latencyNanos) {
+        record(latencyNanos, System.nanoTime());
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    void record(final long latencyNanos, final long nowNanos) {
+        Window window = current;
+        if (nowNanos - window.startNanos >= WINDOW_NANOS) {
+            window = rotate(nowNanos);
+        }
+        window.counts.incrementAndGet(getBucketIndex(NANOSECONDS.toMicros(latencyNanos)));
+        // incremented after the bucket, so that the counts of the buckets add up to at least the total read before them
+        window.total.increment();
+    }
+
+    /**
+     * Gets a percentile of the recent round trip times.
+     *
+     * @param percentile the percentile, greater than 0 and less than 100
+     * @param timeUnit   the time unit of the result
+     * @return the percentile, rounded up to the upper bound of its bucket, or a negative value if too few round trip times were recorded
+     * recently
+     */
+    public long getPercentile(final double percentile, final TimeUnit timeUnit) {
+        return getPercentile(percentile, timeUnit, System.nanoTime());
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    long getPercentile(final double percentile, final TimeUnit timeUnit, final long nowNanos) {
+        isTrueArgument("percentile > 0 and < 100", percentile > 0 && percentile < 100);
+        Window currentWindow = current;
+        Window previousWindow = previous;
+        boolean includeCurrent = nowNanos - currentWindow.startNanos < 2 * WINDOW_NANOS;
+        boolean includePrevious = nowNanos - previousWindow.startNanos < 2 * WINDOW_NANOS;
+        // a single pass that stops at the bucket of the percentile, as this is called for every server on every selection
+        long total = (includeCurrent ? currentWindow.total.sum() : 0) + (includePrevious ? previousWindow.total.sum() : 0);
+        if (total < MIN_SAMPLE_COUNT) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += (includeCurrent ? currentWindow.counts.get(i) : 0) + (includePrevious ? previousWindow.counts.get(i) : 0);
+            if (cumulative >= rank) {
+                return timeUnit.convert(getBucketUpperBound(i), MICROSECONDS);
+            }
+        }
+        return timeUnit.convert(getBucketUpperBound(BUCKET_COUNT - 1), MICROSECONDS);
+    }
+
+    private Window rotate(final long nowNanos) {
+        return withLock(rotationLock, () -> {
+            Window window = current;
+            if (nowNanos - window.startNanos >= WINDOW_NANOS) {
+                previous = window;
+                window = new Window(nowNanos);
+                current = window;
+            }
+            return window;
+        });
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    static int getBucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+        long value = Math.min(micros, (1L << (MAX_EXPONENT + 1)) - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT
+                + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    static long getBucketUpperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index + 1;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long lowerBound = ((long) SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS));
+    }
+
+    private static final class Window {
+        private final long startNanos;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder total = new LongAdder();
+
+        Window(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.mongodb.internal.connection;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
 import org.bson.ByteBufNIO;
 
@@ -30,14 +31,36 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * A pool of buffers whose capacities are powers of two.
+ *
+ * <p>Each size class consists of a small striped magazine in front of a shared deque. A thread first tries the magazine slot that its
+ * id maps to, and only falls back to the shared deque if that slot is empty (on acquisition) or occupied (on release). This keeps
+ * threads that repeatedly acquire and release buffers of the same size from contending on the head of the shared deque.</p>
+ *
+ * <p>The total number of bytes retained by the pool is bounded: a released buffer that does not fit under the bound is left for the
+ * garbage collector.</p>
+ *
+ * <p>A pool either allocates heap buffers or direct buffers. For the latter, {@link #getInUseBytes()} can be used to detect buffers
+ * that are acquired but never released, as the memory they hold is not reclaimed until the garbage collector finds them.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class PowerOfTwoBufferPool implements BufferProvider {
     private static final Logger LOGGER = Loggers.getLogger("connection");
 
+    /**
+     * The default bound on the total number of bytes retained by a pool.
+     */
+    static final long DEFAULT_MAX_RETAINED_BYTES = 256L * 1024 * 1024;
+    private static final int MAGAZINE_STRIPES = roundUpToNextHighestPowerOfTwo(Runtime.getRuntime().availableProcessors() * 2);
+
     /**
      * The global default pool.  Pruning is enabled on this pool. Idle buffers are pruned after one minute.
      */
@@ -63,6 +86,12 @@ public class PowerOfTwoBufferPool implements BufferProvider {
 
     private final Map<Integer, BufferPool> powerOfTwoToPoolMap = new HashMap<>();
     private final long maxIdleTimeNanos;
+    private final long maxRetainedBytes;
+    private final boolean direct;
+    private final LongAdder inUseBytes = new LongAdder();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
     private final ScheduledExecutorService pruner;
 
     /**
@@ -89,6 +118,47 @@ public class PowerOfTwoBufferPool implements BufferProvider {
      * @param timeUnit time unit of maxIdleTime
      */
     PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit) {
+        this(highestPowerOfTwo, maxIdleTime, timeUnit, DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param maxIdleTime max idle time when pruning is enabled
+     * @param timeUnit time unit of maxIdleTime
+     * @param maxRetainedBytes the maximum total capacity of the buffers retained by the pool
+     */
+    PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit, final long maxRetainedBytes) {
+        this(highestPowerOfTwo, maxIdleTime, timeUnit, maxRetainedBytes, false);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param maxIdleTime max idle time when pruning is enabled
+     * @param timeUnit time unit of maxIdleTime
+     * @param maxRetainedBytes the maximum total capacity of the buffers retained by the pool
+     * @param direct whether the pool allocates direct buffers
+     */
+    PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit, final long maxRetainedBytes,
+            final boolean direct) {
+        this(highestPowerOfTwo, maxIdleTime, timeUnit, maxRetainedBytes, direct, null);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param maxIdleTime max idle time when pruning is enabled
+     * @param timeUnit time unit of maxIdleTime
+     * @param maxRetainedBytes the maximum total capacity of the buffers retained by the pool
+     * @param direct whether the pool allocates direct buffers
+     * @param threadFactory the thread factory to create the pruning thread with, or null to create a daemon platform thread
+     */
+    PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit, final long maxRetainedBytes,
+            final boolean direct, @Nullable final ThreadFactory threadFactory) {
         int powerOfTwo = 1;
         for (int i = 0; i <= highestPowerOfTwo; i++) {
             int size = powerOfTwo;
@@ -96,7 +166,20 @@ public class PowerOfTwoBufferPool implements BufferProvider {
             powerOfTwo = powerOfTwo << 1;
         }
         maxIdleTimeNanos = timeUnit.toNanos(maxIdleTime);
-        pruner = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BufferPoolPruner"));
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.direct = direct;
+        pruner = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BufferPoolPruner", threadFactory));
+    }
+
+    /**
+     * Creates a pool of direct buffers, with pruning enabled.
+     *
+     * @param maxRetainedBytes the maximum total capacity of the buffers retained by the pool
+     * @param threadFactory the thread factory to create the pruning thread with, or null to create a daemon platform thread
+     * @return the pool, which must be {@linkplain #disablePruning() disposed of} when no longer needed
+     */
+    static PowerOfTwoBufferPool createDirect(final long maxRetainedBytes, @Nullable final ThreadFactory threadFactory) {
+        return new PowerOfTwoBufferPool(24, 1, TimeUnit.MINUTES, maxRetainedBytes, true, threadFactory).enablePruning();
     }
 
     /**
@@ -118,27 +201,104 @@ public class PowerOfTwoBufferPool implements BufferProvider {
 
     public ByteBuffer getByteBuffer(final int size) {
         BufferPool pool = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(size)));
-        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get().getBuffer();
+        ByteBuffer byteBuffer;
+        if (pool == null) {
+            missCount.increment();
+            byteBuffer = createNew(size);
+        } else {
+            byteBuffer = pool.get();
+        }
 
         ((Buffer) byteBuffer).clear();
         ((Buffer) byteBuffer).limit(size);
+        inUseBytes.add(byteBuffer.capacity());
         return byteBuffer;
     }
 
     private ByteBuffer createNew(final int size) {
-        ByteBuffer buf = ByteBuffer.allocate(size);
+        ByteBuffer buf = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
         buf.order(ByteOrder.LITTLE_ENDIAN);
         return buf;
     }
 
     public void release(final ByteBuffer buffer) {
+        inUseBytes.add(-buffer.capacity());
         BufferPool pool =
                 powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(buffer.capacity())));
-        if (pool != null) {
+        if (pool != null && tryRetain(buffer.capacity())) {
             pool.release(new IdleTrackingByteBuffer(buffer));
         }
     }
 
+    /**
+     * Gets the number of buffer requests that were satisfied by a buffer retained by the pool.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of buffer requests that required allocating a new buffer.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the total capacity of the buffers currently retained by the pool.
+     *
+     * @return the retained bytes
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    /**
+     * Gets the total capacity of the buffers acquired from the pool and not yet released to it.
+     *
+     * @return the in-use bytes
+     */
+    public long getInUseBytes() {
+        return inUseBytes.sum();
+    }
+
+    /**
+     * Gets whether the pool allocates direct buffers.
+     *
+     * @return true if the buffers are direct
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Gets the maximum total capacity of the buffers that the pool retains.
+     *
+     * @return the maximum retained bytes
+     */
+    public long getMaxRetainedBytes() {
+        return maxRetainedBytes;
+    }
+
+    private boolean tryRetain(final int capacity) {
+        long current;
+        do {
+            current = retainedBytes.get();
+            if (current + capacity > maxRetainedBytes) {
+                return false;
+            }
+        } while (!retainedBytes.compareAndSet(current, current + capacity));
+        return true;
+    }
+
+    private static int magazineIndex() {
+        return (int) Thread.currentThread().getId() & (MAGAZINE_STRIPES - 1);
+    }
+
     private void prune() {
         try {
             powerOfTwoToPoolMap.values().forEach(BufferPool::prune);
@@ -182,27 +342,52 @@ public class PowerOfTwoBufferPool implements BufferProvider {
 
     private final class BufferPool {
         private final int bufferSize;
+        private final AtomicReferenceArray<IdleTrackingByteBuffer> magazine = new AtomicReferenceArray<>(MAGAZINE_STRIPES);
         private final ConcurrentLinkedDeque<IdleTrackingByteBuffer> available = new ConcurrentLinkedDeque<>();
 
         BufferPool(final int bufferSize) {
             this.bufferSize = bufferSize;
         }
 
-        IdleTrackingByteBuffer get() {
-            IdleTrackingByteBuffer buffer = available.pollLast();
+        ByteBuffer get() {
+            int index = magazineIndex();
+            IdleTrackingByteBuffer buffer = magazine.get(index);
+            if (buffer == null || !magazine.compareAndSet(index, buffer, null)) {
+                buffer = available.pollLast();
+            }
             if (buffer != null) {
-                return buffer;
+                retainedBytes.addAndGet(-bufferSize);
+                hitCount.increment();
+                return buffer.getBuffer();
             }
-            return new IdleTrackingByteBuffer(createNew(bufferSize));
+            missCount.increment();
+            return createNew(bufferSize);
         }
 
         void release(final IdleTrackingByteBuffer t) {
-            available.addLast(t);
+            int index = magazineIndex();
+            if (magazine.get(index) != null || !magazine.compareAndSet(index, null, t)) {
+                available.addLast(t);
+            }
         }
 
         void prune() {
             long now = System.nanoTime();
-            available.removeIf(cur -> now - cur.getLastUsedNanos() >= maxIdleTimeNanos);
+            for (int i = 0; i < magazine.length(); i++) {
+                IdleTrackingByteBuffer cur = magazine.get(i);
+                if (cur != null && isIdle(cur, now) && magazine.compareAndSet(i, cur, null)) {
+                    retainedBytes.addAndGet(-bufferSize);
+                }
+            }
+            for (IdleTrackingByteBuffer cur : available) {
+                if (isIdle(cur, now) && available.remove(cur)) {
+                    retainedBytes.addAndGet(-bufferSize);
+                }
+            }
+        }
+
+        private boolean isIdle(final IdleTrackingByteBuffer buffer, final long now) {
+            return now - buffer.getLastUsedNanos() >= maxIdleTimeNanos;
         }
     }
 }
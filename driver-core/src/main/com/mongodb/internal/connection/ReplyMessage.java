@@ -17,11 +17,13 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
+import com.mongodb.lang.Nullable;
 import org.bson.BsonBinaryReader;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.io.BsonInput;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import static java.lang.String.format;
 
@@ -31,17 +33,25 @@ import static java.lang.String.format;
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class ReplyMessage<T> {
-
     private final T document;
 
     public ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId) {
+        this(responseBuffers, decoder, requestId, null);
+    }
+
+    /**
+     * @param fieldNameCache the cache of the field names of the replies of the connections of a client, or null to not cache them
+     */
+    public ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId,
+            @Nullable final FieldNameCache fieldNameCache) {
         if (requestId != responseBuffers.getReplyHeader().getResponseTo()) {
             throw new MongoInternalException(format("The responseTo (%d) in the response does not match the requestId (%d) in the "
                     + "request", responseBuffers.getReplyHeader().getResponseTo(), requestId));
         }
 
-        try (BsonInput bsonInput = new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer().duplicate())) {
-            try (BsonBinaryReader reader = new BsonBinaryReader(bsonInput)) {
+        // the body itself rather than a duplicate, so that decoders may retain it, see org.bson.codecs.PooledRawBsonDocumentCodec
+        try (BsonInput bsonInput = new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer().retain())) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(bsonInput, fieldNameCache)) {
                 document = decoder.decode(reader, DecoderContext.builder().build());
             }
         } finally {
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketClosedException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.MongoSocketReadTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.lang.Nullable;
+
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Correlates the replies read from a connection with the requests they respond to, so that several threads may each have a request in
+ * flight on the same connection.
+ *
+ * <p>At most one thread reads from the connection at any time. A reply that the reading thread reads on behalf of another thread is
+ * parked until that thread claims it, and a thread that finds another one reading waits, for no longer than its own timeout, until either
+ * its reply is parked or the reading role becomes free. A thread that stops waiting for its reply, because it timed out, was interrupted,
+ * or failed while reading, leaves the connection usable by the others: its reply is released when it arrives instead of being parked.
+ * Only when the connection is closed, which it is when reading from it fails, do the threads waiting for a reply fail too.</p>
+ */
+@ThreadSafe
+final class ResponseDemultiplexer {
+    private final ServerAddress serverAddress;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition replyParkedOrReaderLeft = lock.newCondition();
+    private final Map<Integer, ResponseBuffers> parkedReplies = new HashMap<>();
+    /**
+     * The ids of the requests whose replies are released when read, because the threads that sent them stopped waiting for them.
+     */
+    private final Set<Integer> abandonedRequestIds = new HashSet<>();
+    private boolean reading;
+    /**
+     * The failure of the read that closed the connection, if any.
+     */
+    @Nullable
+    private Throwable readFailure;
+    private boolean closed;
+
+    ResponseDemultiplexer(final ServerAddress serverAddress) {
+        this.serverAddress = serverAddress;
+    }
+
+    /**
+     * Returns the reply to the request with the specified id, reading replies with {@code reader} if no other thread is reading.
+     *
+     * @param requestId the id of the request whose reply is returned
+     * @param timeoutContext bounds the time spent waiting for another thread to read the reply by its
+     *                       {@linkplain TimeoutContext#getReadTimeoutMS() read timeout}
+     * @param reader reads the next reply from the connection
+     * @return the reply, which the caller must close
+     */
+    ResponseBuffers receive(final int requestId, final TimeoutContext timeoutContext, final Supplier<ResponseBuffers> reader) {
+        lock.lock();
+        boolean replied = false;
+        try {
+            long timeoutMS = timeoutContext.getReadTimeoutMS();
+            long remainingNanos = timeoutMS == 0 ? Long.MAX_VALUE : MILLISECONDS.toNanos(timeoutMS);
+            while (true) {
+                ResponseBuffers reply = parkedReplies.remove(requestId);
+                if (reply != null) {
+                    replied = true;
+                    return reply;
+                }
+                throwIfClosed();
+                if (reading) {
+                    if (remainingNanos <= 0) {
+                        throw createTimeoutException(requestId, timeoutContext);
+                    }
+                    remainingNanos = awaitReplyParkedOrReaderLeft(remainingNanos);
+                } else {
+                    reply = readAsReader(reader);
+                    int responseTo = reply.getReplyHeader().getResponseTo();
+                    if (responseTo == requestId) {
+                        replied = true;
+                        return reply;
+                    }
+                    if (abandonedRequestIds.remove(responseTo)) {
+                        reply.close();
+                    } else {
+                        parkedReplies.put(responseTo, reply);
+                    }
+                }
+            }
+        } finally {
+            if (!replied && !closed) {
+                abandon(requestId);
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the replies that were read but never claimed, and fails the threads waiting for a reply.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            parkedReplies.values().forEach(ResponseBuffers::close);
+            parkedReplies.clear();
+            abandonedRequestIds.clear();
+            replyParkedOrReaderLeft.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Must be called while holding {@link #lock}, which is released while reading.
+     */
+    private ResponseBuffers readAsReader(final Supplier<ResponseBuffers> reader) {
+        reading = true;
+        lock.unlock();
+        ResponseBuffers reply;
+        try {
+            reply = reader.get();
+        } catch (Throwable t) {
+            lock.lock();
+            reading = false;
+            if (closed && readFailure == null) {
+                readFailure = t;
+            }
+            replyParkedOrReaderLeft.signalAll();
+            throw t;
+        }
+        lock.lock();
+        reading = false;
+        replyParkedOrReaderLeft.signalAll();
+        if (closed) {
+            reply.close();
+            throwIfClosed();
+        }
+        return reply;
+    }
+
+    /**
+     * @return the remaining nanoseconds, which are not positive if the wait timed out
+     */
+    private long awaitReplyParkedOrReaderLeft(final long remainingNanos) {
+        try {
+            if (remainingNanos == Long.MAX_VALUE) {
+                replyParkedOrReaderLeft.await();
+                return Long.MAX_VALUE;
+            }
+            return replyParkedOrReaderLeft.awaitNanos(remainingNanos);
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted waiting for a reply", e);
+        }
+    }
+
+    /**
+     * Must be called while holding {@link #lock}.
+     */
+    private void abandon(final int requestId) {
+        ResponseBuffers reply = parkedReplies.remove(requestId);
+        if (reply != null) {
+            reply.close();
+        } else {
+            abandonedRequestIds.add(requestId);
+        }
+    }
+
+    private MongoException createTimeoutException(final int requestId, final TimeoutContext timeoutContext) {
+        MongoSocketReadTimeoutException readTimeoutException = new MongoSocketReadTimeoutException("Timeout while receiving message",
+                serverAddress, new SocketTimeoutException("Timed out waiting for the reply to request " + requestId));
+        return timeoutContext.hasTimeoutMS() ? createMongoTimeoutException(readTimeoutException) : readTimeoutException;
+    }
+
+    private void throwIfClosed() {
+        if (closed) {
+            if (readFailure != null) {
+                throw new MongoSocketReadException("Exception receiving message", serverAddress, readFailure);
+            }
+            throw new MongoSocketClosedException("Cannot read from a closed stream", serverAddress);
+        }
+    }
+}
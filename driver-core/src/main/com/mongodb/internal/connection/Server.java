@@ -18,6 +18,7 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.annotations.ThreadSafe;
 import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
 
 /**
  * A logical connection to a MongoDB server.
@@ -59,4 +60,21 @@ public interface Server {
      * @return A negative value iff the server does not track its operation count.
      */
     int operationCount();
+
+    /**
+     * The distribution of the round trip times of the commands recently executed on this server.
+     *
+     * @return {@code null} iff the server does not track the round trip times of commands.
+     */
+    @Nullable
+    OperationLatencyHistogram operationLatencies();
+
+    /**
+     * Opens connections to this server, up to {@linkplain com.mongodb.connection.ConnectionPoolSettings#getMaxConnecting()
+     * maxConnecting} at a time, until its connection pool has {@code targetSize} connections or its maximum size,
+     * and blocks until they are opened.
+     *
+     * @param targetSize the number of connections to warm up the connection pool to
+     */
+    void warmUpConnectionPool(int targetSize);
 }
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
+import org.bson.ByteBuf;
+import org.bson.codecs.Decoder;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+
+/**
+ * A {@link ConnectionPool} that lets up to {@code maxConcurrentOperationsPerConnection} synchronous operations share each connection
+ * checked out of the wrapped pool. The connections of the wrapped pool must be pipelined, that is, must support concurrent
+ * {@link InternalConnection#sendAndReceive(CommandMessage, Decoder, OperationContext)} calls.
+ *
+ * <p>{@link #get(OperationContext)} shares the least loaded connection that is already checked out, if its load is below the maximum,
+ * and checks a new connection out of the wrapped pool otherwise. A connection is checked back into the wrapped pool when the last
+ * operation sharing it is done with it. Connections checked out via {@link #getAsync(OperationContext, SingleResultCallback)} are not
+ * shared.</p>
+ *
+ * <p>Connections must not be shared when connected to a load balancer, because operations may then pin them. Shared connections never
+ * let the server stream replies, that is, the {@code exhaustAllowed} flag of commands sent via shared connections is cleared.
+ * Nor do they carry {@code getMore} commands, which the server holds for tailable {@code awaitData} cursors and change streams,
+ * delaying the replies to the commands pipelined after them: a {@code getMore} is sent over a connection checked out of the wrapped
+ * pool for it alone. As the reply to a {@code getMore} does not tell which kind of cursor it is for, this applies to all cursors.</p>
+ */
+@ThreadSafe
+final class SharingConnectionPool implements ConnectionPool {
+    private final ConnectionPool wrapped;
+    private final int maxConcurrentOperationsPerConnection;
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private final List<SharedConnection> sharedConnections = new ArrayList<>();
+
+    SharingConnectionPool(final ConnectionPool wrapped, final int maxConcurrentOperationsPerConnection) {
+        isTrueArgument("maxConcurrentOperationsPerConnection > 1", maxConcurrentOperationsPerConnection > 1);
+        this.wrapped = notNull("wrapped", wrapped);
+        this.maxConcurrentOperationsPerConnection = maxConcurrentOperationsPerConnection;
+    }
+
+    @Override
+    public InternalConnection get(final OperationContext operationContext) {
+        SharedConnection sharedConnection = withLock(lock, this::tryShare);
+        if (sharedConnection == null) {
+            InternalConnection connection = wrapped.get(operationContext);
+            sharedConnection = withLock(lock, () -> {
+                SharedConnection newSharedConnection = new SharedConnection(connection);
+                sharedConnections.add(newSharedConnection);
+                return newSharedConnection;
+            });
+        }
+        return new Lease(sharedConnection);
+    }
+
+    @Override
+    public void getAsync(final OperationContext operationContext, final SingleResultCallback<InternalConnection> callback) {
+        wrapped.getAsync(operationContext, callback);
+    }
+
+    @Override
+    public void invalidate(@Nullable final Throwable cause) {
+        wrapped.invalidate(cause);
+    }
+
+    @Override
+    public void invalidate(final ObjectId serviceId, final int generation) {
+        wrapped.invalidate(serviceId, generation);
+    }
+
+    @Override
+    public void ready() {
+        wrapped.ready();
+    }
+
+    @Override
+    public void warmUp(final int targetSize) {
+        wrapped.warmUp(targetSize);
+    }
+
+    @Override
+    public void close() {
+        wrapped.close();
+    }
+
+    @Override
+    public int getGeneration() {
+        return wrapped.getGeneration();
+    }
+
+    int getSharedConnectionCount() {
+        return withLock(lock, sharedConnections::size);
+    }
+
+    /**
+     * Must be called while holding {@link #lock}.
+     */
+    @Nullable
+    private SharedConnection tryShare() {
+        int generation = wrapped.getGeneration();
+        SharedConnection leastLoaded = null;
+        for (SharedConnection candidate : sharedConnections) {
+            if (candidate.leaseCount < maxConcurrentOperationsPerConnection
+                    && !candidate.connection.isClosed()
+                    && candidate.connection.getGeneration() == generation
+                    && (leastLoaded == null || candidate.leaseCount < leastLoaded.leaseCount)) {
+                leastLoaded = candidate;
+            }
+        }
+        if (leastLoaded != null) {
+            leastLoaded.leaseCount++;
+        }
+        return leastLoaded;
+    }
+
+    private void release(final SharedConnection sharedConnection) {
+        boolean checkIn = withLock(lock, () -> {
+            sharedConnection.leaseCount--;
+            if (sharedConnection.leaseCount == 0) {
+                sharedConnections.remove(sharedConnection);
+                return true;
+            }
+            return false;
+        });
+        if (checkIn) {
+            sharedConnection.connection.close();
+        }
+    }
+
+    private static final class SharedConnection {
+        private final InternalConnection connection;
+        /**
+         * Guarded by {@link SharingConnectionPool#lock}.
+         */
+        private int leaseCount = 1;
+
+        SharedConnection(final InternalConnection connection) {
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * The view of a {@link SharedConnection} given to a single operation.
+     */
+    private final class Lease implements InternalConnection {
+        private final SharedConnection sharedConnection;
+        private final InternalConnection wrapped;
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+
+        Lease(final SharedConnection sharedConnection) {
+            this.sharedConnection = sharedConnection;
+            this.wrapped = sharedConnection.connection;
+        }
+
+        @Override
+        public ConnectionDescription getDescription() {
+            return wrapped.getDescription();
+        }
+
+        @Override
+        public ServerDescription getInitialServerDescription() {
+            isTrue("open", !isClosed.get());
+            return wrapped.getInitialServerDescription();
+        }
+
+        @Override
+        public void open(final OperationContext operationContext) {
+            wrapped.open(operationContext);
+        }
+
+        @Override
+        public void openAsync(final OperationContext operationContext, final SingleResultCallback<Void> callback) {
+            wrapped.openAsync(operationContext, callback);
+        }
+
+        @Override
+        public void close() {
+            // All but the first call is a no-op
+            if (!isClosed.getAndSet(true)) {
+                release(sharedConnection);
+            }
+        }
+
+        @Override
+        public boolean opened() {
+            return wrapped.opened();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return isClosed.get() || wrapped.isClosed();
+        }
+
+        @Override
+        public int getGeneration() {
+            return wrapped.getGeneration();
+        }
+
+        @Override
+        public ByteBuf getBuffer(final int size) {
+            return wrapped.getBuffer(size);
+        }
+
+        @Override
+        public <T> T sendAndReceive(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            isTrue("open", !isClosed.get());
+            // replies streamed to one operation would block the other operations sharing the connection
+            CommandMessage notExhaustAllowedMessage = message.isExhaustAllowed() ? message.withoutExhaustAllowed() : message;
+            if (message.isGetMore()) {
+                try (InternalConnection exclusiveConnection = SharingConnectionPool.this.wrapped.get(operationContext)) {
+                    return exclusiveConnection.sendAndReceive(notExhaustAllowedMessage, decoder, operationContext);
+                }
+            }
+            return wrapped.sendAndReceive(notExhaustAllowedMessage, decoder, operationContext);
+        }
+
+        @Override
+        public <T> void send(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            isTrue("open", !isClosed.get());
+            wrapped.send(message, decoder, operationContext);
+        }
+
+        @Override
+        public <T> T receive(final Decoder<T> decoder, final OperationContext operationContext) {
+            isTrue("open", !isClosed.get());
+            return wrapped.receive(decoder, operationContext);
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            isTrue("open", !isClosed.get());
+            return wrapped.hasMoreToCome();
+        }
+
+        @Override
+        public <T> void sendAndReceiveAsync(final CommandMessage message, final Decoder<T> decoder,
+                final OperationContext operationContext, final SingleResultCallback<T> callback) {
+            isTrue("open", !isClosed.get());
+            wrapped.sendAndReceiveAsync(message, decoder, operationContext, callback);
+        }
+
+        @Override
+        public void sendMessage(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext) {
+            isTrue("open", !isClosed.get());
+            wrapped.sendMessage(byteBuffers, lastRequestId, operationContext);
+        }
+
+        @Override
+        public ResponseBuffers receiveMessage(final int responseTo, final OperationContext operationContext) {
+            isTrue("open", !isClosed.get());
+            return wrapped.receiveMessage(responseTo, operationContext);
+        }
+
+        @Override
+        public void sendMessageAsync(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext,
+                final SingleResultCallback<Void> callback) {
+            isTrue("open", !isClosed.get());
+            wrapped.sendMessageAsync(byteBuffers, lastRequestId, operationContext, callback);
+        }
+
+        @Override
+        public void receiveMessageAsync(final int responseTo, final OperationContext operationContext,
+                final SingleResultCallback<ResponseBuffers> callback) {
+            isTrue("open", !isClosed.get());
+            wrapped.receiveMessageAsync(responseTo, operationContext, callback);
+        }
+
+        @Override
+        public void markAsPinned(final Connection.PinningMode pinningMode) {
+            wrapped.markAsPinned(pinningMode);
+        }
+    }
+}
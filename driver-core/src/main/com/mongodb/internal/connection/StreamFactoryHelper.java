@@ -65,11 +65,20 @@ public final class StreamFactoryHelper {
             final InetAddressResolver inetAddressResolver) {
         TransportSettings transportSettings = settings.getTransportSettings();
         if (transportSettings == null || transportSettings instanceof AsyncTransportSettings) {
-            ExecutorService executorService = transportSettings == null
+            AsyncTransportSettings asyncTransportSettings = (AsyncTransportSettings) transportSettings;
+            ExecutorService executorService = asyncTransportSettings == null
                     ? null
-                    : ((AsyncTransportSettings) transportSettings).getExecutorService();
+                    : asyncTransportSettings.getExecutorService();
+            PowerOfTwoBufferPool bufferPool = asyncTransportSettings != null && asyncTransportSettings.isDirectBuffersEnabled()
+                    ? PowerOfTwoBufferPool.createDirect(asyncTransportSettings.getMaxDirectBufferPoolSize(),
+                            settings.getThreadFactory())
+                    : PowerOfTwoBufferPool.DEFAULT;
             if (settings.getSslSettings().isEnabled()) {
-                return new TlsChannelStreamFactoryFactory(inetAddressResolver, executorService);
+                int selectorCount = asyncTransportSettings == null
+                        ? Runtime.getRuntime().availableProcessors()
+                        : asyncTransportSettings.getSelectorCount();
+                return new TlsChannelStreamFactoryFactory(inetAddressResolver, executorService, bufferPool, selectorCount,
+                        settings.getThreadFactory());
             }
             AsynchronousChannelGroup group = null;
             if (executorService != null) {
@@ -79,7 +88,7 @@ public final class StreamFactoryHelper {
                     throw new MongoClientException("Unable to create an asynchronous channel group", e);
                 }
             }
-            return new AsynchronousSocketChannelStreamFactoryFactory(inetAddressResolver, group);
+            return new AsynchronousSocketChannelStreamFactoryFactory(inetAddressResolver, group, bufferPool);
         } else  if (transportSettings instanceof NettyTransportSettings) {
             return getNettyStreamFactoryFactory(inetAddressResolver, (NettyTransportSettings) transportSettings);
         } else {
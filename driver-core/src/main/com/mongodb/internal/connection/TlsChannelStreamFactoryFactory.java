@@ -49,6 +49,7 @@ import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -57,6 +58,7 @@ import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.internal.connection.ServerAddressHelper.getSocketAddresses;
 import static com.mongodb.internal.connection.SslHelper.enableHostNameVerification;
 import static com.mongodb.internal.connection.SslHelper.enableSni;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newThread;
 import static java.util.Optional.ofNullable;
 
 /**
@@ -68,22 +70,27 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
 
     private final SelectorMonitor selectorMonitor;
     private final AsynchronousTlsChannelGroup group;
-    private final PowerOfTwoBufferPool bufferPool = PowerOfTwoBufferPool.DEFAULT;
+    private final PowerOfTwoBufferPool bufferPool;
     private final InetAddressResolver inetAddressResolver;
 
     /**
      * Construct a new instance
+     *
+     * @param threadFactory the {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory} to create the threads
+     *                      with, or null to create daemon platform threads
      */
     TlsChannelStreamFactoryFactory(final InetAddressResolver inetAddressResolver,
-            @Nullable final ExecutorService executorService) {
+            @Nullable final ExecutorService executorService, final PowerOfTwoBufferPool bufferPool, final int selectorCount,
+            @Nullable final ThreadFactory threadFactory) {
         this.inetAddressResolver = inetAddressResolver;
-        this.group = new AsynchronousTlsChannelGroup(executorService);
+        this.bufferPool = bufferPool;
+        this.group = new AsynchronousTlsChannelGroup(executorService, selectorCount, threadFactory);
         selectorMonitor = new SelectorMonitor();
-        selectorMonitor.start();
+        selectorMonitor.start(threadFactory);
     }
 
     public TlsChannelStreamFactoryFactory(final InetAddressResolver inetAddressResolver) {
-        this(inetAddressResolver, null);
+        this(inetAddressResolver, null, PowerOfTwoBufferPool.DEFAULT, Runtime.getRuntime().availableProcessors(), null);
     }
 
     @Override
@@ -97,6 +104,9 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
     public void close() {
         selectorMonitor.close();
         group.shutdown();
+        if (bufferPool != PowerOfTwoBufferPool.DEFAULT) {
+            bufferPool.disablePruning();
+        }
     }
 
     /**
@@ -142,8 +152,8 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
             }
         }
 
-        void start() {
-            Thread selectorThread = new Thread(() -> {
+        void start(@Nullable final ThreadFactory threadFactory) {
+            Thread selectorThread = newThread(threadFactory, () -> {
                 try {
                     while (!isClosed) {
                         try {
@@ -172,8 +182,7 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
                         // ignore
                     }
                 }
-            });
-            selectorThread.setDaemon(true);
+            }, "TlsChannelSelectorMonitor");
             selectorThread.start();
         }
 
@@ -48,16 +48,20 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newThread;
 import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
 import static java.lang.String.format;
 
@@ -80,6 +84,9 @@ public class AsynchronousTlsChannelGroup implements Executor {
         final TlsChannel tlsChannel;
         final SocketChannel socketChannel;
 
+        /** The selector shard the socket is registered with. */
+        final SelectorShard shard;
+
         /**
          * Used to wait until the channel is effectively in the selector (which happens asynchronously
          * to the initial registration.
@@ -103,9 +110,10 @@ public class AsynchronousTlsChannelGroup implements Executor {
         /** Bitwise union of pending operation to be registered in the selector */
         final AtomicInteger pendingOps = new AtomicInteger();
 
-        RegisteredSocket(TlsChannel tlsChannel, SocketChannel socketChannel) {
+        RegisteredSocket(TlsChannel tlsChannel, SocketChannel socketChannel, SelectorShard shard) {
             this.tlsChannel = tlsChannel;
             this.socketChannel = socketChannel;
+            this.shard = shard;
         }
 
         public void close() {
@@ -115,7 +123,7 @@ public class AsynchronousTlsChannelGroup implements Executor {
             /*
              * Actual de-registration from the selector will happen asynchronously.
              */
-            selector.wakeup();
+            shard.selector.wakeup();
         }
     }
 
@@ -159,21 +167,20 @@ public class AsynchronousTlsChannelGroup implements Executor {
      */
     private final AtomicBoolean loggedTaskWarning = new AtomicBoolean();
 
-    private final Selector selector;
+    /**
+     * Registered sockets are spread across the shards, so that selecting and dispatching is not limited to a single thread.
+     */
+    private final SelectorShard[] shards;
 
-    private final ExecutorService executor;
+    private final AtomicInteger nextShard = new AtomicInteger();
 
-    private final ScheduledThreadPoolExecutor timeoutExecutor =
-            new ScheduledThreadPoolExecutor(
-                    1,
-                    runnable ->
-                            new Thread(runnable, format("async-channel-group-%d-timeout-thread", id)));
+    /** The number of shards whose selector loop has not yet exited, counting those never started until they are retired. */
+    private final AtomicInteger runningShards;
 
-    private final Thread selectorThread =
-            new Thread(this::loop, format("async-channel-group-%d-selector", id));
+    private final ExecutorService executor;
 
-    private final ConcurrentLinkedQueue<RegisteredSocket> pendingRegistrations =
-            new ConcurrentLinkedQueue<>();
+    /** The timeouts of the socket operations of all the shards, and those scheduled by the users of the group. */
+    private final ScheduledThreadPoolExecutor timeoutExecutor;
 
     private enum Shutdown {
         No,
@@ -194,21 +201,50 @@ public class AsynchronousTlsChannelGroup implements Executor {
     private final LongAdder cancelledReads = new LongAdder();
     private final LongAdder cancelledWrites = new LongAdder();
 
-    private final ConcurrentHashMap<RegisteredSocket, Boolean> registrations = new ConcurrentHashMap<>();
-
     private final LongAdder currentReads = new LongAdder();
     private final LongAdder currentWrites = new LongAdder();
 
     /**
-     * Creates an instance of this class.
+     * Creates an instance of this class, with as many selector threads as there are available processors.
      */
     public AsynchronousTlsChannelGroup(@Nullable final ExecutorService executorService) {
-        try {
-            selector = Selector.open();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        this(executorService, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an instance of this class, whose threads are daemon platform threads.
+     *
+     * @param executorService the executor to run the socket operations and completion handlers with, or null to create one
+     * @param selectorCount the number of selector threads, across which registered sockets are spread
+     */
+    public AsynchronousTlsChannelGroup(@Nullable final ExecutorService executorService, final int selectorCount) {
+        this(executorService, selectorCount, null);
+    }
+
+    /**
+     * Creates an instance of this class. No thread is started until it is needed: the thread of a selector is started when the first
+     * socket is registered with it.
+     *
+     * @param executorService the executor to run the socket operations and completion handlers with, or null to create one
+     * @param selectorCount the number of selector threads, across which registered sockets are spread
+     * @param threadFactory the {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory} to create the threads of
+     *                      the group with, or null to create daemon platform threads
+     */
+    public AsynchronousTlsChannelGroup(@Nullable final ExecutorService executorService, final int selectorCount,
+            @Nullable final ThreadFactory threadFactory) {
+        isTrueArgument("selectorCount > 0", selectorCount > 0);
+        shards = new SelectorShard[selectorCount];
+        for (int i = 0; i < selectorCount; i++) {
+            try {
+                shards[i] = new SelectorShard(i, threadFactory);
+            } catch (IOException e) {
+                for (int j = 0; j < i; j++) {
+                    shards[j].closeSelector();
+                }
+                throw new RuntimeException(e);
+            }
         }
-        timeoutExecutor.setRemoveOnCancelPolicy(true);
+        runningShards = new AtomicInteger(selectorCount);
         if (executorService != null) {
             this.executor = executorService;
         } else {
@@ -219,13 +255,170 @@ public class AsynchronousTlsChannelGroup implements Executor {
                     0,
                     TimeUnit.MILLISECONDS,
                     new LinkedBlockingQueue<>(nThreads * queueLengthMultiplier),
-                    runnable -> new Thread(runnable, format("async-channel-group-%d-handler-executor", id)),
+                    runnable -> newThread(threadFactory, runnable, format("async-channel-group-%d-handler-executor", id)),
                     new ThreadPoolExecutor.CallerRunsPolicy());
         }
-        selectorThread.start();
+        timeoutExecutor = new ScheduledThreadPoolExecutor(
+                1,
+                runnable -> newThread(threadFactory, runnable, format("async-channel-group-%d-timeout-thread", id)));
+        timeoutExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    private enum ShardState {
+        New,
+        Started,
+        /** Retired by a shutdown of the group before any socket was registered with the shard, so its thread never started. */
+        Retired
+    }
+
+    /**
+     * A selector, with its own thread and pending registrations. Each registered socket belongs to a single shard.
+     */
+    final class SelectorShard {
+
+        private final Selector selector;
+
+        private final int index;
+
+        @Nullable
+        private final ThreadFactory threadFactory;
+
+        private final AtomicReference<ShardState> state = new AtomicReference<>(ShardState.New);
+
+        private final ConcurrentLinkedQueue<RegisteredSocket> pendingRegistrations =
+                new ConcurrentLinkedQueue<>();
+
+        private final ConcurrentHashMap<RegisteredSocket, Boolean> registrations = new ConcurrentHashMap<>();
+
+        SelectorShard(int index, @Nullable ThreadFactory threadFactory) throws IOException {
+            selector = Selector.open();
+            this.index = index;
+            this.threadFactory = threadFactory;
+        }
+
+        /**
+         * Creates and starts the selector thread, unless it is already started.
+         *
+         * @return {@code false} iff the shard was {@linkplain #retireIfNotStarted() retired}
+         */
+        private boolean start() {
+            if (state.compareAndSet(ShardState.New, ShardState.Started)) {
+                newThread(threadFactory, this::loop, format("async-channel-group-%d-selector-%d", id, index)).start();
+            }
+            return state.get() == ShardState.Started;
+        }
+
+        private void retireIfNotStarted() {
+            if (state.compareAndSet(ShardState.New, ShardState.Retired)) {
+                closeSelector();
+                shardExited();
+            }
+        }
+
+        private void loop() {
+            try {
+                while (shutdown == Shutdown.No
+                        || shutdown == Shutdown.Wait
+                        && (!pendingRegistrations.isEmpty() || !registrations.isEmpty())) {
+                    // most state-changing operations will wake the selector up, however, asynchronous closings
+                    // of the channels won't, so we have to timeout to allow checking those cases
+                    int c = selector.select(100); // block
+                    selectionCount.increment();
+                    // avoid unnecessary creation of iterator object
+                    if (c > 0) {
+                        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                        while (it.hasNext()) {
+                            SelectionKey key = it.next();
+                            it.remove();
+                            try {
+                                key.interestOps(0);
+                            } catch (CancelledKeyException e) {
+                                // can happen when channels are closed with pending operations
+                                continue;
+                            }
+                            RegisteredSocket socket = (RegisteredSocket) key.attachment();
+                            processRead(socket);
+                            processWrite(socket);
+                        }
+                    }
+                    registerPendingSockets();
+                    processPendingInterests();
+                    checkClosings();
+                }
+            } catch (Throwable e) {
+                LOGGER.error("error in selector loop", e);
+            } finally {
+                shardExited();
+                closeSelector();
+                checkClosings();
+            }
+        }
+
+        private void closeSelector() {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                LOGGER.warn("error closing selector: " + e.getMessage());
+            }
+        }
+
+        private void processPendingInterests() {
+            for (SelectionKey key : selector.keys()) {
+                RegisteredSocket socket = (RegisteredSocket) key.attachment();
+                int pending = socket.pendingOps.getAndSet(0);
+                if (pending != 0) {
+                    try {
+                        key.interestOps(key.interestOps() | pending);
+                    } catch (CancelledKeyException e) {
+                        // can happen when channels are closed with pending operations
+                    }
+                }
+            }
+        }
+
+        private void registerPendingSockets() {
+            RegisteredSocket socket;
+            while ((socket = pendingRegistrations.poll()) != null) {
+                try {
+                    socket.key = socket.socketChannel.register(selector, 0, socket);
+                    registrations.put(socket, true);
+                } catch (ClosedChannelException e) {
+                    // can happen when channels are closed right after creation
+                } finally {
+                    // decrement the count of the latch even in case of exceptions, so the waiting thread
+                    // is unlocked; it will have to check the result, though
+                    socket.registered.countDown();
+                }
+            }
+        }
+
+        /**
+         * Channels that are closed asynchronously are silently removed from selectors. This method will
+         * check them using the internal catalog and do the proper cleanup.
+         */
+        private void checkClosings() {
+            for (RegisteredSocket socket : registrations.keySet()) {
+                if (!socket.key.isValid() || shutdown == Shutdown.Immediate) {
+                    registrations.remove(socket);
+                    failCurrentRead(socket);
+                    failCurrentWrite(socket);
+                }
+            }
+        }
     }
 
 
+    /**
+     * The executors are shared by the shards, so only the last one to exit shuts them down.
+     */
+    private void shardExited() {
+        if (runningShards.decrementAndGet() == 0) {
+            executor.shutdown();
+            // use shutdownNow to stop delayed tasks
+            timeoutExecutor.shutdownNow();
+        }
+    }
+
     @Override
     public void execute(final Runnable r) {
         executor.execute(() -> {
@@ -241,9 +434,15 @@ public class AsynchronousTlsChannelGroup implements Executor {
         if (shutdown != Shutdown.No) {
             throw new ShutdownChannelGroupException();
         }
-        RegisteredSocket socket = new RegisteredSocket(reader, socketChannel);
-        pendingRegistrations.add(socket);
-        selector.wakeup();
+        SelectorShard shard = shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)];
+        RegisteredSocket socket = new RegisteredSocket(reader, socketChannel, shard);
+        shard.pendingRegistrations.add(socket);
+        if (!shard.start()) {
+            // the group was shut down concurrently, before the shard was started
+            shard.pendingRegistrations.remove(socket);
+            throw new ShutdownChannelGroupException();
+        }
+        shard.selector.wakeup();
         return socket;
     }
 
@@ -298,7 +497,7 @@ public class AsynchronousTlsChannelGroup implements Executor {
             startedReads.increment();
             currentReads.increment();
 
-            if (!registrations.containsKey(socket)) {
+            if (!socket.shard.registrations.containsKey(socket)) {
                 op.onFailure.accept(new ClosedChannelException());
                 failedReads.increment();
                 currentReads.decrement();
@@ -326,7 +525,7 @@ public class AsynchronousTlsChannelGroup implements Executor {
         } finally {
             socket.readLock.unlock();
         }
-        selector.wakeup();
+        socket.shard.selector.wakeup();
         return socket.readOperation;
     }
 
@@ -351,7 +550,7 @@ public class AsynchronousTlsChannelGroup implements Executor {
             startedWrites.increment();
             currentWrites.increment();
 
-            if (!registrations.containsKey(socket)) {
+            if (!socket.shard.registrations.containsKey(socket)) {
                 op.onFailure.accept(new ClosedChannelException());
                 failedWrites.increment();
                 currentWrites.decrement();
@@ -379,7 +578,7 @@ public class AsynchronousTlsChannelGroup implements Executor {
         } finally {
             socket.writeLock.unlock();
         }
-        selector.wakeup();
+        socket.shard.selector.wakeup();
         return socket.writeOperation;
     }
 
@@ -397,65 +596,6 @@ public class AsynchronousTlsChannelGroup implements Executor {
         }
     }
 
-    private void loop() {
-        try {
-            while (shutdown == Shutdown.No
-                    || shutdown == Shutdown.Wait
-                    && (!pendingRegistrations.isEmpty() || !registrations.isEmpty())) {
-                // most state-changing operations will wake the selector up, however, asynchronous closings
-                // of the channels won't, so we have to timeout to allow checking those cases
-                int c = selector.select(100); // block
-                selectionCount.increment();
-                // avoid unnecessary creation of iterator object
-                if (c > 0) {
-                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
-                    while (it.hasNext()) {
-                        SelectionKey key = it.next();
-                        it.remove();
-                        try {
-                            key.interestOps(0);
-                        } catch (CancelledKeyException e) {
-                            // can happen when channels are closed with pending operations
-                            continue;
-                        }
-                        RegisteredSocket socket = (RegisteredSocket) key.attachment();
-                        processRead(socket);
-                        processWrite(socket);
-                    }
-                }
-                registerPendingSockets();
-                processPendingInterests();
-                checkClosings();
-            }
-        } catch (Throwable e) {
-            LOGGER.error("error in selector loop", e);
-        } finally {
-            executor.shutdown();
-            // use shutdownNow to stop delayed tasks
-            timeoutExecutor.shutdownNow();
-            try {
-                selector.close();
-            } catch (IOException e) {
-                LOGGER.warn("error closing selector: " + e.getMessage());
-            }
-            checkClosings();
-        }
-    }
-
-    private void processPendingInterests() {
-        for (SelectionKey key : selector.keys()) {
-            RegisteredSocket socket = (RegisteredSocket) key.attachment();
-            int pending = socket.pendingOps.getAndSet(0);
-            if (pending != 0) {
-                try {
-                    key.interestOps(key.interestOps() | pending);
-                } catch (CancelledKeyException e) {
-                    // can happen when channels are closed with pending operations
-                }
-            }
-        }
-    }
-
     private void processWrite(RegisteredSocket socket) {
         socket.writeLock.lock();
         try {
@@ -518,10 +658,10 @@ public class AsynchronousTlsChannelGroup implements Executor {
                 currentWrites.decrement();
             } catch (NeedsReadException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_READ, (a, b) -> a | b);
-                selector.wakeup();
+                socket.shard.selector.wakeup();
             } catch (NeedsWriteException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_WRITE, (a, b) -> a | b);
-                selector.wakeup();
+                socket.shard.selector.wakeup();
             } catch (IOException e) {
                 if (socket.writeOperation == op) {
                     socket.writeOperation = null;
@@ -582,10 +722,10 @@ public class AsynchronousTlsChannelGroup implements Executor {
                 currentReads.decrement();
             } catch (NeedsReadException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_READ, (a, b) -> a | b);
-                selector.wakeup();
+                socket.shard.selector.wakeup();
             } catch (NeedsWriteException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_WRITE, (a, b) -> a | b);
-                selector.wakeup();
+                socket.shard.selector.wakeup();
             } catch (IOException e) {
                 if (socket.readOperation == op) {
                     socket.readOperation = null;
@@ -614,36 +754,6 @@ public class AsynchronousTlsChannelGroup implements Executor {
         }
     }
 
-    private void registerPendingSockets() {
-        RegisteredSocket socket;
-        while ((socket = pendingRegistrations.poll()) != null) {
-            try {
-                socket.key = socket.socketChannel.register(selector, 0, socket);
-                registrations.put(socket, true);
-            } catch (ClosedChannelException e) {
-                // can happen when channels are closed right after creation
-            } finally {
-                // decrement the count of the latch even in case of exceptions, so the waiting thread
-                // is unlocked; it will have to check the result, though
-                socket.registered.countDown();
-            }
-        }
-    }
-
-    /**
-     * Channels that are closed asynchronously are silently removed from selectors. This method will
-     * check them using the internal catalog and do the proper cleanup.
-     */
-    private void checkClosings() {
-        for (RegisteredSocket socket : registrations.keySet()) {
-            if (!socket.key.isValid() || shutdown == Shutdown.Immediate) {
-                registrations.remove(socket);
-                failCurrentRead(socket);
-                failCurrentWrite(socket);
-            }
-        }
-    }
-
     private void failCurrentRead(RegisteredSocket socket) {
         socket.readLock.lock();
         try {
@@ -694,7 +804,8 @@ public class AsynchronousTlsChannelGroup implements Executor {
      */
     public void shutdown() {
         shutdown = Shutdown.Wait;
-        selector.wakeup();
+        retireShardsNotStarted();
+        wakeUpSelectors();
     }
 
     /**
@@ -703,7 +814,20 @@ public class AsynchronousTlsChannelGroup implements Executor {
      */
     public void shutdownNow() {
         shutdown = Shutdown.Immediate;
-        selector.wakeup();
+        retireShardsNotStarted();
+        wakeUpSelectors();
+    }
+
+    private void retireShardsNotStarted() {
+        for (SelectorShard shard : shards) {
+            shard.retireIfNotStarted();
+        }
+    }
+
+    private void wakeUpSelectors() {
+        for (SelectorShard shard : shards) {
+            shard.selector.wakeup();
+        }
     }
 
     /**
@@ -830,11 +954,24 @@ public class AsynchronousTlsChannelGroup implements Executor {
      * @return number of sockets
      */
     public long getCurrentRegistrationCount() {
-        return registrations.mappingCount();
+        long count = 0;
+        for (SelectorShard shard : shards) {
+            count += shard.registrations.mappingCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of selector threads of this channel group.
+     *
+     * @return the number of selector threads
+     */
+    public int getSelectorCount() {
+        return shards.length;
     }
 
     /**
-     * Returns the timeout executor used by this channel group.
+     * Returns the timeout executor of this channel group, which is shared by all its selectors.
      *
      * @return the timeout executor
      */
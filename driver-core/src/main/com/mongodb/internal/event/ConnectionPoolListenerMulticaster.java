@@ -27,6 +27,8 @@ import com.mongodb.event.ConnectionPoolClosedEvent;
 import com.mongodb.event.ConnectionPoolCreatedEvent;
 import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.event.ConnectionPoolReadyEvent;
+import com.mongodb.event.ConnectionPoolWarmUpCompletedEvent;
+import com.mongodb.event.ConnectionPoolWarmUpStartedEvent;
 import com.mongodb.event.ConnectionReadyEvent;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
@@ -86,6 +88,32 @@ final class ConnectionPoolListenerMulticaster implements ConnectionPoolListener
         }
     }
 
+    @Override
+    public void connectionPoolWarmUpStarted(final ConnectionPoolWarmUpStartedEvent event) {
+        for (ConnectionPoolListener cur : connectionPoolListeners) {
+            try {
+                cur.connectionPoolWarmUpStarted(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising connection pool warm-up started event to listener %s", cur), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void connectionPoolWarmUpCompleted(final ConnectionPoolWarmUpCompletedEvent event) {
+        for (ConnectionPoolListener cur : connectionPoolListeners) {
+            try {
+                cur.connectionPoolWarmUpCompleted(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising connection pool warm-up completed event to listener %s", cur), e);
+                }
+            }
+        }
+    }
+
     @Override
     public void connectionPoolClosed(final ConnectionPoolClosedEvent event) {
         for (ConnectionPoolListener cur : connectionPoolListeners) {
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.observability.micrometer;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.internal.connection.ConnectionPoolMetrics;
+import com.mongodb.internal.connection.OperationLatencyHistogram;
+import com.mongodb.lang.Nullable;
+import com.mongodb.observability.ObservabilitySettings;
+import com.mongodb.observability.micrometer.MicrometerObservabilitySettings;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Registers the {@link ConnectionPoolMetrics} of each connection pool with a Micrometer {@link MeterRegistry}.
+ *
+ * <p>The meters read the metrics when the registry is scraped, so that the connection pools and connections do not depend on
+ * Micrometer, and recording metrics does not allocate.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class MicrometerConnectionPoolMetricsRegistry implements ConnectionPoolMetrics.Registry {
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<ConnectionPoolMetrics, List<Meter>> registeredMeters = new ConcurrentHashMap<>();
+
+    /**
+     * @param observabilitySettings the observability settings of the client
+     * @return a registry if a {@linkplain MicrometerObservabilitySettings#getMeterRegistry() meter registry} is configured,
+     * otherwise null
+     */
+    @Nullable
+    public static ConnectionPoolMetrics.Registry create(@Nullable final ObservabilitySettings observabilitySettings) {
+        if (!(observabilitySettings instanceof MicrometerObservabilitySettings)) {
+            return null;
+        }
+        MeterRegistry meterRegistry = ((MicrometerObservabilitySettings) observabilitySettings).getMeterRegistry();
+        return meterRegistry == null ? null : new MicrometerConnectionPoolMetricsRegistry(meterRegistry);
+    }
+
+    MicrometerConnectionPoolMetricsRegistry(final MeterRegistry meterRegistry) {
+        this.meterRegistry = notNull("meterRegistry", meterRegistry);
+    }
+
+    @Override
+    public void register(final ServerId serverId, final ConnectionPoolMetrics metrics) {
+        Tags tags = Tags.of(
+                "server.address", serverId.getAddress().getHost(),
+                "server.port", String.valueOf(serverId.getAddress().getPort()),
+                "cluster.id", serverId.getClusterId().getValue());
+        List<Meter> meters = new ArrayList<>();
+        meters.add(gauge("mongodb.driver.pool.size", "the number of connections in the pool, including those checked out",
+                tags, metrics, ConnectionPoolMetrics::getSize));
+        meters.add(gauge("mongodb.driver.pool.checkedout", "the number of connections checked out",
+                tags, metrics, ConnectionPoolMetrics::getCheckedOutCount));
+        meters.add(gauge("mongodb.driver.pool.idle", "the number of connections available to be checked out",
+                tags, metrics, ConnectionPoolMetrics::getIdleCount));
+        meters.add(gauge("mongodb.driver.pool.pending", "the number of connections being opened",
+                tags, metrics, ConnectionPoolMetrics::getPendingCount));
+        meters.add(gauge("mongodb.driver.pool.waitqueuesize", "the number of checkouts in progress",
+                tags, metrics, ConnectionPoolMetrics::getWaitQueueSize));
+        meters.add(FunctionCounter.builder("mongodb.driver.pool.checkout.failed", metrics,
+                        ConnectionPoolMetrics::getCheckOutFailedCount)
+                .description("the number of failed checkouts")
+                .tags(tags)
+                .register(meterRegistry));
+        meters.add(FunctionCounter.builder("mongodb.driver.network.bytes.sent", metrics, ConnectionPoolMetrics::getBytesSent)
+                .description("the number of bytes of the messages sent on the pooled connections")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(meterRegistry));
+        meters.add(FunctionCounter.builder("mongodb.driver.network.bytes.received", metrics, ConnectionPoolMetrics::getBytesReceived)
+                .description("the number of bytes of the messages received on the pooled connections")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(meterRegistry));
+        for (double percentile : PERCENTILES) {
+            meters.add(latencyGauge("mongodb.driver.pool.checkout.latency", "a percentile of the recent checkout times",
+                    tags, percentile, metrics.getCheckOutLatencies()));
+            meters.add(latencyGauge("mongodb.driver.commands.latency", "a percentile of the recent command round trip times",
+                    tags, percentile, metrics.getCommandLatencies()));
+        }
+        registeredMeters.put(metrics, meters);
+    }
+
+    @Override
+    public void unregister(final ConnectionPoolMetrics metrics) {
+        List<Meter> meters = registeredMeters.remove(metrics);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private Gauge gauge(final String name, final String description, final Tags tags, final ConnectionPoolMetrics metrics,
+            final ToDoubleFunction<ConnectionPoolMetrics> value) {
+        return Gauge.builder(name, metrics, value)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private Gauge latencyGauge(final String name, final String description, final Tags tags, final double percentile,
+            final OperationLatencyHistogram histogram) {
+        return Gauge.builder(name, histogram, h -> {
+                    long nanos = h.getPercentile(percentile, NANOSECONDS);
+                    return nanos < 0 ? Double.NaN : nanos / 1e9;
+                })
+                .description(description)
+                .baseUnit(BaseUnits.SECONDS)
+                .tags(tags)
+                .tag("percentile", String.valueOf(percentile / 100))
+                .register(meterRegistry);
+    }
+}
@@ -67,6 +67,33 @@ public class AggregateOperation<T> implements ReadOperationExplainable<T> {
         return this;
     }
 
+    public boolean isExhaust() {
+        return wrapped.isExhaust();
+    }
+
+    public AggregateOperation<T> exhaust(final boolean exhaust) {
+        wrapped.exhaust(exhaust);
+        return this;
+    }
+
+    public int getPrefetchBatches() {
+        return wrapped.getPrefetchBatches();
+    }
+
+    public AggregateOperation<T> prefetchBatches(final int prefetchBatches) {
+        wrapped.prefetchBatches(prefetchBatches);
+        return this;
+    }
+
+    public long getMaxPrefetchBytes() {
+        return wrapped.getMaxPrefetchBytes();
+    }
+
+    public AggregateOperation<T> maxPrefetchBytes(final long maxPrefetchBytes) {
+        wrapped.maxPrefetchBytes(maxPrefetchBytes);
+        return this;
+    }
+
     public Integer getBatchSize() {
         return wrapped.getBatchSize();
     }
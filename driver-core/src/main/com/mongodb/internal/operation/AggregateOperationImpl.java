@@ -49,6 +49,7 @@ import static com.mongodb.internal.operation.CommandOperationHelper.CommandCreat
 import static com.mongodb.internal.operation.OperationHelper.LOGGER;
 import static com.mongodb.internal.operation.OperationHelper.applyTimeoutModeToOperationContext;
 import static com.mongodb.internal.operation.OperationReadConcernHelper.appendReadConcernToCommand;
+import static com.mongodb.internal.operation.PrefetchingBatchCursor.DEFAULT_MAX_PREFETCH_BYTES;
 import static com.mongodb.internal.operation.SyncOperationHelper.CommandReadTransformer;
 import static com.mongodb.internal.operation.SyncOperationHelper.executeRetryableRead;
 
@@ -73,6 +74,9 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
     private BsonDocument variables;
     private TimeoutMode timeoutMode;
     private CursorType cursorType;
+    private boolean exhaust;
+    private int prefetchBatches;
+    private long maxPrefetchBytes = DEFAULT_MAX_PREFETCH_BYTES;
 
     AggregateOperationImpl(final MongoNamespace namespace,
             final List<BsonDocument> pipeline, final Decoder<T> decoder, final AggregationLevel aggregationLevel) {
@@ -109,6 +113,35 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
         return this;
     }
 
+    boolean isExhaust() {
+        return exhaust;
+    }
+
+    AggregateOperationImpl<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    AggregateOperationImpl<T> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    long getMaxPrefetchBytes() {
+        return maxPrefetchBytes;
+    }
+
+    AggregateOperationImpl<T> maxPrefetchBytes(final long maxPrefetchBytes) {
+        isTrueArgument("maxPrefetchBytes > 0", maxPrefetchBytes > 0);
+        this.maxPrefetchBytes = maxPrefetchBytes;
+        return this;
+    }
+
     Integer getBatchSize() {
         return batchSize;
     }
@@ -194,9 +227,12 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
 
     @Override
     public BatchCursor<T> execute(final ReadBinding binding, final OperationContext operationContext) {
-        return executeRetryableRead(binding, applyTimeoutModeToOperationContext(timeoutMode, operationContext), namespace.getDatabaseName(),
-                getCommandCreator(), CommandResultDocumentCodec.create(decoder, FIELD_NAMES_WITH_RESULT),
-                transformer(), retryReads);
+        OperationContext aggregateOperationContext = applyTimeoutModeToOperationContext(timeoutMode, operationContext);
+        ByteCountingDecoder<T> prefetchDecoder = canPrefetch(aggregateOperationContext) ? new ByteCountingDecoder<>(decoder) : null;
+        return executeRetryableRead(binding, aggregateOperationContext, namespace.getDatabaseName(),
+                getCommandCreator(), CommandResultDocumentCodec.create(prefetchDecoder == null ? decoder : prefetchDecoder,
+                        FIELD_NAMES_WITH_RESULT),
+                transformer(prefetchDecoder), retryReads);
     }
 
     @Override
@@ -241,12 +277,27 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
         return commandDocument;
     }
 
-    private CommandReadTransformer<BsonDocument, CommandBatchCursor<T>> transformer() {
-        return (result, source, connection, operationContext) ->
-                new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()), operationContext, new CommandCursor<>(
-                        result, batchSize != null ? batchSize : 0,
-                        decoder, comment, source, connection
-                ));
+    private boolean isTailableCursor() {
+        return cursorType != null && cursorType.isTailable();
+    }
+
+    /**
+     * Prefetching uses the session of the cursor in a background thread, so it is done only if no one else can use the session.
+     */
+    private boolean canPrefetch(final OperationContext operationContext) {
+        return prefetchBatches > 0 && !isTailableCursor() && operationContext.getSessionContext().isImplicitSession();
+    }
+
+    private CommandReadTransformer<BsonDocument, BatchCursor<T>> transformer(@Nullable final ByteCountingDecoder<T> prefetchDecoder) {
+        return (result, source, connection, operationContext) -> {
+            BatchCursor<T> cursor = new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()),
+                    operationContext, new CommandCursor<>(
+                    result, batchSize != null ? batchSize : 0,
+                    prefetchDecoder == null ? decoder : prefetchDecoder, comment, source, connection, exhaust && !isTailableCursor()
+            ));
+            return prefetchDecoder == null ? cursor : new PrefetchingBatchCursor<>(cursor, prefetchDecoder, prefetchBatches,
+                    maxPrefetchBytes);
+        };
     }
 
     private CommandReadTransformerAsync<BsonDocument, AsyncBatchCursor<T>> asyncTransformer() {
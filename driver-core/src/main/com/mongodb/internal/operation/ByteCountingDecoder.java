@@ -0,0 +1,60 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.annotations.NotThreadSafe;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A {@link Decoder} that counts the bytes of the BSON documents it decodes. Documents read by a reader other than a
+ * {@link BsonBinaryReader} are not counted.
+ */
+@NotThreadSafe
+final class ByteCountingDecoder<T> implements Decoder<T> {
+    private final Decoder<T> wrapped;
+    private long byteCount;
+
+    ByteCountingDecoder(final Decoder<T> wrapped) {
+        this.wrapped = notNull("wrapped", wrapped);
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (!(reader instanceof BsonBinaryReader)) {
+            return wrapped.decode(reader, decoderContext);
+        }
+        BsonBinaryReader binaryReader = (BsonBinaryReader) reader;
+        int start = binaryReader.getBsonInput().getPosition();
+        T document = wrapped.decode(reader, decoderContext);
+        byteCount += binaryReader.getBsonInput().getPosition() - start;
+        return document;
+    }
+
+    /**
+     * Returns the number of bytes decoded since the previous call, or since this decoder was created.
+     */
+    long takeByteCount() {
+        long result = byteCount;
+        byteCount = 0;
+        return result;
+    }
+}
@@ -103,6 +103,7 @@ import org.bson.FieldNameValidator;
 import org.bson.codecs.Encoder;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -153,10 +154,25 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
     private static final EncoderContext DEFAULT_ENCODER_CONTEXT = EncoderContext.builder().build();
     private static final EncoderContext COLLECTIBLE_DOCUMENT_ENCODER_CONTEXT = EncoderContext.builder()
             .isEncodingCollectibleDocument(true).build();
-    private static final int INITIAL_BATCH_MODEL_START_INDEX = 0;
     private static final int SERVER_DEFAULT_CURSOR_BATCH_SIZE = 0;
+    /**
+     * The {@code maxWriteBatchSize} that the servers supporting the {@code bulkWrite} command report, see {@link #split()}.
+     */
+    private static final int SPLIT_MAX_BATCH_COUNT = 100_000;
+    /**
+     * The {@code maxMessageSizeBytes} that the servers supporting the {@code bulkWrite} command report, see {@link #split()}.
+     */
+    private static final int SPLIT_MAX_MESSAGE_SIZE_BYTES = 48_000_000;
+    /**
+     * The size reserved in a message for the command document, the headers and the {@code nsInfo} documents,
+     * none of which {@link #split()} encodes. It is generous, so that a batch predicted by {@link #split()}
+     * does not end up split in two by the connection.
+     */
+    private static final int SPLIT_MESSAGE_OVERHEAD_BYTES = 64 * 1024;
 
     private final List<? extends ClientNamespacedWriteModel> models;
+    private final int modelsStartIndex;
+    private final int modelsEndIndex;
     private final ConcreteClientBulkWriteOptions options;
     private final WriteConcern writeConcernSetting;
     private final boolean retryWritesSetting;
@@ -171,13 +187,109 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             final WriteConcern writeConcernSetting,
             final boolean retryWritesSetting,
             final CodecRegistry codecRegistry) {
+        this(models, 0, models.size(), options == null ? EMPTY_OPTIONS : (ConcreteClientBulkWriteOptions) options,
+                writeConcernSetting, retryWritesSetting, codecRegistry);
+    }
+
+    private ClientBulkWriteOperation(
+            final List<? extends ClientNamespacedWriteModel> models,
+            final int modelsStartIndex,
+            final int modelsEndIndex,
+            final ConcreteClientBulkWriteOptions options,
+            final WriteConcern writeConcernSetting,
+            final boolean retryWritesSetting,
+            final CodecRegistry codecRegistry) {
         this.models = models;
-        this.options = options == null ? EMPTY_OPTIONS : (ConcreteClientBulkWriteOptions) options;
+        this.modelsStartIndex = modelsStartIndex;
+        this.modelsEndIndex = modelsEndIndex;
+        this.options = options;
         this.writeConcernSetting = writeConcernSetting;
         this.retryWritesSetting = retryWritesSetting;
         this.codecRegistry = codecRegistry;
     }
 
+    /**
+     * Splits this operation into operations that execute contiguous ranges of the {@linkplain ClientNamespacedWriteModel models},
+     * for executing them concurrently as specified by {@link ConcreteClientBulkWriteOptions#getMaxConcurrentBatches()}.
+     * The indexes in the results of the returned operations are the indexes of the models in this operation,
+     * which allows {@link ClientBulkWriteResultCombiner} to combine them.
+     * <p>
+     * The models are split only if they need more than one {@code bulkWrite} command, and only at the boundaries of the batches
+     * that the commands would have, so that each returned operation executes whole batches. Finding the boundaries requires
+     * encoding the models, which is done without the limits of a connection: the batches are cut at the {@code maxWriteBatchSize}
+     * and {@code maxMessageSizeBytes} that all the servers supporting the {@code bulkWrite} command report.
+     * Should a connection report smaller limits, the returned operations still cut their batches at them.</p>
+     * <p>
+     * The returned operations must be executed in different sessions, because a session must not be used concurrently.
+     * An ordered operation is never split.</p>
+     *
+     * @return A list with only this operation if it must not be split.
+     */
+    public List<ClientBulkWriteOperation> split() {
+        return split(SPLIT_MAX_BATCH_COUNT, SPLIT_MAX_MESSAGE_SIZE_BYTES);
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    List<ClientBulkWriteOperation> split(final int maxBatchCount, final int maxMessageSizeBytes) {
+        if (options.isOrdered() || options.getMaxConcurrentBatches() <= 1 || modelsEndIndex - modelsStartIndex <= 1) {
+            return singletonList(this);
+        }
+        List<Integer> batchStartModelIndexes = getBatchStartModelIndexes(maxBatchCount, maxMessageSizeBytes);
+        int batchesCount = batchStartModelIndexes.size();
+        int partsCount = Math.min(options.getMaxConcurrentBatches(), batchesCount);
+        if (partsCount <= 1) {
+            return singletonList(this);
+        }
+        List<ClientBulkWriteOperation> parts = new ArrayList<>(partsCount);
+        for (int i = 0; i < partsCount; i++) {
+            int partEndBatchIndex = (int) ((long) batchesCount * (i + 1) / partsCount);
+            parts.add(new ClientBulkWriteOperation(models,
+                    batchStartModelIndexes.get((int) ((long) batchesCount * i / partsCount)),
+                    partEndBatchIndex == batchesCount ? modelsEndIndex : batchStartModelIndexes.get(partEndBatchIndex),
+                    options, writeConcernSetting, retryWritesSetting, codecRegistry));
+        }
+        return parts;
+    }
+
+    /**
+     * Encodes the {@code ops} documents of the models the way {@link ClientBulkWriteCommand.OpsAndNsInfo} does,
+     * into a buffer reused for all of them, to find where each batch starts.
+     */
+    private List<Integer> getBatchStartModelIndexes(final int maxBatchCount, final int maxMessageSizeBytes) {
+        int maxBatchSizeInBytes = maxMessageSizeBytes - SPLIT_MESSAGE_OVERHEAD_BYTES;
+        List<Integer> batchStartModelIndexes = new ArrayList<>();
+        BatchEncoder sizingEncoder = new BatchEncoder();
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        int batchCount = 0;
+        long batchSizeInBytes = 0;
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            for (int modelIndex = modelsStartIndex; modelIndex < modelsEndIndex; modelIndex++) {
+                buffer.truncateToPosition(0);
+                sizingEncoder.encodeWriteModel(writer, getNamespacedModel(models, modelIndex).getModel(), 0, 0);
+                sizingEncoder.reset(0);
+                int modelSizeInBytes = buffer.getPosition();
+                if (batchCount == 0 || batchCount == maxBatchCount || batchSizeInBytes + modelSizeInBytes > maxBatchSizeInBytes) {
+                    batchStartModelIndexes.add(modelIndex);
+                    batchCount = 0;
+                    batchSizeInBytes = 0;
+                }
+                batchCount++;
+                batchSizeInBytes += modelSizeInBytes;
+            }
+        }
+        return batchStartModelIndexes;
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    int getModelsStartIndex() {
+        return modelsStartIndex;
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    int getModelsEndIndex() {
+        return modelsEndIndex;
+    }
+
     @Override
     public String getCommandName() {
         return "bulkWrite";
@@ -237,7 +349,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             final WriteBinding binding,
             final OperationContext operationContext,
             final ResultAccumulator resultAccumulator) throws MongoException {
-        Integer nextBatchStartModelIndex = INITIAL_BATCH_MODEL_START_INDEX;
+        Integer nextBatchStartModelIndex = modelsStartIndex;
 
         do {
             nextBatchStartModelIndex = executeBatch(nextBatchStartModelIndex, effectiveWriteConcern, binding, operationContext, resultAccumulator);
@@ -253,7 +365,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             final OperationContext operationContext,
             final ResultAccumulator resultAccumulator,
             final SingleResultCallback<Void> callback) {
-        MutableValue<Integer> nextBatchStartModelIndex = new MutableValue<>(INITIAL_BATCH_MODEL_START_INDEX);
+        MutableValue<Integer> nextBatchStartModelIndex = new MutableValue<>(modelsStartIndex);
 
         beginAsync().thenRunDoWhileLoop(iterationCallback -> {
             beginAsync().<Integer>thenSupply(c -> {
@@ -277,7 +389,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             final WriteBinding binding,
             final OperationContext operationContext,
             final ResultAccumulator resultAccumulator) {
-        List<? extends ClientNamespacedWriteModel> unexecutedModels = models.subList(batchStartModelIndex, models.size());
+        List<? extends ClientNamespacedWriteModel> unexecutedModels = models.subList(batchStartModelIndex, modelsEndIndex);
         assertFalse(unexecutedModels.isEmpty());
         SessionContext sessionContext = operationContext.getSessionContext();
         TimeoutContext timeoutContext = operationContext.getTimeoutContext();
@@ -337,7 +449,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             final OperationContext operationContext,
             final ResultAccumulator resultAccumulator,
             final SingleResultCallback<Integer> callback) {
-        List<? extends ClientNamespacedWriteModel> unexecutedModels = models.subList(batchStartModelIndex, models.size());
+        List<? extends ClientNamespacedWriteModel> unexecutedModels = models.subList(batchStartModelIndex, modelsEndIndex);
         assertFalse(unexecutedModels.isEmpty());
         SessionContext sessionContext = operationContext.getSessionContext();
         TimeoutContext timeoutContext = operationContext.getTimeoutContext();
@@ -927,7 +1039,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             batchResults.add(batchResult);
             int potentialNextBatchStartModelIndex = batchStartModelIndex + batchResult.getBatchModelsCount();
             return (response == null || response.operationMayContinue(options))
-                    ? potentialNextBatchStartModelIndex == models.size() ? null : potentialNextBatchStartModelIndex
+                    ? potentialNextBatchStartModelIndex == modelsEndIndex ? null : potentialNextBatchStartModelIndex
                     : null;
         }
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.ClientBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.bulk.WriteConcernError;
+import com.mongodb.client.model.bulk.ClientBulkWriteResult;
+import com.mongodb.client.model.bulk.ClientDeleteResult;
+import com.mongodb.client.model.bulk.ClientInsertOneResult;
+import com.mongodb.client.model.bulk.ClientUpdateResult;
+import com.mongodb.internal.client.model.bulk.AcknowledgedSummaryClientBulkWriteResult;
+import com.mongodb.internal.client.model.bulk.AcknowledgedVerboseClientBulkWriteResult;
+import com.mongodb.internal.client.model.bulk.UnacknowledgedClientBulkWriteResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.operation.ClientBulkWriteOperation.Exceptions.serverAddressFromException;
+
+/**
+ * Combines the outcomes of the operations {@linkplain ClientBulkWriteOperation#split() split} from a {@link ClientBulkWriteOperation},
+ * which may complete in any order, into the outcome of that operation.
+ * <p>
+ * This class is not part of the public API and may be removed or changed at any time.</p>
+ */
+public final class ClientBulkWriteResultCombiner {
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private final List<ClientBulkWriteResult> results = new ArrayList<>();
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private final List<MongoException> errors = new ArrayList<>();
+
+    public void onResult(final ClientBulkWriteResult result) {
+        withLock(lock, () -> {
+            results.add(result);
+        });
+    }
+
+    public void onError(final MongoException error) {
+        withLock(lock, () -> {
+            errors.add(error);
+        });
+    }
+
+    /**
+     * <ul>
+     *     <li>Either builds and returns {@link ClientBulkWriteResult};</li>
+     *     <li>or builds and throws {@link ClientBulkWriteException};</li>
+     *     <li>or throws the top-level error, if no operation has produced a result or a {@link ClientBulkWriteException},
+     *     or if the server address of the top-level error is unknown.</li>
+     * </ul>
+     * Top-level errors other than the first one are {@linkplain Throwable#addSuppressed(Throwable) suppressed} by it.
+     */
+    public ClientBulkWriteResult build() throws MongoException {
+        return withLock(lock, this::buildWhileHoldingLock);
+    }
+
+    private ClientBulkWriteResult buildWhileHoldingLock() throws MongoException {
+        if (errors.isEmpty()) {
+            return combine(results);
+        }
+        List<ClientBulkWriteResult> partialResults = new ArrayList<>(results);
+        List<WriteConcernError> writeConcernErrors = new ArrayList<>();
+        Map<Integer, WriteError> writeErrors = new HashMap<>();
+        MongoException topLevelError = null;
+        ServerAddress serverAddress = null;
+        for (MongoException error : errors) {
+            MongoException errorTopLevelError = error;
+            if (error instanceof ClientBulkWriteException) {
+                ClientBulkWriteException bulkWriteException = (ClientBulkWriteException) error;
+                bulkWriteException.getPartialResult().ifPresent(partialResults::add);
+                writeConcernErrors.addAll(bulkWriteException.getWriteConcernErrors());
+                writeErrors.putAll(bulkWriteException.getWriteErrors());
+                errorTopLevelError = bulkWriteException.getCause();
+                if (serverAddress == null) {
+                    serverAddress = bulkWriteException.getServerAddress();
+                }
+            }
+            if (errorTopLevelError == null) {
+                continue;
+            }
+            if (topLevelError == null) {
+                topLevelError = errorTopLevelError;
+            } else {
+                topLevelError.addSuppressed(errorTopLevelError);
+            }
+        }
+        Optional<ServerAddress> topLevelErrorServerAddress = serverAddressFromException(topLevelError);
+        if (topLevelErrorServerAddress.isPresent()) {
+            serverAddress = topLevelErrorServerAddress.get();
+        }
+        if (serverAddress == null || (partialResults.isEmpty() && writeConcernErrors.isEmpty() && writeErrors.isEmpty())) {
+            throw assertNotNull(topLevelError);
+        }
+        throw new ClientBulkWriteException(
+                topLevelError,
+                writeConcernErrors,
+                writeErrors,
+                partialResults.isEmpty() ? null : combine(partialResults),
+                serverAddress);
+    }
+
+    private static ClientBulkWriteResult combine(final List<ClientBulkWriteResult> results) {
+        long insertedCount = 0;
+        long upsertedCount = 0;
+        long matchedCount = 0;
+        long modifiedCount = 0;
+        long deletedCount = 0;
+        boolean verbose = false;
+        Map<Integer, ClientInsertOneResult> insertResults = new HashMap<>();
+        Map<Integer, ClientUpdateResult> updateResults = new HashMap<>();
+        Map<Integer, ClientDeleteResult> deleteResults = new HashMap<>();
+        for (ClientBulkWriteResult result : results) {
+            if (!result.isAcknowledged()) {
+                return UnacknowledgedClientBulkWriteResult.INSTANCE;
+            }
+            insertedCount += result.getInsertedCount();
+            upsertedCount += result.getUpsertedCount();
+            matchedCount += result.getMatchedCount();
+            modifiedCount += result.getModifiedCount();
+            deletedCount += result.getDeletedCount();
+            ClientBulkWriteResult.VerboseResults verboseResults = result.getVerboseResults().orElse(null);
+            if (verboseResults != null) {
+                verbose = true;
+                insertResults.putAll(verboseResults.getInsertResults());
+                updateResults.putAll(verboseResults.getUpdateResults());
+                deleteResults.putAll(verboseResults.getDeleteResults());
+            }
+        }
+        AcknowledgedSummaryClientBulkWriteResult summaryResult = new AcknowledgedSummaryClientBulkWriteResult(
+                insertedCount, upsertedCount, matchedCount, modifiedCount, deletedCount);
+        return verbose
+                ? new AcknowledgedVerboseClientBulkWriteResult(summaryResult, insertResults, updateResults, deleteResults)
+                : summaryResult;
+    }
+}
@@ -64,6 +64,7 @@ class CommandCursor<T> implements Cursor<T> {
     private final BsonValue comment;
     private final int maxWireVersion;
     private final boolean firstBatchEmpty;
+    private final boolean exhaust;
     private final ResourceManager resourceManager;
 
     private int batchSize;
@@ -78,6 +79,22 @@ class CommandCursor<T> implements Cursor<T> {
             @Nullable final BsonValue comment,
             final ConnectionSource connectionSource,
             final Connection connection) {
+        this(commandCursorDocument, batchSize, decoder, comment, connectionSource, connection, false);
+    }
+
+    /**
+     * @param exhaust whether to let the server stream the batches following the first {@code getMore} without waiting for further
+     * {@code getMore} commands. Ignored if the connection must be pinned to the cursor, because a pinned connection with unread
+     * batches could not be used to kill the cursor.
+     */
+    CommandCursor(
+            final BsonDocument commandCursorDocument,
+            final int batchSize,
+            final Decoder<T> decoder,
+            @Nullable final BsonValue comment,
+            final ConnectionSource connectionSource,
+            final Connection connection,
+            final boolean exhaust) {
         ConnectionDescription connectionDescription = connection.getDescription();
         this.commandCursorResult = toCommandCursorResult(connectionDescription.getServerAddress(), FIRST_BATCH, commandCursorDocument);
         this.namespace = commandCursorResult.getNamespace();
@@ -88,6 +105,7 @@ class CommandCursor<T> implements Cursor<T> {
         this.firstBatchEmpty = commandCursorResult.getResults().isEmpty();
 
         Connection connectionToPin = connectionSource.getServerDescription().getType() == ServerType.LOAD_BALANCER ? connection : null;
+        this.exhaust = exhaust && connectionToPin == null;
         resourceManager = new ResourceManager(namespace, connectionSource, connectionToPin, commandCursorResult.getServerCursor());
     }
 
@@ -225,14 +243,7 @@ class CommandCursor<T> implements Cursor<T> {
             ServerCursor nextServerCursor;
             try {
                 this.commandCursorResult = toCommandCursorResult(connection.getDescription().getServerAddress(), NEXT_BATCH,
-                        assertNotNull(
-                                connection.command(namespace.getDatabaseName(),
-                                        getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
-                                                comment),
-                                        NoOpFieldNameValidator.INSTANCE,
-                                        ReadPreference.primary(),
-                                        CommandResultDocumentCodec.create(decoder, NEXT_BATCH),
-                                        operationContext)));
+                        assertNotNull(getMoreResult(connection, serverCursor, operationContext)));
                 nextServerCursor = commandCursorResult.getServerCursor();
             } catch (MongoCommandException e) {
                 throw translateCommandException(e, serverCursor);
@@ -241,6 +252,23 @@ class CommandCursor<T> implements Cursor<T> {
         }, operationContext);
     }
 
+    @Nullable
+    private BsonDocument getMoreResult(final Connection connection, final ServerCursor serverCursor,
+            final OperationContext operationContext) {
+        Decoder<BsonDocument> resultDecoder = CommandResultDocumentCodec.create(decoder, NEXT_BATCH);
+        if (connection.hasMoreToCome()) {
+            return connection.receiveMoreToCome(resultDecoder, operationContext);
+        }
+        BsonDocument getMoreCommand = getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
+                comment);
+        if (exhaust) {
+            return connection.commandExhaustAllowed(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                    ReadPreference.primary(), resultDecoder, operationContext);
+        }
+        return connection.command(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                ReadPreference.primary(), resultDecoder, operationContext);
+    }
+
     private CommandCursorResult<T> toCommandCursorResult(final ServerAddress serverAddress, final String fieldNameContainingBatch,
                                                          final BsonDocument commandCursorDocument) {
         CommandCursorResult<T> commandCursorResult = new CommandCursorResult<>(serverAddress, fieldNameContainingBatch,
@@ -253,6 +281,13 @@ class CommandCursor<T> implements Cursor<T> {
 
     @ThreadSafe
     private final class ResourceManager extends CursorResourceManager<ConnectionSource, Connection> {
+        /**
+         * The connection over which the server streams batches, see {@link #holdOrReleaseStreamingConnection(Connection, boolean)}.
+         * Accessed only by the thread running an operation or closing the cursor.
+         */
+        @Nullable
+        private Connection streamingConnection;
+
         ResourceManager(
                 final MongoNamespace namespace,
                 final ConnectionSource connectionSource,
@@ -289,6 +324,7 @@ class CommandCursor<T> implements Cursor<T> {
 
         private void releaseResources(final OperationContext operationContext) {
             try {
+                holdOrReleaseStreamingConnection(null, false);
                 if (isSkipReleasingServerResourcesOnClose()) {
                     unsetServerCursor();
                 }
@@ -311,8 +347,10 @@ class CommandCursor<T> implements Cursor<T> {
 
         void executeWithConnection(final Consumer<Connection> action, final OperationContext operationContext) {
             Connection connection = getConnection(operationContext);
+            boolean moreToCome = false;
             try {
                 action.accept(connection);
+                moreToCome = connection.hasMoreToCome();
             } catch (MongoSocketException e) {
                 onCorruptedConnection(connection, e);
                 throw e;
@@ -323,12 +361,32 @@ class CommandCursor<T> implements Cursor<T> {
                 }
                 throw e;
             } finally {
+                holdOrReleaseStreamingConnection(connection, moreToCome);
                 connection.release();
             }
         }
 
+        /**
+         * Holds on to the connection while the server streams batches over it, because they must be read from that connection.
+         * A released connection with unread batches is closed instead of being returned to the pool.
+         */
+        private void holdOrReleaseStreamingConnection(@Nullable final Connection connection, final boolean moreToCome) {
+            if (moreToCome) {
+                if (streamingConnection == null) {
+                    streamingConnection = assertNotNull(connection).retain();
+                }
+            } else if (streamingConnection != null) {
+                streamingConnection.release();
+                streamingConnection = null;
+            }
+        }
+
         private Connection getConnection(final OperationContext operationContext) {
             assertTrue(getState() != State.IDLE);
+            Connection localStreamingConnection = streamingConnection;
+            if (localStreamingConnection != null) {
+                return localStreamingConnection.retain();
+            }
             Connection pinnedConnection = getPinnedConnection();
             if (pinnedConnection == null) {
                 return assertNotNull(getConnectionSource()).getConnection(operationContext);
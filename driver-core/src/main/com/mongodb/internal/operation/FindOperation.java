@@ -41,6 +41,7 @@ import org.bson.codecs.Decoder;
 
 import java.util.function.Supplier;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 import static com.mongodb.internal.connection.CommandHelper.applyMaxTimeMS;
@@ -56,6 +57,7 @@ import static com.mongodb.internal.operation.ExplainHelper.asExplainCommand;
 import static com.mongodb.internal.operation.OperationHelper.LOGGER;
 import static com.mongodb.internal.operation.OperationHelper.canRetryRead;
 import static com.mongodb.internal.operation.OperationReadConcernHelper.appendReadConcernToCommand;
+import static com.mongodb.internal.operation.PrefetchingBatchCursor.DEFAULT_MAX_PREFETCH_BYTES;
 import static com.mongodb.internal.operation.ServerVersionHelper.UNKNOWN_WIRE_VERSION;
 import static com.mongodb.internal.operation.SyncOperationHelper.CommandReadTransformer;
 import static com.mongodb.internal.operation.SyncOperationHelper.createReadCommandAndExecute;
@@ -92,6 +94,9 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
     private boolean returnKey;
     private boolean showRecordId;
     private Boolean allowDiskUse;
+    private boolean exhaust;
+    private int prefetchBatches;
+    private long maxPrefetchBytes = DEFAULT_MAX_PREFETCH_BYTES;
     private TimeoutMode timeoutMode;
 
     public FindOperation(final MongoNamespace namespace, final Decoder<T> decoder) {
@@ -286,6 +291,35 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
         return this;
     }
 
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    public FindOperation<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    public FindOperation<T> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    public long getMaxPrefetchBytes() {
+        return maxPrefetchBytes;
+    }
+
+    public FindOperation<T> maxPrefetchBytes(final long maxPrefetchBytes) {
+        isTrueArgument("maxPrefetchBytes > 0", maxPrefetchBytes > 0);
+        this.maxPrefetchBytes = maxPrefetchBytes;
+        return this;
+    }
+
     @Override
     public String getCommandName() {
         return COMMAND_NAME;
@@ -299,6 +333,7 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
         }
 
         OperationContext findOperationContext = getFindOperationContext(operationContext);
+        ByteCountingDecoder<T> prefetchDecoder = canPrefetch(findOperationContext) ? new ByteCountingDecoder<>(decoder) : null;
         RetryState retryState = initialRetryState(retryReads, findOperationContext.getTimeoutContext());
         Supplier<BatchCursor<T>> read = decorateReadWithRetries(retryState, findOperationContext, () ->
                 withSourceAndConnection(binding::getReadConnectionSource, false,
@@ -306,8 +341,10 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
                             retryState.breakAndThrowIfRetryAnd(() -> !canRetryRead(commandOperationContext));
                 try {
                     return createReadCommandAndExecute(retryState, commandOperationContext, source, namespace.getDatabaseName(),
-                                                       getCommandCreator(), CommandResultDocumentCodec.create(decoder, FIRST_BATCH),
-                                                       transformer(), connection);
+                                                       getCommandCreator(),
+                                                       CommandResultDocumentCodec.create(
+                                                               prefetchDecoder == null ? decoder : prefetchDecoder, FIRST_BATCH),
+                                                       transformer(prefetchDecoder), connection);
                 } catch (MongoCommandException e) {
                     throw new MongoQueryException(e.getResponse(), e.getServerAddress());
                 }
@@ -466,12 +503,23 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
         return timeoutMode;
     }
 
-    private CommandReadTransformer<BsonDocument, CommandBatchCursor<T>> transformer() {
-        return (result, source, connection, operationContext) ->
-                new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext), operationContext,
-                        new CommandCursor<>(
-                                result, batchSize, decoder, comment, source, connection
-                ));
+    /**
+     * Prefetching uses the session of the cursor in a background thread, so it is done only if no one else can use the session.
+     */
+    private boolean canPrefetch(final OperationContext operationContext) {
+        return prefetchBatches > 0 && !isTailableCursor() && operationContext.getSessionContext().isImplicitSession();
+    }
+
+    private CommandReadTransformer<BsonDocument, BatchCursor<T>> transformer(@Nullable final ByteCountingDecoder<T> prefetchDecoder) {
+        return (result, source, connection, operationContext) -> {
+            BatchCursor<T> cursor = new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext), operationContext,
+                    new CommandCursor<>(
+                            result, batchSize, prefetchDecoder == null ? decoder : prefetchDecoder, comment, source, connection,
+                            exhaust && !isTailableCursor()
+                    ));
+            return prefetchDecoder == null ? cursor : new PrefetchingBatchCursor<>(cursor, prefetchDecoder, prefetchBatches,
+                    maxPrefetchBytes);
+        };
     }
 
     private CommandReadTransformerAsync<BsonDocument, AsyncBatchCursor<T>> asyncTransformer() {
@@ -56,7 +56,6 @@ import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.ValidationOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.bulk.ClientBulkWriteOptions;
-import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
@@ -247,6 +246,11 @@ public final class Operations<T> {
                 .comment(options.getComment());
     }
 
+    public ReadOperationSimple<ShardRoutingTable> shardRoutingTable() {
+        return new ShardRoutingTableOperation(assertNotNull(namespace))
+                .retryReads(retryReads);
+    }
+
     public <R> ReadOperationCursor<R> findFirst(final Bson filter, final Class<R> resultClass,
                                                       final FindOptions options) {
         return createFindOperation(assertNotNull(namespace), filter, resultClass, options).batchSize(0).limit(-1);
@@ -284,6 +288,9 @@ public final class Operations<T> {
                 .returnKey(options.isReturnKey())
                 .showRecordId(options.isShowRecordId())
                 .allowDiskUse(options.isAllowDiskUse())
+                .exhaust(options.isExhaust())
+                .prefetchBatches(options.getPrefetchBatches())
+                .maxPrefetchBytes(options.getMaxPrefetchBytes())
                 .timeoutMode(options.getTimeoutMode());
 
         if (options.getHint() != null) {
@@ -315,10 +322,22 @@ public final class Operations<T> {
             @Nullable final TimeoutMode timeoutMode, @Nullable final Integer batchSize,
             final Collation collation, @Nullable final Bson hint, @Nullable final String hintString,
             final BsonValue comment, final Bson variables, final Boolean allowDiskUse, final AggregationLevel aggregationLevel) {
+        return aggregate(pipeline, resultClass, timeoutMode, batchSize, collation, hint, hintString, comment, variables, allowDiskUse,
+                aggregationLevel, false, 0, PrefetchingBatchCursor.DEFAULT_MAX_PREFETCH_BYTES);
+    }
+
+    public <R> ReadOperationExplainable<R> aggregate(final List<? extends Bson> pipeline, final Class<R> resultClass,
+            @Nullable final TimeoutMode timeoutMode, @Nullable final Integer batchSize,
+            final Collation collation, @Nullable final Bson hint, @Nullable final String hintString,
+            final BsonValue comment, final Bson variables, final Boolean allowDiskUse, final AggregationLevel aggregationLevel,
+            final boolean exhaust, final int prefetchBatches, final long maxPrefetchBytes) {
         return new AggregateOperation<>(assertNotNull(namespace),
                 assertNotNull(toBsonDocumentList(pipeline)), codecRegistry.get(resultClass), aggregationLevel)
                 .retryReads(retryReads)
                 .allowDiskUse(allowDiskUse)
+                .exhaust(exhaust)
+                .prefetchBatches(prefetchBatches)
+                .maxPrefetchBytes(maxPrefetchBytes)
                 .batchSize(batchSize)
                 .collation(collation)
                 .hint(hint != null ? toBsonDocument(hint) : (hintString != null ? new BsonString(hintString) : null))
@@ -803,7 +822,7 @@ public final class Operations<T> {
                 .retryReads(retryReads);
     }
 
-    public WriteOperation<ClientBulkWriteResult> clientBulkWriteOperation(
+    public ClientBulkWriteOperation clientBulkWriteOperation(
             final List<? extends ClientNamespacedWriteModel> clientWriteModels,
             @Nullable final ClientBulkWriteOptions options) {
         return new ClientBulkWriteOperation(clientWriteModels, options, writeConcern, retryWrites, codecRegistry);
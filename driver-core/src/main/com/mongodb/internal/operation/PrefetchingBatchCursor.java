@@ -0,0 +1,289 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.lockInterruptibly;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+
+/**
+ * A {@link BatchCursor} that fetches batches from the wrapped cursor in the background, so that {@code getMore} commands overlap with
+ * the processing of the batches fetched before.
+ *
+ * <p>At most {@code maxBatches} batches are buffered, and no batch is fetched while the buffered batches take {@code maxBytes} or more.
+ * The size of a batch is the size of its BSON documents as counted by the {@link ByteCountingDecoder} that decodes them. The wrapped
+ * cursor is used only by the fetching thread, except for {@link #getServerCursor()}, {@link #getServerAddress()} and
+ * {@link #setBatchSize(int)}, which tolerate being called concurrently with fetching.</p>
+ *
+ * <p>The fetching threads are shared by the cursors of all clients, so they are not created by a client's
+ * {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory}. Their number is bounded: when all of them are busy,
+ * a cursor's fetch waits in a queue for one of them. A fetch returns its thread as soon as the buffer of its cursor is full, so a queued
+ * fetch only delays the batches of its cursor.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@NotThreadSafe
+final class PrefetchingBatchCursor<T> implements BatchCursor<T> {
+    static final long DEFAULT_MAX_PREFETCH_BYTES = 32 * 1024 * 1024;
+    private static final int MAX_FETCHING_THREADS = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService FETCHER = createFetcher();
+
+    private final BatchCursor<T> wrapped;
+    private final ByteCountingDecoder<T> decoder;
+    private final int maxBatches;
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private final Deque<Batch<T>> batches = new ArrayDeque<>();
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private long bufferedBytes;
+    /**
+     * Guarded by {@link #lock}. {@code true} iff the fetching thread uses the wrapped cursor.
+     */
+    private boolean fetching;
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private boolean exhausted;
+    /**
+     * Guarded by {@link #lock}.
+     */
+    @Nullable
+    private RuntimeException fetchFailure;
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private boolean closed;
+
+    PrefetchingBatchCursor(final BatchCursor<T> wrapped, final ByteCountingDecoder<T> decoder, final int maxBatches,
+            final long maxBytes) {
+        isTrueArgument("maxBatches > 0", maxBatches > 0);
+        isTrueArgument("maxBytes > 0", maxBytes > 0);
+        this.wrapped = notNull("wrapped", wrapped);
+        this.decoder = notNull("decoder", decoder);
+        this.maxBatches = maxBatches;
+        this.maxBytes = maxBytes;
+        fetching = true;
+        FETCHER.execute(this::fetch);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return awaitBatch() != null;
+    }
+
+    @Override
+    public List<T> next() {
+        if (awaitBatch() == null) {
+            throw new NoSuchElementException();
+        }
+        return take();
+    }
+
+    @Nullable
+    @Override
+    public List<T> tryNext() {
+        return awaitBatch() == null ? null : take();
+    }
+
+    @Override
+    public int available() {
+        return withLock(lock, () -> batches.stream().mapToInt(batch -> batch.documents.size()).sum());
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        wrapped.setBatchSize(batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return wrapped.getBatchSize();
+    }
+
+    @Nullable
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    /**
+     * Closes the wrapped cursor, or, if a batch is being fetched, lets the fetching thread close it once the batch is fetched.
+     */
+    @Override
+    public void close() {
+        boolean closeWrapped = withLock(lock, () -> {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            batches.clear();
+            bufferedBytes = 0;
+            changed.signalAll();
+            return !fetching;
+        });
+        if (closeWrapped) {
+            wrapped.close();
+        }
+    }
+
+    /**
+     * Returns the next batch without removing it, or {@code null} if there are no more batches.
+     */
+    @Nullable
+    private Batch<T> awaitBatch() {
+        lockInterruptibly(lock);
+        try {
+            while (true) {
+                if (closed) {
+                    throw new IllegalStateException("Cursor has been closed");
+                }
+                Batch<T> batch = batches.peekFirst();
+                if (batch != null) {
+                    return batch;
+                }
+                if (fetchFailure != null) {
+                    throw fetchFailure;
+                }
+                if (exhausted) {
+                    return null;
+                }
+                try {
+                    changed.await();
+                } catch (InterruptedException e) {
+                    throw interruptAndCreateMongoInterruptedException("Interrupted waiting for the next batch", e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<T> take() {
+        return withLock(lock, () -> {
+            Batch<T> batch = batches.removeFirst();
+            bufferedBytes -= batch.bytes;
+            startFetchingIfNeeded();
+            return batch.documents;
+        });
+    }
+
+    /**
+     * Must be called while holding {@link #lock}.
+     */
+    private void startFetchingIfNeeded() {
+        if (!fetching && canFetch()) {
+            fetching = true;
+            FETCHER.execute(this::fetch);
+        }
+    }
+
+    /**
+     * Must be called while holding {@link #lock}.
+     */
+    private boolean canFetch() {
+        return !closed && !exhausted && fetchFailure == null && batches.size() < maxBatches && bufferedBytes < maxBytes;
+    }
+
+    /**
+     * Runs in the fetching thread, and fetches batches until the buffer is full, the wrapped cursor is exhausted, or this cursor is
+     * closed.
+     */
+    private void fetch() {
+        boolean closeWrapped = false;
+        boolean fetchMore = true;
+        while (fetchMore) {
+            Batch<T> batch = null;
+            RuntimeException failure = null;
+            try {
+                if (wrapped.hasNext()) {
+                    List<T> documents = wrapped.next();
+                    batch = new Batch<>(documents, decoder.takeByteCount());
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            lock.lock();
+            try {
+                if (failure != null) {
+                    fetchFailure = failure;
+                } else if (batch == null) {
+                    exhausted = true;
+                } else if (!closed) {
+                    batches.addLast(batch);
+                    bufferedBytes += batch.bytes;
+                }
+                changed.signalAll();
+                fetching = canFetch();
+                fetchMore = fetching;
+                // `close` leaves closing the wrapped cursor to this thread if it was called while fetching
+                closeWrapped = closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (closeWrapped) {
+            wrapped.close();
+        }
+    }
+
+    private static ExecutorService createFetcher() {
+        ThreadPoolExecutor fetcher = new ThreadPoolExecutor(MAX_FETCHING_THREADS, MAX_FETCHING_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("CursorPrefetcher"));
+        fetcher.allowCoreThreadTimeOut(true);
+        return fetcher;
+    }
+
+    private static final class Batch<T> {
+        private final List<T> documents;
+        private final long bytes;
+
+        Batch(final List<T> documents, final long bytes) {
+            this.documents = documents;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonNumber;
+import org.bson.BsonValue;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * The ranges of the shard key values of a sharded collection owned by each shard, as recorded in the {@code config.collections} and
+ * {@code config.chunks} collections of a sharded cluster.
+ *
+ * <p>A routing table is only a hint: mongos always routes writes to the shards that own the documents, so a stale routing table may
+ * make grouping documents per shard less effective, but never incorrect. Documents of unsharded collections, of collections sharded
+ * on a hashed shard key, and documents whose shard key values can not be compared by this class are not routed.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@Immutable
+public final class ShardRoutingTable {
+    private static final ShardRoutingTable UNROUTABLE = new ShardRoutingTable(Collections.emptyList(), Collections.emptyList());
+
+    private final List<String> shardKeyFields;
+    private final List<String[]> shardKeyPaths;
+    private final List<Chunk> chunks;
+
+    /**
+     * @return a routing table that does not route any document
+     */
+    public static ShardRoutingTable unroutable() {
+        return UNROUTABLE;
+    }
+
+    /**
+     * Creates a routing table.
+     *
+     * @param collection the document of the collection in {@code config.collections}, or null if the collection is not sharded
+     * @param chunks     the documents of the chunks of the collection in {@code config.chunks}
+     * @return the routing table
+     */
+    public static ShardRoutingTable create(@Nullable final BsonDocument collection, final List<BsonDocument> chunks) {
+        if (collection == null || collection.getBoolean("dropped", BsonBoolean.FALSE).getValue()
+                || !collection.isDocument("key") || chunks.isEmpty()) {
+            return UNROUTABLE;
+        }
+        BsonDocument key = collection.getDocument("key");
+        List<String> shardKeyFields = new ArrayList<>(key.size());
+        for (Map.Entry<String, BsonValue> entry : key.entrySet()) {
+            if (!entry.getValue().isNumber()) {
+                // hashed shard keys route on the hashes of the values, which are computed by the server only
+                return UNROUTABLE;
+            }
+            shardKeyFields.add(entry.getKey());
+        }
+        List<Chunk> sortedChunks = new ArrayList<>(chunks.size());
+        for (BsonDocument chunk : chunks) {
+            BsonDocument min = chunk.getDocument("min");
+            BsonDocument max = chunk.getDocument("max");
+            if (!isComparable(min) || !isComparable(max)) {
+                return UNROUTABLE;
+            }
+            sortedChunks.add(new Chunk(min, max, chunk.getString("shard").getValue()));
+        }
+        sortedChunks.sort((first, second) -> compareValues(first.min, second.min));
+        return new ShardRoutingTable(shardKeyFields, sortedChunks);
+    }
+
+    private ShardRoutingTable(final List<String> shardKeyFields, final List<Chunk> chunks) {
+        this.shardKeyFields = shardKeyFields;
+        this.shardKeyPaths = new ArrayList<>(shardKeyFields.size());
+        for (String field : shardKeyFields) {
+            shardKeyPaths.add(field.split("\\."));
+        }
+        this.chunks = chunks;
+    }
+
+    /**
+     * @return true if this routing table may route documents
+     */
+    public boolean isRoutable() {
+        return !chunks.isEmpty();
+    }
+
+    /**
+     * Gets the shard that owns a document.
+     *
+     * @param document the document
+     * @return the identifier of the shard that owns the document, or null if the document can not be routed
+     */
+    @Nullable
+    public String getShard(final BsonDocument document) {
+        notNull("document", document);
+        if (chunks.isEmpty()) {
+            return null;
+        }
+        BsonDocument shardKey = new BsonDocument();
+        for (int i = 0; i < shardKeyFields.size(); i++) {
+            BsonValue value = getValue(document, shardKeyPaths.get(i));
+            if (!isComparable(value)) {
+                return null;
+            }
+            shardKey.append(shardKeyFields.get(i), value);
+        }
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Chunk chunk = chunks.get(middle);
+            if (compareValues(shardKey, chunk.min) < 0) {
+                high = middle - 1;
+            } else if (compareValues(shardKey, chunk.max) >= 0) {
+                low = middle + 1;
+            } else {
+                return chunk.shard;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardRoutingTable{"
+                + "shardKeyFields=" + shardKeyFields
+                + ", chunks=" + chunks.size()
+                + '}';
+    }
+
+    /**
+     * Gets the value of a dotted field path, which is null if the document does not have the field, as the server does.
+     */
+    private static BsonValue getValue(final BsonDocument document, final String[] path) {
+        BsonValue value = document;
+        for (String name : path) {
+            if (!value.isDocument()) {
+                return BsonNull.VALUE;
+            }
+            value = value.asDocument().get(name);
+            if (value == null) {
+                return BsonNull.VALUE;
+            }
+        }
+        return value;
+    }
+
+    private static boolean isComparable(final BsonValue value) {
+        if (value.isDocument()) {
+            for (BsonValue element : value.asDocument().values()) {
+                if (!isComparable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return getTypeOrder(value) >= 0;
+    }
+
+    /**
+     * Gets the position of the type of a value in the order of the types of values with the simple collation, or -1 if the values of
+     * the type are not compared by this class.
+     */
+    private static int getTypeOrder(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case MIN_KEY:
+                return 0;
+            case UNDEFINED:
+            case NULL:
+                return 1;
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return 2;
+            case SYMBOL:
+            case STRING:
+                return 3;
+            case DOCUMENT:
+                return 4;
+            case BINARY:
+                return 6;
+            case OBJECT_ID:
+                return 7;
+            case BOOLEAN:
+                return 8;
+            case DATE_TIME:
+                return 9;
+            case TIMESTAMP:
+                return 10;
+            case MAX_KEY:
+                return 127;
+            default:
+                return -1;
+        }
+    }
+
+    private static int compareValues(final BsonValue first, final BsonValue second) {
+        int result = Integer.compare(getTypeOrder(first), getTypeOrder(second));
+        if (result != 0) {
+            return result;
+        }
+        switch (first.getBsonType()) {
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return compareNumbers((BsonNumber) first, (BsonNumber) second);
+            case SYMBOL:
+            case STRING:
+                return compareStrings(first.isString() ? first.asString().getValue() : first.asSymbol().getSymbol(),
+                        second.isString() ? second.asString().getValue() : second.asSymbol().getSymbol());
+            case DOCUMENT:
+                return compareDocuments(first.asDocument(), second.asDocument());
+            case BINARY:
+                return compareBinaries(first.asBinary(), second.asBinary());
+            case OBJECT_ID:
+                return first.asObjectId().getValue().compareTo(second.asObjectId().getValue());
+            case BOOLEAN:
+                return Boolean.compare(first.asBoolean().getValue(), second.asBoolean().getValue());
+            case DATE_TIME:
+                return Long.compare(first.asDateTime().getValue(), second.asDateTime().getValue());
+            case TIMESTAMP:
+                return Long.compareUnsigned(first.asTimestamp().getValue(), second.asTimestamp().getValue());
+            default:
+                return 0;
+        }
+    }
+
+    private static int compareDocuments(final BsonDocument first, final BsonDocument second) {
+        Iterator<Map.Entry<String, BsonValue>> firstEntries = first.entrySet().iterator();
+        Iterator<Map.Entry<String, BsonValue>> secondEntries = second.entrySet().iterator();
+        while (firstEntries.hasNext() && secondEntries.hasNext()) {
+            Map.Entry<String, BsonValue> firstEntry = firstEntries.next();
+            Map.Entry<String, BsonValue> secondEntry = secondEntries.next();
+            int result = Integer.compare(getTypeOrder(firstEntry.getValue()), getTypeOrder(secondEntry.getValue()));
+            if (result == 0) {
+                result = compareStrings(firstEntry.getKey(), secondEntry.getKey());
+            }
+            if (result == 0) {
+                result = compareValues(firstEntry.getValue(), secondEntry.getValue());
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Boolean.compare(firstEntries.hasNext(), secondEntries.hasNext());
+    }
+
+    private static int compareNumbers(final BsonNumber first, final BsonNumber second) {
+        if (!first.isDouble() && !first.isDecimal128() && !second.isDouble() && !second.isDecimal128()) {
+            return Long.compare(first.longValue(), second.longValue());
+        }
+        int firstOrder = getNonFiniteOrder(first);
+        int secondOrder = getNonFiniteOrder(second);
+        if (firstOrder != 0 || secondOrder != 0) {
+            return Integer.compare(firstOrder, secondOrder);
+        }
+        // doubles are compared by their exact values, which Decimal128 can not hold for most of them, e.g. 0.1
+        return toBigDecimal(first).compareTo(toBigDecimal(second));
+    }
+
+    /**
+     * Orders NaN, which is less than any other number, before negative infinity, finite numbers and positive infinity.
+     */
+    private static int getNonFiniteOrder(final BsonNumber number) {
+        if (number.isDecimal128()) {
+            Decimal128 value = number.asDecimal128().getValue();
+            return value.isNaN() ? -2 : value.isFinite() ? 0 : value.isNegative() ? -1 : 1;
+        } else if (number.isDouble()) {
+            double value = number.doubleValue();
+            return Double.isNaN(value) ? -2 : !Double.isInfinite(value) ? 0 : value < 0 ? -1 : 1;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Must be called with a finite number.
+     */
+    private static BigDecimal toBigDecimal(final BsonNumber number) {
+        if (number.isDecimal128()) {
+            try {
+                return number.asDecimal128().getValue().bigDecimalValue();
+            } catch (ArithmeticException e) {
+                // negative zero is equal to zero
+                return BigDecimal.ZERO;
+            }
+        } else if (number.isDouble()) {
+            return new BigDecimal(number.doubleValue());
+        } else {
+            return BigDecimal.valueOf(number.longValue());
+        }
+    }
+
+    /**
+     * Compares strings by their code points, which is the order of their UTF-8 encoded bytes.
+     */
+    private static int compareStrings(final String first, final String second) {
+        int i = 0;
+        int j = 0;
+        while (i < first.length() && j < second.length()) {
+            int firstCodePoint = first.codePointAt(i);
+            int secondCodePoint = second.codePointAt(j);
+            if (firstCodePoint != secondCodePoint) {
+                return Integer.compare(firstCodePoint, secondCodePoint);
+            }
+            i += Character.charCount(firstCodePoint);
+            j += Character.charCount(secondCodePoint);
+        }
+        return Boolean.compare(i < first.length(), j < second.length());
+    }
+
+    private static int compareBinaries(final BsonBinary first, final BsonBinary second) {
+        int result = Integer.compare(first.getData().length, second.getData().length);
+        if (result == 0) {
+            result = Integer.compare(first.getType() & 0xFF, second.getType() & 0xFF);
+        }
+        for (int i = 0; result == 0 && i < first.getData().length; i++) {
+            result = Integer.compare(first.getData()[i] & 0xFF, second.getData()[i] & 0xFF);
+        }
+        return result;
+    }
+
+    private static final class Chunk {
+        private final BsonDocument min;
+        private final BsonDocument max;
+        private final String shard;
+
+        Chunk(final BsonDocument min, final BsonDocument max, final String shard) {
+            this.min = min;
+            this.max = max;
+            this.shard = shard;
+        }
+    }
+}
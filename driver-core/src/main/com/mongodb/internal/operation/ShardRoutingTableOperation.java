@@ -0,0 +1,143 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.internal.binding.AsyncReadBinding;
+import com.mongodb.internal.binding.ReadBinding;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.codecs.BsonDocumentCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An operation that reads the {@linkplain ShardRoutingTable routing table} of a collection from the {@code config} database.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public class ShardRoutingTableOperation implements ReadOperationSimple<ShardRoutingTable> {
+    private static final String COMMAND_NAME = "find";
+    private static final MongoNamespace COLLECTIONS_NAMESPACE = new MongoNamespace("config", "collections");
+    private static final MongoNamespace CHUNKS_NAMESPACE = new MongoNamespace("config", "chunks");
+    private static final BsonDocument CHUNK_PROJECTION = new BsonDocument("_id", new BsonInt32(0))
+            .append("min", new BsonInt32(1))
+            .append("max", new BsonInt32(1))
+            .append("shard", new BsonInt32(1));
+    private final MongoNamespace namespace;
+    private boolean retryReads;
+
+    public ShardRoutingTableOperation(final MongoNamespace namespace) {
+        this.namespace = notNull("namespace", namespace);
+    }
+
+    public ShardRoutingTableOperation retryReads(final boolean retryReads) {
+        this.retryReads = retryReads;
+        return this;
+    }
+
+    @Override
+    public String getCommandName() {
+        return COMMAND_NAME;
+    }
+
+    @Override
+    public MongoNamespace getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public ShardRoutingTable execute(final ReadBinding binding, final OperationContext operationContext) {
+        BsonDocument collection;
+        try (BatchCursor<BsonDocument> cursor = find(COLLECTIONS_NAMESPACE,
+                new BsonDocument("_id", new BsonString(namespace.getFullName())), null).execute(binding, operationContext)) {
+            collection = getFirst(cursor.exhaust());
+        }
+        if (collection == null) {
+            return ShardRoutingTable.unroutable();
+        }
+        try (BatchCursor<BsonDocument> cursor = find(CHUNKS_NAMESPACE, getChunksFilter(collection), CHUNK_PROJECTION)
+                .execute(binding, operationContext)) {
+            return ShardRoutingTable.create(collection, flatten(cursor.exhaust()));
+        }
+    }
+
+    @Override
+    public void executeAsync(final AsyncReadBinding binding, final OperationContext operationContext,
+                             final SingleResultCallback<ShardRoutingTable> callback) {
+        find(COLLECTIONS_NAMESPACE, new BsonDocument("_id", new BsonString(namespace.getFullName())), null)
+                .executeAsync(binding, operationContext, (collectionsCursor, t) -> {
+                    if (t != null) {
+                        callback.onResult(null, t);
+                        return;
+                    }
+                    collectionsCursor.exhaust((collections, t1) -> {
+                        BsonDocument collection = t1 == null ? getFirst(collections) : null;
+                        if (t1 != null || collection == null) {
+                            callback.onResult(t1 == null ? ShardRoutingTable.unroutable() : null, t1);
+                            return;
+                        }
+                        find(CHUNKS_NAMESPACE, getChunksFilter(collection), CHUNK_PROJECTION)
+                                .executeAsync(binding, operationContext, (chunksCursor, t2) -> {
+                                    if (t2 != null) {
+                                        callback.onResult(null, t2);
+                                        return;
+                                    }
+                                    chunksCursor.exhaust((chunks, t3) -> callback.onResult(
+                                            t3 == null ? ShardRoutingTable.create(collection, flatten(chunks)) : null, t3));
+                                });
+                    });
+                });
+    }
+
+    private FindOperation<BsonDocument> find(final MongoNamespace namespace, final BsonDocument filter,
+                                             @Nullable final BsonDocument projection) {
+        return new FindOperation<>(namespace, new BsonDocumentCodec())
+                .filter(filter)
+                .projection(projection)
+                .retryReads(retryReads);
+    }
+
+    /**
+     * Chunks are associated with the UUID of their collection since MongoDB 5.0, and with its namespace before.
+     */
+    private BsonDocument getChunksFilter(final BsonDocument collection) {
+        return collection.containsKey("timestamp") && collection.containsKey("uuid")
+                ? new BsonDocument("uuid", collection.get("uuid"))
+                : new BsonDocument("ns", new BsonString(namespace.getFullName()));
+    }
+
+    @Nullable
+    private static BsonDocument getFirst(final List<List<BsonDocument>> batches) {
+        return batches.isEmpty() || batches.get(0).isEmpty() ? null : batches.get(0).get(0);
+    }
+
+    private static List<BsonDocument> flatten(final List<List<BsonDocument>> batches) {
+        List<BsonDocument> documents = new ArrayList<>();
+        for (List<BsonDocument> batch : batches) {
+            documents.addAll(batch);
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.selector;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster.ServersSnapshot;
+import com.mongodb.internal.connection.OperationLatencyHistogram;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.selector.ServerSelector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * {@linkplain #select(ClusterDescription) Selects} the {@link ServerDescription}s except those corresponding to
+ * {@linkplain ServersSnapshot#getServer(ServerAddress) servers} whose percentile of the recent
+ * {@linkplain Server#operationLatencies() round trip times of commands} is both more than a ratio of, and more than a threshold above,
+ * that of the fastest server. Servers without enough recent round trip times are always selected, so that a server that stopped being
+ * selected because it was slow is selected again once its slow round trip times are no longer recent.
+ *
+ * <p>Unlike {@link LatencyMinimizingServerSelector}, which compares the round trip times of the monitoring {@code hello} commands, this
+ * selector avoids servers that respond to monitoring in time but are slow to execute operations.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class OperationLatencyServerSelector implements ServerSelector {
+    private final ServersSnapshot serversSnapshot;
+    private final double percentile;
+    private final double ratio;
+    private final long thresholdNanos;
+
+    /**
+     * @param serversSnapshot Must {@linkplain ServersSnapshot#containsServer(ServerAddress) contain} {@link Server}s corresponding to
+     * {@linkplain ClusterDescription#getServerDescriptions() all} {@link ServerDescription}s
+     * in the {@link ClusterDescription} passed to {@link #select(ClusterDescription)}.
+     * @param percentile the percentile of the round trip times to compare, greater than 0 and less than 100
+     * @param ratio the ratio of the percentile of the fastest server above which a server is not selected
+     * @param threshold the difference to the percentile of the fastest server below which a server is always selected
+     * @param timeUnit the time unit of the threshold
+     */
+    public OperationLatencyServerSelector(final ServersSnapshot serversSnapshot, final double percentile, final double ratio,
+            final long threshold, final TimeUnit timeUnit) {
+        this.serversSnapshot = serversSnapshot;
+        this.percentile = percentile;
+        this.ratio = ratio;
+        this.thresholdNanos = NANOSECONDS.convert(threshold, timeUnit);
+    }
+
+    @Override
+    public List<ServerDescription> select(final ClusterDescription clusterDescription) {
+        List<ServerDescription> serverDescriptions = clusterDescription.getServerDescriptions();
+        if (serverDescriptions.size() < 2) {
+            return serverDescriptions;
+        }
+        long[] latencies = new long[serverDescriptions.size()];
+        long fastestLatency = Long.MAX_VALUE;
+        for (int i = 0; i < serverDescriptions.size(); i++) {
+            OperationLatencyHistogram operationLatencies = assertNotNull(serversSnapshot.getServer(serverDescriptions.get(i).getAddress()))
+                    .operationLatencies();
+            latencies[i] = operationLatencies == null ? -1 : operationLatencies.getPercentile(percentile, NANOSECONDS);
+            if (latencies[i] >= 0) {
+                fastestLatency = Math.min(fastestLatency, latencies[i]);
+            }
+        }
+        if (fastestLatency == Long.MAX_VALUE) {
+            return serverDescriptions;
+        }
+        long maxLatency = Math.max((long) (fastestLatency * ratio), fastestLatency + thresholdNanos);
+        List<ServerDescription> result = new ArrayList<>(serverDescriptions.size());
+        for (int i = 0; i < serverDescriptions.size(); i++) {
+            if (latencies[i] <= maxLatency) {
+                result.add(serverDescriptions.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationLatencyServerSelector{"
+                + "percentile=" + percentile
+                + ", ratio=" + ratio
+                + ", thresholdNanos=" + thresholdNanos
+                + '}';
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import com.mongodb.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Runs the periodic background tasks of a client with the {@linkplain com.mongodb.MongoClientSettings#getBackgroundScheduler() shared
+ * scheduler}, without blocking its threads.
+ *
+ * <p>The shared scheduler only times the tasks. When a task is due, it is run by a worker created with the
+ * {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory} of the client, so that a task that blocks, e.g. for up
+ * to the connect timeout while opening a connection, does not delay the tasks of other servers and clients. Workers are reused by all
+ * the tasks of the client and terminate after being idle for {@value #KEEP_ALIVE_SECONDS} seconds, so that there are as many as there
+ * are tasks running at the same time, rather than one per server.</p>
+ *
+ * <p>A run of a periodic task is skipped if the previous run is still in progress, and a periodic task that throws is not run again,
+ * as with a {@link ScheduledExecutorService}. Shutting this executor down shuts the workers down, but not the shared scheduler.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BackgroundScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * @param scheduler the shared scheduler
+     * @param threadFactory the thread factory to create the workers with, or null to create daemon platform threads
+     */
+    public BackgroundScheduler(final ScheduledExecutorService scheduler, @Nullable final ThreadFactory threadFactory) {
+        this.scheduler = notNull("scheduler", scheduler);
+        workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, SECONDS, new SynchronousQueue<>(),
+                new DaemonThreadFactory("BackgroundWorker", threadFactory));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        workers.execute(notNull("command", command));
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        notNull("command", command);
+        return scheduler.schedule(() -> workers.execute(command), delay, unit);
+    }
+
+    /**
+     * Not used by the driver.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period,
+            final TimeUnit unit) {
+        return scheduler.scheduleAtFixedRate(new PeriodicTask(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay,
+            final TimeUnit unit) {
+        return scheduler.scheduleWithFixedDelay(new PeriodicTask(command), initialDelay, delay, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return workers.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Hands each run of a periodic task over to a worker, unless the previous run is still in progress. Once a run has thrown, the next
+     * one throws on the shared scheduler instead, which suppresses the subsequent runs.
+     */
+    private final class PeriodicTask implements Runnable {
+        private final Runnable command;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile boolean failed;
+
+        PeriodicTask(final Runnable command) {
+            this.command = notNull("command", command);
+        }
+
+        @Override
+        public void run() {
+            if (failed) {
+                throw new IllegalStateException("A previous run of the periodic task " + command + " threw an exception");
+            }
+            if (!running.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                workers.execute(this::runCommand);
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
+
+        private void runCommand() {
+            try {
+                command.run();
+            } catch (Throwable t) {
+                failed = true;
+                throw t;
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.mongodb.internal.thread;
 
+import com.mongodb.lang.Nullable;
+
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -23,21 +25,51 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Custom thread factory for scheduled executor service that creates daemon threads.  Otherwise,
  * applications that neglect to close the client will not exit.
  *
+ * <p>If a {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory is configured}, the threads are created by it
+ * instead, and only named by this factory, so that they may for example be virtual threads.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class DaemonThreadFactory implements ThreadFactory {
     private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
     private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final String namePrefix;
+    @Nullable
+    private final ThreadFactory threadFactory;
 
     public DaemonThreadFactory(final String prefix) {
+        this(prefix, null);
+    }
+
+    public DaemonThreadFactory(final String prefix, @Nullable final ThreadFactory threadFactory) {
         namePrefix = prefix + "-" + POOL_NUMBER.getAndIncrement() + "-thread-";
+        this.threadFactory = threadFactory;
     }
 
     @Override
     public Thread newThread(final Runnable runnable) {
-        Thread t = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
-        t.setDaemon(true);
+        return newThread(threadFactory, runnable, namePrefix + threadNumber.getAndIncrement());
+    }
+
+    /**
+     * Creates a named thread, with the {@code threadFactory} if it is not null, otherwise as a daemon platform thread.
+     *
+     * @param threadFactory the configured thread factory, or null
+     * @param runnable the runnable to run in the thread
+     * @param name the name of the thread
+     * @return the thread, which is not started
+     */
+    public static Thread newThread(@Nullable final ThreadFactory threadFactory, final Runnable runnable, final String name) {
+        if (threadFactory == null) {
+            Thread t = new Thread(runnable, name);
+            t.setDaemon(true);
+            return t;
+        }
+        Thread t = threadFactory.newThread(runnable);
+        if (t == null) {
+            throw new IllegalStateException("The thread factory " + threadFactory + " did not create a thread");
+        }
+        t.setName(name);
         return t;
     }
 }
@@ -21,6 +21,7 @@ import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.lang.Nullable;
 import com.mongodb.observability.ObservabilitySettings;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationConvention;
 import io.micrometer.observation.ObservationRegistry;
 
@@ -29,7 +30,7 @@ import java.util.Objects;
 import static com.mongodb.assertions.Assertions.notNull;
 
 /**
- * The Micrometer Observation settings for tracing operations, commands and transactions.
+ * The Micrometer Observation settings for tracing operations, commands and transactions, and the Micrometer settings for metrics.
  *
  * <p>If tracing is configured by supplying an {@code observationRegistry} then setting the environment variable
  * {@value com.mongodb.internal.observability.micrometer.TracingManager#ENV_OBSERVABILITY_ENABLED} is used to enable or disable the
@@ -64,6 +65,8 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
     private final boolean enableCommandPayloadTracing;
     @Nullable
     private final ObservationConvention<MongodbObservationContext> observationConvention;
+    @Nullable
+    private final MeterRegistry meterRegistry;
 
     /**
      * Convenience method to create a Builder.
@@ -114,6 +117,15 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         return maxQueryTextLength;
     }
 
+    /**
+     * @return the meter registry or null
+     * @since 5.10
+     */
+    @Nullable
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
     /**
      * A builder for {@code MicrometerObservabilitySettings}
      */
@@ -125,6 +137,8 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         private int maxQueryTextLength = Integer.MAX_VALUE;
         @Nullable
         private ObservationConvention<MongodbObservationContext> observationConvention;
+        @Nullable
+        private MeterRegistry meterRegistry;
 
         private Builder() {
             if (!OBSERVATION_REGISTRY_AVAILABLE) {
@@ -137,6 +151,7 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
             this.enableCommandPayloadTracing = settings.enableCommandPayloadTracing;
             this.maxQueryTextLength = settings.maxQueryTextLength;
             this.observationConvention = settings.observationConvention;
+            this.meterRegistry = settings.meterRegistry;
         }
 
         /**
@@ -153,6 +168,7 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
             enableCommandPayloadTracing = settings.enableCommandPayloadTracing;
             maxQueryTextLength = settings.maxQueryTextLength;
             observationConvention = settings.observationConvention;
+            meterRegistry = settings.meterRegistry;
             return this;
         }
 
@@ -206,12 +222,45 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
             return this;
         }
 
+        /**
+         * Sets the meter registry to register the metrics of the connection pools with.
+         *
+         * <p>The metrics of each connection pool are tagged with the address of its server and the id of its cluster, and are removed
+         * from the registry when the connection pool is closed. They are maintained by the driver with striped counters, so that
+         * checking out connections and executing commands does not allocate when metrics are enabled:</p>
+         * <ul>
+         *     <li>{@code mongodb.driver.pool.size}, {@code mongodb.driver.pool.checkedout}, {@code mongodb.driver.pool.idle},
+         *     {@code mongodb.driver.pool.pending} and {@code mongodb.driver.pool.waitqueuesize} count the connections in the pool,
+         *     those checked out, those available, those being opened, and the checkouts in progress.</li>
+         *     <li>{@code mongodb.driver.pool.checkout.failed} counts the failed checkouts.</li>
+         *     <li>{@code mongodb.driver.pool.checkout.latency} and {@code mongodb.driver.commands.latency} are the percentiles, tagged
+         *     with {@code percentile}, of the recent checkout times and command round trip times. There is a single distribution of the
+         *     command round trip times per connection pool, which is not tagged with the command name.</li>
+         *     <li>{@code mongodb.driver.network.bytes.sent} and {@code mongodb.driver.network.bytes.received} count the bytes of the
+         *     messages sent and received on the pooled connections.</li>
+         * </ul>
+         *
+         * <p>If no meter registry is set, the driver does not record these metrics, except for the command round trip times read by
+         * {@link com.mongodb.connection.ClusterSettings#getOperationLatencyPercentile()} and
+         * {@link com.mongodb.connection.ClusterSettings#getHedgeDelayPercentile()} when they are set.</p>
+         *
+         * <p>Requires the {@code io.micrometer:micrometer-core} dependency.</p>
+         *
+         * @param meterRegistry the meter registry, or null to not record metrics
+         * @return this
+         * @since 5.10
+         */
+        public Builder meterRegistry(@Nullable final MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
         /**
          * @return the configured settings
          */
         public MicrometerObservabilitySettings build() {
             return new MicrometerObservabilitySettings(observationRegistry, enableCommandPayloadTracing, maxQueryTextLength,
-                    observationConvention);
+                    observationConvention, meterRegistry);
         }
     }
 
@@ -224,20 +273,23 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         return enableCommandPayloadTracing == that.enableCommandPayloadTracing
                 && maxQueryTextLength == that.maxQueryTextLength
                 && Objects.equals(observationRegistry, that.observationRegistry)
-                && Objects.equals(observationConvention, that.observationConvention);
+                && Objects.equals(observationConvention, that.observationConvention)
+                && Objects.equals(meterRegistry, that.meterRegistry);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(observationRegistry, enableCommandPayloadTracing, maxQueryTextLength, observationConvention);
+        return Objects.hash(observationRegistry, enableCommandPayloadTracing, maxQueryTextLength, observationConvention, meterRegistry);
     }
 
     private MicrometerObservabilitySettings(@Nullable final ObservationRegistry observationRegistry,
             final boolean enableCommandPayloadTracing, final int maxQueryTextLength,
-            @Nullable final ObservationConvention<MongodbObservationContext> observationConvention) {
+            @Nullable final ObservationConvention<MongodbObservationContext> observationConvention,
+            @Nullable final MeterRegistry meterRegistry) {
         this.observationRegistry = observationRegistry;
         this.enableCommandPayloadTracing = enableCommandPayloadTracing;
         this.maxQueryTextLength = maxQueryTextLength;
         this.observationConvention = observationConvention;
+        this.meterRegistry = meterRegistry;
     }
 }
@@ -448,7 +448,7 @@ public final class ClusterFixture {
                 ServerSettings.builder().build(),
                 ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                 TIMEOUT_SETTINGS.connectionOnly(), streamFactory, TIMEOUT_SETTINGS.connectionOnly(), streamFactory, credential,
-                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), getServerApi(), null);
+                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), getServerApi(), null, null, null);
     }
 
     private static Cluster createCluster(final ConnectionString connectionString, final StreamFactory streamFactory) {
@@ -462,7 +462,7 @@ public final class ClusterFixture {
                         getSslSettings(connectionString)),
                 connectionString.getCredential(),
                 LoggerSettings.builder().build(), null, null, null,
-                connectionString.getCompressorList(), getServerApi(), null);
+                connectionString.getCompressorList(), getServerApi(), null, null, null);
     }
 
     public static StreamFactory getStreamFactory() {
@@ -72,6 +72,22 @@ public final class SyncConnection implements Connection {
         return callback.get();
     }
 
+    @Override
+    public <T> T commandExhaustAllowed(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext);
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void markAsPinned(final PinningMode pinningMode) {
         wrapped.markAsPinned(pinningMode);
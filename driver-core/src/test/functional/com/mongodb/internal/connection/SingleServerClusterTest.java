@@ -69,7 +69,7 @@ public class SingleServerClusterTest {
                         ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                         OPERATION_CONTEXT_FACTORY, streamFactory, OPERATION_CONTEXT_FACTORY, streamFactory, getCredential(),
                         LoggerSettings.builder().build(), null,
-                        Collections.emptyList(), getServerApi(), false), CLIENT_METADATA);
+                        Collections.emptyList(), getServerApi(), false, null, null), CLIENT_METADATA);
     }
 
     @After
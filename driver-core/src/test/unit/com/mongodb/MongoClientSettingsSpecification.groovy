@@ -31,6 +31,8 @@ import org.bson.UuidRepresentation
 import org.bson.codecs.configuration.CodecRegistry
 import spock.lang.Specification
 
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ThreadFactory
 import java.util.concurrent.TimeUnit
 
 import static com.mongodb.CustomMatchers.isTheSameAs
@@ -64,6 +66,9 @@ class MongoClientSettingsSpecification extends Specification {
         settings.contextProvider == null
         settings.dnsClient == null
         settings.inetAddressResolver == null
+        settings.threadFactory == null
+        settings.backgroundScheduler == null
+        settings.fieldNameCacheSize == 0
         settings.getTimeout(TimeUnit.MILLISECONDS) == null
     }
 
@@ -116,6 +121,11 @@ class MongoClientSettingsSpecification extends Specification {
         builder.uuidRepresentation(null)
         then:
         thrown(IllegalArgumentException)
+
+        when:
+        builder.fieldNameCacheSize(-1)
+        then:
+        thrown(IllegalArgumentException)
     }
 
     def 'should build with set configuration'() {
@@ -128,6 +138,8 @@ class MongoClientSettingsSpecification extends Specification {
         def contextProvider = Stub(ContextProvider)
         def dnsClient = Stub(DnsClient)
         def inetAddressResolver = Stub(InetAddressResolver)
+        def threadFactory = Stub(ThreadFactory)
+        def backgroundScheduler = Stub(ScheduledExecutorService)
 
         when:
         def settings = MongoClientSettings.builder()
@@ -152,6 +164,9 @@ class MongoClientSettingsSpecification extends Specification {
                 .contextProvider(contextProvider)
                 .dnsClient(dnsClient)
                 .inetAddressResolver(inetAddressResolver)
+                .threadFactory(threadFactory)
+                .backgroundScheduler(backgroundScheduler)
+                .fieldNameCacheSize(1024)
                 .timeout(1000, TimeUnit.SECONDS)
                 .build()
 
@@ -174,6 +189,9 @@ class MongoClientSettingsSpecification extends Specification {
         settings.getContextProvider() == contextProvider
         settings.getDnsClient() == dnsClient
         settings.getInetAddressResolver() == inetAddressResolver
+        settings.getThreadFactory() == threadFactory
+        settings.getBackgroundScheduler() == backgroundScheduler
+        settings.getFieldNameCacheSize() == 1024
         settings.getTimeout(TimeUnit.MILLISECONDS) == 1_000_000
     }
 
@@ -192,6 +210,8 @@ class MongoClientSettingsSpecification extends Specification {
         def contextProvider = Stub(ContextProvider)
         def dnsClient = Stub(DnsClient)
         def inetAddressResolver = Stub(InetAddressResolver)
+        def threadFactory = Stub(ThreadFactory)
+        def backgroundScheduler = Stub(ScheduledExecutorService)
 
         settings = MongoClientSettings.builder()
                 .heartbeatConnectTimeoutMS(24000)
@@ -216,6 +236,9 @@ class MongoClientSettingsSpecification extends Specification {
                 .contextProvider(contextProvider)
                 .dnsClient(dnsClient)
                 .inetAddressResolver(inetAddressResolver)
+                .threadFactory(threadFactory)
+                .backgroundScheduler(backgroundScheduler)
+                .fieldNameCacheSize(1024)
                 .timeout(0, TimeUnit.SECONDS)
                 .build()
 
@@ -550,13 +573,15 @@ class MongoClientSettingsSpecification extends Specification {
         when:
         // A regression test so that if anymore fields are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredFields.grep {  !it.synthetic } *.name.sort()
-        def expected = ['applicationName', 'autoEncryptionSettings', 'clusterSettingsBuilder', 'codecRegistry', 'commandListeners',
+        def expected = ['applicationName', 'autoEncryptionSettings', 'backgroundScheduler', 'clusterSettingsBuilder', 'codecRegistry',
+                        'commandListeners',
                         'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential', 'dnsClient',
+                        'fieldNameCacheSize',
                         'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'loggerSettingsBuilder',
                         'observabilitySettings',
                         'readConcern', 'readPreference', 'retryReads',
                         'retryWrites', 'serverApi', 'serverSettingsBuilder', 'socketSettingsBuilder', 'sslSettingsBuilder',
-                        'timeoutMS', 'transportSettings', 'uuidRepresentation',
+                        'threadFactory', 'timeoutMS', 'transportSettings', 'uuidRepresentation',
                         'writeConcern']
 
         then:
@@ -569,13 +594,14 @@ class MongoClientSettingsSpecification extends Specification {
         def actual = MongoClientSettings.Builder.declaredMethods.grep {  !it.synthetic } *.name.sort()
         def expected = ['addCommandListener', 'applicationName', 'applyConnectionString', 'applyToClusterSettings',
                         'applyToConnectionPoolSettings', 'applyToLoggerSettings', 'applyToServerSettings', 'applyToSocketSettings',
-                        'applyToSslSettings', 'autoEncryptionSettings', 'build', 'codecRegistry', 'commandListenerList',
-                        'compressorList', 'contextProvider', 'credential', 'dnsClient',
+                        'applyToSslSettings', 'autoEncryptionSettings', 'backgroundScheduler', 'build', 'codecRegistry',
+                        'commandListenerList',
+                        'compressorList', 'contextProvider', 'credential', 'dnsClient', 'fieldNameCacheSize',
                         'heartbeatConnectTimeoutMS',
                         'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'observabilitySettings', 'readConcern',
                         'readPreference',
                         'retryReads', 'retryWrites',
-                        'serverApi', 'timeout', 'transportSettings',
+                        'serverApi', 'threadFactory', 'timeout', 'transportSettings',
                         'uuidRepresentation', 'writeConcern']
 
         then:
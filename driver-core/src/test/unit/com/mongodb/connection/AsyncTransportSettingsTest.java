@@ -22,7 +22,10 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AsyncTransportSettingsTest {
 
@@ -31,6 +34,9 @@ class AsyncTransportSettingsTest {
         AsyncTransportSettings settings = TransportSettings.asyncBuilder().build();
 
         assertNull(settings.getExecutorService());
+        assertFalse(settings.isDirectBuffersEnabled());
+        assertEquals(64L * 1024 * 1024, settings.getMaxDirectBufferPoolSize());
+        assertEquals(Runtime.getRuntime().availableProcessors(), settings.getSelectorCount());
     }
 
     @Test
@@ -38,8 +44,24 @@ class AsyncTransportSettingsTest {
         ExecutorService executorService = Executors.newFixedThreadPool(1);
         AsyncTransportSettings settings = TransportSettings.asyncBuilder()
                 .executorService(executorService)
+                .directBuffersEnabled(true)
+                .maxDirectBufferPoolSize(1024)
+                .selectorCount(3)
                 .build();
 
         assertEquals(executorService, settings.getExecutorService());
+        assertTrue(settings.isDirectBuffersEnabled());
+        assertEquals(1024, settings.getMaxDirectBufferPoolSize());
+        assertEquals(3, settings.getSelectorCount());
+    }
+
+    @Test
+    public void shouldRejectNonPositiveMaxDirectBufferPoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> TransportSettings.asyncBuilder().maxDirectBufferPoolSize(0));
+    }
+
+    @Test
+    public void shouldRejectNonPositiveSelectorCount() {
+        assertThrows(IllegalArgumentException.class, () -> TransportSettings.asyncBuilder().selectorCount(0));
     }
 }
@@ -43,6 +43,9 @@ class ClusterSettingsSpecification extends Specification {
         settings.clusterListeners == []
         settings.srvMaxHosts == null
         settings.srvServiceName == 'mongodb'
+        settings.operationLatencyPercentile == null
+        settings.operationLatencyRatio == 2.0d
+        settings.hedgeDelayPercentile == null
     }
 
     def 'should set all properties'() {
@@ -56,6 +59,9 @@ class ClusterSettingsSpecification extends Specification {
                                       .requiredClusterType(ClusterType.REPLICA_SET)
                                       .requiredReplicaSetName('foo')
                                       .localThreshold(1, TimeUnit.SECONDS)
+                                      .operationLatencyPercentile(99.0d)
+                                      .operationLatencyRatio(3.0d)
+                                      .hedgeDelayPercentile(95.0d)
                                       .serverSelector(serverSelector)
                                       .serverSelectionTimeout(1, TimeUnit.SECONDS)
                                       .addClusterListener(listenerOne)
@@ -67,6 +73,9 @@ class ClusterSettingsSpecification extends Specification {
         settings.mode == ClusterConnectionMode.MULTIPLE
         settings.requiredClusterType == ClusterType.REPLICA_SET
         settings.requiredReplicaSetName == 'foo'
+        settings.operationLatencyPercentile == 99.0d
+        settings.operationLatencyRatio == 3.0d
+        settings.hedgeDelayPercentile == 95.0d
         settings.serverSelector == serverSelector
         settings.getServerSelectionTimeout(TimeUnit.MILLISECONDS) == 1000
         settings.clusterListeners == [listenerOne, listenerTwo]
@@ -90,6 +99,9 @@ class ClusterSettingsSpecification extends Specification {
                 .requiredReplicaSetName('foo')
                 .serverSelector(serverSelector)
                 .localThreshold(10, TimeUnit.MILLISECONDS)
+                .operationLatencyPercentile(50.0d)
+                .operationLatencyRatio(1.5d)
+                .hedgeDelayPercentile(90.0d)
                 .serverSelectionTimeout(1, TimeUnit.SECONDS)
                 .addClusterListener(listenerOne)
                 .addClusterListener(listenerTwo)
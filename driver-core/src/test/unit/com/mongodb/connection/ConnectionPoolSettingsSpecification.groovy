@@ -132,6 +132,25 @@ class ConnectionPoolSettingsSpecification extends Specification {
 
         then:
         thrown(IllegalStateException)
+
+        when:
+        ConnectionPoolSettings.builder().maxConcurrentOperationsPerConnection(0).build()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def 'should default to not sharing connections'() {
+        expect:
+        ConnectionPoolSettings.builder().build().getMaxConcurrentOperationsPerConnection() == 1
+        ConnectionPoolSettings.builder().maxConcurrentOperationsPerConnection(4).build()
+                .getMaxConcurrentOperationsPerConnection() == 4
+    }
+
+    def 'should default to not warming up the minimum size'() {
+        expect:
+        !ConnectionPoolSettings.builder().build().isMinSizeWarmUp()
+        ConnectionPoolSettings.builder().minSizeWarmUp(true).build().isMinSizeWarmUp()
     }
 
     def 'settings with same values should be equal'() {
@@ -183,6 +202,8 @@ class ConnectionPoolSettingsSpecification extends Specification {
                 .maintenanceInitialDelay(5, SECONDS)
                 .maintenanceFrequency(1000, SECONDS)
                 .maxConnecting(1)
+                .maxConcurrentOperationsPerConnection(2)
+                .minSizeWarmUp(true)
                 .build()
 
         expect:
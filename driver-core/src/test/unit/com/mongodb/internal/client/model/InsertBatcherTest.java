@@ -0,0 +1,223 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.client.model;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriterOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.internal.operation.ShardRoutingTable;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InsertBatcherTest {
+
+    @Test
+    public void shouldCutBatchesOnCount() {
+        InsertBatcher<BsonDocument> batcher = new InsertBatcher<>(new BsonDocumentCodec(), new BulkWriterOptions().maxBatchCount(2));
+
+        assertNull(batcher.add(document(0)));
+        InsertBatcher.Batch first = batcher.add(document(1));
+        assertNull(batcher.add(document(2)));
+        InsertBatcher.Batch last = batcher.drain();
+
+        assertNotNull(first);
+        assertEquals(0, first.getStartIndex());
+        assertEquals(asList(0, 1), values(first));
+        assertNotNull(last);
+        assertEquals(2, last.getStartIndex());
+        assertEquals(singletonList(2), values(last));
+        assertNull(batcher.drain());
+    }
+
+    @Test
+    public void shouldCutBatchesOnSize() {
+        int documentSize = new RawBsonDocument(document(0), new BsonDocumentCodec()).getByteLength();
+        InsertBatcher<BsonDocument> batcher = new InsertBatcher<>(new BsonDocumentCodec(),
+                new BulkWriterOptions().maxBatchSize(2 * documentSize + 1));
+
+        assertNull(batcher.add(document(0)));
+        assertNull(batcher.add(document(1)));
+        InsertBatcher.Batch first = batcher.add(document(2));
+
+        assertNotNull(first);
+        assertEquals(asList(0, 1), values(first));
+        InsertBatcher.Batch last = batcher.drain();
+        assertNotNull(last);
+        assertEquals(2, last.getStartIndex());
+        assertEquals(singletonList(2), values(last));
+    }
+
+    @Test
+    public void shouldSendDocumentsLargerThanTheBatchSizeOnTheirOwn() {
+        InsertBatcher<BsonDocument> batcher = new InsertBatcher<>(new BsonDocumentCodec(), new BulkWriterOptions().maxBatchSize(1));
+
+        assertNull(batcher.add(document(0)));
+        InsertBatcher.Batch first = batcher.add(document(1));
+
+        assertNotNull(first);
+        assertEquals(singletonList(0), values(first));
+        assertEquals(singletonList(1), values(batcher.drain()));
+    }
+
+    @Test
+    public void shouldCountIndexesFromZeroAfterReset() {
+        InsertBatcher<BsonDocument> batcher = new InsertBatcher<>(new BsonDocumentCodec(), new BulkWriterOptions().maxBatchCount(1));
+
+        batcher.add(document(0));
+        batcher.add(document(1));
+        batcher.reset();
+
+        assertEquals(0, batcher.add(document(2)).getStartIndex());
+    }
+
+    @Test
+    public void shouldMapIndexesOfResultsAndExceptions() {
+        InsertBatcher<BsonDocument> batcher = new InsertBatcher<>(new BsonDocumentCodec(), new BulkWriterOptions().maxBatchCount(2));
+        batcher.add(document(0));
+        batcher.add(document(1));
+        InsertBatcher.Batch batch = batcher.add(document(2));
+        batch = batch == null ? batcher.drain() : batch;
+
+        BulkWriteResult result = BulkWriteResult.acknowledged(1, 0, 0, 0, emptyList(),
+                singletonList(new BulkWriteInsert(0, new BsonInt32(2))));
+        assertEquals(singletonList(new BulkWriteInsert(2, new BsonInt32(2))), batch.mapResult(result).getInserts());
+
+        MongoBulkWriteException exception = new MongoBulkWriteException(result,
+                singletonList(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)), null, new ServerAddress(),
+                Collections.singleton("label"));
+        MongoBulkWriteException mapped = batch.mapException(exception);
+        assertEquals(2, mapped.getWriteErrors().get(0).getIndex());
+        assertEquals(2, mapped.getWriteResult().getInserts().get(0).getIndex());
+        assertTrue(mapped.hasErrorLabel("label"));
+    }
+
+    @Test
+    public void shouldCombineResultsCompletedOutOfOrder() {
+        InsertBatchResultCombiner combiner = new InsertBatchResultCombiner(false, WriteConcern.ACKNOWLEDGED);
+        combiner.addResult(BulkWriteResult.acknowledged(1, 0, 0, 0, emptyList(),
+                singletonList(new BulkWriteInsert(3, new BsonInt32(3)))));
+        combiner.addError(new MongoBulkWriteException(BulkWriteResult.acknowledged(1, 0, 0, 0, emptyList(),
+                singletonList(new BulkWriteInsert(1, new BsonInt32(1)))),
+                singletonList(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 2)), null, new ServerAddress(),
+                new HashSet<>()));
+        combiner.addResult(BulkWriteResult.acknowledged(1, 0, 0, 0, emptyList(),
+                singletonList(new BulkWriteInsert(0, new BsonInt32(0)))));
+
+        assertFalse(combiner.shouldStopSendingMoreBatches());
+        MongoBulkWriteException exception = assertThrows(MongoBulkWriteException.class, combiner::getResult);
+        assertEquals(3, exception.getWriteResult().getInsertedCount());
+        assertEquals(asList(0, 1, 3), exception.getWriteResult().getInserts().stream().map(BulkWriteInsert::getIndex)
+                .collect(Collectors.toList()));
+        assertEquals(2, exception.getWriteErrors().get(0).getIndex());
+    }
+
+    @Test
+    public void shouldStopOrderedWritesOnTheFirstError() {
+        InsertBatchResultCombiner combiner = new InsertBatchResultCombiner(true, WriteConcern.ACKNOWLEDGED);
+        combiner.addResult(BulkWriteResult.acknowledged(1, 0, 0, 0, emptyList(), emptyList()));
+        assertFalse(combiner.shouldStopSendingMoreBatches());
+        assertEquals(1, combiner.getResult().getInsertedCount());
+
+        combiner.addError(new MongoBulkWriteException(BulkWriteResult.acknowledged(0, 0, 0, 0, emptyList(), emptyList()),
+                singletonList(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)), null, new ServerAddress(),
+                new HashSet<>()));
+        assertTrue(combiner.shouldStopSendingMoreBatches());
+    }
+
+    @Test
+    public void shouldPreferFailuresOverBulkWriteExceptions() {
+        InsertBatchResultCombiner combiner = new InsertBatchResultCombiner(false, WriteConcern.ACKNOWLEDGED);
+        IllegalStateException failure = new IllegalStateException();
+        combiner.addFailure(failure);
+
+        assertTrue(combiner.shouldStopSendingMoreBatches());
+        assertEquals(failure, assertThrows(IllegalStateException.class, combiner::getResult));
+    }
+
+    @Test
+    public void shouldGroupDocumentsPerShard() {
+        InsertBatcher<BsonDocument> batcher = new InsertBatcher<>(new BsonDocumentCodec(),
+                new BulkWriterOptions().ordered(false).maxBatchCount(2));
+        batcher.shardRoutingTable(ShardRoutingTable.create(new BsonDocument("key", new BsonDocument("_id", new BsonInt32(1))),
+                asList(new BsonDocument("min", new BsonDocument("_id", new BsonMinKey()))
+                                .append("max", new BsonDocument("_id", new BsonInt32(10)))
+                                .append("shard", new BsonString("shard0")),
+                        new BsonDocument("min", new BsonDocument("_id", new BsonInt32(10)))
+                                .append("max", new BsonDocument("_id", new BsonMaxKey()))
+                                .append("shard", new BsonString("shard1")))));
+
+        assertNull(batcher.add(document(0)));
+        assertNull(batcher.add(document(10)));
+        InsertBatcher.Batch first = batcher.add(document(1));
+        InsertBatcher.Batch second = batcher.drain();
+
+        assertNotNull(first);
+        assertEquals(asList(0, 1), values(first));
+        assertNotNull(second);
+        assertEquals(singletonList(10), values(second));
+        assertNull(batcher.drain());
+
+        BulkWriteResult result = first.mapResult(BulkWriteResult.acknowledged(2, 0, 0, 0, emptyList(),
+                asList(new BulkWriteInsert(0, new BsonInt32(0)), new BulkWriteInsert(1, new BsonInt32(1)))));
+        assertEquals(asList(0, 2), result.getInserts().stream().map(BulkWriteInsert::getIndex).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldReturnUnacknowledgedResults() {
+        InsertBatchResultCombiner combiner = new InsertBatchResultCombiner(false, WriteConcern.UNACKNOWLEDGED);
+        combiner.addResult(BulkWriteResult.unacknowledged());
+
+        assertFalse(combiner.getResult().wasAcknowledged());
+    }
+
+    private static BsonDocument document(final int value) {
+        return new BsonDocument("_id", new BsonInt32(value)).append("name", new BsonString("document " + value));
+    }
+
+    private static List<Integer> values(final InsertBatcher.Batch batch) {
+        return batch.getRequests().stream()
+                .map(InsertOneModel::getDocument)
+                .map(document -> document.getInt32("_id").getValue())
+                .collect(Collectors.toList());
+    }
+}
@@ -663,6 +663,11 @@ public abstract class AbstractConnectionPoolTest {
             pool.ready();
         }
 
+        @Override
+        public void warmUp(final int targetSize) {
+            pool.warmUp(targetSize);
+        }
+
         @Override
         public void close() {
             pool.close();
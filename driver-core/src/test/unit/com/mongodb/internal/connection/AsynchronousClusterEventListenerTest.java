@@ -60,7 +60,7 @@ class AsynchronousClusterEventListenerTest {
         ConnectionId connectionId = new ConnectionId(serverId);
 
         AsynchronousClusterEventListener listener = AsynchronousClusterEventListener.startNew(clusterId, targetListener, targetListener,
-                targetListener);
+                targetListener, null);
 
         ClusterOpeningEvent clusterOpeningEvent = new ClusterOpeningEvent(clusterId);
         listener.clusterOpening(clusterOpeningEvent);
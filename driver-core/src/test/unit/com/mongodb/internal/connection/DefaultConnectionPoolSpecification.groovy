@@ -38,6 +38,10 @@ import com.mongodb.spock.Slow
 
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.ThreadFactory
 import java.util.regex.Matcher
 import java.util.regex.Pattern
 
@@ -188,6 +192,218 @@ class DefaultConnectionPoolSpecification extends Specification {
         connectionFactory.createdConnections.get(0).opened()  // if the first one is opened, they all should be
     }
 
+    def 'should schedule maintenance on the shared scheduler and cancel it when paused or closed'() {
+        given:
+        def maintenance = Mock(ScheduledFuture)
+        def backgroundScheduler = Mock(ScheduledExecutorService)
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(1).maintenanceFrequency(1, MINUTES).build(),
+                InternalConnectionPoolSettings.builder().build(), mockSdamProvider(), OPERATION_CONTEXT_FACTORY, null, null,
+                backgroundScheduler)
+
+        when:
+        pool.ready()
+
+        then:
+        1 * backgroundScheduler.scheduleAtFixedRate(_, _, 60_000, MILLISECONDS) >> maintenance
+
+        when:
+        pool.invalidate(null)
+
+        then:
+        1 * maintenance.cancel(false)
+
+        then: 'one additional run releases the resources of the paused pool'
+        1 * backgroundScheduler.execute(_)
+
+        when:
+        pool.ready()
+        pool.close()
+
+        then:
+        1 * backgroundScheduler.scheduleAtFixedRate(_, 0, 60_000, MILLISECONDS) >> maintenance
+
+        then:
+        1 * maintenance.cancel(false)
+        0 * backgroundScheduler._
+
+        when:
+        pool.invalidate(null)
+        pool.ready()
+
+        then: 'a closed pool does not schedule maintenance'
+        0 * backgroundScheduler._
+    }
+
+    @Slow
+    def 'should run maintenance on the shared scheduler until closed'() {
+        given:
+        def backgroundScheduler = new ScheduledThreadPoolExecutor(1)
+        backgroundScheduler.setRemoveOnCancelPolicy(true)
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                builder().maxSize(10).minSize(2).maintenanceFrequency(10, MILLISECONDS).build(),
+                InternalConnectionPoolSettings.builder().build(), mockSdamProvider(), OPERATION_CONTEXT_FACTORY, null, null,
+                backgroundScheduler)
+
+        when:
+        pool.ready()
+        //not cool - but we have no way of being notified that the maintenance task has finished
+        Thread.sleep(500)
+
+        then: 'it ensures the minimum size of the pool'
+        connectionFactory.createdConnections.size() == 2
+
+        when:
+        pool.close()
+
+        then: 'the maintenance is cancelled, but the scheduler is not shut down'
+        backgroundScheduler.queue.isEmpty()
+        !backgroundScheduler.isShutdown()
+
+        cleanup:
+        backgroundScheduler.shutdownNow()
+    }
+
+    def 'should warm up the pool to the target size and fire warm-up events'() {
+        given:
+        def listener = Mock(ConnectionPoolListener)
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                builder().maxSize(10).maxConnecting(3).addConnectionPoolListener(listener).build(),
+                mockSdamProvider(), OPERATION_CONTEXT_FACTORY)
+        pool.ready()
+
+        when:
+        pool.warmUp(7)
+
+        then:
+        1 * listener.connectionPoolWarmUpStarted { it.serverId == SERVER_ID && it.targetSize == 7 && it.size == 0 }
+        1 * listener.connectionPoolWarmUpCompleted { it.serverId == SERVER_ID && it.targetSize == 7 && it.size == 7 && !it.failure }
+        connectionFactory.createdConnections.size() == 7
+        connectionFactory.createdConnections.every { it.opened() }
+
+        when: 'the pool already has the target size'
+        pool.warmUp(5)
+
+        then:
+        0 * listener.connectionPoolWarmUpStarted(_)
+        connectionFactory.createdConnections.size() == 7
+    }
+
+    def 'should reuse the warm-up threads of the pool across warm-ups'() {
+        given:
+        def threads = Collections.synchronizedList([])
+        def threadFactory = { Runnable runnable ->
+            def thread = new Thread(runnable)
+            thread.setDaemon(true)
+            threads.add(thread)
+            thread
+        } as ThreadFactory
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(10).maxConnecting(3).build(),
+                InternalConnectionPoolSettings.builder().build(), mockSdamProvider(), OPERATION_CONTEXT_FACTORY, null, threadFactory,
+                null)
+        pool.ready()
+
+        when:
+        pool.warmUp(4)
+        pool.warmUp(8)
+
+        then:
+        connectionFactory.createdConnections.size() == 8
+        def warmUpThreads = threads.findAll { it.name.startsWith('ConnectionPoolWarmUp') }
+        warmUpThreads.size() == 2
+
+        when:
+        pool.close()
+        warmUpThreads.each { it.join(10_000) }
+
+        then:
+        warmUpThreads.every { !it.alive }
+    }
+
+    def 'should not warm up the pool beyond its maximum size'() {
+        given:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(2).build(),
+                mockSdamProvider(), OPERATION_CONTEXT_FACTORY)
+        pool.ready()
+
+        when:
+        pool.warmUp(5)
+
+        then:
+        connectionFactory.createdConnections.size() == 2
+    }
+
+    def 'should throw MongoConnectionPoolClearedException when warming up in paused state'() {
+        given:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(2).build(),
+                mockSdamProvider(), OPERATION_CONTEXT_FACTORY)
+
+        when:
+        pool.warmUp(1)
+
+        then:
+        thrown(MongoConnectionPoolClearedException)
+        connectionFactory.createdConnections.isEmpty()
+    }
+
+    def 'should record metrics and register them while the pool is open'() {
+        given:
+        def metrics = new ConnectionPoolMetrics()
+        def registry = Mock(ConnectionPoolMetrics.Registry)
+
+        when:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(1).build(),
+                InternalConnectionPoolSettings.builder().metricsRegistry(registry).build(), mockSdamProvider(),
+                OPERATION_CONTEXT_FACTORY, metrics)
+        pool.ready()
+        def connection = pool.get(OPERATION_CONTEXT)
+
+        then:
+        1 * registry.register(SERVER_ID, metrics)
+        metrics.size == 1
+        metrics.checkedOutCount == 1
+        metrics.idleCount == 0
+        metrics.pendingCount == 0
+        metrics.waitQueueSize == 0
+
+        when:
+        pool.get(createOperationContext(TIMEOUT_SETTINGS.withMaxWaitTimeMS(50)))
+
+        then:
+        thrown(MongoTimeoutException)
+        metrics.checkOutFailedCount == 1
+        metrics.waitQueueSize == 0
+
+        when:
+        connection.close()
+
+        then:
+        metrics.checkedOutCount == 0
+        metrics.idleCount == 1
+
+        when:
+        pool.close()
+
+        then:
+        1 * registry.unregister(metrics)
+        metrics.size == 0
+    }
+
+    def 'should not register metrics that are not recorded'() {
+        given:
+        def registry = Mock(ConnectionPoolMetrics.Registry)
+
+        when:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(1).build(),
+                InternalConnectionPoolSettings.builder().metricsRegistry(registry).build(), mockSdamProvider(),
+                OPERATION_CONTEXT_FACTORY, null)
+        pool.ready()
+        pool.get(OPERATION_CONTEXT).close()
+        pool.close()
+
+        then:
+        0 * registry._
+    }
+
     def 'should invoke connection pool created event'() {
         given:
         def listener = Mock(ConnectionPoolListener)
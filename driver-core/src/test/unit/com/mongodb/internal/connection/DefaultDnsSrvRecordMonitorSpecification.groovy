@@ -25,6 +25,7 @@ import com.mongodb.internal.dns.DnsResolver
 import spock.lang.Specification
 
 import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
 
 class DefaultDnsSrvRecordMonitorSpecification extends Specification {
@@ -80,6 +81,37 @@ class DefaultDnsSrvRecordMonitorSpecification extends Specification {
         monitor.close()
     }
 
+    def 'should discover new resolved hosts on a shared background scheduler'() {
+        given:
+        def hostName = 'test1.test.build.10gen.cc'
+        def srvServiceName = 'mongodb'
+        def resolvedHostOne = 'localhost.test.build.10gen.cc:27017'
+        def resolvedHostTwo = 'localhost.test.build.10gen.cc:27018'
+        def resolvedHostThree = 'localhost.test.build.10gen.cc:27019'
+        def expectedResolvedHostsOne = [resolvedHostOne, resolvedHostTwo]
+        def expectedResolvedHostsTwo = [resolvedHostTwo, resolvedHostThree]
+        def dnsSrvRecordInitializer = new TestDnsSrvRecordInitializer(ClusterType.SHARDED, 2)
+        def dnsResolver = Mock(DnsResolver) {
+            _ * resolveHostFromSrvRecords(hostName, srvServiceName) >>> [expectedResolvedHostsOne, expectedResolvedHostsTwo]
+        }
+        def backgroundScheduler = Executors.newSingleThreadScheduledExecutor()
+        def monitor = new DefaultDnsSrvRecordMonitor(hostName, srvServiceName, 1, 1, dnsSrvRecordInitializer, new ClusterId(),
+                dnsResolver, null, backgroundScheduler)
+
+        when:
+        monitor.start()
+        def hostsLists = dnsSrvRecordInitializer.waitForInitializedHosts()
+        monitor.close()
+
+        then:
+        hostsLists == [[new ServerAddress(resolvedHostOne), new ServerAddress(resolvedHostTwo)] as Set,
+                       [new ServerAddress(resolvedHostTwo), new ServerAddress(resolvedHostThree)] as Set]
+        !backgroundScheduler.isShutdown()
+
+        cleanup:
+        backgroundScheduler.shutdownNow()
+    }
+
     def 'should initialize listener with exception'() {
         given:
         def hostName = 'test1.test.build.10gen.cc'
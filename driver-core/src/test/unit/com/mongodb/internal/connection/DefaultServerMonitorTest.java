@@ -35,6 +35,7 @@ import org.bson.BsonDocument;
 import org.bson.ByteBufNIO;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.opentest4j.AssertionFailedError;
 
 import java.io.IOException;
@@ -44,6 +45,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -56,8 +59,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -254,6 +263,54 @@ public class DefaultServerMonitorTest {
         assertEquals(expectedEvents, events);
     }
 
+    @Test
+    void shouldSampleRoundTripTimeOnTheSharedSchedulerUntilClosed() {
+        // Given
+        InternalConnection mockConnection = mock(InternalConnection.class);
+        when(mockConnection.getInitialServerDescription()).thenReturn(createDefaultServerDescription());
+        InternalConnectionFactory factory = createConnectionFactory(mockConnection);
+        ScheduledFuture<?> sampling = mock(ScheduledFuture.class);
+        ScheduledExecutorService backgroundScheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> samplingTask = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(sampling).when(backgroundScheduler).scheduleWithFixedDelay(samplingTask.capture(), eq(0L), eq(500L),
+                eq(TimeUnit.MILLISECONDS));
+        monitor = new DefaultServerMonitor(
+                new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().heartbeatFrequency(500, TimeUnit.MILLISECONDS).build(),
+                factory,
+                ClusterConnectionMode.SINGLE,
+                null,
+                false,
+                SameObjectProvider.initialized(mock(SdamServerDescriptionManager.class)),
+                OPERATION_CONTEXT_FACTORY,
+                null,
+                backgroundScheduler);
+
+        // When
+        monitor.ensureRoundTripTimeMonitorStarted();
+        monitor.ensureRoundTripTimeMonitorStarted();
+        samplingTask.getValue().run();
+
+        // Then
+        verify(backgroundScheduler, times(1)).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        verify(factory, times(1)).create(any());
+        verify(mockConnection).open(any());
+
+        // When
+        monitor.close();
+
+        // Then
+        verify(sampling).cancel(false);
+        verify(mockConnection).close();
+        verify(backgroundScheduler, never()).shutdown();
+        verify(backgroundScheduler, never()).shutdownNow();
+
+        // When a sampling that was already running when the monitor closed completes
+        samplingTask.getValue().run();
+
+        // Then
+        verify(factory, times(1)).create(any());
+    }
 
     private InternalConnectionFactory createConnectionFactory(final InternalConnection connection) {
         InternalConnectionFactory factory = mock(InternalConnectionFactory.class);
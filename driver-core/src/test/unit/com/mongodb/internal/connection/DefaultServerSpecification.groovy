@@ -110,6 +110,19 @@ class DefaultServerSpecification extends Specification {
         mode << [SINGLE, MULTIPLE]
     }
 
+    def 'should only record operation latencies into a histogram it is given'() {
+        given:
+        def histogram = new OperationLatencyHistogram()
+
+        expect:
+        new DefaultServer(serverId, MULTIPLE, Stub(ConnectionPool), Stub(ConnectionFactory), Mock(ServerMonitor),
+                Stub(SdamServerDescriptionManager), Stub(ServerListener), Stub(CommandListener), new ClusterClock(), true)
+                .operationLatencies() == null
+        new DefaultServer(serverId, MULTIPLE, Stub(ConnectionPool), Stub(ConnectionFactory), Mock(ServerMonitor),
+                Stub(SdamServerDescriptionManager), Stub(ServerListener), Stub(CommandListener), new ClusterClock(), true, histogram)
+                .operationLatencies().is(histogram)
+    }
+
     def 'should throw MongoServerUnavailableException getting a connection when the server is closed'() {
         given:
         def server = new DefaultServer(serverId, SINGLE, Stub(ConnectionPool), Stub(ConnectionFactory), Mock(ServerMonitor),
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ServerConnectionState;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.mockito.MongoMockito;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+final class HedgedReadDelayTest {
+
+    @Test
+    void shouldUseTheMedianPercentileOfTheEligibleServers() {
+        Map<String, Long> hostToLatencyMillis = new LinkedHashMap<>();
+        hostToLatencyMillis.put("a", 20L);
+        hostToLatencyMillis.put("b", 5000L);
+        hostToLatencyMillis.put("c", 30L);
+
+        assertEquals(30, getHedgeDelayMillis(hostToLatencyMillis), 30 * 0.125);
+    }
+
+    @Test
+    void shouldUseTheFasterOfTwoEligibleServers() {
+        Map<String, Long> hostToLatencyMillis = new LinkedHashMap<>();
+        hostToLatencyMillis.put("a", 5000L);
+        hostToLatencyMillis.put("b", 20L);
+
+        assertEquals(20, getHedgeDelayMillis(hostToLatencyMillis), 20 * 0.125);
+    }
+
+    @Test
+    void shouldIgnoreServersWithoutRecentRoundTripTimes() {
+        Map<String, Long> hostToLatencyMillis = new LinkedHashMap<>();
+        hostToLatencyMillis.put("a", null);
+        hostToLatencyMillis.put("b", 40L);
+
+        assertEquals(40, getHedgeDelayMillis(hostToLatencyMillis), 40 * 0.125);
+    }
+
+    @Test
+    void shouldNotHedgeWithoutRecentRoundTripTimesOrASecondEligibleServer() {
+        Map<String, Long> hostToLatencyMillis = new LinkedHashMap<>();
+        hostToLatencyMillis.put("a", null);
+        hostToLatencyMillis.put("b", null);
+        assertEquals(-1, getHedgeDelayMillis(hostToLatencyMillis));
+
+        hostToLatencyMillis.clear();
+        hostToLatencyMillis.put("a", 20L);
+        assertEquals(-1, getHedgeDelayMillis(hostToLatencyMillis));
+    }
+
+    private static long getHedgeDelayMillis(final Map<String, Long> hostToLatencyMillis) {
+        Map<ServerAddress, Server> servers = new LinkedHashMap<>();
+        hostToLatencyMillis.forEach((host, latencyMillis) -> {
+            OperationLatencyHistogram histogram = new OperationLatencyHistogram();
+            if (latencyMillis != null) {
+                for (int i = 0; i < 100; i++) {
+                    histogram.record(MILLISECONDS.toNanos(latencyMillis));
+                }
+            }
+            servers.put(new ServerAddress(host), MongoMockito.mock(Server.class, server ->
+                    when(server.operationLatencies()).thenReturn(histogram)));
+        });
+        List<ServerDescription> serverDescriptions = servers.keySet().stream()
+                .map(HedgedReadDelayTest::serverDescription)
+                .collect(toList());
+        return HedgedReadDelay.getHedgeDelay(serverDescriptions, servers::get, 95, MILLISECONDS);
+    }
+
+    private static ServerDescription serverDescription(final ServerAddress address) {
+        return ServerDescription.builder()
+                .state(ServerConnectionState.CONNECTED)
+                .ok(true)
+                .address(address)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class OperationLatencyHistogramTest {
+
+    @Test
+    void shouldApproximatePercentiles() {
+        OperationLatencyHistogram histogram = new OperationLatencyHistogram(0);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(MILLISECONDS.toNanos(i), 0);
+        }
+
+        assertApproximately(50, histogram.getPercentile(50, MILLISECONDS, 0));
+        assertApproximately(99, histogram.getPercentile(99, MILLISECONDS, 0));
+        assertApproximately(100, histogram.getPercentile(99.9, MILLISECONDS, 0));
+    }
+
+    @Test
+    void shouldRequireEnoughRecentRoundTripTimes() {
+        OperationLatencyHistogram histogram = new OperationLatencyHistogram(0);
+        for (int i = 0; i < 15; i++) {
+            histogram.record(MILLISECONDS.toNanos(1), 0);
+        }
+        assertEquals(-1, histogram.getPercentile(50, MILLISECONDS, 0));
+
+        histogram.record(MILLISECONDS.toNanos(1), 0);
+        assertApproximately(1, histogram.getPercentile(50, MILLISECONDS, 0));
+    }
+
+    @Test
+    void shouldForgetOldRoundTripTimes() {
+        OperationLatencyHistogram histogram = new OperationLatencyHistogram(0);
+        for (int i = 0; i < 100; i++) {
+            histogram.record(SECONDS.toNanos(1), 0);
+        }
+        for (int i = 0; i < 100; i++) {
+            histogram.record(MILLISECONDS.toNanos(1), SECONDS.toNanos(11));
+        }
+
+        assertApproximately(1000, histogram.getPercentile(99, MILLISECONDS, SECONDS.toNanos(11)));
+        assertApproximately(1, histogram.getPercentile(99, MILLISECONDS, SECONDS.toNanos(21)));
+        assertEquals(-1, histogram.getPercentile(99, MILLISECONDS, SECONDS.toNanos(31)));
+    }
+
+    @Test
+    void shouldCoverAllRoundTripTimesWithContiguousBuckets() {
+        assertEquals(0, OperationLatencyHistogram.getBucketIndex(-1));
+        long previousUpperBound = 0;
+        for (int index = 0; index < 312; index++) {
+            long upperBound = OperationLatencyHistogram.getBucketUpperBound(index);
+            assertEquals(index, OperationLatencyHistogram.getBucketIndex(previousUpperBound));
+            assertEquals(index, OperationLatencyHistogram.getBucketIndex(upperBound - 1));
+            assertTrue(upperBound - previousUpperBound <= Math.max(1, previousUpperBound / 8));
+            previousUpperBound = upperBound;
+        }
+        assertEquals(311, OperationLatencyHistogram.getBucketIndex(Long.MAX_VALUE));
+        assertEquals(25, MICROSECONDS.toDays(previousUpperBound));
+    }
+
+    @Test
+    void shouldRejectInvalidPercentiles() {
+        OperationLatencyHistogram histogram = new OperationLatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(0, MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100, MILLISECONDS));
+    }
+
+    private static void assertApproximately(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected + Math.max(1, expected / 8), expected + " ~ " + actual);
+    }
+}
@@ -24,8 +24,10 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class PowerOfTwoBufferPoolTest {
     private PowerOfTwoBufferPool pool;
@@ -75,6 +77,53 @@ public class PowerOfTwoBufferPoolTest {
         assertNotSame(buf, pool.getBuffer((int) Math.pow(2, 10) + 1));
     }
 
+    @Test
+    public void testStatistics() {
+        ByteBuf buf = pool.getBuffer(1000);
+        assertEquals(0, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(0, pool.getRetainedBytes());
+
+        buf.release();
+        assertEquals(1024, pool.getRetainedBytes());
+
+        pool.getBuffer(1000);
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testMaxRetainedBytes() {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 1, TimeUnit.MINUTES, 2048);
+        ByteBuf first = pool.getBuffer(1024);
+        ByteBuf second = pool.getBuffer(1024);
+        ByteBuf third = pool.getBuffer(1024);
+        first.release();
+        second.release();
+        third.release();
+
+        assertEquals(2048, pool.getRetainedBytes());
+        assertEquals(2048, pool.getMaxRetainedBytes());
+    }
+
+    @Test
+    public void testDirectBuffers() {
+        PowerOfTwoBufferPool pool = PowerOfTwoBufferPool.createDirect(1024 * 1024, null);
+        try {
+            ByteBuf buf = pool.getBuffer(1000);
+            assertTrue(buf.asNIO().isDirect());
+            assertFalse(buf.isBackedByArray());
+            assertEquals(1024, pool.getInUseBytes());
+
+            buf.release();
+            assertEquals(0, pool.getInUseBytes());
+            assertEquals(1024, pool.getRetainedBytes());
+        } finally {
+            pool.disablePruning();
+        }
+    }
+
     // Racy test
     @Test
     public void testPruning() throws InterruptedException {
@@ -17,10 +17,15 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
+import org.bson.BsonDocument;
 import org.bson.codecs.BsonDocumentCodec;
+import org.bson.io.FieldNameCache;
 import org.junit.jupiter.api.Test;
 
 import static com.mongodb.internal.connection.MessageHelper.buildReply;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ReplyMessageTest {
@@ -35,4 +40,29 @@ public class ReplyMessageTest {
         assertThrows(MongoInternalException.class, () ->
                 new ReplyMessage<>(responseBuffers, new BsonDocumentCodec(), expectedResponseTo));
     }
+
+    @Test
+    public void shouldShareTheNamesOfFieldsAcrossRepliesWithAFieldNameCache() {
+        FieldNameCache fieldNameCache = new FieldNameCache(16);
+        BsonDocument first = new ReplyMessage<>(buildReply(5, "{someField: 1}", 0), new BsonDocumentCodec(), 5, fieldNameCache)
+                .getDocument();
+        BsonDocument second = new ReplyMessage<>(buildReply(6, "{someField: 2}", 0), new BsonDocumentCodec(), 6, fieldNameCache)
+                .getDocument();
+
+        String firstName = first.getFirstKey();
+        String secondName = second.getFirstKey();
+        assertEquals("someField", secondName);
+        assertSame(firstName, secondName);
+    }
+
+    @Test
+    public void shouldNotShareTheNamesOfFieldsAcrossRepliesWithoutAFieldNameCache() {
+        BsonDocument first = new ReplyMessage<>(buildReply(5, "{someField: 1}", 0), new BsonDocumentCodec(), 5).getDocument();
+        BsonDocument second = new ReplyMessage<>(buildReply(6, "{someField: 2}", 0), new BsonDocumentCodec(), 6).getDocument();
+
+        String firstName = first.getFirstKey();
+        String secondName = second.getFirstKey();
+        assertEquals(firstName, secondName);
+        assertNotSame(firstName, secondName);
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInternalException;
+import com.mongodb.MongoSocketClosedException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.MongoSocketReadTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.TimeoutSettings;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+import static com.mongodb.internal.connection.MessageHelper.buildSuccessfulReply;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResponseDemultiplexerTest {
+    private static final TimeoutContext TIMEOUT_CONTEXT = new TimeoutContext(TimeoutSettings.DEFAULT);
+    private final ResponseDemultiplexer demultiplexer = new ResponseDemultiplexer(new ServerAddress());
+
+    @Test
+    void shouldReturnReplyReadForTheRequest() {
+        ResponseBuffers reply = buildSuccessfulReply(1, "{ok: 1}");
+
+        assertSame(reply, demultiplexer.receive(1, TIMEOUT_CONTEXT, () -> reply));
+    }
+
+    @Test
+    void shouldParkReplyReadForAnotherRequest() {
+        ResponseBuffers firstReply = buildSuccessfulReply(1, "{ok: 1}");
+        ResponseBuffers secondReply = buildSuccessfulReply(2, "{ok: 1}");
+        Deque<ResponseBuffers> replies = new ArrayDeque<>(asList(secondReply, firstReply));
+
+        assertSame(firstReply, demultiplexer.receive(1, TIMEOUT_CONTEXT, replies::pop));
+        assertSame(secondReply, demultiplexer.receive(2, TIMEOUT_CONTEXT, () -> {
+            throw new AssertionError("The reply should have been parked");
+        }));
+    }
+
+    @Test
+    void shouldDeliverRepliesToConcurrentRequests() throws Exception {
+        BlockingQueue<ResponseBuffers> connection = new LinkedBlockingQueue<>();
+        Supplier<ResponseBuffers> reader = reader(connection);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() ->
+                    demultiplexer.receive(1, TIMEOUT_CONTEXT, reader).getReplyHeader().getResponseTo());
+            Future<Integer> second = executor.submit(() ->
+                    demultiplexer.receive(2, TIMEOUT_CONTEXT, reader).getReplyHeader().getResponseTo());
+            connection.add(buildSuccessfulReply(2, "{ok: 1}"));
+            connection.add(buildSuccessfulReply(1, "{ok: 1}"));
+
+            assertEquals(1, (int) first.get(10, SECONDS));
+            assertEquals(2, (int) second.get(10, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldLetAnotherThreadReadAfterReadFailureThatLeavesTheConnectionOpen() {
+        MongoInternalException readFailure = new MongoInternalException("Unexpected runtime exception");
+
+        assertSame(readFailure, assertThrows(MongoInternalException.class, () -> demultiplexer.receive(1, TIMEOUT_CONTEXT, () -> {
+            throw readFailure;
+        })));
+        Deque<ResponseBuffers> replies = new ArrayDeque<>(asList(buildSuccessfulReply(1, "{ok: 1}"), buildSuccessfulReply(2, "{ok: 1}")));
+        ResponseBuffers abandonedReply = replies.getFirst();
+
+        assertEquals(2, demultiplexer.receive(2, TIMEOUT_CONTEXT, replies::pop).getReplyHeader().getResponseTo());
+        assertEquals(0, abandonedReply.getBodyByteBuffer().getReferenceCount());
+    }
+
+    @Test
+    void shouldFailAfterReadFailureThatClosesTheConnection() {
+        MongoSocketReadException readFailure = new MongoSocketReadException("Exception receiving message", new ServerAddress());
+
+        assertSame(readFailure, assertThrows(MongoSocketReadException.class, () -> demultiplexer.receive(1, TIMEOUT_CONTEXT, () -> {
+            demultiplexer.close();
+            throw readFailure;
+        })));
+        MongoSocketReadException subsequentFailure = assertThrows(MongoSocketReadException.class,
+                () -> demultiplexer.receive(2, TIMEOUT_CONTEXT, () -> buildSuccessfulReply(2, "{ok: 1}")));
+        assertSame(readFailure, subsequentFailure.getCause());
+    }
+
+    @Test
+    void shouldStopWaitingForAnotherThreadToReadWhenTimedOutAndReleaseTheReplyWhenRead() throws Exception {
+        BlockingQueue<ResponseBuffers> connection = new LinkedBlockingQueue<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> first = executor.submit(() ->
+                    demultiplexer.receive(1, TIMEOUT_CONTEXT, reader(connection)).getReplyHeader().getResponseTo());
+            TimeoutContext shortTimeoutContext = new TimeoutContext(TimeoutSettings.DEFAULT.withReadTimeoutMS(100));
+
+            assertThrows(MongoSocketReadTimeoutException.class, () -> {
+                while (true) {
+                    try {
+                        demultiplexer.receive(2, shortTimeoutContext, () -> {
+                            throw new IllegalStateException();
+                        });
+                    } catch (IllegalStateException e) {
+                        // the first thread is not reading yet
+                    }
+                }
+            });
+            ResponseBuffers abandonedReply = buildSuccessfulReply(2, "{ok: 1}");
+            connection.add(abandonedReply);
+            connection.add(buildSuccessfulReply(1, "{ok: 1}"));
+
+            assertEquals(1, (int) first.get(10, SECONDS));
+            assertEquals(0, abandonedReply.getBodyByteBuffer().getReferenceCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailAfterClose() {
+        Deque<ResponseBuffers> replies = new ArrayDeque<>(asList(buildSuccessfulReply(2, "{ok: 1}"), buildSuccessfulReply(1, "{ok: 1}")));
+        demultiplexer.receive(1, TIMEOUT_CONTEXT, replies::pop);
+        demultiplexer.close();
+
+        assertThrows(MongoSocketClosedException.class,
+                () -> demultiplexer.receive(2, TIMEOUT_CONTEXT, () -> buildSuccessfulReply(2, "{ok: 1}")));
+    }
+
+    private static Supplier<ResponseBuffers> reader(final BlockingQueue<ResponseBuffers> connection) {
+        return () -> {
+            try {
+                return connection.take();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.internal.validator.NoOpFieldNameValidator;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mongodb.ClusterFixture.OPERATION_CONTEXT;
+import static com.mongodb.internal.operation.ServerVersionHelper.LATEST_WIRE_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SharingConnectionPoolTest {
+    private ConnectionPool wrapped;
+    private InternalConnection firstConnection;
+    private InternalConnection secondConnection;
+    private SharingConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        wrapped = mock(ConnectionPool.class);
+        firstConnection = mock(InternalConnection.class);
+        secondConnection = mock(InternalConnection.class);
+        when(wrapped.get(any())).thenReturn(firstConnection, secondConnection);
+        pool = new SharingConnectionPool(wrapped, 2);
+    }
+
+    @Test
+    void shouldShareConnectionUpToMaxConcurrentOperations() {
+        InternalConnection first = pool.get(OPERATION_CONTEXT);
+        InternalConnection second = pool.get(OPERATION_CONTEXT);
+        InternalConnection third = pool.get(OPERATION_CONTEXT);
+
+        verify(wrapped, times(2)).get(any());
+        assertEquals(2, pool.getSharedConnectionCount());
+
+        first.close();
+        second.close();
+        third.close();
+    }
+
+    @Test
+    void shouldCheckInConnectionWhenLastOperationIsDone() {
+        InternalConnection first = pool.get(OPERATION_CONTEXT);
+        InternalConnection second = pool.get(OPERATION_CONTEXT);
+
+        first.close();
+        first.close();
+        verify(firstConnection, never()).close();
+        assertTrue(first.isClosed());
+
+        second.close();
+        verify(firstConnection).close();
+        assertEquals(0, pool.getSharedConnectionCount());
+    }
+
+    @Test
+    void shouldNotShareConnectionOfPreviousGeneration() {
+        when(wrapped.getGeneration()).thenReturn(1);
+        InternalConnection first = pool.get(OPERATION_CONTEXT);
+        InternalConnection second = pool.get(OPERATION_CONTEXT);
+
+        verify(wrapped, times(2)).get(any());
+
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void shouldSendGetMoreOverConnectionOfItsOwn() {
+        InternalConnection lease = pool.get(OPERATION_CONTEXT);
+        CommandMessage find = commandMessage(new BsonDocument("find", new BsonString("test")));
+        CommandMessage getMore = commandMessage(new BsonDocument("getMore", new BsonInt64(1)).append("collection", new BsonString("test")));
+        BsonDocumentCodec decoder = new BsonDocumentCodec();
+
+        lease.sendAndReceive(find, decoder, OPERATION_CONTEXT);
+        lease.sendAndReceive(getMore, decoder, OPERATION_CONTEXT);
+
+        verify(firstConnection).sendAndReceive(find, decoder, OPERATION_CONTEXT);
+        verify(firstConnection, never()).sendAndReceive(eq(getMore), any(), any());
+        verify(secondConnection).sendAndReceive(getMore, decoder, OPERATION_CONTEXT);
+        verify(secondConnection).close();
+        assertEquals(1, pool.getSharedConnectionCount());
+
+        lease.close();
+    }
+
+    @Test
+    void shouldNotShareConnectionsCheckedOutAsynchronously() {
+        pool.getAsync(OPERATION_CONTEXT, (result, t) -> { });
+
+        verify(wrapped).getAsync(any(), any());
+        assertEquals(0, pool.getSharedConnectionCount());
+    }
+
+    private static CommandMessage commandMessage(final BsonDocument command) {
+        return new CommandMessage("db", command, NoOpFieldNameValidator.INSTANCE, ReadPreference.primary(),
+                MessageSettings.builder().maxWireVersion(LATEST_WIRE_VERSION).build(), ClusterConnectionMode.MULTIPLE, null);
+    }
+}
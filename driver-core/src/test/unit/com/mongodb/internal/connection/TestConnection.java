@@ -68,6 +68,22 @@ class TestConnection implements Connection, AsyncConnection {
         return executeEnqueuedCommandBasedProtocol(operationContext);
     }
 
+    @Override
+    public <T> T commandExhaustAllowed(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeEnqueuedCommandBasedProtocol(operationContext);
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        throw new UnsupportedOperationException("Not implemented yet!");
+    }
+
     @Override
     public <T> void commandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
             final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext,
@@ -157,6 +157,10 @@ public class TestConnectionPool implements ConnectionPool {
     public void ready() {
     }
 
+    @Override
+    public void warmUp(final int targetSize) {
+    }
+
     @Override
     public void close() {
     }
@@ -24,6 +24,7 @@ import com.mongodb.connection.ServerId;
 import com.mongodb.event.ServerDescriptionChangedEvent;
 import com.mongodb.event.ServerListener;
 import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
 
 import static com.mongodb.connection.ServerConnectionState.CONNECTING;
 
@@ -102,4 +103,14 @@ public class TestServer implements ClusterableServer {
     public int operationCount() {
         return -1;
     }
+
+    @Nullable
+    @Override
+    public OperationLatencyHistogram operationLatencies() {
+        return null;
+    }
+
+    @Override
+    public void warmUpConnectionPool(final int targetSize) {
+    }
 }
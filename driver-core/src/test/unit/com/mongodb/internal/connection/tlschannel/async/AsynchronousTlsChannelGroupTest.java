@@ -0,0 +1,131 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection.tlschannel.async;
+
+import com.mongodb.internal.connection.tlschannel.async.AsynchronousTlsChannelGroup.RegisteredSocket;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.ShutdownChannelGroupException;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class AsynchronousTlsChannelGroupTest {
+
+    @Test
+    void shouldRejectNonPositiveSelectorCount() {
+        assertThrows(IllegalArgumentException.class, () -> new AsynchronousTlsChannelGroup(null, 0));
+    }
+
+    @Test
+    void shouldSpreadSocketsAcrossSelectors() throws Exception {
+        AsynchronousTlsChannelGroup group = new AsynchronousTlsChannelGroup(null, 3);
+        List<SocketChannel> socketChannels = new ArrayList<>();
+        try {
+            assertEquals(3, group.getSelectorCount());
+            Set<AsynchronousTlsChannelGroup.SelectorShard> shards = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                SocketChannel socketChannel = SocketChannel.open();
+                socketChannel.configureBlocking(false);
+                socketChannels.add(socketChannel);
+                RegisteredSocket socket = group.registerSocket(null, socketChannel);
+                assertTrue(socket.registered.await(10, TimeUnit.SECONDS));
+                shards.add(socket.shard);
+            }
+
+            assertEquals(3, shards.size());
+            assertEquals(3, group.getCurrentRegistrationCount());
+        } finally {
+            for (SocketChannel socketChannel : socketChannels) {
+                socketChannel.close();
+            }
+            group.shutdown();
+        }
+        assertTrue(group.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, group.getCurrentRegistrationCount());
+    }
+
+    @Test
+    void shouldStartTheThreadOfASelectorWhenASocketIsRegisteredWithIt() throws Exception {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            threads.add(thread);
+            return thread;
+        };
+        AsynchronousTlsChannelGroup group = new AsynchronousTlsChannelGroup(null, 3, threadFactory);
+        try (SocketChannel socketChannel = SocketChannel.open()) {
+            assertTrue(threads.isEmpty());
+
+            socketChannel.configureBlocking(false);
+            RegisteredSocket socket = group.registerSocket(null, socketChannel);
+            assertTrue(socket.registered.await(10, TimeUnit.SECONDS));
+
+            assertEquals(1, threads.size());
+        } finally {
+            group.shutdown();
+        }
+        assertTrue(group.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldTerminateWhenShutDownBeforeAnySocketIsRegistered() throws Exception {
+        AsynchronousTlsChannelGroup group = new AsynchronousTlsChannelGroup(null, 3);
+
+        group.shutdown();
+
+        assertTrue(group.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(group.getTimeoutExecutor().isShutdown());
+        try (SocketChannel socketChannel = SocketChannel.open()) {
+            assertThrows(ShutdownChannelGroupException.class, () -> group.registerSocket(null, socketChannel));
+        }
+    }
+
+    @Test
+    void shouldShareTheTimeoutExecutorWithoutAffectingTheSpreadOfSockets() throws Exception {
+        AsynchronousTlsChannelGroup group = new AsynchronousTlsChannelGroup(null, 2);
+        List<SocketChannel> socketChannels = new ArrayList<>();
+        try {
+            Set<AsynchronousTlsChannelGroup.SelectorShard> shards = new HashSet<>();
+            for (int i = 0; i < 2; i++) {
+                assertSame(group.getTimeoutExecutor(), group.getTimeoutExecutor());
+                SocketChannel socketChannel = SocketChannel.open();
+                socketChannel.configureBlocking(false);
+                socketChannels.add(socketChannel);
+                shards.add(group.registerSocket(null, socketChannel).shard);
+            }
+
+            assertEquals(2, shards.size());
+        } finally {
+            for (SocketChannel socketChannel : socketChannels) {
+                socketChannel.close();
+            }
+            group.shutdown();
+        }
+        assertTrue(group.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.observability.micrometer;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.internal.connection.ConnectionPoolMetrics;
+import com.mongodb.observability.micrometer.MicrometerObservabilitySettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class MicrometerConnectionPoolMetricsRegistryTest {
+    private static final ServerId SERVER_ID = new ServerId(new ClusterId("cluster"), new ServerAddress("host", 27018));
+
+    @Test
+    void shouldOnlyBeCreatedWithMeterRegistry() {
+        assertNull(MicrometerConnectionPoolMetricsRegistry.create(null));
+        assertNull(MicrometerConnectionPoolMetricsRegistry.create(MicrometerObservabilitySettings.builder().build()));
+        assertNotNull(MicrometerConnectionPoolMetricsRegistry.create(
+                MicrometerObservabilitySettings.builder().meterRegistry(new SimpleMeterRegistry()).build()));
+    }
+
+    @Test
+    void shouldRegisterAndUnregisterMeters() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MicrometerConnectionPoolMetricsRegistry registry = new MicrometerConnectionPoolMetricsRegistry(meterRegistry);
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+
+        registry.register(SERVER_ID, metrics);
+
+        assertEquals(0, meterRegistry.get("mongodb.driver.pool.size")
+                .tag("server.address", "host")
+                .tag("server.port", "27018")
+                .tag("cluster.id", "cluster")
+                .gauge().value());
+        assertEquals(0, meterRegistry.get("mongodb.driver.network.bytes.sent").functionCounter().count());
+        assertTrue(Double.isNaN(meterRegistry.get("mongodb.driver.commands.latency").tag("percentile", "0.99").gauge().value()));
+
+        registry.unregister(metrics);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -23,6 +23,7 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.bulk.ClientBulkWriteOptions;
 import com.mongodb.client.model.bulk.ClientBulkWriteResult;
+import com.mongodb.client.model.bulk.ClientNamespacedInsertOneModel;
 import com.mongodb.client.model.bulk.ClientNamespacedReplaceOneModel;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.connection.ClusterId;
@@ -48,11 +49,15 @@ import org.bson.json.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
 import static com.mongodb.client.model.bulk.ClientReplaceOneOptions.clientReplaceOneOptions;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -187,6 +192,63 @@ class ClientBulkWriteOperationTest {
         assertTrue(result.getVerboseResults().isPresent());
     }
 
+    @Test
+    void shouldSplitOnlyUnorderedOperations() {
+        List<ClientNamespacedInsertOneModel> models = insertModels(10);
+
+        assertEquals(1, new ClientBulkWriteOperation(models, ClientBulkWriteOptions.clientBulkWriteOptions().maxConcurrentBatches(4),
+                WriteConcern.ACKNOWLEDGED, false, getDefaultCodecRegistry()).split(2, 48_000_000).size());
+        assertEquals(1, new ClientBulkWriteOperation(models, ClientBulkWriteOptions.clientBulkWriteOptions().ordered(false),
+                WriteConcern.ACKNOWLEDGED, false, getDefaultCodecRegistry()).split(2, 48_000_000).size());
+        assertEquals(4, unorderedOperation(models, 4).split(2, 48_000_000).size());
+    }
+
+    @Test
+    void shouldNotSplitAnOperationThatFitsInASingleBatch() {
+        assertEquals(1, unorderedOperation(insertModels(16), 4).split().size());
+    }
+
+    @Test
+    void shouldSplitAtTheBoundariesOfBatchesOfMaxBatchCountModels() {
+        List<ClientNamespacedInsertOneModel> models = insertModels(16);
+
+        assertEquals(asList(asList(0, 8), asList(8, 16)), modelRanges(unorderedOperation(models, 2).split(4, 48_000_000)));
+        assertEquals(asList(asList(0, 4), asList(4, 8), asList(8, 16)),
+                modelRanges(unorderedOperation(models, 3).split(4, 48_000_000)));
+        assertEquals(asList(asList(0, 5), asList(5, 10), asList(10, 15), asList(15, 16)),
+                modelRanges(unorderedOperation(models, 8).split(5, 48_000_000)));
+    }
+
+    @Test
+    void shouldSplitAtTheBoundariesOfBatchesOfMaxMessageSizeBytes() {
+        String largeValue = String.join("", Collections.nCopies(40 * 1024, "a"));
+        List<ClientNamespacedInsertOneModel> models = Stream.generate(() ->
+                        ClientNamespacedWriteModel.insertOne(NAMESPACE, new Document("value", largeValue)))
+                .limit(6)
+                .collect(toList());
+
+        // 64 KiB of the message are reserved for the command document, so that each batch holds two of the documents
+        assertEquals(asList(asList(0, 2), asList(2, 4), asList(4, 6)),
+                modelRanges(unorderedOperation(models, 4).split(100_000, 64 * 1024 + 100 * 1024)));
+    }
+
+    private static List<ClientNamespacedInsertOneModel> insertModels(final int count) {
+        return Stream.generate(() -> ClientNamespacedWriteModel.insertOne(NAMESPACE, new Document()))
+                .limit(count)
+                .collect(toList());
+    }
+
+    private static ClientBulkWriteOperation unorderedOperation(final List<? extends ClientNamespacedWriteModel> models,
+            final int maxConcurrentBatches) {
+        return new ClientBulkWriteOperation(models,
+                ClientBulkWriteOptions.clientBulkWriteOptions().ordered(false).maxConcurrentBatches(maxConcurrentBatches),
+                WriteConcern.ACKNOWLEDGED, false, getDefaultCodecRegistry());
+    }
+
+    private static List<List<Integer>> modelRanges(final List<ClientBulkWriteOperation> parts) {
+        return parts.stream().map(part -> asList(part.getModelsStartIndex(), part.getModelsEndIndex())).collect(toList());
+    }
+
     private void mockCommandExecutionResult(final String serverResponse) {
         doAnswer(invocationOnMock -> {
             DualMessageSequences dualMessageSequences = invocationOnMock.getArgument(7);
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.ClientBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.model.bulk.ClientBulkWriteResult;
+import com.mongodb.client.model.bulk.ClientDeleteResult;
+import com.mongodb.client.model.bulk.ClientInsertOneResult;
+import com.mongodb.client.model.bulk.ClientUpdateResult;
+import com.mongodb.internal.client.model.bulk.AcknowledgedSummaryClientBulkWriteResult;
+import com.mongodb.internal.client.model.bulk.AcknowledgedVerboseClientBulkWriteResult;
+import com.mongodb.internal.client.model.bulk.ConcreteClientDeleteResult;
+import com.mongodb.internal.client.model.bulk.ConcreteClientInsertOneResult;
+import com.mongodb.internal.client.model.bulk.UnacknowledgedClientBulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ClientBulkWriteResultCombinerTest {
+    private static final ServerAddress SERVER_ADDRESS = new ServerAddress("host1");
+
+    @Test
+    void shouldSumSummaryResults() {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        combiner.onResult(new AcknowledgedSummaryClientBulkWriteResult(1, 2, 3, 4, 5));
+        combiner.onResult(new AcknowledgedSummaryClientBulkWriteResult(10, 20, 30, 40, 50));
+
+        assertEquals(new AcknowledgedSummaryClientBulkWriteResult(11, 22, 33, 44, 55), combiner.build());
+    }
+
+    @Test
+    void shouldMergeVerboseResults() {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        combiner.onResult(verboseResult(singletonMap(0, new ConcreteClientInsertOneResult(new BsonInt32(0))), emptyMap()));
+        combiner.onResult(verboseResult(emptyMap(), singletonMap(5, new ConcreteClientDeleteResult(1))));
+
+        ClientBulkWriteResult.VerboseResults verboseResults = combiner.build().getVerboseResults().orElseThrow(AssertionError::new);
+        assertEquals(Collections.singleton(0), verboseResults.getInsertResults().keySet());
+        assertEquals(Collections.singleton(5), verboseResults.getDeleteResults().keySet());
+    }
+
+    @Test
+    void shouldReturnUnacknowledgedResult() {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        combiner.onResult(UnacknowledgedClientBulkWriteResult.INSTANCE);
+        combiner.onResult(UnacknowledgedClientBulkWriteResult.INSTANCE);
+
+        assertFalse(combiner.build().isAcknowledged());
+    }
+
+    @Test
+    void shouldCombineResultsWithWriteErrors() {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        combiner.onResult(new AcknowledgedSummaryClientBulkWriteResult(5, 0, 0, 0, 0));
+        WriteError writeError = new WriteError(11000, "duplicate key", new BsonDocument());
+        combiner.onError(new ClientBulkWriteException(null, null, singletonMap(7, writeError),
+                new AcknowledgedSummaryClientBulkWriteResult(4, 0, 0, 0, 0), SERVER_ADDRESS));
+
+        ClientBulkWriteException exception = assertThrows(ClientBulkWriteException.class, combiner::build);
+        assertEquals(singletonMap(7, writeError), exception.getWriteErrors());
+        assertEquals(9, exception.getPartialResult().orElseThrow(AssertionError::new).getInsertedCount());
+        assertEquals(SERVER_ADDRESS, exception.getServerAddress());
+    }
+
+    @Test
+    void shouldIncludeTopLevelErrorWithPartialResult() {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        combiner.onResult(new AcknowledgedSummaryClientBulkWriteResult(5, 0, 0, 0, 0));
+        MongoSocketReadException topLevelError = new MongoSocketReadException("closed", SERVER_ADDRESS);
+        combiner.onError(topLevelError);
+
+        ClientBulkWriteException exception = assertThrows(ClientBulkWriteException.class, combiner::build);
+        assertSame(topLevelError, exception.getCause());
+        assertEquals(5, exception.getPartialResult().orElseThrow(AssertionError::new).getInsertedCount());
+    }
+
+    @Test
+    void shouldThrowTopLevelErrorWithoutServerAddress() {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        combiner.onResult(new AcknowledgedSummaryClientBulkWriteResult(5, 0, 0, 0, 0));
+        MongoTimeoutException first = new MongoTimeoutException("first");
+        MongoTimeoutException second = new MongoTimeoutException("second");
+        combiner.onError(first);
+        combiner.onError(second);
+
+        MongoException exception = assertThrows(MongoTimeoutException.class, combiner::build);
+        assertSame(first, exception);
+        assertTrue(exception.getSuppressed().length == 1 && exception.getSuppressed()[0] == second);
+    }
+
+    private static ClientBulkWriteResult verboseResult(
+            final Map<Integer, ClientInsertOneResult> insertResults,
+            final Map<Integer, ClientDeleteResult> deleteResults) {
+        return new AcknowledgedVerboseClientBulkWriteResult(
+                new AcknowledgedSummaryClientBulkWriteResult(insertResults.size(), 0, 0, 0, deleteResults.size()),
+                insertResults, Collections.<Integer, ClientUpdateResult>emptyMap(), deleteResults);
+    }
+}
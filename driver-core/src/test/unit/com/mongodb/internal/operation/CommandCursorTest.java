@@ -44,9 +44,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.List;
 
 import static com.mongodb.internal.operation.OperationUnitSpecification.getMaxWireVersionForServerVersion;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -165,13 +169,92 @@ class CommandCursorTest {
                 argThat(bsonDocument -> bsonDocument.containsKey("killCursors")), any(), any(), any(), any());
     }
 
+    @Test
+    void shouldReceiveStreamedBatchesOverTheSameConnection() {
+        //given
+        when(serverDescription.getType()).thenReturn(ServerType.STANDALONE);
+        when(mockConnection.commandExhaustAllowed(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("getMore")), any(), any(), any(), any()))
+                .thenReturn(getMoreResult(CURSOR_ID.getValue(), 1));
+        when(mockConnection.receiveMoreToCome(any(), any())).thenReturn(getMoreResult(0, 2));
+        when(mockConnection.hasMoreToCome()).thenReturn(false, true, true, false);
+
+        Cursor<Document> cursor = createCoreCursor(true);
+
+        //when
+        List<Document> firstStreamedBatch = cursor.next(operationContext);
+        List<Document> secondStreamedBatch = cursor.next(operationContext);
+
+        //then
+        assertEquals(singletonList(new Document("_id", 1)), firstStreamedBatch);
+        assertEquals(singletonList(new Document("_id", 2)), secondStreamedBatch);
+        assertFalse(cursor.hasNext(operationContext));
+        verify(connectionSource, times(1)).getConnection(any());
+        verify(mockConnection, never()).command(any(), any(), any(), any(), any(), any());
+        cursor.close(operationContext);
+    }
+
+    @Test
+    void shouldReleaseStreamingConnectionAndKillCursorWhenClosedEarly() {
+        //given
+        when(serverDescription.getType()).thenReturn(ServerType.STANDALONE);
+        when(mockConnection.commandExhaustAllowed(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("getMore")), any(), any(), any(), any()))
+                .thenReturn(getMoreResult(CURSOR_ID.getValue(), 1));
+        when(mockConnection.hasMoreToCome()).thenReturn(false, true);
+
+        Cursor<Document> cursor = createCoreCursor(true);
+        cursor.next(operationContext);
+
+        //when
+        cursor.close(operationContext);
+
+        //then
+        verify(connectionSource, times(2)).getConnection(any());
+        verify(mockConnection, times(3)).release();
+        verify(mockConnection, times(1)).command(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("killCursors")), any(), any(), any(), any());
+        verify(mockConnection, never()).receiveMoreToCome(any(), any());
+    }
+
+    @Test
+    void shouldNotLetServerStreamBatchesOverPinnedConnection() {
+        //given
+        when(serverDescription.getType()).thenReturn(ServerType.LOAD_BALANCER);
+        when(mockConnection.command(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("getMore")), any(), any(), any(), any()))
+                .thenReturn(getMoreResult(0, 1));
+
+        Cursor<Document> cursor = createCoreCursor(true);
+
+        //when
+        cursor.next(operationContext);
+
+        //then
+        verify(mockConnection, never()).commandExhaustAllowed(any(), any(), any(), any(), any(), any());
+        cursor.close(operationContext);
+    }
+
+    private static BsonDocument getMoreResult(final long cursorId, final int documentId) {
+        return new BsonDocument("ok", new BsonInt32(1))
+                .append("cursor",
+                        new BsonDocument("ns", new BsonString(NAMESPACE.getFullName()))
+                                .append("id", new BsonInt64(cursorId))
+                                .append("nextBatch", new BsonArrayWrapper<>(singletonList(new Document("_id", documentId)))));
+    }
+
     private Cursor<Document> createCoreCursor() {
+        return createCoreCursor(false);
+    }
+
+    private Cursor<Document> createCoreCursor(final boolean exhaust) {
         return new CommandCursor<>(
                 COMMAND_CURSOR_DOCUMENT,
                 0,
                 DOCUMENT_CODEC,
                 null,
                 connectionSource,
-                mockConnection);
+                mockConnection,
+                exhaust);
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class PrefetchingBatchCursorTest {
+    private final ByteCountingDecoder<BsonDocument> decoder = new ByteCountingDecoder<>(new BsonDocumentCodec());
+
+    @Test
+    void shouldReturnBatchesInOrder() {
+        FakeBatchCursor wrapped = new FakeBatchCursor(3);
+        PrefetchingBatchCursor<BsonDocument> cursor = new PrefetchingBatchCursor<>(wrapped, decoder, 2, Long.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cursor.hasNext());
+            List<BsonDocument> batch = cursor.next();
+            assertEquals(document(i), batch.get(0));
+        }
+        assertFalse(cursor.hasNext());
+        assertThrows(NoSuchElementException.class, cursor::next);
+        assertEquals(0, wrapped.closeCount.get());
+
+        cursor.close();
+        assertEquals(1, wrapped.closeCount.get());
+        assertThrows(IllegalStateException.class, cursor::hasNext);
+    }
+
+    @Test
+    void shouldNotFetchMoreThanMaxBatches() throws InterruptedException {
+        FakeBatchCursor wrapped = new FakeBatchCursor(Integer.MAX_VALUE);
+        try (PrefetchingBatchCursor<BsonDocument> cursor = new PrefetchingBatchCursor<>(wrapped, decoder, 2, Long.MAX_VALUE)) {
+            awaitTrue(() -> cursor.available() == 2);
+            SECONDS.sleep(1);
+            assertEquals(2, wrapped.nextCount.get());
+
+            cursor.next();
+            awaitTrue(() -> cursor.available() == 2);
+            assertEquals(3, wrapped.nextCount.get());
+        }
+    }
+
+    @Test
+    void shouldNotFetchMoreThanMaxBytes() throws InterruptedException {
+        FakeBatchCursor wrapped = new FakeBatchCursor(Integer.MAX_VALUE);
+        try (PrefetchingBatchCursor<BsonDocument> cursor = new PrefetchingBatchCursor<>(wrapped, decoder, 10, 1)) {
+            awaitTrue(() -> cursor.available() == 1);
+            SECONDS.sleep(1);
+            assertEquals(1, wrapped.nextCount.get());
+        }
+    }
+
+    @Test
+    void shouldThrowFetchFailureAfterFetchedBatches() {
+        MongoException failure = new MongoException("getMore failed");
+        FakeBatchCursor wrapped = new FakeBatchCursor(1) {
+            @Override
+            public boolean hasNext() {
+                if (nextCount.get() == 1) {
+                    throw failure;
+                }
+                return super.hasNext();
+            }
+        };
+        try (PrefetchingBatchCursor<BsonDocument> cursor = new PrefetchingBatchCursor<>(wrapped, decoder, 2, Long.MAX_VALUE)) {
+            assertEquals(1, cursor.next().size());
+            assertSame(failure, assertThrows(MongoException.class, cursor::hasNext));
+        }
+    }
+
+    @Test
+    void shouldCloseWrappedCursorOnceWhenClosedWhileFetching() throws InterruptedException {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchMayComplete = new CountDownLatch(1);
+        FakeBatchCursor wrapped = new FakeBatchCursor(Integer.MAX_VALUE) {
+            @Override
+            public List<BsonDocument> next() {
+                fetchStarted.countDown();
+                try {
+                    assertTrue(fetchMayComplete.await(10, SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return super.next();
+            }
+        };
+        PrefetchingBatchCursor<BsonDocument> cursor = new PrefetchingBatchCursor<>(wrapped, decoder, 2, Long.MAX_VALUE);
+        assertTrue(fetchStarted.await(10, SECONDS));
+
+        cursor.close();
+        assertEquals(0, wrapped.closeCount.get());
+        fetchMayComplete.countDown();
+        awaitTrue(() -> wrapped.closeCount.get() > 0);
+        cursor.close();
+
+        assertEquals(1, wrapped.closeCount.get());
+        assertEquals(1, wrapped.nextCount.get());
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Timed out waiting for the condition");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static BsonDocument document(final int i) {
+        return new BsonDocument("_id", new BsonInt32(i)).append("a", new BsonString("value"));
+    }
+
+    /**
+     * Returns batches of a single document decoded by {@link #decoder}, as {@link CommandCursor} does.
+     */
+    private class FakeBatchCursor implements BatchCursor<BsonDocument> {
+        private final int batchCount;
+        final AtomicInteger nextCount = new AtomicInteger();
+        final AtomicInteger closeCount = new AtomicInteger();
+
+        FakeBatchCursor(final int batchCount) {
+            this.batchCount = batchCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextCount.get() < batchCount;
+        }
+
+        @Override
+        public List<BsonDocument> next() {
+            int i = nextCount.getAndIncrement();
+            RawBsonDocument document = new RawBsonDocument(document(i), new BsonDocumentCodec());
+            try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+                return singletonList(decoder.decode(reader, DecoderContext.builder().build()));
+            }
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        @Override
+        public void setBatchSize(final int batchSize) {
+        }
+
+        @Override
+        public int getBatchSize() {
+            return 0;
+        }
+
+        @Override
+        public List<BsonDocument> tryNext() {
+            return hasNext() ? next() : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return new ServerAddress();
+        }
+
+        @Override
+        public void close() {
+            closeCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardRoutingTableTest {
+
+    @Test
+    public void shouldRouteDocumentsToTheChunksOwningTheirShardKey() {
+        ShardRoutingTable routingTable = ShardRoutingTable.create(BsonDocument.parse("{key: {a: 1, b: 1}}"), asList(
+                chunk("{a: 10, b: {$minKey: 1}}", "{a: {$maxKey: 1}, b: {$maxKey: 1}}", "shard2"),
+                chunk("{a: {$minKey: 1}, b: {$minKey: 1}}", "{a: 0, b: 'm'}", "shard0"),
+                chunk("{a: 0, b: 'm'}", "{a: 10, b: {$minKey: 1}}", "shard1")));
+
+        assertTrue(routingTable.isRoutable());
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: -1}")));
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: 0, b: 'l'}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: 0, b: 'm'}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: 0.5, b: 'a'}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: {$numberDecimal: '9.99'}}")));
+        assertEquals("shard2", routingTable.getShard(BsonDocument.parse("{a: {$numberLong: '10'}}")));
+        assertEquals("shard2", routingTable.getShard(BsonDocument.parse("{a: 'a string sorts after numbers'}")));
+        // a missing shard key field is null, which sorts before numbers
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{b: 'z'}")));
+    }
+
+    @Test
+    public void shouldRouteOnDottedShardKeyFields() {
+        ShardRoutingTable routingTable = ShardRoutingTable.create(BsonDocument.parse("{key: {'a.b': 1}}"), asList(
+                chunk("{'a.b': {$minKey: 1}}", "{'a.b': 'n'}", "shard0"),
+                chunk("{'a.b': 'n'}", "{'a.b': {$maxKey: 1}}", "shard1")));
+
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: {b: 'café'}}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: {b: 'z'}}")));
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: 1}")));
+    }
+
+    @Test
+    public void shouldCompareValuesInTheOrderOfTheServer() {
+        List<String> orderedValues = asList("{$minKey: 1}", "null", "{$numberDouble: 'NaN'}", "{$numberDouble: '-Infinity'}",
+                "-1", "{$numberDouble: '-0.0'}", "{$numberDecimal: '0.5'}", "1", "{$numberLong: '2'}", "'A'", "'a'", "'é'",
+                "'😀'", "{x: 1}", "{$binary: {base64: 'AQ==', subType: '80'}}",
+                "{$binary: {base64: 'AQID', subType: '00'}}", "{$oid: '000000000000000000000001'}", "false", "true",
+                "{$date: {$numberLong: '-1'}}", "{$date: {$numberLong: '1'}}", "{$timestamp: {t: 1, i: 1}}", "{$maxKey: 1}");
+        List<BsonDocument> chunks = new ArrayList<>();
+        for (int i = 0; i < orderedValues.size() - 1; i++) {
+            chunks.add(chunk("{k: " + orderedValues.get(i) + "}", "{k: " + orderedValues.get(i + 1) + "}", "shard" + i));
+        }
+        ShardRoutingTable routingTable = ShardRoutingTable.create(BsonDocument.parse("{key: {k: 1}}"), chunks);
+
+        for (int i = 0; i < orderedValues.size() - 1; i++) {
+            assertEquals("shard" + i, routingTable.getShard(BsonDocument.parse("{k: " + orderedValues.get(i) + "}")),
+                    orderedValues.get(i));
+        }
+        assertNull(routingTable.getShard(BsonDocument.parse("{k: {$maxKey: 1}}")));
+    }
+
+    @Test
+    public void shouldRouteDoublesThatDecimal128CanNotHoldExactly() {
+        ShardRoutingTable routingTable = ShardRoutingTable.create(BsonDocument.parse("{key: {a: 1}}"), asList(
+                chunk("{a: 0.30000000000000004}", "{a: {$maxKey: 1}}", "shard3"),
+                chunk("{a: {$minKey: 1}}", "{a: 0.1}", "shard0"),
+                chunk("{a: {$numberDecimal: '0.2'}}", "{a: 0.30000000000000004}", "shard2"),
+                chunk("{a: 0.1}", "{a: {$numberDecimal: '0.2'}}", "shard1")));
+
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: {$numberDecimal: '0.1'}}")));
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: 0.09999999999999999}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: 0.1}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: {$numberDecimal: '0.1000000000000000055511151231257828'}}")));
+        assertEquals("shard1", routingTable.getShard(BsonDocument.parse("{a: 0.15}")));
+        assertEquals("shard2", routingTable.getShard(BsonDocument.parse("{a: {$numberDecimal: '0.2'}}")));
+        // the double closest to 0.2 is a little greater than 0.2
+        assertEquals("shard2", routingTable.getShard(BsonDocument.parse("{a: 0.2}")));
+        assertEquals("shard2", routingTable.getShard(BsonDocument.parse("{a: 0.3}")));
+        assertEquals("shard3", routingTable.getShard(BsonDocument.parse("{a: 0.30000000000000004}")));
+        assertEquals("shard3", routingTable.getShard(BsonDocument.parse("{a: 1}")));
+        assertEquals("shard3", routingTable.getShard(BsonDocument.parse("{a: {$numberDouble: 'Infinity'}}")));
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: {$numberDecimal: '-Infinity'}}")));
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: {$numberDecimal: 'NaN'}}")));
+    }
+
+    @Test
+    public void shouldNotRouteUnsupportedCollectionsAndValues() {
+        List<BsonDocument> chunks = asList(chunk("{a: {$minKey: 1}}", "{a: {$maxKey: 1}}", "shard0"));
+
+        assertFalse(ShardRoutingTable.create(null, chunks).isRoutable());
+        assertFalse(ShardRoutingTable.create(BsonDocument.parse("{key: {a: 'hashed'}}"), chunks).isRoutable());
+        assertFalse(ShardRoutingTable.create(BsonDocument.parse("{key: {a: 1}, dropped: true}"), chunks).isRoutable());
+        assertFalse(ShardRoutingTable.create(BsonDocument.parse("{key: {a: 1}}"), emptyList()).isRoutable());
+        assertNull(ShardRoutingTable.unroutable().getShard(BsonDocument.parse("{a: 1}")));
+
+        ShardRoutingTable routingTable = ShardRoutingTable.create(BsonDocument.parse("{key: {a: 1}}"), chunks);
+        assertEquals("shard0", routingTable.getShard(BsonDocument.parse("{a: 1}")));
+        assertNull(routingTable.getShard(BsonDocument.parse("{a: [1, 2]}")));
+        assertNull(routingTable.getShard(BsonDocument.parse("{a: {$regularExpression: {pattern: 'a', options: ''}}}")));
+    }
+
+    private static BsonDocument chunk(final String min, final String max, final String shard) {
+        return BsonDocument.parse("{min: " + min + ", max: " + max + ", shard: '" + shard + "'}");
+    }
+}
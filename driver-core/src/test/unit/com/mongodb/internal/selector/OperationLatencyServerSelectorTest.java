@@ -0,0 +1,94 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.selector;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerConnectionState;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.OperationLatencyHistogram;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.internal.mockito.MongoMockito;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+final class OperationLatencyServerSelectorTest {
+
+    @Test
+    void shouldNotSelectServersMuchSlowerThanTheFastest() {
+        Map<String, Long> hostToLatencyMillis = new LinkedHashMap<>();
+        hostToLatencyMillis.put("a", 20L);
+        hostToLatencyMillis.put("b", 30L);
+        hostToLatencyMillis.put("c", 400L);
+        hostToLatencyMillis.put("d", null);
+
+        assertEquals(asList("a", "b", "d"), select(hostToLatencyMillis, 2, 15));
+        assertEquals(asList("a", "d"), select(hostToLatencyMillis, 1.25, 5));
+        assertEquals(asList("a", "b", "c", "d"), select(hostToLatencyMillis, 2, 500));
+    }
+
+    @Test
+    void shouldSelectAllServersWithoutRecentRoundTripTimes() {
+        Map<String, Long> hostToLatencyMillis = new LinkedHashMap<>();
+        hostToLatencyMillis.put("a", null);
+        hostToLatencyMillis.put("b", null);
+
+        assertEquals(asList("a", "b"), select(hostToLatencyMillis, 1, 0));
+    }
+
+    private static List<String> select(final Map<String, Long> hostToLatencyMillis, final double ratio, final long thresholdMillis) {
+        Map<ServerAddress, Server> servers = new LinkedHashMap<>();
+        hostToLatencyMillis.forEach((host, latencyMillis) -> {
+            OperationLatencyHistogram histogram = new OperationLatencyHistogram();
+            if (latencyMillis != null) {
+                for (int i = 0; i < 100; i++) {
+                    histogram.record(MILLISECONDS.toNanos(latencyMillis));
+                }
+            }
+            servers.put(new ServerAddress(host), MongoMockito.mock(Server.class, server ->
+                    when(server.operationLatencies()).thenReturn(histogram)));
+        });
+        Cluster.ServersSnapshot serversSnapshot = servers::get;
+        ClusterDescription clusterDescription = new ClusterDescription(ClusterConnectionMode.MULTIPLE, ClusterType.REPLICA_SET,
+                servers.keySet().stream().map(OperationLatencyServerSelectorTest::serverDescription).collect(toList()));
+        return new OperationLatencyServerSelector(serversSnapshot, 99, ratio, thresholdMillis, MILLISECONDS)
+                .select(clusterDescription)
+                .stream()
+                .map(serverDescription -> serverDescription.getAddress().getHost())
+                .collect(toList());
+    }
+
+    private static ServerDescription serverDescription(final ServerAddress address) {
+        return ServerDescription.builder()
+                .state(ServerConnectionState.CONNECTED)
+                .ok(true)
+                .address(address)
+                .build();
+    }
+}
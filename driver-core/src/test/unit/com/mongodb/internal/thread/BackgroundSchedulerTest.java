@@ -0,0 +1,129 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BackgroundSchedulerTest {
+    private final ScheduledExecutorService sharedScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final BackgroundScheduler backgroundScheduler = new BackgroundScheduler(sharedScheduler, null);
+
+    @AfterEach
+    void tearDown() {
+        backgroundScheduler.shutdownNow();
+        sharedScheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldRunTasksOnWorkersRatherThanOnTheSharedScheduler() throws InterruptedException {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        backgroundScheduler.schedule(() -> {
+            threadName.set(Thread.currentThread().getName());
+            ran.countDown();
+        }, 0, MILLISECONDS);
+
+        assertTrue(ran.await(10, SECONDS));
+        assertTrue(threadName.get().startsWith("BackgroundWorker-"), threadName.get());
+    }
+
+    @Test
+    void shouldNotDelayOtherTasksWhileATaskBlocks() throws InterruptedException {
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch ran = new CountDownLatch(1);
+        try {
+            backgroundScheduler.schedule(() -> {
+                try {
+                    blocking.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 0, MILLISECONDS);
+            backgroundScheduler.scheduleWithFixedDelay(ran::countDown, 0, 1, SECONDS);
+
+            assertTrue(ran.await(10, SECONDS));
+        } finally {
+            blocking.countDown();
+        }
+    }
+
+    @Test
+    void shouldSkipRunsOfAPeriodicTaskWhileThePreviousRunIsInProgress() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+        ScheduledFuture<?> future = backgroundScheduler.scheduleAtFixedRate(() -> {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                blocking.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0, 1, MILLISECONDS);
+        try {
+            assertTrue(started.await(10, SECONDS));
+            Thread.sleep(50);
+
+            assertEquals(1, runs.get());
+        } finally {
+            blocking.countDown();
+            future.cancel(false);
+        }
+    }
+
+    @Test
+    void shouldNotRunAPeriodicTaskAgainAfterItThrows() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<?> future = backgroundScheduler.scheduleWithFixedDelay(() -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException();
+        }, 0, 1, MILLISECONDS);
+
+        long deadline = System.nanoTime() + SECONDS.toNanos(10);
+        while (!future.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(50);
+
+        assertTrue(future.isDone());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldNotShutTheSharedSchedulerDown() {
+        backgroundScheduler.shutdown();
+
+        assertTrue(backgroundScheduler.isShutdown());
+        assertFalse(sharedScheduler.isShutdown());
+    }
+}
@@ -18,14 +18,40 @@ package com.mongodb.internal.thread
 
 import spock.lang.Specification
 
+import java.util.concurrent.ThreadFactory
+
 class DaemonThreadFactorySpecification extends Specification {
     def 'should create daemon threads'() {
-        def factory = new DaemonThreadFactory()
+        def factory = new DaemonThreadFactory('test')
+
+        when:
+        def thread = factory.newThread { }
+
+        then:
+        thread.isDaemon()
+    }
+
+    def 'should create threads with the configured thread factory and name them'() {
+        given:
+        def created = new Thread()
+        def threadFactory = Mock(ThreadFactory)
+        def factory = new DaemonThreadFactory('test', threadFactory)
 
         when:
         def thread = factory.newThread { }
 
         then:
+        1 * threadFactory.newThread(_) >> created
+        thread.is(created)
+        thread.name.startsWith('test-')
+    }
+
+    def 'should create a named thread'() {
+        when:
+        def thread = DaemonThreadFactory.newThread(null, { }, 'name')
+
+        then:
+        thread.name == 'name'
         thread.isDaemon()
     }
 }
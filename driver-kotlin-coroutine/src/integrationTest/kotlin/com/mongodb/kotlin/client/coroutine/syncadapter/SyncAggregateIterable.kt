@@ -31,6 +31,13 @@ data class SyncAggregateIterable<T : Any>(val wrapped: AggregateFlow<T>) :
     override fun batchSize(batchSize: Int): SyncAggregateIterable<T> = apply { wrapped.batchSize(batchSize) }
     override fun toCollection() = runBlocking { wrapped.toCollection() }
 
+    // the coroutine driver does not let the server stream batches, which does not change the results
+    override fun exhaust(exhaust: Boolean): SyncAggregateIterable<T> = this
+
+    // flows already request batches ahead of the collector, which does not change the results
+    override fun prefetchBatches(prefetchBatches: Int): SyncAggregateIterable<T> = this
+    override fun maxPrefetchBytes(maxPrefetchBytes: Long): SyncAggregateIterable<T> = this
+
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncAggregateIterable<T> = apply {
         wrapped.allowDiskUse(allowDiskUse)
     }
@@ -35,6 +35,13 @@ data class SyncFindIterable<T : Any>(val wrapped: FindFlow<T>) : JFindIterable<T
 
     override fun skip(skip: Int): SyncFindIterable<T> = apply { wrapped.skip(skip) }
 
+    // the coroutine driver does not let the server stream batches, which does not change the results
+    override fun exhaust(exhaust: Boolean): SyncFindIterable<T> = this
+
+    // flows already request batches ahead of the collector, which does not change the results
+    override fun prefetchBatches(prefetchBatches: Int): SyncFindIterable<T> = this
+    override fun maxPrefetchBytes(maxPrefetchBytes: Long): SyncFindIterable<T> = this
+
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncFindIterable<T> = apply {
         wrapped.allowDiskUse(allowDiskUse)
     }
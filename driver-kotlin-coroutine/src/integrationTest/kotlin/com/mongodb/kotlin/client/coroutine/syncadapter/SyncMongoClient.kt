@@ -27,4 +27,6 @@ internal class SyncMongoClient(override val wrapped: MongoClient) : SyncMongoClu
 
     override fun appendMetadata(mongoDriverInformation: MongoDriverInformation): Unit =
         wrapped.appendMetadata(mongoDriverInformation)
+
+    override fun warmUpConnectionPools(targetSize: Int): Unit = throw UnsupportedOperationException()
 }
@@ -34,6 +34,14 @@ internal class SyncAggregateIterable<T : Any>(val wrapped: AggregateIterable<T>)
 
     override fun toCollection() = wrapped.toCollection()
 
+    override fun exhaust(exhaust: Boolean): SyncAggregateIterable<T> = apply { wrapped.exhaust(exhaust) }
+    override fun prefetchBatches(prefetchBatches: Int): SyncAggregateIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+    override fun maxPrefetchBytes(maxPrefetchBytes: Long): SyncAggregateIterable<T> = apply {
+        wrapped.maxPrefetchBytes(maxPrefetchBytes)
+    }
+
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncAggregateIterable<T> = apply {
         wrapped.allowDiskUse(allowDiskUse)
     }
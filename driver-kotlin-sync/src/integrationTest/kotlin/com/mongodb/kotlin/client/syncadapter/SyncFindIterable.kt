@@ -36,6 +36,14 @@ internal class SyncFindIterable<T : Any>(val wrapped: FindIterable<T>) :
 
     override fun skip(skip: Int): SyncFindIterable<T> = apply { wrapped.skip(skip) }
 
+    override fun exhaust(exhaust: Boolean): SyncFindIterable<T> = apply { wrapped.exhaust(exhaust) }
+    override fun prefetchBatches(prefetchBatches: Int): SyncFindIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+    override fun maxPrefetchBytes(maxPrefetchBytes: Long): SyncFindIterable<T> = apply {
+        wrapped.maxPrefetchBytes(maxPrefetchBytes)
+    }
+
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncFindIterable<T> = apply {
         wrapped.allowDiskUse(allowDiskUse)
     }
@@ -26,4 +26,6 @@ internal class SyncMongoClient(override val wrapped: MongoClient) : SyncMongoClu
     override fun getClusterDescription(): ClusterDescription = wrapped.clusterDescription
     override fun appendMetadata(mongoDriverInformation: MongoDriverInformation): Unit =
         wrapped.appendMetadata(mongoDriverInformation)
+
+    override fun warmUpConnectionPools(targetSize: Int): Unit = wrapped.warmUpConnectionPools(targetSize)
 }
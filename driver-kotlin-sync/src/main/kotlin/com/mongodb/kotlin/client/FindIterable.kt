@@ -263,6 +263,54 @@ public class FindIterable<T : Any>(private val wrapped: JFindIterable<T>) : Mong
      */
     public fun allowDiskUse(allowDiskUse: Boolean?): FindIterable<T> = apply { wrapped.allowDiskUse(allowDiskUse) }
 
+    /**
+     * Sets whether the server streams the batches of the cursor. When enabled, the first `getMore` command allows the
+     * server to send each following batch as soon as the previous one is sent, without waiting for another `getMore`
+     * command. This saves a round trip per batch when iterating over large results.
+     *
+     * A streaming cursor has a connection to itself until all batches are read, and closing it before that closes the
+     * connection. The option is ignored for tailable cursors, when connected to a load balancer, and when automatic
+     * encryption is enabled. The batch size cannot be changed while the server streams batches. The default is false.
+     *
+     * @param exhaust whether the server streams the batches of the cursor
+     * @return this
+     * @since 5.10
+     */
+    public fun exhaust(exhaust: Boolean): FindIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    /**
+     * Sets the number of batches that the cursor fetches in the background ahead of the application. Each `getMore`
+     * command then overlaps with the processing of the batches fetched before it, instead of blocking the application
+     * for a round trip.
+     *
+     * No more batches are fetched while the fetched batches that the application has not yet taken reach
+     * [maxPrefetchBytes]. The option is ignored for tailable cursors and when the operation uses an explicit
+     * `ClientSession`, because a session must not be used by more than one thread at a time. The default is 0, which
+     * means that batches are fetched only when the application needs them.
+     *
+     * @param prefetchBatches the maximum number of batches to fetch ahead of the application, which must not be
+     *   negative
+     * @return this
+     * @since 5.10
+     */
+    public fun prefetchBatches(prefetchBatches: Int): FindIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+
+    /**
+     * Sets the size in bytes of the fetched batches that the application has not yet taken, above which the cursor
+     * stops fetching batches in the background. The size of a batch is the size of its BSON documents. The default is
+     * 32 MiB.
+     *
+     * @param maxPrefetchBytes the maximum size of the batches fetched ahead of the application, which must be positive
+     * @return this
+     * @since 5.10
+     * @see prefetchBatches
+     */
+    public fun maxPrefetchBytes(maxPrefetchBytes: Long): FindIterable<T> = apply {
+        wrapped.maxPrefetchBytes(maxPrefetchBytes)
+    }
+
     /**
      * Explain the execution plan for this operation with the given verbosity level
      *
@@ -124,6 +124,19 @@ public class MongoClient(private val wrapped: JMongoClient) : MongoCluster(wrapp
      */
     public fun appendMetadata(mongoDriverInformation: MongoDriverInformation): Unit =
         wrapped.appendMetadata(mongoDriverInformation)
+
+    /**
+     * Opens connections to each server that operations may be executed on, until its connection pool has [targetSize]
+     * connections or its maximum size.
+     *
+     * This method blocks until a server is discovered, or the server selection timeout elapses, and then until the
+     * connections are opened and authenticated.
+     *
+     * @param targetSize the number of connections to warm up each connection pool to
+     * @see com.mongodb.client.MongoClient.warmUpConnectionPools
+     * @since 5.10
+     */
+    public fun warmUpConnectionPools(targetSize: Int): Unit = wrapped.warmUpConnectionPools(targetSize)
 }
 
 /**
@@ -63,6 +63,9 @@ class AggregateIterableTest {
         whenever(wrapped.explain(BsonDocument::class.java, verbosity)).doReturn(mock())
 
         iterable.allowDiskUse(true)
+        iterable.exhaust(true)
+        iterable.prefetchBatches(2)
+        iterable.maxPrefetchBytes(1024)
         iterable.batchSize(batchSize)
         iterable.bypassDocumentValidation(true)
         iterable.collation(collation)
@@ -84,6 +87,9 @@ class AggregateIterableTest {
         iterable.timeoutMode(TimeoutMode.ITERATION)
 
         verify(wrapped).allowDiskUse(true)
+        verify(wrapped).exhaust(true)
+        verify(wrapped).prefetchBatches(2)
+        verify(wrapped).maxPrefetchBytes(1024)
         verify(wrapped).batchSize(batchSize)
         verify(wrapped).bypassDocumentValidation(true)
         verify(wrapped).collation(collation)
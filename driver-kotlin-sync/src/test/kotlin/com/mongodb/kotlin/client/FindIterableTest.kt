@@ -58,6 +58,9 @@ class FindIterableTest {
         whenever(wrapped.explain(BsonDocument::class.java, verbosity)).doReturn(mock())
 
         iterable.allowDiskUse(true)
+        iterable.exhaust(true)
+        iterable.prefetchBatches(2)
+        iterable.maxPrefetchBytes(1024)
         iterable.batchSize(batchSize)
         iterable.collation(collation)
         iterable.comment(bsonComment)
@@ -90,6 +93,9 @@ class FindIterableTest {
         iterable.timeoutMode(TimeoutMode.ITERATION)
 
         verify(wrapped).allowDiskUse(true)
+        verify(wrapped).exhaust(true)
+        verify(wrapped).prefetchBatches(2)
+        verify(wrapped).maxPrefetchBytes(1024)
         verify(wrapped).batchSize(batchSize)
         verify(wrapped).collation(collation)
         verify(wrapped).comment(bsonComment)
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriterOptions;
+import com.mongodb.reactivestreams.client.internal.BulkWriterPublisher;
+import org.reactivestreams.Publisher;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A factory for bulk writers, which insert a stream of documents into a collection in batches, without holding the whole stream in
+ * memory.
+ *
+ * @since 5.10
+ */
+public final class BulkWriters {
+
+    /**
+     * Inserts the documents of the given {@code Publisher} with an ordered bulk writer and the default options.
+     *
+     * @param collection  the collection to insert into
+     * @param source      the Publisher providing the documents
+     * @param <TDocument> the type of the documents
+     * @return a Publisher with the result of each batch
+     * @see #insert(MongoCollection, Publisher, BulkWriterOptions)
+     */
+    public static <TDocument> Publisher<BulkWriteResult> insert(final MongoCollection<TDocument> collection,
+                                                                final Publisher<? extends TDocument> source) {
+        return insert(collection, source, new BulkWriterOptions());
+    }
+
+    /**
+     * Inserts the documents of the given {@code Publisher} with a bulk writer.
+     * <p>
+     * Documents are requested from the {@code source} as batches are written, so that at most
+     * {@link BulkWriterOptions#getMaxInFlightBatches()} batches are in flight and one more is being filled. The returned Publisher emits
+     * the result of each batch when it completes, with the indexes of the inserts being the positions of the documents in the
+     * {@code source}.
+     * </p>
+     * <p>
+     * An ordered writer signals the {@link MongoBulkWriteException} of the first failed batch and cancels the {@code source}. An
+     * unordered writer writes all the batches, and then signals a {@link MongoBulkWriteException} with the combined result and write
+     * errors of the whole stream if any of them failed.
+     * </p>
+     *
+     * @param collection  the collection to insert into
+     * @param source      the Publisher providing the documents
+     * @param options     the options of the bulk writer
+     * @param <TDocument> the type of the documents
+     * @return a Publisher with the result of each batch
+     */
+    public static <TDocument> Publisher<BulkWriteResult> insert(final MongoCollection<TDocument> collection,
+                                                                final Publisher<? extends TDocument> source,
+                                                                final BulkWriterOptions options) {
+        return BulkWriterPublisher.create(notNull("collection", collection), notNull("source", source), notNull("options", options));
+    }
+
+    private BulkWriters() {
+    }
+}
@@ -53,4 +53,22 @@ public interface GridFSDownloadPublisher extends Publisher<ByteBuffer> {
      * @return this
      */
     GridFSDownloadPublisher bufferSizeBytes(int bufferSizeBytes);
+
+    /**
+     * The number of ranges of chunks to read concurrently.
+     *
+     * <p>With a parallelism greater than one, the chunks of a large file are partitioned into ranges of about 16 MiB, each read with
+     * a query of its own. The ranges following the one being emitted are read ahead, so that the download is not bound by the round
+     * trip time to the server. The memory consumption grows with the parallelism, as each range read ahead is buffered.
+     * A download with a {@link com.mongodb.reactivestreams.client.ClientSession} does not read ranges concurrently, as a session must
+     * not be used by concurrent operations.</p>
+     *
+     * <p>Note: Must be set before the Publisher is subscribed to.</p>
+     *
+     * @param parallelism the number of ranges of chunks to read concurrently, which must be positive. Defaults to 1, which reads all
+     *                    the chunks with a single query.
+     * @return this
+     * @since 5.10
+     */
+    GridFSDownloadPublisher parallelism(int parallelism);
 }
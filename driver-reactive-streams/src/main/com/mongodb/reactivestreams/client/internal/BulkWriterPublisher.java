@@ -0,0 +1,103 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoCommandException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.BulkWriterOptions;
+import com.mongodb.internal.client.model.InsertBatchResultCombiner;
+import com.mongodb.internal.client.model.InsertBatcher;
+import com.mongodb.internal.client.model.ShardRoutingTableCache;
+import com.mongodb.internal.operation.ShardRoutingTable;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.RawBsonDocument;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BulkWriterPublisher {
+
+    public static <TDocument> Publisher<BulkWriteResult> create(final MongoCollection<TDocument> collection,
+                                                                final Publisher<? extends TDocument> source,
+                                                                final BulkWriterOptions options) {
+        MongoCollection<RawBsonDocument> rawCollection = collection.withDocumentClass(RawBsonDocument.class);
+        BulkWriteOptions bulkWriteOptions = InsertBatcher.createBulkWriteOptions(options);
+        return Flux.defer(() -> {
+            InsertBatcher<TDocument> batcher = new InsertBatcher<>(collection.getCodecRegistry().get(collection.getDocumentClass()),
+                    options);
+            ShardRoutingTableCache shardRoutingTableCache = new ShardRoutingTableCache();
+            Flux<TDocument> documents = Flux.from(source);
+            if (!options.isOrdered() && options.isGroupByShard() && rawCollection instanceof MongoCollectionImpl) {
+                Mono<ShardRoutingTable> shardRoutingTableLoader = Mono.defer(() ->
+                                ((MongoCollectionImpl<RawBsonDocument>) rawCollection).getPublisherHelper().shardRoutingTable())
+                        // e.g. not authorized to read the config database: grouping the documents per shard is only an optimization
+                        .onErrorReturn(MongoCommandException.class, ShardRoutingTable.unroutable())
+                        .doOnNext(shardRoutingTable -> {
+                            shardRoutingTableCache.set(shardRoutingTable);
+                            batcher.shardRoutingTable(shardRoutingTable);
+                        });
+                documents = documents.concatMap(document -> shardRoutingTableCache.get() != null
+                        ? Mono.just(document)
+                        : shardRoutingTableLoader.thenReturn(document));
+            }
+            Flux<InsertBatcher.Batch> batches = documents
+                    .<InsertBatcher.Batch>handle((document, sink) -> {
+                        InsertBatcher.Batch batch = batcher.add(document);
+                        if (batch != null) {
+                            sink.next(batch);
+                        }
+                    })
+                    .concatWith(Flux.<InsertBatcher.Batch>generate(sink -> {
+                        InsertBatcher.Batch batch = batcher.drain();
+                        if (batch != null) {
+                            sink.next(batch);
+                        } else {
+                            sink.complete();
+                        }
+                    }));
+
+            if (options.isOrdered()) {
+                return batches.concatMap(batch -> Mono.from(rawCollection.bulkWrite(batch.getRequests(), bulkWriteOptions))
+                        .map(batch::mapResult)
+                        .onErrorMap(MongoBulkWriteException.class, batch::mapException), 1);
+            }
+            InsertBatchResultCombiner combiner = new InsertBatchResultCombiner(false, collection.getWriteConcern());
+            return batches.flatMap(batch -> Mono.from(rawCollection.bulkWrite(batch.getRequests(), bulkWriteOptions))
+                            .map(batch::mapResult)
+                            .doOnNext(combiner::addResult)
+                            .doOnError(shardRoutingTableCache::invalidateIfStale)
+                            .onErrorResume(MongoBulkWriteException.class, e -> {
+                                combiner.addError(batch.mapException(e));
+                                return Mono.empty();
+                            }), options.getMaxInFlightBatches(), 1)
+                    .concatWith(Mono.fromRunnable(() -> {
+                        RuntimeException error = combiner.getError();
+                        if (error != null) {
+                            throw error;
+                        }
+                    }));
+        });
+    }
+
+    private BulkWriterPublisher() {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal;
+
+import com.mongodb.internal.async.AsyncBatchCursor;
+import com.mongodb.lang.Nullable;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.internal.Locks.withLock;
+
+/**
+ * Completes the sink of a hedged read with the first result of its attempts, and closes the cursors of the other attempts.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+final class HedgedRead<T> {
+    private final MonoSink<T> sink;
+    private final Lock lock = new ReentrantLock();
+    private int pendingAttempts = 1;
+    private boolean done;
+    @Nullable
+    private Throwable failure;
+
+    /**
+     * Subscribes to the attempt, and if it has not completed after the delay, to the hedged attempt. The result that arrives first is
+     * used, and a cursor that arrives second is closed, which kills it. Once the hedged attempt is subscribed to, the read fails only if
+     * both attempts fail, with the failure that arrives second suppressed by the one that arrives first.
+     *
+     * @param attempt       the first attempt
+     * @param hedgedAttempt the hedged attempt
+     * @param hedgeDelay    the delay after which the hedged attempt is subscribed to
+     * @param scheduler     the scheduler of the delay
+     * @param <T>           the type of the result
+     * @return the result of the hedged read
+     */
+    static <T> Mono<T> hedge(final Mono<T> attempt, final Mono<T> hedgedAttempt, final Duration hedgeDelay,
+            final Scheduler scheduler) {
+        return Mono.create(sink -> {
+            HedgedRead<T> hedgedRead = new HedgedRead<>(sink);
+            attempt.subscribe(hedgedRead::onResult, hedgedRead::onError);
+            Disposable hedgeDelayTimer = Mono.delay(hedgeDelay, scheduler).subscribe(ignored -> {
+                if (hedgedRead.startHedge()) {
+                    hedgedAttempt.subscribe(hedgedRead::onResult, hedgedRead::onError);
+                }
+            });
+            sink.onDispose(() -> {
+                hedgeDelayTimer.dispose();
+                hedgedRead.onDispose();
+            });
+        });
+    }
+
+    private HedgedRead(final MonoSink<T> sink) {
+        this.sink = sink;
+    }
+
+    private boolean startHedge() {
+        return withLock(lock, () -> {
+            if (done) {
+                return false;
+            }
+            pendingAttempts++;
+            return true;
+        });
+    }
+
+    private void onResult(final T result) {
+        boolean first = withLock(lock, () -> {
+            pendingAttempts--;
+            if (done) {
+                return false;
+            }
+            done = true;
+            return true;
+        });
+        if (first) {
+            sink.success(result);
+        } else if (result instanceof AsyncBatchCursor) {
+            ((AsyncBatchCursor<?>) result).close();
+        }
+    }
+
+    private void onError(final Throwable t) {
+        Throwable failureToSignal = withLock(lock, () -> {
+            pendingAttempts--;
+            if (done) {
+                return null;
+            }
+            if (failure == null) {
+                failure = t;
+            } else {
+                failure.addSuppressed(t);
+            }
+            if (pendingAttempts > 0) {
+                return null;
+            }
+            done = true;
+            return failure;
+        });
+        if (failureToSignal != null) {
+            sink.error(failureToSignal);
+        }
+    }
+
+    private void onDispose() {
+        withLock(lock, () -> {
+            done = true;
+        });
+    }
+}
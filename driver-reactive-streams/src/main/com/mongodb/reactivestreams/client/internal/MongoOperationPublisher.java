@@ -60,9 +60,12 @@ import com.mongodb.client.result.UpdateResult;
 import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.bulk.WriteRequest;
+import com.mongodb.internal.operation.ClientBulkWriteOperation;
+import com.mongodb.internal.operation.ClientBulkWriteResultCombiner;
 import com.mongodb.internal.operation.IndexHelper;
 import com.mongodb.internal.operation.Operations;
 import com.mongodb.internal.operation.ReadOperation;
+import com.mongodb.internal.operation.ShardRoutingTable;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.lang.Nullable;
 import com.mongodb.reactivestreams.client.ClientSession;
@@ -280,6 +283,10 @@ public final class MongoOperationPublisher<T> {
                 () -> operations.estimatedDocumentCount(notNull("options", options)), null);
     }
 
+    Mono<ShardRoutingTable> shardRoutingTable() {
+        return createReadOperationMono(Operations::getTimeoutSettings, operations::shardRoutingTable, null);
+    }
+
     Publisher<Long> countDocuments(@Nullable final ClientSession clientSession, final Bson filter, final CountOptions options) {
         return createReadOperationMono(
                 (operations -> operations.createTimeoutSettings(options)),
@@ -300,9 +307,23 @@ public final class MongoOperationPublisher<T> {
             final List<? extends ClientNamespacedWriteModel> clientWriteModels,
             @Nullable final ClientBulkWriteOptions options) {
         isTrue("`autoEncryptionSettings` is null, as bulkWrite does not currently support automatic encryption", autoEncryptionSettings == null);
-        return createWriteOperationMono(
-                operations::getTimeoutSettings,
-                () -> operations.clientBulkWriteOperation(clientWriteModels, options), clientSession);
+        ClientBulkWriteOperation operation = operations.clientBulkWriteOperation(clientWriteModels, options);
+        List<ClientBulkWriteOperation> parts = clientSession == null ? operation.split() : singletonList(operation);
+        if (parts.size() == 1) {
+            return createWriteOperationMono(operations::getTimeoutSettings, () -> operation, clientSession);
+        }
+        // Each part is executed in its own implicit session, because a session must not be used concurrently.
+        return Mono.defer(() -> {
+            ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+            return Flux.fromIterable(parts)
+                    .flatMap(part -> this.<ClientBulkWriteResult>createWriteOperationMono(operations::getTimeoutSettings, () -> part, null)
+                            .doOnNext(combiner::onResult)
+                            .onErrorResume(MongoException.class, e -> {
+                                combiner.onError(e);
+                                return Mono.empty();
+                            }), parts.size())
+                    .then(Mono.fromCallable(combiner::build));
+        });
     }
 
     Publisher<InsertOneResult> insertOne(@Nullable final ClientSession clientSession, final T document, final InsertOneOptions options) {
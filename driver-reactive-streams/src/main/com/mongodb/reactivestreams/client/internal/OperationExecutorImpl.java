@@ -25,14 +25,18 @@ import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.RequestContext;
 import com.mongodb.internal.IgnorableRequestContext;
+import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.binding.AsyncClusterAwareReadWriteBinding;
 import com.mongodb.internal.binding.AsyncClusterBinding;
 import com.mongodb.internal.binding.AsyncReadWriteBinding;
+import com.mongodb.internal.connection.HedgedReadDelay;
 import com.mongodb.internal.connection.OperationContext;
 import com.mongodb.internal.connection.ReadConcernAwareNoOpSessionContext;
 import com.mongodb.internal.observability.micrometer.Span;
 import com.mongodb.internal.observability.micrometer.TracingManager;
+import com.mongodb.internal.operation.AggregateOperation;
+import com.mongodb.internal.operation.FindOperation;
 import com.mongodb.internal.operation.OperationHelper;
 import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
@@ -43,8 +47,12 @@ import com.mongodb.reactivestreams.client.internal.crypt.Crypt;
 import com.mongodb.reactivestreams.client.internal.crypt.CryptBinding;
 import org.reactivestreams.Subscriber;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import static com.mongodb.MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
 import static com.mongodb.MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL;
@@ -53,6 +61,7 @@ import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.TimeoutContext.createTimeoutContext;
 import static com.mongodb.reactivestreams.client.internal.MongoOperationPublisher.sinkToCallback;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -88,15 +97,48 @@ public class OperationExecutorImpl implements OperationExecutor {
             session.notifyOperationInitiated(operation);
         }
 
+        long hedgeDelayNanos = session == null ? getHedgeDelayNanos(operation, readPreference) : -1;
+        if (hedgeDelayNanos >= 0) {
+            return executeHedged(operation, readPreference, readConcern, hedgeDelayNanos);
+        }
+        return execute(operation, readPreference, readConcern, session, null, UnaryOperator.identity());
+    }
+
+    /**
+     * Executes the read, and if it has not completed after the delay, executes it again on another server. The result that arrives
+     * first is used, and a cursor that arrives second is closed, which kills it. The read fails only if both attempts fail.
+     */
+    private <T> Mono<T> executeHedged(final ReadOperation<?, T> operation, final ReadPreference readPreference,
+            final ReadConcern readConcern, final long hedgeDelayNanos) {
+        return Mono.from(subscriber -> {
+            RequestContext requestContext = getContext(subscriber);
+            AtomicReference<OperationContext> firstOperationContext = new AtomicReference<>();
+            Mono<T> attempt = execute(operation, readPreference, readConcern, null, requestContext, operationContext -> {
+                firstOperationContext.set(operationContext);
+                return operationContext;
+            });
+            Mono<T> hedgedAttempt = execute(operation, readPreference, readConcern, null, requestContext, operationContext -> {
+                OperationContext first = firstOperationContext.get();
+                return first == null ? operationContext : operationContext.withHedgedAttemptServerDeprioritization(first);
+            });
+            HedgedRead.hedge(attempt, hedgedAttempt, Duration.ofNanos(hedgeDelayNanos), Schedulers.parallel()).subscribe(subscriber);
+        });
+    }
+
+    private <T> Mono<T> execute(final ReadOperation<?, T> operation, final ReadPreference readPreference, final ReadConcern readConcern,
+            @Nullable final ClientSession session, @Nullable final RequestContext requestContextOverride,
+            final UnaryOperator<OperationContext> operationContextCustomizer) {
         return Mono.from(subscriber ->
                 clientSessionHelper.withClientSession(session, this)
                         .flatMap(actualClientSession -> {
                             AsyncReadWriteBinding binding =
                                     getReadWriteBinding(readPreference, actualClientSession, isImplicitSession(session));
-                            RequestContext requestContext = getContext(subscriber);
-                            OperationContext operationContext = getOperationContext(requestContext, actualClientSession, readConcern, operation.getCommandName())
+                            RequestContext requestContext = requestContextOverride == null
+                                    ? getContext(subscriber) : requestContextOverride;
+                            OperationContext operationContext = operationContextCustomizer.apply(
+                                    getOperationContext(requestContext, actualClientSession, readConcern, operation.getCommandName())
                                     .withSessionContext(new ClientSessionBinding.AsyncClientSessionContext(actualClientSession,
-                                            isImplicitSession(session), readConcern));
+                                            isImplicitSession(session), readConcern)));
                             Span span = tracingManager.createOperationSpan(actualClientSession.getTransactionSpan(),
                                     operationContext, operation.getCommandName(), operation.getNamespace());
 
@@ -265,4 +307,17 @@ public class OperationExecutorImpl implements OperationExecutor {
     private boolean isImplicitSession(@Nullable final ClientSession session) {
         return session == null;
     }
+
+    /**
+     * @return the delay after which the read is hedged, or -1 if it must not be hedged
+     */
+    private long getHedgeDelayNanos(final ReadOperation<?, ?> operation, final ReadPreference readPreference) {
+        Double hedgeDelayPercentile = mongoClient.getCluster().getSettings().getHedgeDelayPercentile();
+        if (hedgeDelayPercentile == null || !readPreference.isSecondaryOk()
+                || !(operation instanceof FindOperation || operation instanceof AggregateOperation)) {
+            return -1;
+        }
+        return HedgedReadDelay.getHedgeDelay(mongoClient.getCluster(), readPreference, hedgeDelayPercentile,
+                new TimeoutContext(timeoutSettings), NANOSECONDS);
+    }
 }
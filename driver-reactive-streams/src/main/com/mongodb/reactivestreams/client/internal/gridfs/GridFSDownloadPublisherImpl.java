@@ -36,6 +36,7 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.TimeoutContext.startTimeout;
 import static com.mongodb.reactivestreams.client.internal.TimeoutHelper.collectionWithTimeout;
@@ -47,10 +48,15 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  */
 public class GridFSDownloadPublisherImpl implements GridFSDownloadPublisher {
     private static final String TIMEOUT_ERROR_MESSAGE = "Finding chunks exceeded the timeout limit.";
+    /**
+     * The size of the chunk ranges read concurrently, which is the size of the largest reply the server sends.
+     */
+    private static final int RANGE_SIZE_BYTES = 16 * 1024 * 1024;
     private final ClientSession clientSession;
     private final Function<Timeout, GridFSFindPublisher> gridFSFileMono;
     private final MongoCollection<Document> chunksCollection;
     private Integer bufferSizeBytes;
+    private int parallelism = 1;
 
     private volatile GridFSFile fileInfo;
     @Nullable
@@ -80,6 +86,13 @@ public class GridFSDownloadPublisherImpl implements GridFSDownloadPublisher {
         return this;
     }
 
+    @Override
+    public GridFSDownloadPublisher parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     @Override
     public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
         Flux.defer(()-> {
@@ -95,17 +108,9 @@ public class GridFSDownloadPublisherImpl implements GridFSDownloadPublisher {
     }
 
     private Flux<ByteBuffer> getChunkPublisher(final GridFSFile gridFSFile, @Nullable final Timeout timeout) {
-        Document filter = new Document("files_id", gridFSFile.getId());
-        FindPublisher<Document> chunkPublisher;
-        if (clientSession != null) {
-            chunkPublisher = collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE).find(clientSession, filter);
-        } else {
-            chunkPublisher = collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE).find(filter);
-        }
-
         AtomicInteger chunkCounter = new AtomicInteger(0);
         int numberOfChunks = (int) Math.ceil((double) gridFSFile.getLength() / gridFSFile.getChunkSize());
-        Flux<ByteBuffer> byteBufferFlux = Flux.from(chunkPublisher.sort(new Document("n", 1)))
+        Flux<ByteBuffer> byteBufferFlux = findChunks(gridFSFile, numberOfChunks, timeout)
                 .map(chunk -> {
                     int expectedChunkIndex = chunkCounter.getAndAdd(1);
                     if (chunk == null || chunk.getInteger("n") != expectedChunkIndex) {
@@ -139,4 +144,38 @@ public class GridFSDownloadPublisherImpl implements GridFSDownloadPublisher {
                 });
         return bufferSizeBytes == null ? byteBufferFlux : new ResizingByteBufferFlux(byteBufferFlux, bufferSizeBytes);
     }
+
+    /**
+     * Finds the chunks sorted by {@code n}. With a {@link #parallelism} greater than one, the chunks are partitioned into ranges of
+     * about {@link #RANGE_SIZE_BYTES}, up to {@link #parallelism} of which are read concurrently, ahead of the range being emitted.
+     * The last range is open-ended, so that extra chunks are found as with a single cursor.
+     * Like {@code GridFSDownloadStreamImpl}, a download with a {@link #clientSession} reads all the chunks with a single query, as
+     * a session must not be used by concurrent operations.
+     */
+    private Flux<Document> findChunks(final GridFSFile gridFSFile, final int numberOfChunks, @Nullable final Timeout timeout) {
+        Document filesIdFilter = new Document("files_id", gridFSFile.getId());
+        int chunksPerRange = Math.max(1, RANGE_SIZE_BYTES / gridFSFile.getChunkSize());
+        if (parallelism == 1 || clientSession != null || numberOfChunks <= chunksPerRange) {
+            return findChunks(filesIdFilter, timeout);
+        }
+        int numberOfRanges = (numberOfChunks + chunksPerRange - 1) / chunksPerRange;
+        return Flux.range(0, numberOfRanges)
+                .flatMapSequential(range -> {
+                    Document rangeFilter = new Document("$gte", range * chunksPerRange);
+                    if (range + 1 < numberOfRanges) {
+                        rangeFilter.append("$lt", (range + 1) * chunksPerRange);
+                    }
+                    return findChunks(new Document(filesIdFilter).append("n", rangeFilter), timeout);
+                }, parallelism, chunksPerRange);
+    }
+
+    private Flux<Document> findChunks(final Document filter, @Nullable final Timeout timeout) {
+        FindPublisher<Document> chunkPublisher;
+        if (clientSession != null) {
+            chunkPublisher = collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE).find(clientSession, filter);
+        } else {
+            chunkPublisher = collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE).find(filter);
+        }
+        return Flux.from(chunkPublisher.sort(new Document("n", 1)));
+    }
 }
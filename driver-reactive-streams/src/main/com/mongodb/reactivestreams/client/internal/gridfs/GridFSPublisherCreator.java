@@ -36,6 +36,7 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import java.nio.ByteBuffer;
 import java.util.function.Function;
@@ -68,8 +69,16 @@ public final class GridFSPublisherCreator {
         if (chunkSize == null) {
             chunkSize = chunkSizeBytes;
         }
+        Integer chunksPerBatch = options.getChunksPerBatch();
+        if (chunksPerBatch == null) {
+            chunksPerBatch = 1;
+        }
+        Integer maxBatchesInFlight = options.getMaxBatchesInFlight();
+        if (maxBatchesInFlight == null) {
+            maxBatchesInFlight = Math.max(1, Queues.SMALL_BUFFER_SIZE / chunksPerBatch);
+        }
         return new GridFSUploadPublisherImpl(clientSession, filesCollection, chunksCollection, id, filename, chunkSize,
-                                             options.getMetadata(), source);
+                                             options.getMetadata(), source, chunksPerBatch, maxBatchesInFlight);
     }
 
     public static GridFSDownloadPublisherImpl createGridFSDownloadPublisher(
@@ -20,6 +20,7 @@ import com.mongodb.MongoGridFSException;
 import com.mongodb.MongoOperationTimeoutException;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.time.Timeout;
@@ -35,13 +36,16 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import java.nio.ByteBuffer;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.mongodb.ReadPreference.primary;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.reactivestreams.client.internal.TimeoutHelper.collectionWithTimeout;
 import static com.mongodb.reactivestreams.client.internal.TimeoutHelper.collectionWithTimeoutDeferred;
@@ -67,6 +71,8 @@ public final class GridFSUploadPublisherImpl implements GridFSUploadPublisher<Vo
     private final int chunkSizeBytes;
     private final Document metadata;
     private final Publisher<ByteBuffer> source;
+    private final int chunksPerBatch;
+    private final int maxBatchesInFlight;
     @Nullable
     private final Long timeoutMs;
 
@@ -78,6 +84,26 @@ public final class GridFSUploadPublisherImpl implements GridFSUploadPublisher<Vo
                                      final int chunkSizeBytes,
                                      @Nullable final Document metadata,
                                      final Publisher<ByteBuffer> source) {
+        this(clientSession, filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, metadata, source, 1,
+                Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * @param chunksPerBatch the number of chunks to insert with each command
+     * @param maxBatchesInFlight the maximum number of batches of chunks being inserted concurrently
+     */
+    public GridFSUploadPublisherImpl(@Nullable final ClientSession clientSession,
+                                     final MongoCollection<GridFSFile> filesCollection,
+                                     final MongoCollection<Document> chunksCollection,
+                                     final BsonValue fileId,
+                                     final String filename,
+                                     final int chunkSizeBytes,
+                                     @Nullable final Document metadata,
+                                     final Publisher<ByteBuffer> source,
+                                     final int chunksPerBatch,
+                                     final int maxBatchesInFlight) {
+        isTrueArgument("chunksPerBatch > 0", chunksPerBatch > 0);
+        isTrueArgument("maxBatchesInFlight > 0", maxBatchesInFlight > 0);
         this.clientSession = clientSession;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
@@ -86,6 +112,8 @@ public final class GridFSUploadPublisherImpl implements GridFSUploadPublisher<Vo
         this.chunkSizeBytes = chunkSizeBytes;
         this.metadata = metadata;
         this.source = source;
+        this.chunksPerBatch = chunksPerBatch;
+        this.maxBatchesInFlight = maxBatchesInFlight;
         this.timeoutMs = filesCollection.getTimeout(MILLISECONDS);
     }
 
@@ -206,34 +234,48 @@ public final class GridFSUploadPublisherImpl implements GridFSUploadPublisher<Vo
         return new ResizingByteBufferFlux(source, chunkSizeBytes)
                 .takeUntilOther(createMonoTimer(timeout))
                 .index()
-                .flatMap(indexAndBuffer -> {
+                .map(indexAndBuffer -> createChunkDocument(indexAndBuffer.getT1(), indexAndBuffer.getT2()))
+                .buffer(chunksPerBatch)
+                .flatMap(chunkDocuments -> {
                     if (terminated.get()) {
                         return Mono.empty();
                     }
-                    Long index = indexAndBuffer.getT1();
-                    ByteBuffer byteBuffer = indexAndBuffer.getT2();
-                    byte[] byteArray = new byte[byteBuffer.remaining()];
-                    if (byteBuffer.hasArray()) {
-                        System.arraycopy(byteBuffer.array(), byteBuffer.position(), byteArray, 0, byteBuffer.remaining());
-                    } else {
-                        byteBuffer.mark();
-                        byteBuffer.get(byteArray);
-                        byteBuffer.reset();
+                    long lengthInBytes = 0;
+                    for (Document chunkDocument : chunkDocuments) {
+                        lengthInBytes += chunkDocument.get("data", Binary.class).length();
                     }
-                    Binary data = new Binary(byteArray);
-
-                    Document chunkDocument = new Document("files_id", fileId)
-                            .append("n", index.intValue())
-                            .append("data", data);
+                    return insertChunks(chunkDocuments, timeout).thenReturn(lengthInBytes);
+                }, maxBatchesInFlight)
+                .reduce(0L, Long::sum);
+    }
 
-                    Publisher<InsertOneResult> insertOnePublisher = clientSession == null
-                            ? collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE_CHUNKS_SAVING).insertOne(chunkDocument)
-                            : collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE_CHUNKS_SAVING)
-                               .insertOne(clientSession, chunkDocument);
+    private Document createChunkDocument(final long index, final ByteBuffer byteBuffer) {
+        byte[] byteArray = new byte[byteBuffer.remaining()];
+        if (byteBuffer.hasArray()) {
+            System.arraycopy(byteBuffer.array(), byteBuffer.position(), byteArray, 0, byteBuffer.remaining());
+        } else {
+            byteBuffer.mark();
+            byteBuffer.get(byteArray);
+            byteBuffer.reset();
+        }
+        return new Document("files_id", fileId)
+                .append("n", (int) index)
+                .append("data", new Binary(byteArray));
+    }
 
-                    return Mono.from(insertOnePublisher).thenReturn(data.length());
-                })
-                .reduce(0L, Long::sum);
+    private Mono<?> insertChunks(final List<Document> chunkDocuments, @Nullable final Timeout timeout) {
+        MongoCollection<Document> collection = collectionWithTimeout(chunksCollection, timeout, TIMEOUT_ERROR_MESSAGE_CHUNKS_SAVING);
+        if (chunkDocuments.size() == 1) {
+            Document chunkDocument = chunkDocuments.get(0);
+            Publisher<InsertOneResult> insertOnePublisher = clientSession == null
+                    ? collection.insertOne(chunkDocument)
+                    : collection.insertOne(clientSession, chunkDocument);
+            return Mono.from(insertOnePublisher);
+        }
+        Publisher<InsertManyResult> insertManyPublisher = clientSession == null
+                ? collection.insertMany(chunkDocuments)
+                : collection.insertMany(clientSession, chunkDocuments);
+        return Mono.from(insertManyPublisher);
     }
 
     /**
@@ -51,6 +51,23 @@ class SyncAggregateIterable<T> extends SyncMongoIterable<T> implements Aggregate
         return this;
     }
 
+    @Override
+    public AggregateIterable<T> exhaust(final boolean exhaust) {
+        // the reactive driver does not let the server stream batches, which does not change the results
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<T> prefetchBatches(final int prefetchBatches) {
+        // publishers already request batches ahead of the subscriber, which does not change the results
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<T> maxPrefetchBytes(final long maxPrefetchBytes) {
+        return this;
+    }
+
     @Override
     public AggregateIterable<T> batchSize(final int batchSize) {
         wrapped.batchSize(batchSize);
@@ -96,6 +96,23 @@ class SyncFindIterable<T> extends SyncMongoIterable<T> implements FindIterable<T
         return this;
     }
 
+    @Override
+    public FindIterable<T> exhaust(final boolean exhaust) {
+        // the reactive driver does not let the server stream batches, which does not change the results
+        return this;
+    }
+
+    @Override
+    public FindIterable<T> prefetchBatches(final int prefetchBatches) {
+        // publishers already request batches ahead of the subscriber, which does not change the results
+        return this;
+    }
+
+    @Override
+    public FindIterable<T> maxPrefetchBytes(final long maxPrefetchBytes) {
+        return this;
+    }
+
     @Override
     public FindIterable<T> cursorType(final CursorType cursorType) {
         wrapped.cursorType(cursorType);
@@ -22,6 +22,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSDownloadChannel;
 import com.mongodb.client.gridfs.GridFSDownloadStream;
 import com.mongodb.client.gridfs.GridFSFindIterable;
 import com.mongodb.client.gridfs.GridFSUploadStream;
@@ -242,6 +243,26 @@ public class SyncGridFSBucket implements GridFSBucket {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final ObjectId id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final BsonValue id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final ClientSession clientSession, final ObjectId id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final ClientSession clientSession, final BsonValue id) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void downloadToStream(final ObjectId id, final OutputStream destination) {
         downloadToStream(new BsonObjectId(id), destination);
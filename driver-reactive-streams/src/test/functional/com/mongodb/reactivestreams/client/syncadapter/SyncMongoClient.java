@@ -344,6 +344,11 @@ public class SyncMongoClient implements MongoClient {
         wrapped.appendMetadata(mongoDriverInformation);
     }
 
+    @Override
+    public void warmUpConnectionPools(final int targetSize) {
+        throw new UnsupportedOperationException();
+    }
+
     static class ConnectionPoolCounter implements ConnectionPoolListener {
         private final AtomicInteger activeConnections = new AtomicInteger(0);
 
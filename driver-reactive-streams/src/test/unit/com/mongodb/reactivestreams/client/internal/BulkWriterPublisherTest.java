@@ -0,0 +1,235 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.BulkWriterOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkWriterPublisherTest {
+    private final List<List<InsertOneModel<RawBsonDocument>>> bulkWrites = new CopyOnWriteArrayList<>();
+    private final List<Sinks.One<BulkWriteResult>> pendingBulkWrites = new CopyOnWriteArrayList<>();
+    private final List<BulkWriteResult> results = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final AtomicInteger emittedDocuments = new AtomicInteger();
+    private final AtomicBoolean sourceCancelled = new AtomicBoolean();
+    private MongoCollection<BsonDocument> collection;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        collection = mock(MongoCollection.class);
+        MongoCollection<RawBsonDocument> rawCollection = mock(MongoCollection.class);
+        when(collection.withDocumentClass(RawBsonDocument.class)).thenReturn(rawCollection);
+        when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        when(collection.getDocumentClass()).thenReturn(BsonDocument.class);
+        when(collection.getWriteConcern()).thenReturn(WriteConcern.ACKNOWLEDGED);
+        when(rawCollection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(invocation -> {
+            Sinks.One<BulkWriteResult> pendingBulkWrite = Sinks.one();
+            bulkWrites.add(invocation.getArgument(0));
+            pendingBulkWrites.add(pendingBulkWrite);
+            return pendingBulkWrite.asMono();
+        });
+    }
+
+    @Test
+    public void shouldWriteOrderedBatchesOneAtATime() {
+        subscribe(5, new BulkWriterOptions().maxBatchCount(2));
+
+        assertEquals(1, bulkWrites.size());
+        succeed(0);
+        assertEquals(2, bulkWrites.size());
+        succeed(1);
+        assertEquals(3, bulkWrites.size());
+        succeed(2);
+
+        assertEquals(asList(asList(0, 1), asList(2, 3), singletonList(4)), bulkWrites.stream().map(BulkWriterPublisherTest::ids)
+                .collect(Collectors.toList()));
+        assertEquals(asList(asList(0, 1), asList(2, 3), singletonList(4)), results.stream().map(BulkWriterPublisherTest::insertIndexes)
+                .collect(Collectors.toList()));
+        assertTrue(completed.get());
+        assertNull(error.get());
+    }
+
+    @Test
+    public void shouldWriteUnorderedBatchesConcurrentlyAndEmitTheirResultsAsTheyComplete() {
+        subscribe(5, new BulkWriterOptions().ordered(false).maxBatchCount(2).maxInFlightBatches(2));
+
+        assertEquals(2, bulkWrites.size());
+        succeed(1);
+        assertEquals(3, bulkWrites.size());
+        succeed(2);
+        succeed(0);
+
+        assertEquals(asList(asList(2, 3), singletonList(4), asList(0, 1)), results.stream()
+                .map(BulkWriterPublisherTest::insertIndexes).collect(Collectors.toList()));
+        assertTrue(completed.get());
+        assertNull(error.get());
+    }
+
+    @Test
+    public void shouldOnlyRequestTheDocumentsOfTheBatchesInFlightAndOfTheNextBatch() {
+        subscribe(100, new BulkWriterOptions().ordered(false).maxBatchCount(2).maxInFlightBatches(2));
+
+        assertEquals(2, bulkWrites.size());
+        assertTrue(emittedDocuments.get() <= 6, "emitted " + emittedDocuments.get());
+
+        succeed(0);
+
+        assertEquals(3, bulkWrites.size());
+        assertTrue(emittedDocuments.get() <= 8, "emitted " + emittedDocuments.get());
+        assertFalse(completed.get());
+    }
+
+    @Test
+    public void shouldStopAtTheFirstFailedOrderedBatch() {
+        subscribe(10, new BulkWriterOptions().maxBatchCount(2));
+
+        succeed(0);
+        fail(1, 1);
+
+        assertEquals(2, bulkWrites.size());
+        assertEquals(1, results.size());
+        MongoBulkWriteException exception = assertInstanceOf(MongoBulkWriteException.class, error.get());
+        assertEquals(singletonList(3), exception.getWriteErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toList()));
+        assertEquals(singletonList(2), insertIndexes(exception.getWriteResult()));
+        assertTrue(sourceCancelled.get());
+        assertFalse(completed.get());
+    }
+
+    @Test
+    public void shouldWriteAllUnorderedBatchesAndThenSignalTheCombinedErrors() {
+        subscribe(6, new BulkWriterOptions().ordered(false).maxBatchCount(2));
+
+        fail(0, 0);
+        succeed(1);
+        fail(2, 1);
+
+        assertEquals(3, bulkWrites.size());
+        assertEquals(singletonList(asList(2, 3)), results.stream().map(BulkWriterPublisherTest::insertIndexes)
+                .collect(Collectors.toList()));
+        MongoBulkWriteException exception = assertInstanceOf(MongoBulkWriteException.class, error.get());
+        assertEquals(asList(0, 5), exception.getWriteErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toList()));
+        assertEquals(asList(1, 2, 3, 4), insertIndexes(exception.getWriteResult()));
+        assertFalse(completed.get());
+    }
+
+    @Test
+    public void shouldPropagateOtherErrorsImmediately() {
+        subscribe(6, new BulkWriterOptions().ordered(false).maxBatchCount(2).maxInFlightBatches(2));
+        RuntimeException failure = new RuntimeException("failure");
+
+        pendingBulkWrites.get(0).tryEmitError(failure);
+
+        assertSame(failure, error.get());
+        assertTrue(sourceCancelled.get());
+        assertEquals(2, bulkWrites.size());
+    }
+
+    @Test
+    public void shouldPropagateErrorsOfTheSource() {
+        RuntimeException failure = new RuntimeException("failure");
+        Flux.from(BulkWriterPublisher.create(collection, Flux.concat(Flux.just(document(0)), Flux.error(failure)),
+                        new BulkWriterOptions()))
+                .subscribe(results::add, error::set, () -> completed.set(true));
+
+        assertSame(failure, error.get());
+        assertTrue(bulkWrites.isEmpty());
+    }
+
+    private void subscribe(final int documentCount, final BulkWriterOptions options) {
+        Flux<BsonDocument> source = Flux.range(0, documentCount)
+                .map(BulkWriterPublisherTest::document)
+                .doOnNext(document -> emittedDocuments.incrementAndGet())
+                .doOnCancel(() -> sourceCancelled.set(true));
+        Flux.from(BulkWriterPublisher.create(collection, source, options))
+                .subscribe(results::add, error::set, () -> completed.set(true));
+    }
+
+    private void succeed(final int bulkWriteIndex) {
+        int count = bulkWrites.get(bulkWriteIndex).size();
+        pendingBulkWrites.get(bulkWriteIndex).tryEmitValue(result(IntStream.range(0, count).boxed().collect(Collectors.toList())));
+    }
+
+    private void fail(final int bulkWriteIndex, final int failedRequestIndex) {
+        List<Integer> insertedIndexes = IntStream.range(0, bulkWrites.get(bulkWriteIndex).size())
+                .filter(index -> index != failedRequestIndex).boxed().collect(Collectors.toList());
+        pendingBulkWrites.get(bulkWriteIndex).tryEmitError(new MongoBulkWriteException(result(insertedIndexes),
+                singletonList(new BulkWriteError(11000, "duplicate key", new BsonDocument(), failedRequestIndex)), null,
+                new ServerAddress(), Collections.emptySet()));
+    }
+
+    private static BulkWriteResult result(final List<Integer> insertedIndexes) {
+        List<BulkWriteInsert> inserts = new ArrayList<>();
+        for (int index : insertedIndexes) {
+            inserts.add(new BulkWriteInsert(index, new BsonInt32(index)));
+        }
+        return BulkWriteResult.acknowledged(inserts.size(), 0, 0, 0, emptyList(), inserts);
+    }
+
+    private static BsonDocument document(final int id) {
+        return new BsonDocument("_id", new BsonInt32(id));
+    }
+
+    private static List<Integer> ids(final List<InsertOneModel<RawBsonDocument>> requests) {
+        return requests.stream().map(request -> request.getDocument().getInt32("_id").getValue()).collect(Collectors.toList());
+    }
+
+    private static List<Integer> insertIndexes(final BulkWriteResult result) {
+        return result.getInserts().stream().map(BulkWriteInsert::getIndex).collect(Collectors.toList());
+    }
+}
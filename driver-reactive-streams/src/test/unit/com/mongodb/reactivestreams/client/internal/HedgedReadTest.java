@@ -0,0 +1,160 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal;
+
+import com.mongodb.internal.async.AsyncBatchCursor;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class HedgedReadTest {
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(100);
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private final Sinks.One<AsyncBatchCursor<Object>> attempt = Sinks.one();
+    private final Sinks.One<AsyncBatchCursor<Object>> hedgedAttempt = Sinks.one();
+    private final AtomicReference<AsyncBatchCursor<Object>> result = new AtomicReference<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    @Test
+    public void shouldUseTheResultOfTheFirstAttemptIfItCompletesBeforeTheDelay() {
+        AsyncBatchCursor<Object> cursor = cursor();
+        subscribe();
+
+        attempt.tryEmitValue(cursor);
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+
+        assertSame(cursor, result.get());
+        assertEquals(0, hedgedAttempt.currentSubscriberCount());
+        verify(cursor, never()).close();
+    }
+
+    @Test
+    public void shouldUseTheResultOfTheFirstAttemptIfItCompletesBeforeTheHedgedAttempt() {
+        AsyncBatchCursor<Object> cursor = cursor();
+        AsyncBatchCursor<Object> hedgedCursor = cursor();
+        subscribe();
+
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+        assertEquals(1, hedgedAttempt.currentSubscriberCount());
+        attempt.tryEmitValue(cursor);
+        hedgedAttempt.tryEmitValue(hedgedCursor);
+
+        assertSame(cursor, result.get());
+        verify(cursor, never()).close();
+        verify(hedgedCursor).close();
+    }
+
+    @Test
+    public void shouldUseTheResultOfTheHedgedAttemptAndCloseTheLosingCursor() {
+        AsyncBatchCursor<Object> cursor = cursor();
+        AsyncBatchCursor<Object> hedgedCursor = cursor();
+        subscribe();
+
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+        hedgedAttempt.tryEmitValue(hedgedCursor);
+
+        assertSame(hedgedCursor, result.get());
+        verify(hedgedCursor, never()).close();
+
+        attempt.tryEmitValue(cursor);
+
+        assertSame(hedgedCursor, result.get());
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldUseTheResultOfTheOtherAttemptIfOneFails() {
+        AsyncBatchCursor<Object> hedgedCursor = cursor();
+        subscribe();
+
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+        attempt.tryEmitError(new RuntimeException("first"));
+        hedgedAttempt.tryEmitValue(hedgedCursor);
+
+        assertSame(hedgedCursor, result.get());
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void shouldFailIfBothAttemptsFailWithTheSecondFailureSuppressed() {
+        RuntimeException hedgedFailure = new RuntimeException("hedged");
+        RuntimeException firstFailure = new RuntimeException("first");
+        subscribe();
+
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+        hedgedAttempt.tryEmitError(hedgedFailure);
+
+        assertNull(failure.get());
+
+        attempt.tryEmitError(firstFailure);
+
+        assertSame(hedgedFailure, failure.get());
+        assertArrayEquals(new Throwable[] {firstFailure}, hedgedFailure.getSuppressed());
+        assertNull(result.get());
+    }
+
+    @Test
+    public void shouldFailWithoutHedgingIfTheFirstAttemptFailsBeforeTheDelay() {
+        RuntimeException firstFailure = new RuntimeException("first");
+        subscribe();
+
+        attempt.tryEmitError(firstFailure);
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+
+        assertSame(firstFailure, failure.get());
+        assertEquals(0, hedgedAttempt.currentSubscriberCount());
+    }
+
+    @Test
+    public void shouldNotHedgeAndCloseTheCursorOfTheFirstAttemptIfDisposedBeforeTheDelay() {
+        AsyncBatchCursor<Object> cursor = cursor();
+        Disposable subscription = subscribe();
+
+        subscription.dispose();
+        scheduler.advanceTimeBy(HEDGE_DELAY);
+
+        assertEquals(0, hedgedAttempt.currentSubscriberCount());
+
+        attempt.tryEmitValue(cursor);
+
+        assertNull(result.get());
+        verify(cursor).close();
+    }
+
+    private Disposable subscribe() {
+        return HedgedRead.hedge(attempt.asMono(), hedgedAttempt.asMono(), HEDGE_DELAY, scheduler)
+                .subscribe(result::set, failure::set);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AsyncBatchCursor<Object> cursor() {
+        return mock(AsyncBatchCursor.class);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal.gridfs;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
+import com.mongodb.reactivestreams.client.gridfs.GridFSFindPublisher;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GridFSDownloadPublisherImplTest {
+    /**
+     * A quarter of the size of the chunk ranges, so that each range holds four chunks.
+     */
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final byte[] FULL_CHUNK_DATA = new byte[CHUNK_SIZE];
+    private final BsonObjectId fileId = new BsonObjectId(new ObjectId());
+    private final List<Document> chunks = new ArrayList<>();
+    private final List<Document> chunksQueries = new CopyOnWriteArrayList<>();
+    private MongoCollection<Document> chunksCollection;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        chunksCollection = mock(MongoCollection.class);
+        when(chunksCollection.getTimeout(MILLISECONDS)).thenReturn(null);
+        when(chunksCollection.find(any(Bson.class))).thenAnswer(invocation -> {
+            Document filter = invocation.getArgument(0);
+            chunksQueries.add(filter);
+            return findPublisher(chunks.stream().filter(chunk -> matches(filter, chunk)).collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    public void shouldReadAllTheChunksWithASingleQueryWithoutParallelism() {
+        GridFSFile file = addChunks(10);
+
+        assertEquals(file.getLength(), download(file, 1));
+        assertEquals(singletonList(new Document("files_id", fileId)), chunksQueries);
+    }
+
+    @Test
+    public void shouldReadAFileThatFitsInASingleRangeWithASingleQuery() {
+        GridFSFile file = addChunks(4);
+
+        assertEquals(file.getLength(), download(file, 2));
+        assertEquals(singletonList(new Document("files_id", fileId)), chunksQueries);
+    }
+
+    @Test
+    public void shouldReadEachRangeWithAQueryAndLeaveTheLastRangeOpenEnded() {
+        GridFSFile file = addChunks(10);
+
+        assertEquals(file.getLength(), download(file, 2));
+        assertEquals(asList(rangeQuery(0, 4), rangeQuery(4, 8), lastRangeQuery(8)), chunksQueries);
+    }
+
+    @Test
+    public void shouldStartTheLastRangeAtAMultipleOfTheChunksPerRange() {
+        GridFSFile file = addChunks(8);
+
+        assertEquals(file.getLength(), download(file, 3));
+        assertEquals(asList(rangeQuery(0, 4), lastRangeQuery(4)), chunksQueries);
+    }
+
+    @Test
+    public void shouldReadAllTheChunksWithASingleQueryWithASession() {
+        GridFSFile file = addChunks(10);
+        ClientSession clientSession = mock(ClientSession.class);
+        when(chunksCollection.find(eq(clientSession), any(Bson.class))).thenAnswer(invocation -> {
+            Document filter = invocation.getArgument(1);
+            chunksQueries.add(filter);
+            return findPublisher(chunks.stream().filter(chunk -> matches(filter, chunk)).collect(Collectors.toList()));
+        });
+
+        assertEquals(file.getLength(), download(clientSession, file, 2));
+        assertEquals(singletonList(new Document("files_id", fileId)), chunksQueries);
+    }
+
+    @Test
+    public void shouldFailIfTheLastRangeHasExtraChunks() {
+        GridFSFile file = addChunks(10);
+        chunks.add(chunk(10, new byte[1]));
+
+        MongoGridFSException e = assertThrows(MongoGridFSException.class, () -> download(file, 2));
+        assertTrue(e.getMessage().contains("chunk index 10"), e.getMessage());
+    }
+
+    @Test
+    public void shouldFailIfAChunkIsMissingInsideARange() {
+        GridFSFile file = addChunks(10);
+        chunks.remove(5);
+
+        MongoGridFSException e = assertThrows(MongoGridFSException.class, () -> download(file, 2));
+        assertTrue(e.getMessage().contains("chunk index 5"), e.getMessage());
+    }
+
+    @Test
+    public void shouldFailIfTheLastChunksAreMissing() {
+        GridFSFile file = addChunks(10);
+        chunks.remove(9);
+        chunks.remove(8);
+
+        MongoGridFSException e = assertThrows(MongoGridFSException.class, () -> download(file, 2));
+        assertTrue(e.getMessage().contains("chunk index 8"), e.getMessage());
+    }
+
+    private long download(final GridFSFile file, final int parallelism) {
+        return download(null, file, parallelism);
+    }
+
+    private long download(@Nullable final ClientSession clientSession, final GridFSFile file, final int parallelism) {
+        GridFSDownloadPublisher publisher = new GridFSDownloadPublisherImpl(clientSession, timeout -> filesPublisher(file),
+                chunksCollection).parallelism(parallelism);
+        return Flux.from(publisher).map(buffer -> (long) buffer.remaining()).reduce(0L, Long::sum).block();
+    }
+
+    /**
+     * Adds the chunks of a file whose last chunk holds a single byte.
+     */
+    private GridFSFile addChunks(final int numberOfChunks) {
+        for (int n = 0; n < numberOfChunks - 1; n++) {
+            chunks.add(chunk(n, FULL_CHUNK_DATA));
+        }
+        chunks.add(chunk(numberOfChunks - 1, new byte[1]));
+        return new GridFSFile(fileId, "filename", (numberOfChunks - 1) * (long) CHUNK_SIZE + 1, CHUNK_SIZE, new Date(), null);
+    }
+
+    private Document chunk(final int n, final byte[] data) {
+        return new Document("files_id", fileId).append("n", n).append("data", new Binary(data));
+    }
+
+    private Document rangeQuery(final int start, final int end) {
+        return new Document("files_id", fileId).append("n", new Document("$gte", start).append("$lt", end));
+    }
+
+    private Document lastRangeQuery(final int start) {
+        return new Document("files_id", fileId).append("n", new Document("$gte", start));
+    }
+
+    private static boolean matches(final Document filter, final Document chunk) {
+        Document range = filter.get("n", Document.class);
+        int n = chunk.getInteger("n");
+        return range == null || (n >= range.getInteger("$gte") && (!range.containsKey("$lt") || n < range.getInteger("$lt")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FindPublisher<Document> findPublisher(final List<Document> documents) {
+        FindPublisher<Document> findPublisher = mock(FindPublisher.class);
+        when(findPublisher.sort(any())).thenReturn(findPublisher);
+        doAnswer(invocation -> {
+            Flux.fromIterable(documents).subscribe(invocation.<Subscriber<Document>>getArgument(0));
+            return null;
+        }).when(findPublisher).subscribe(any());
+        return findPublisher;
+    }
+
+    private static GridFSFindPublisher filesPublisher(final GridFSFile file) {
+        GridFSFindPublisher filesPublisher = mock(GridFSFindPublisher.class);
+        doAnswer(invocation -> {
+            Mono.just(file).subscribe(invocation.<Subscriber<GridFSFile>>getArgument(0));
+            return null;
+        }).when(filesPublisher).subscribe(any());
+        return filesPublisher;
+    }
+}
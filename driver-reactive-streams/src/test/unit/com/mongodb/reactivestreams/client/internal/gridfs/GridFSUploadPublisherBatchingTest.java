@@ -0,0 +1,176 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal.gridfs;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static com.mongodb.ReadPreference.primary;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GridFSUploadPublisherBatchingTest {
+    private static final int CHUNK_SIZE = 2;
+    private final BsonObjectId fileId = new BsonObjectId(new ObjectId());
+    private final List<List<Document>> chunkInserts = new CopyOnWriteArrayList<>();
+    private final List<Sinks.Empty<Void>> pendingChunkInserts = new CopyOnWriteArrayList<>();
+    private final List<GridFSFile> fileInserts = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private MongoCollection<GridFSFile> filesCollection;
+    private MongoCollection<Document> chunksCollection;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        filesCollection = mock(MongoCollection.class);
+        chunksCollection = mock(MongoCollection.class);
+        MongoCollection<Document> filesDocumentCollection = mock(MongoCollection.class);
+        FindPublisher<Document> filesFindPublisher = mock(FindPublisher.class);
+        when(filesCollection.getTimeout(MILLISECONDS)).thenReturn(null);
+        when(filesCollection.withDocumentClass(Document.class)).thenReturn(filesDocumentCollection);
+        when(filesDocumentCollection.withReadPreference(primary())).thenReturn(filesDocumentCollection);
+        when(filesDocumentCollection.find()).thenReturn(filesFindPublisher);
+        when(filesFindPublisher.projection(any())).thenReturn(filesFindPublisher);
+        // the files collection is not empty, so that the indexes are not checked
+        when(filesFindPublisher.first()).thenReturn(Mono.just(new Document()));
+        when(filesCollection.insertOne(any(GridFSFile.class))).thenAnswer(invocation -> {
+            fileInserts.add(invocation.getArgument(0));
+            return Mono.just(InsertOneResult.acknowledged(fileId));
+        });
+        when(chunksCollection.insertMany(anyList())).thenAnswer(invocation ->
+                insertChunks(invocation.getArgument(0)).thenReturn(InsertManyResult.acknowledged(emptyMap())));
+        when(chunksCollection.insertOne(any(Document.class))).thenAnswer(invocation ->
+                insertChunks(singletonList(invocation.getArgument(0))).thenReturn(InsertOneResult.acknowledged(fileId)));
+    }
+
+    @Test
+    public void shouldInsertTheChunksInBatchesOfChunksPerBatch() {
+        upload(7, 3, 1);
+
+        assertEquals(1, chunkInserts.size());
+        succeed(0);
+        assertEquals(2, chunkInserts.size());
+        succeed(1);
+        assertEquals(3, chunkInserts.size());
+        assertTrue(fileInserts.isEmpty());
+        succeed(2);
+
+        assertEquals(asList(asList(0, 1, 2), asList(3, 4, 5), singletonList(6)), chunkIndexes());
+        assertEquals(1, fileInserts.size());
+        assertEquals(7 * CHUNK_SIZE, fileInserts.get(0).getLength());
+        assertTrue(completed.get());
+        assertNull(error.get());
+    }
+
+    @Test
+    public void shouldInsertUpToMaxBatchesInFlightConcurrently() {
+        upload(7, 2, 2);
+
+        assertEquals(2, chunkInserts.size());
+        succeed(1);
+        assertEquals(3, chunkInserts.size());
+        succeed(0);
+        assertEquals(4, chunkInserts.size());
+        succeed(3);
+        assertTrue(fileInserts.isEmpty());
+        succeed(2);
+
+        assertEquals(asList(asList(0, 1), asList(2, 3), asList(4, 5), singletonList(6)), chunkIndexes());
+        assertEquals(1, fileInserts.size());
+        assertEquals(7 * CHUNK_SIZE, fileInserts.get(0).getLength());
+        assertTrue(completed.get());
+        assertNull(error.get());
+    }
+
+    @Test
+    public void shouldNotInsertTheFileIfABatchFails() {
+        when(chunksCollection.deleteMany(any(Document.class))).thenReturn(Mono.empty());
+        upload(7, 2, 2);
+
+        succeed(0);
+        pendingChunkInserts.get(1).tryEmitError(new RuntimeException("insert failed"));
+
+        assertFalse(completed.get());
+        assertEquals("insert failed", error.get().getMessage());
+        assertTrue(fileInserts.isEmpty());
+    }
+
+    @Test
+    public void shouldRequirePositiveBatchLimits() {
+        assertThrows(IllegalArgumentException.class, () -> createPublisher(Flux.empty(), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> createPublisher(Flux.empty(), 1, 0));
+    }
+
+    private void upload(final int numberOfChunks, final int chunksPerBatch, final int maxBatchesInFlight) {
+        Flux<ByteBuffer> source = Flux.range(0, numberOfChunks).map(n -> ByteBuffer.wrap(new byte[]{(byte) n, (byte) n}));
+        Mono.from(createPublisher(source, chunksPerBatch, maxBatchesInFlight))
+                .subscribe(ignored -> { }, error::set, () -> completed.set(true));
+    }
+
+    private GridFSUploadPublisherImpl createPublisher(final Flux<ByteBuffer> source, final int chunksPerBatch,
+            final int maxBatchesInFlight) {
+        return new GridFSUploadPublisherImpl(null, filesCollection, chunksCollection, fileId, "filename", CHUNK_SIZE, null, source,
+                chunksPerBatch, maxBatchesInFlight);
+    }
+
+    private Mono<Void> insertChunks(final List<Document> chunks) {
+        Sinks.Empty<Void> pendingChunkInsert = Sinks.empty();
+        chunkInserts.add(chunks);
+        pendingChunkInserts.add(pendingChunkInsert);
+        return pendingChunkInsert.asMono();
+    }
+
+    private void succeed(final int chunkInsert) {
+        pendingChunkInserts.get(chunkInsert).tryEmitEmpty();
+    }
+
+    private List<List<Integer>> chunkIndexes() {
+        return chunkInserts.stream()
+                .map(chunks -> chunks.stream().map(chunk -> chunk.getInteger("n")).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+}
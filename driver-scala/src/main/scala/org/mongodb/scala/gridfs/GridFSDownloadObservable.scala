@@ -54,6 +54,23 @@ case class GridFSDownloadObservable(private val wrapped: GridFSDownloadPublisher
   def bufferSizeBytes(bufferSizeBytes: Int): GridFSDownloadObservable =
     GridFSDownloadObservable(wrapped.bufferSizeBytes(bufferSizeBytes))
 
+  /**
+   * The number of ranges of chunks to read concurrently.
+   *
+   * With a parallelism greater than one, the chunks of a large file are partitioned into ranges of about 16 MiB, each read with
+   * a query of its own. The ranges following the one being emitted are read ahead, so that the download is not bound by the round
+   * trip time to the server. The memory consumption grows with the parallelism, as each range read ahead is buffered.
+   *
+   * '''Note:''' Must be set before the Observable is subscribed to
+   *
+   * @param parallelism the number of ranges of chunks to read concurrently, which must be positive. Defaults to 1, which reads all
+   *                    the chunks with a single query.
+   * @return this
+   * @since 5.10
+   */
+  def parallelism(parallelism: Int): GridFSDownloadObservable =
+    GridFSDownloadObservable(wrapped.parallelism(parallelism))
+
   /**
    * Request `Observable` to start streaming data.
    *
@@ -39,9 +39,11 @@ class GridFSDownloadObservableSpec extends BaseSpec with MockitoSugar {
     val bufferSizeBytes = 1024
 
     gridFSDownloadStream.bufferSizeBytes(bufferSizeBytes)
+    gridFSDownloadStream.parallelism(4)
     gridFSDownloadStream.gridFSFile()
 
     verify(wrapper).bufferSizeBytes(bufferSizeBytes)
+    verify(wrapper).parallelism(4)
     verify(wrapper).getGridFSFile
   }
 
@@ -92,6 +92,48 @@ public interface AggregateIterable<TResult> extends MongoIterable<TResult> {
      */
     AggregateIterable<TResult> allowDiskUse(@Nullable Boolean allowDiskUse);
 
+    /**
+     * Sets whether the server streams the batches of the cursor. When enabled, the first {@code getMore} command allows the server to
+     * send each following batch as soon as the previous one is sent, without waiting for another {@code getMore} command. This saves a
+     * round trip per batch when iterating over large results.
+     *
+     * <p>A streaming cursor has a connection to itself until all batches are read, and closing it before that closes the connection.
+     * The option is ignored when connected to a load balancer and when automatic encryption is enabled.
+     * The batch size cannot be changed while the server streams batches. The default is false.</p>
+     *
+     * @param exhaust whether the server streams the batches of the cursor
+     * @return this
+     * @since 5.10
+     * @mongodb.server.release 4.2
+     */
+    AggregateIterable<TResult> exhaust(boolean exhaust);
+
+    /**
+     * Sets the number of batches that the cursor fetches in the background ahead of the application. Each {@code getMore} command
+     * then overlaps with the processing of the batches fetched before it, instead of blocking the application for a round trip.
+     *
+     * <p>No more batches are fetched while the fetched batches that the application has not yet taken reach
+     * {@link #maxPrefetchBytes(long)}. The option is ignored for tailable cursors and when the operation uses an explicit
+     * {@link ClientSession}, because a session must not be used by more than one thread at a time. The default is 0, which means
+     * that batches are fetched only when the application needs them.</p>
+     *
+     * @param prefetchBatches the maximum number of batches to fetch ahead of the application, which must not be negative
+     * @return this
+     * @since 5.10
+     */
+    AggregateIterable<TResult> prefetchBatches(int prefetchBatches);
+
+    /**
+     * Sets the size in bytes of the fetched batches that the application has not yet taken, above which the cursor stops fetching batches
+     * in the background. The size of a batch is the size of its BSON documents. The default is 32 MiB.
+     *
+     * @param maxPrefetchBytes the maximum size of the batches fetched ahead of the application, which must be positive
+     * @return this
+     * @since 5.10
+     * @see #prefetchBatches(int)
+     */
+    AggregateIterable<TResult> maxPrefetchBytes(long maxPrefetchBytes);
+
     /**
      * Sets the number of documents to return per batch.
      *
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriterOptions;
+
+import java.io.Closeable;
+
+/**
+ * A writer that inserts a stream of documents into a collection in batches, without holding the whole stream in memory.
+ *
+ * <p>Documents are encoded as they are inserted and sent in batches whose size is bounded by
+ * {@link BulkWriterOptions#getMaxBatchCount()} and {@link BulkWriterOptions#getMaxBatchSize()}. An unordered writer writes up to
+ * {@link BulkWriterOptions#getMaxInFlightBatches()} batches concurrently, and {@link #insert(Object)} blocks while that many batches
+ * are in flight.</p>
+ *
+ * <p>Indexes in results and write errors are the positions of the documents in the stream, counted from the first document inserted
+ * since the last call to {@link #flush()}. Besides the combined result returned by {@link #flush()}, the result of each batch may be
+ * reported to a listener given to {@link BulkWriters#create(MongoCollection, BulkWriterOptions, java.util.function.Consumer)}.</p>
+ *
+ * <p>An application should ensure that a writer is closed in all circumstances, e.g. using a try-with-resources statement:</p>
+ *
+ * <pre>{@code
+ * try (BulkWriter<Document> writer = BulkWriters.create(collection, new BulkWriterOptions().ordered(false).maxInFlightBatches(4))) {
+ *     for (Document document : documents) {
+ *         writer.insert(document);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <TDocument> the type of the documents
+ * @see BulkWriters
+ * @since 5.10
+ */
+@NotThreadSafe
+public interface BulkWriter<TDocument> extends Closeable {
+
+    /**
+     * Adds a document to the current batch, sending the batch when it is full.
+     *
+     * <p>For an ordered writer, a failed batch ends the stream: the exception is thrown from the call that sent the batch, the
+     * documents that have not been sent are discarded, and the indexes of the following documents are counted from zero again.</p>
+     *
+     * @param document the document to insert
+     * @throws MongoBulkWriteException if the writer is ordered and the batch sent by this call failed
+     * @throws com.mongodb.MongoException if the batch sent by this call, or an earlier batch, failed with any other error
+     */
+    void insert(TDocument document);
+
+    /**
+     * Sends the current batch and waits for all the batches in flight to complete.
+     *
+     * @return the combined result of the batches sent since the last flush
+     * @throws MongoBulkWriteException with the combined result and write errors of the batches sent since the last flush, if any of
+     * them failed
+     * @throws com.mongodb.MongoException if any batch failed with any other error
+     */
+    BulkWriteResult flush();
+
+    /**
+     * Flushes the writer and releases its resources.
+     *
+     * @throws MongoBulkWriteException if any of the batches sent since the last flush failed
+     * @throws com.mongodb.MongoException if any batch failed with any other error
+     */
+    @Override
+    void close();
+}
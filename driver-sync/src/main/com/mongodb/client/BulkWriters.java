@@ -0,0 +1,83 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.internal.BulkWriterImpl;
+import com.mongodb.client.model.BulkWriterOptions;
+
+import java.util.function.Consumer;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A factory for {@link BulkWriter} instances.
+ *
+ * @since 5.10
+ */
+public final class BulkWriters {
+
+    /**
+     * Create a new ordered bulk writer with the default options.
+     *
+     * @param collection  the collection to insert into
+     * @param <TDocument> the type of the documents
+     * @return the bulk writer
+     */
+    public static <TDocument> BulkWriter<TDocument> create(final MongoCollection<TDocument> collection) {
+        return create(collection, new BulkWriterOptions());
+    }
+
+    /**
+     * Create a new bulk writer.
+     *
+     * @param collection  the collection to insert into
+     * @param options     the options of the bulk writer
+     * @param <TDocument> the type of the documents
+     * @return the bulk writer
+     */
+    public static <TDocument> BulkWriter<TDocument> create(final MongoCollection<TDocument> collection,
+                                                           final BulkWriterOptions options) {
+        return new BulkWriterImpl<>(notNull("collection", collection), notNull("options", options));
+    }
+
+    /**
+     * Create a new bulk writer that reports the result of each batch.
+     *
+     * <p>The {@code batchResultListener} is called with the result of each batch that is written successfully, as soon as it completes,
+     * with the indexes of the inserts being the positions of the documents in the stream, as in the combined result returned by
+     * {@link BulkWriter#flush()}. Failed batches are reported by the exceptions of the writer. The listener is called by the thread
+     * writing the batch, so it is called concurrently by an unordered writer with more than one
+     * {@linkplain BulkWriterOptions#getMaxInFlightBatches() batch in flight}. An exception thrown by the listener is reported as a
+     * failure of the batch.</p>
+     *
+     * @param collection          the collection to insert into
+     * @param options             the options of the bulk writer
+     * @param batchResultListener the listener of the results of the batches
+     * @param <TDocument>         the type of the documents
+     * @return the bulk writer
+     */
+    public static <TDocument> BulkWriter<TDocument> create(final MongoCollection<TDocument> collection,
+                                                           final BulkWriterOptions options,
+                                                           final Consumer<BulkWriteResult> batchResultListener) {
+        return new BulkWriterImpl<>(notNull("collection", collection), notNull("options", options),
+                notNull("batchResultListener", batchResultListener));
+    }
+
+    private BulkWriters() {
+    }
+}
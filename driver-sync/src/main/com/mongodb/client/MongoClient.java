@@ -75,4 +75,26 @@ public interface MongoClient extends MongoCluster, Closeable {
      * @since 5.6
      */
     void appendMetadata(MongoDriverInformation mongoDriverInformation);
+
+    /**
+     * Opens connections to each server that operations may be executed on, until its connection pool has {@code targetSize}
+     * connections or its {@linkplain com.mongodb.connection.ConnectionPoolSettings#getMaxSize() maximum size}.
+     *
+     * <p>
+     * This method blocks until a server is discovered, or the server selection timeout elapses, and then until the connections are
+     * opened and authenticated. Each connection pool opens up to
+     * {@linkplain com.mongodb.connection.ConnectionPoolSettings#getMaxConnecting() maxConnecting} connections at a time, and reports
+     * its progress to the {@link com.mongodb.event.ConnectionPoolListener}s via a
+     * {@link com.mongodb.event.ConnectionPoolWarmUpStartedEvent} and a {@link com.mongodb.event.ConnectionPoolWarmUpCompletedEvent}.
+     * Calling this method right after creating the client lets the first operations use established connections.
+     * </p>
+     *
+     * <p>The default implementation does not open any connections.</p>
+     *
+     * @param targetSize the number of connections to warm up each connection pool to
+     * @see com.mongodb.connection.ConnectionPoolSettings#isMinSizeWarmUp()
+     * @since 5.10
+     */
+    default void warmUpConnectionPools(final int targetSize) {
+    }
 }
@@ -551,6 +551,48 @@ public interface GridFSBucket {
      */
     GridFSDownloadStream openDownloadStream(ClientSession clientSession, String filename, GridFSDownloadOptions options);
 
+    /**
+     * Opens a seekable channel from which the application can read any range of the contents of the stored file specified by
+     * {@code id}.
+     *
+     * @param id the ObjectId of the file to be read from the channel
+     * @return the channel
+     * @since 5.10
+     */
+    GridFSDownloadChannel openDownloadChannel(ObjectId id);
+
+    /**
+     * Opens a seekable channel from which the application can read any range of the contents of the stored file specified by
+     * {@code id}.
+     *
+     * @param id the custom id value of the file, to be read from the channel
+     * @return the channel
+     * @since 5.10
+     */
+    GridFSDownloadChannel openDownloadChannel(BsonValue id);
+
+    /**
+     * Opens a seekable channel from which the application can read any range of the contents of the stored file specified by
+     * {@code id}.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param id the ObjectId of the file to be read from the channel
+     * @return the channel
+     * @since 5.10
+     */
+    GridFSDownloadChannel openDownloadChannel(ClientSession clientSession, ObjectId id);
+
+    /**
+     * Opens a seekable channel from which the application can read any range of the contents of the stored file specified by
+     * {@code id}.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param id the custom id value of the file, to be read from the channel
+     * @return the channel
+     * @since 5.10
+     */
+    GridFSDownloadChannel openDownloadChannel(ClientSession clientSession, BsonValue id);
+
     /**
      * Downloads the contents of the stored file specified by {@code id} and writes the contents to the {@code destination} Stream.
      *
@@ -201,10 +201,11 @@ final class GridFSBucketImpl implements GridFSBucket {
         notNull("options", options);
         Integer chunkSizeBytes = options.getChunkSizeBytes();
         int chunkSize = chunkSizeBytes == null ? this.chunkSizeBytes : chunkSizeBytes;
+        Integer chunksPerBatch = options.getChunksPerBatch();
         checkCreateIndex(clientSession, operationTimeout);
         return new GridFSUploadStreamImpl(clientSession, filesCollection,
                 chunksCollection, id, filename, chunkSize,
-                options.getMetadata(), operationTimeout);
+                options.getMetadata(), operationTimeout, chunksPerBatch == null ? 1 : chunksPerBatch);
     }
 
     @Override
@@ -325,6 +326,31 @@ final class GridFSBucketImpl implements GridFSBucket {
         return createGridFSDownloadStream(clientSession, file, operationTimeout);
     }
 
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final ObjectId id) {
+        return openDownloadChannel(new BsonObjectId(id));
+    }
+
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final BsonValue id) {
+        Timeout operationTimeout = startTimeout();
+        GridFSFile fileInfo = getFileInfoById(null, id, operationTimeout);
+        return new GridFSDownloadChannelImpl(null, fileInfo, chunksCollection, operationTimeout);
+    }
+
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final ClientSession clientSession, final ObjectId id) {
+        return openDownloadChannel(clientSession, new BsonObjectId(id));
+    }
+
+    @Override
+    public GridFSDownloadChannel openDownloadChannel(final ClientSession clientSession, final BsonValue id) {
+        notNull("clientSession", clientSession);
+        Timeout operationTimeout = startTimeout();
+        GridFSFile fileInfo = getFileInfoById(clientSession, id, operationTimeout);
+        return new GridFSDownloadChannelImpl(clientSession, fileInfo, chunksCollection, operationTimeout);
+    }
+
     private GridFSDownloadStream createGridFSDownloadStream(@Nullable final ClientSession clientSession, final GridFSFile gridFSFile,
                                                             @Nullable final Timeout operationTimeout) {
         return new GridFSDownloadStreamImpl(clientSession, gridFSFile, chunksCollection, operationTimeout);
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.gridfs;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A read-only, seekable GridFS channel for downloading any range of the data of a file from GridFS
+ *
+ * <p>Setting the {@linkplain #position(long) position} computes the chunk holding it, so that reading a range costs reading the chunks
+ * it touches, wherever the range is in the file. The recently read chunks are cached, so that reading the same region again does not
+ * query the server, and the chunks following a sequentially read one are read ahead, with a single query.</p>
+ *
+ * <p>This implementation of a {@code SeekableByteChannel} will not throw {@link java.io.IOException}s. However, it will throw a
+ * {@link com.mongodb.MongoException} if there is an error reading from MongoDB, or if the channel is used after it has been closed.
+ * The methods that would modify the file throw {@link java.nio.channels.NonWritableChannelException}.</p>
+ *
+ * @since 5.10
+ */
+@NotThreadSafe
+public interface GridFSDownloadChannel extends SeekableByteChannel {
+
+    /**
+     * Gets the corresponding {@link GridFSFile} for the file being downloaded
+     *
+     * @return the corresponding GridFSFile for the file being downloaded
+     */
+    GridFSFile getGridFSFile();
+
+    /**
+     * Sets the maximum number of chunks to cache.
+     *
+     * <p>Can be used to control the memory consumption of this channel. Up to half of the cached chunks may be read ahead of a
+     * sequential read. Defaults to 16.</p>
+     *
+     * @param maxCachedChunks the maximum number of chunks to cache, which must be positive
+     * @return this
+     */
+    GridFSDownloadChannel maxCachedChunks(int maxCachedChunks);
+
+    /**
+     * Reads bytes from the current position of this channel, and advances the position by the number of bytes read.
+     *
+     * @param dst the buffer into which bytes are to be transferred
+     * @return the number of bytes read, possibly zero, or -1 if the position is at or past the end of the file
+     */
+    @Override
+    int read(ByteBuffer dst);
+
+    /**
+     * Not supported, as the channel is read-only.
+     *
+     * @param src the buffer from which bytes are to be transferred
+     * @return never returns
+     * @throws java.nio.channels.NonWritableChannelException always
+     */
+    @Override
+    int write(ByteBuffer src);
+
+    @Override
+    long position();
+
+    /**
+     * Sets the position of this channel.
+     *
+     * <p>Setting the position to a value greater than the length of the file is allowed, but subsequent reads return -1.</p>
+     *
+     * @param newPosition the new position, a non-negative number of bytes from the start of the file
+     * @return this
+     */
+    @Override
+    GridFSDownloadChannel position(long newPosition);
+
+    /**
+     * Gets the length of the file.
+     *
+     * @return the length of the file, in bytes
+     */
+    @Override
+    long size();
+
+    /**
+     * Not supported, as the channel is read-only.
+     *
+     * @param size the new size
+     * @return never returns
+     * @throws java.nio.channels.NonWritableChannelException always
+     */
+    @Override
+    GridFSDownloadChannel truncate(long size);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.gridfs;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.internal.TimeoutHelper;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static java.lang.String.format;
+
+final class GridFSDownloadChannelImpl implements GridFSDownloadChannel {
+    private static final String TIMEOUT_MESSAGE = "The GridFS download channel exceeded the timeout limit.";
+    private static final int DEFAULT_MAX_CACHED_CHUNKS = 16;
+    private final ClientSession clientSession;
+    private final GridFSFile fileInfo;
+    private final MongoCollection<BsonDocument> chunksCollection;
+    private final BsonValue fileId;
+    private final long length;
+    private final int chunkSizeInBytes;
+    private final int numberOfChunks;
+    @Nullable
+    private final Timeout timeout;
+    /**
+     * The data of the recently read chunks by chunk index, in access order.
+     */
+    private final LinkedHashMap<Integer, byte[]> chunkCache;
+    private int maxCachedChunks;
+    /**
+     * The number of chunks read with the last query.
+     */
+    private int prefetchedChunks;
+    /**
+     * The index of the chunk following those read with the last query. A miss on it means the channel is being read sequentially.
+     */
+    private int nextChunkIndex;
+    private long position;
+    private boolean closed;
+
+    GridFSDownloadChannelImpl(@Nullable final ClientSession clientSession, final GridFSFile fileInfo,
+                              final MongoCollection<BsonDocument> chunksCollection, @Nullable final Timeout timeout) {
+        this.clientSession = clientSession;
+        this.fileInfo = notNull("file information", fileInfo);
+        this.chunksCollection = notNull("chunks collection", chunksCollection);
+
+        fileId = fileInfo.getId();
+        length = fileInfo.getLength();
+        chunkSizeInBytes = fileInfo.getChunkSize();
+        numberOfChunks = (int) Math.ceil((double) length / chunkSizeInBytes);
+        this.timeout = timeout;
+        maxCachedChunks = DEFAULT_MAX_CACHED_CHUNKS;
+        chunkCache = new LinkedHashMap<Integer, byte[]>(DEFAULT_MAX_CACHED_CHUNKS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, byte[]> eldest) {
+                return size() > maxCachedChunks;
+            }
+        };
+        nextChunkIndex = -1;
+    }
+
+    @Override
+    public GridFSFile getGridFSFile() {
+        return fileInfo;
+    }
+
+    @Override
+    public GridFSDownloadChannel maxCachedChunks(final int maxCachedChunks) {
+        isTrueArgument("maxCachedChunks > 0", maxCachedChunks > 0);
+        this.maxCachedChunks = maxCachedChunks;
+        chunkCache.clear();
+        return this;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) {
+        checkClosed();
+        checkTimeout();
+        if (position >= length) {
+            return -1;
+        }
+        int bytesRead = 0;
+        while (dst.hasRemaining() && position < length) {
+            int chunkIndex = (int) (position / chunkSizeInBytes);
+            int chunkOffset = (int) (position % chunkSizeInBytes);
+            byte[] data = getChunkData(chunkIndex);
+            int r = Math.min(dst.remaining(), data.length - chunkOffset);
+            dst.put(data, chunkOffset, r);
+            position += r;
+            bytesRead += r;
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() {
+        checkClosed();
+        return position;
+    }
+
+    @Override
+    public GridFSDownloadChannel position(final long newPosition) {
+        checkClosed();
+        isTrueArgument("newPosition >= 0", newPosition >= 0);
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() {
+        checkClosed();
+        return length;
+    }
+
+    @Override
+    public GridFSDownloadChannel truncate(final long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        chunkCache.clear();
+    }
+
+    private byte[] getChunkData(final int chunkIndex) {
+        byte[] data = chunkCache.get(chunkIndex);
+        if (data == null) {
+            fetchChunks(chunkIndex);
+            data = chunkCache.get(chunkIndex);
+        }
+        return notNull("chunk data", data);
+    }
+
+    /**
+     * Reads the chunk at {@code startChunkIndex} into the cache. The chunks following it are read ahead with the same query if the
+     * channel is read sequentially, doubling the number of chunks read ahead on each query, up to half of the cache.
+     */
+    private void fetchChunks(final int startChunkIndex) {
+        int chunksToFetch = startChunkIndex == nextChunkIndex
+                ? Math.min(prefetchedChunks * 2, Math.max(1, maxCachedChunks / 2))
+                : 1;
+        int endChunkIndex = (int) Math.min((long) startChunkIndex + chunksToFetch, numberOfChunks);
+        BsonDocument filter = new BsonDocument("files_id", fileId)
+                .append("n", new BsonDocument("$gte", new BsonInt32(startChunkIndex)).append("$lt", new BsonInt32(endChunkIndex)));
+        FindIterable<BsonDocument> findIterable;
+        if (clientSession != null) {
+            findIterable = withNullableTimeout(chunksCollection, timeout).find(clientSession, filter);
+        } else {
+            findIterable = withNullableTimeout(chunksCollection, timeout).find(filter);
+        }
+        if (timeout != null) {
+            findIterable.timeoutMode(TimeoutMode.CURSOR_LIFETIME);
+        }
+        int expectedChunkIndex = startChunkIndex;
+        try (MongoCursor<BsonDocument> cursor = findIterable.batchSize(endChunkIndex - startChunkIndex)
+                .sort(new BsonDocument("n", new BsonInt32(1))).iterator()) {
+            while (cursor.hasNext()) {
+                chunkCache.put(expectedChunkIndex, getDataFromChunk(cursor.next(), expectedChunkIndex));
+                expectedChunkIndex++;
+            }
+        }
+        if (expectedChunkIndex == startChunkIndex) {
+            throw new MongoGridFSException(format("Could not find file chunk for file_id: %s at chunk index %s.",
+                    fileId, startChunkIndex));
+        }
+        prefetchedChunks = expectedChunkIndex - startChunkIndex;
+        nextChunkIndex = expectedChunkIndex;
+    }
+
+    private byte[] getDataFromChunk(final BsonDocument chunk, final int expectedChunkIndex) {
+        if (chunk.getInt32("n").getValue() != expectedChunkIndex) {
+            throw new MongoGridFSException(format("Could not find file chunk for file_id: %s at chunk index %s.",
+                    fileId, expectedChunkIndex));
+        }
+        if (!(chunk.get("data") instanceof BsonBinary)) {
+            throw new MongoGridFSException("Unexpected data format for the chunk");
+        }
+        byte[] data = chunk.getBinary("data").getData();
+        long expectedDataLength = expectedChunkIndex + 1 == numberOfChunks
+                ? length - (expectedChunkIndex * (long) chunkSizeInBytes)
+                : chunkSizeInBytes;
+        if (data.length != expectedDataLength) {
+            throw new MongoGridFSException(format("Chunk size data length is not the expected size. "
+                            + "The size was %s for file_id: %s chunk index %s it should be %s bytes.",
+                    data.length, fileId, expectedChunkIndex, expectedDataLength));
+        }
+        return data;
+    }
+
+    private void checkTimeout() {
+        Timeout.onExistsAndExpired(timeout, () -> {
+            throw createMongoTimeoutException(TIMEOUT_MESSAGE);
+        });
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new MongoGridFSException("The channel has been closed");
+        }
+    }
+
+    private static <T> MongoCollection<T> withNullableTimeout(final MongoCollection<T> collection, @Nullable final Timeout timeout) {
+        return TimeoutHelper.collectionWithTimeout(collection, TIMEOUT_MESSAGE, timeout);
+    }
+}
@@ -53,6 +53,26 @@ public abstract class GridFSDownloadStream extends InputStream {
      */
     public abstract GridFSDownloadStream batchSize(int batchSize);
 
+    /**
+     * Sets the number of ranges of chunks to read concurrently.
+     *
+     * <p>With a parallelism greater than one, the chunks of a large file are partitioned into ranges of about 16 MiB, each read with
+     * a query of its own on a helper thread. The ranges following the one being read are read ahead, so that the download is not bound
+     * by the round trip time to the server. The memory consumption grows with the parallelism, as each range read ahead is buffered.
+     * A stream opened with a {@link com.mongodb.client.ClientSession} does not read ahead, as a session must not be used by more than
+     * one thread at a time.</p>
+     *
+     * <p>The default implementation ignores the parallelism.</p>
+     *
+     * @param parallelism the number of ranges of chunks to read concurrently, which must be positive. Defaults to 1, which reads all
+     *                    the chunks with a single query.
+     * @return this
+     * @since 5.10
+     */
+    public GridFSDownloadStream parallelism(final int parallelism) {
+        return this;
+    }
+
     @Override
     public abstract int read();
 
@@ -24,6 +24,7 @@ import com.mongodb.client.MongoCursor;
 import com.mongodb.client.cursor.TimeoutMode;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.internal.TimeoutHelper;
+import com.mongodb.internal.thread.DaemonThreadFactory;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonBinary;
@@ -31,16 +32,30 @@ import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonValue;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.client.internal.ThreadFactoryHelper.getThreadFactory;
 import static com.mongodb.internal.Locks.withInterruptibleLock;
 import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     private static final String TIMEOUT_MESSAGE = "The GridFS download stream exceeded the timeout limit.";
+    private static final int RANGE_SIZE_BYTES = 16 * 1024 * 1024;
+    private static final long READ_AHEAD_KEEP_ALIVE_SECONDS = 60;
     private final ClientSession clientSession;
     private final GridFSFile fileInfo;
     private final MongoCollection<BsonDocument> chunksCollection;
@@ -51,8 +66,28 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     private final long length;
     private final int chunkSizeInBytes;
     private final int numberOfChunks;
+    private final int chunksPerRange;
     private MongoCursor<BsonDocument> cursor;
     private int batchSize;
+    private int parallelism = 1;
+    /**
+     * Reads the ranges of chunks ahead. Created when first reading ahead, as most files fit in a single range.
+     */
+    @Nullable
+    private ThreadPoolExecutor readAheadExecutor;
+    /**
+     * The ranges of chunks being read ahead, in chunk index order.
+     */
+    private final Deque<Future<List<BsonDocument>>> rangesReadAhead = new ArrayDeque<>();
+    /**
+     * The chunks of the range being read, or null if reading ahead starts anew with the next chunk.
+     */
+    @Nullable
+    private Iterator<BsonDocument> rangeChunks;
+    /**
+     * The index of the first chunk of the next range to read ahead.
+     */
+    private int nextRangeChunkIndex;
     private int chunkIndex;
     private int bufferOffset;
     /**
@@ -77,6 +112,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         length = fileInfo.getLength();
         chunkSizeInBytes = fileInfo.getChunkSize();
         numberOfChunks = (int) Math.ceil((double) length / chunkSizeInBytes);
+        chunksPerRange = Math.max(1, RANGE_SIZE_BYTES / chunkSizeInBytes);
         this.timeout = timeout;
     }
 
@@ -93,6 +129,15 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         return this;
     }
 
+    @Override
+    public GridFSDownloadStream parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        discardCursor();
+        shutdownReadAheadExecutor();
+        return this;
+    }
+
     @Override
     public int read() {
         byte[] b = new byte[1];
@@ -210,6 +255,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
                 closed = true;
             }
             discardCursor();
+            shutdownReadAheadExecutor();
         });
     }
 
@@ -232,11 +278,28 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
                 cursor.close();
                 cursor = null;
             }
+            rangesReadAhead.forEach(range -> range.cancel(false));
+            rangesReadAhead.clear();
+            rangeChunks = null;
         });
     }
 
+    private void shutdownReadAheadExecutor() {
+        if (readAheadExecutor != null) {
+            readAheadExecutor.shutdown();
+            readAheadExecutor = null;
+        }
+    }
+
+    private boolean isReadingAhead() {
+        return parallelism > 1 && clientSession == null && numberOfChunks > chunksPerRange;
+    }
+
     @Nullable
     private BsonDocument getChunk(final int startChunkIndex) {
+        if (isReadingAhead()) {
+            return getChunkReadAhead(startChunkIndex);
+        }
         if (cursor == null) {
             cursor = getCursor(startChunkIndex);
         }
@@ -255,9 +318,87 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         return chunk;
     }
 
+    /**
+     * Gets the chunk at {@code startChunkIndex} from the range being read. The chunks are partitioned into ranges of
+     * {@link #chunksPerRange}, starting with the chunk at which reading starts anew, up to {@link #parallelism} of which are read
+     * concurrently, ahead of the range being read. The last range is open-ended, as is the query of a stream that does not read ahead.
+     */
+    @Nullable
+    private BsonDocument getChunkReadAhead(final int startChunkIndex) {
+        Iterator<BsonDocument> chunks = rangeChunks;
+        if (chunks == null) {
+            nextRangeChunkIndex = startChunkIndex;
+        }
+        if (chunks == null || !chunks.hasNext()) {
+            readAhead();
+            Future<List<BsonDocument>> range = rangesReadAhead.poll();
+            if (range == null) {
+                return null;
+            }
+            chunks = getRange(range).iterator();
+            rangeChunks = chunks;
+        }
+        BsonDocument chunk = chunks.hasNext() ? chunks.next() : null;
+        if (chunk != null && chunk.getInt32("n").getValue() != startChunkIndex) {
+            throw new MongoGridFSException(format("Could not find file chunk for file_id: %s at chunk index %s.",
+                    fileId, startChunkIndex));
+        }
+        return chunk;
+    }
+
+    private void readAhead() {
+        while (rangesReadAhead.size() < parallelism && nextRangeChunkIndex < numberOfChunks) {
+            int rangeStart = nextRangeChunkIndex;
+            int rangeEnd = (int) Math.min((long) rangeStart + chunksPerRange, numberOfChunks);
+            BsonDocument range = new BsonDocument("$gte", new BsonInt32(rangeStart));
+            if (rangeEnd < numberOfChunks) {
+                range.append("$lt", new BsonInt32(rangeEnd));
+            }
+            BsonDocument filter = new BsonDocument("files_id", fileId).append("n", range);
+            rangesReadAhead.add(getReadAheadExecutor().submit(() -> {
+                List<BsonDocument> chunks = new ArrayList<>(rangeEnd - rangeStart);
+                try (MongoCursor<BsonDocument> rangeCursor = find(filter).iterator()) {
+                    rangeCursor.forEachRemaining(chunks::add);
+                }
+                return chunks;
+            }));
+            nextRangeChunkIndex = rangeEnd;
+        }
+    }
+
+    private List<BsonDocument> getRange(final Future<List<BsonDocument>> range) {
+        try {
+            return range.get();
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted while reading GridFS chunks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new MongoGridFSException("Unexpected failure reading GridFS chunks", cause);
+        }
+    }
+
+    private ThreadPoolExecutor getReadAheadExecutor() {
+        ThreadPoolExecutor executor = readAheadExecutor;
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(parallelism, parallelism, READ_AHEAD_KEEP_ALIVE_SECONDS, SECONDS,
+                    new LinkedBlockingQueue<>(), new DaemonThreadFactory("GridFSDownloadStream", getThreadFactory(chunksCollection)));
+            // so that the threads of a stream that is not closed do not linger
+            executor.allowCoreThreadTimeOut(true);
+            readAheadExecutor = executor;
+        }
+        return executor;
+    }
+
     private MongoCursor<BsonDocument> getCursor(final int startChunkIndex) {
-        FindIterable<BsonDocument> findIterable;
         BsonDocument filter = new BsonDocument("files_id", fileId).append("n", new BsonDocument("$gte", new BsonInt32(startChunkIndex)));
+        return find(filter).iterator();
+    }
+
+    private FindIterable<BsonDocument> find(final BsonDocument filter) {
+        FindIterable<BsonDocument> findIterable;
         if (clientSession != null) {
             findIterable = withNullableTimeout(chunksCollection, timeout).find(clientSession, filter);
         } else {
@@ -267,7 +408,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
              findIterable.timeoutMode(TimeoutMode.CURSOR_LIFETIME);
         }
         return findIterable.batchSize(batchSize)
-                .sort(new BsonDocument("n", new BsonInt32(1))).iterator();
+                .sort(new BsonDocument("n", new BsonInt32(1)));
     }
 
     private byte[] getBufferFromChunk(@Nullable final BsonDocument chunk, final int expectedChunkIndex) {
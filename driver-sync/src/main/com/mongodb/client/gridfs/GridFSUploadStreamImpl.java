@@ -31,9 +31,12 @@ import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.Locks.withInterruptibleLock;
 
@@ -46,6 +49,8 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     private final String filename;
     private final int chunkSizeBytes;
     private final Document metadata;
+    private final int chunksPerBatch;
+    private final List<BsonDocument> pendingChunks;
     private byte[] buffer;
     private long lengthInBytes;
     private int bufferOffset;
@@ -58,6 +63,17 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
                            final MongoCollection<BsonDocument> chunksCollection, final BsonValue fileId, final String filename,
                            final int chunkSizeBytes, @Nullable final Document metadata, @Nullable final Timeout timeout) {
+        this(clientSession, filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, metadata, timeout, 1);
+    }
+
+    /**
+     * @param chunksPerBatch the number of chunks to insert with each command
+     */
+    GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
+                           final MongoCollection<BsonDocument> chunksCollection, final BsonValue fileId, final String filename,
+                           final int chunkSizeBytes, @Nullable final Document metadata, @Nullable final Timeout timeout,
+                           final int chunksPerBatch) {
+        isTrueArgument("chunksPerBatch > 0", chunksPerBatch > 0);
         this.clientSession = clientSession;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
@@ -65,6 +81,8 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         this.filename = notNull("filename", filename);
         this.chunkSizeBytes = chunkSizeBytes;
         this.metadata = metadata;
+        this.chunksPerBatch = chunksPerBatch;
+        pendingChunks = new ArrayList<>(chunksPerBatch);
         chunkIndex = 0;
         bufferOffset = 0;
         buffer = new byte[chunkSizeBytes];
@@ -90,6 +108,7 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             checkClosed();
             closed = true;
         });
+        pendingChunks.clear();
 
         if (clientSession != null) {
             withNullableTimeout(chunksCollection, timeout)
@@ -162,6 +181,7 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             return;
         }
         writeChunk();
+        insertPendingChunks();
         GridFSFile gridFSFile = new GridFSFile(fileId, filename, lengthInBytes, chunkSizeBytes, new Date(),
                 metadata);
         if (clientSession != null) {
@@ -173,7 +193,18 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     }
 
     private void writeChunk() {
-        if (bufferOffset > 0) {
+        if (bufferOffset > 0 && chunksPerBatch > 1) {
+            pendingChunks.add(new BsonDocument("files_id", fileId)
+                    .append("n", new BsonInt32(chunkIndex))
+                    .append("data", getData()));
+            if (pendingChunks.size() == chunksPerBatch) {
+                insertPendingChunks();
+            }
+            // the pending chunk holds on to the buffer
+            buffer = new byte[chunkSizeBytes];
+            chunkIndex++;
+            bufferOffset = 0;
+        } else if (bufferOffset > 0) {
             if (clientSession != null) {
                 withNullableTimeout(chunksCollection, timeout)
                         .insertOne(clientSession, new BsonDocument("files_id", fileId)
@@ -190,6 +221,18 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         }
     }
 
+    private void insertPendingChunks() {
+        if (pendingChunks.isEmpty()) {
+            return;
+        }
+        if (clientSession != null) {
+            withNullableTimeout(chunksCollection, timeout).insertMany(clientSession, pendingChunks);
+        } else {
+            withNullableTimeout(chunksCollection, timeout).insertMany(pendingChunks);
+        }
+        pendingChunks.clear();
+    }
+
     private BsonBinary getData() {
         if (bufferOffset < chunkSizeBytes) {
             byte[] sizedBuffer = new byte[bufferOffset];
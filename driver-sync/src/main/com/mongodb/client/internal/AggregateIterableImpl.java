@@ -42,6 +42,7 @@ import org.bson.conversions.Bson;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> implements AggregateIterable<TResult> {
@@ -54,6 +55,9 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
     private final AggregationLevel aggregationLevel;
 
     private Boolean allowDiskUse;
+    private boolean exhaust;
+    private int prefetchBatches;
+    private long maxPrefetchBytes = 32 * 1024 * 1024;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
     private Boolean bypassDocumentValidation;
@@ -109,6 +113,26 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<TResult> maxPrefetchBytes(final long maxPrefetchBytes) {
+        isTrueArgument("maxPrefetchBytes > 0", maxPrefetchBytes > 0);
+        this.maxPrefetchBytes = maxPrefetchBytes;
+        return this;
+    }
+
     @Override
     public AggregateIterable<TResult> batchSize(final int batchSize) {
         super.batchSize(batchSize);
@@ -213,7 +237,8 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
                             bypassDocumentValidation, collation, hint, hintString, comment, variables, aggregationLevel),
                     getReadPreference(), getReadConcern(), getClientSession());
 
-            FindOptions findOptions = new FindOptions().collation(collation);
+            FindOptions findOptions = new FindOptions().collation(collation).prefetchBatches(prefetchBatches)
+                    .maxPrefetchBytes(maxPrefetchBytes);
             Integer batchSize = getBatchSize();
             if (batchSize != null) {
                 findOptions.batchSize(batchSize);
@@ -230,7 +255,8 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
 
     private ReadOperationExplainable<TResult> asAggregateOperation() {
         return operations.aggregate(pipeline, resultClass, getTimeoutMode(), getBatchSize(), collation, hint, hintString, comment,
-                variables, allowDiskUse, aggregationLevel);
+                variables, allowDiskUse, aggregationLevel, exhaust, prefetchBatches,
+                maxPrefetchBytes);
     }
 
     @Nullable
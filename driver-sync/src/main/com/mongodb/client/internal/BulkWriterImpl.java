@@ -0,0 +1,205 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoCommandException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.BulkWriter;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.BulkWriterOptions;
+import com.mongodb.internal.client.model.InsertBatchResultCombiner;
+import com.mongodb.internal.client.model.InsertBatcher;
+import com.mongodb.internal.client.model.ShardRoutingTableCache;
+import com.mongodb.internal.operation.ShardRoutingTable;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+import org.bson.RawBsonDocument;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.client.internal.ThreadFactoryHelper.getThreadFactory;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+
+/**
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BulkWriterImpl<TDocument> implements BulkWriter<TDocument> {
+    private final MongoCollection<RawBsonDocument> collection;
+    private final BulkWriteOptions bulkWriteOptions;
+    private final boolean ordered;
+    private final InsertBatcher<TDocument> batcher;
+    private final int maxInFlightBatches;
+    private final Semaphore inFlightBatches;
+    @Nullable
+    private final ExecutorService executor;
+    @Nullable
+    private final Supplier<ShardRoutingTable> shardRoutingTableLoader;
+    private final ShardRoutingTableCache shardRoutingTableCache = new ShardRoutingTableCache();
+    @Nullable
+    private final Consumer<BulkWriteResult> batchResultListener;
+    private InsertBatchResultCombiner combiner;
+    private boolean closed;
+
+    public BulkWriterImpl(final MongoCollection<TDocument> collection, final BulkWriterOptions options) {
+        this(collection, options, null);
+    }
+
+    public BulkWriterImpl(final MongoCollection<TDocument> collection, final BulkWriterOptions options,
+            @Nullable final Consumer<BulkWriteResult> batchResultListener) {
+        this.batchResultListener = batchResultListener;
+        this.collection = collection.withDocumentClass(RawBsonDocument.class);
+        this.bulkWriteOptions = InsertBatcher.createBulkWriteOptions(options);
+        this.ordered = options.isOrdered();
+        this.batcher = new InsertBatcher<>(collection.getCodecRegistry().get(collection.getDocumentClass()), options);
+        this.maxInFlightBatches = ordered ? 1 : options.getMaxInFlightBatches();
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.executor = maxInFlightBatches > 1
+                ? Executors.newFixedThreadPool(maxInFlightBatches, new DaemonThreadFactory("BulkWriter", getThreadFactory(collection)))
+                : null;
+        this.shardRoutingTableLoader = !ordered && options.isGroupByShard() && this.collection instanceof MongoCollectionImpl
+                ? ((MongoCollectionImpl<RawBsonDocument>) this.collection)::getShardRoutingTable
+                : null;
+        this.combiner = createCombiner();
+    }
+
+    @Override
+    public void insert(final TDocument document) {
+        isTrue("open", !closed);
+        refreshShardRoutingTable();
+        InsertBatcher.Batch batch = batcher.add(document);
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    @Override
+    public BulkWriteResult flush() {
+        isTrue("open", !closed);
+        return complete();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            complete();
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private BulkWriteResult complete() {
+        InsertBatcher.Batch batch = batcher.drain();
+        while (batch != null) {
+            send(batch);
+            batch = batcher.drain();
+        }
+        return completeBatches();
+    }
+
+    private void refreshShardRoutingTable() {
+        if (shardRoutingTableLoader == null || shardRoutingTableCache.get() != null) {
+            return;
+        }
+        ShardRoutingTable shardRoutingTable;
+        try {
+            shardRoutingTable = shardRoutingTableLoader.get();
+        } catch (MongoCommandException e) {
+            // e.g. not authorized to read the config database: grouping the documents per shard is only an optimization
+            shardRoutingTable = ShardRoutingTable.unroutable();
+        }
+        shardRoutingTableCache.set(shardRoutingTable);
+        batcher.shardRoutingTable(shardRoutingTable);
+    }
+
+    private void send(final InsertBatcher.Batch batch) {
+        InsertBatchResultCombiner batchCombiner = combiner;
+        if (executor == null) {
+            execute(batch, batchCombiner);
+        } else {
+            acquireInFlightBatches(1);
+            try {
+                executor.execute(() -> {
+                    try {
+                        execute(batch, batchCombiner);
+                    } finally {
+                        inFlightBatches.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlightBatches.release();
+                throw e;
+            }
+        }
+        if (batchCombiner.shouldStopSendingMoreBatches()) {
+            completeBatches();
+        }
+    }
+
+    private void execute(final InsertBatcher.Batch batch, final InsertBatchResultCombiner batchCombiner) {
+        try {
+            BulkWriteResult result = batch.mapResult(collection.bulkWrite(batch.getRequests(), bulkWriteOptions));
+            batchCombiner.addResult(result);
+            if (batchResultListener != null) {
+                batchResultListener.accept(result);
+            }
+        } catch (MongoBulkWriteException e) {
+            shardRoutingTableCache.invalidateIfStale(e);
+            batchCombiner.addError(batch.mapException(e));
+        } catch (RuntimeException e) {
+            shardRoutingTableCache.invalidateIfStale(e);
+            batchCombiner.addFailure(e);
+        }
+    }
+
+    /**
+     * Waits for the batches in flight, and starts a new stream of documents.
+     */
+    private BulkWriteResult completeBatches() {
+        acquireInFlightBatches(maxInFlightBatches);
+        inFlightBatches.release(maxInFlightBatches);
+        InsertBatchResultCombiner completed = combiner;
+        combiner = createCombiner();
+        batcher.reset();
+        return completed.getResult();
+    }
+
+    private void acquireInFlightBatches(final int permits) {
+        try {
+            inFlightBatches.acquire(permits);
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for bulk writes in flight", e);
+        }
+    }
+
+    private InsertBatchResultCombiner createCombiner() {
+        return new InsertBatchResultCombiner(ordered, collection.getWriteConcern());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.internal.Locks.withLock;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The executor of the concurrent parts of the {@code bulkWrite} operations of a client.
+ * It is created lazily, on the first {@code bulkWrite} that is split, and shared by all the {@link MongoClusterImpl}s of the client.
+ * Its threads are created by the {@linkplain com.mongodb.MongoClientSettings#getThreadFactory() thread factory} of the client,
+ * and terminate after being idle for {@value #KEEP_ALIVE_SECONDS} seconds.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+final class ClientBulkWriteExecutor {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    @Nullable
+    private final ThreadFactory threadFactory;
+    @Nullable
+    private ThreadPoolExecutor executor;
+    private boolean closed;
+
+    ClientBulkWriteExecutor(@Nullable final ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    ExecutorService get() {
+        return withLock(lock, () -> {
+            if (closed) {
+                throw new MongoClientException("The client is closed");
+            }
+            ThreadPoolExecutor result = executor;
+            if (result == null) {
+                result = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, SECONDS, new SynchronousQueue<>(),
+                        new DaemonThreadFactory("ClientBulkWrite", threadFactory));
+                executor = result;
+            }
+            return result;
+        });
+    }
+
+    void close() {
+        ThreadPoolExecutor toShutDown = withLock(lock, () -> {
+            closed = true;
+            ThreadPoolExecutor result = executor;
+            executor = null;
+            return result;
+        });
+        if (toShutDown != null) {
+            toShutDown.shutdownNow();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.mongodb.internal.connection.DefaultClusterFactory;
 import com.mongodb.internal.connection.InternalConnectionPoolSettings;
 import com.mongodb.internal.connection.StreamFactory;
 import com.mongodb.internal.connection.StreamFactoryFactory;
+import com.mongodb.internal.observability.micrometer.MicrometerConnectionPoolMetricsRegistry;
 import com.mongodb.lang.Nullable;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
@@ -45,12 +46,15 @@ public final class Clusters {
         StreamFactory heartbeatStreamFactory = getStreamFactory(streamFactoryFactory, settings, true);
 
         return new DefaultClusterFactory().createCluster(settings.getClusterSettings(), settings.getServerSettings(),
-                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder().build(),
+                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder()
+                        .metricsRegistry(MicrometerConnectionPoolMetricsRegistry.create(settings.getObservabilitySettings()))
+                        .fieldNameCacheSize(settings.getFieldNameCacheSize())
+                        .build(),
                 TimeoutSettings.create(settings), streamFactory,
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
                 settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getDnsClient(), settings.getThreadFactory(), settings.getBackgroundScheduler());
     }
 
     private static StreamFactory getStreamFactory(
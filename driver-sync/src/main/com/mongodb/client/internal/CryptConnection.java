@@ -139,6 +139,26 @@ public final class CryptConnection implements Connection {
         return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext, true, EmptyMessageSequences.INSTANCE);
     }
 
+    /**
+     * Every reply must be decrypted, so the server is not allowed to stream replies.
+     */
+    @Nullable
+    @Override
+    public <T> T commandExhaustAllowed(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext);
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        throw fail();
+    }
+
     @SuppressWarnings("unchecked")
     private Codec<BsonDocument> getEncoder(final BsonDocument command) {
         return (Codec<BsonDocument>) REGISTRY.get(command.getClass());
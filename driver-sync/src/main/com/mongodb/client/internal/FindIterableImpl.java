@@ -38,6 +38,7 @@ import org.bson.conversions.Bson;
 
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> implements FindIterable<TResult> {
@@ -204,6 +205,26 @@ class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> im
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> exhaust(final boolean exhaust) {
+        findOptions.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        findOptions.prefetchBatches(prefetchBatches);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> maxPrefetchBytes(final long maxPrefetchBytes) {
+        isTrueArgument("maxPrefetchBytes > 0", maxPrefetchBytes > 0);
+        findOptions.maxPrefetchBytes(maxPrefetchBytes);
+        return this;
+    }
+
     @Nullable
     @Override
     public TResult first() {
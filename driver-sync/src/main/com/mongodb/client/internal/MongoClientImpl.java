@@ -37,16 +37,22 @@ import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.connection.ClusterDescription;
 import com.mongodb.connection.SocketSettings;
+import com.mongodb.internal.IgnorableRequestContext;
+import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.connection.ClientMetadata;
 import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.ConnectionPoolWarmUp;
 import com.mongodb.internal.connection.DefaultClusterFactory;
 import com.mongodb.internal.connection.InternalConnectionPoolSettings;
+import com.mongodb.internal.connection.NoOpSessionContext;
+import com.mongodb.internal.connection.OperationContext;
 import com.mongodb.internal.connection.StreamFactory;
 import com.mongodb.internal.connection.StreamFactoryFactory;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.observability.micrometer.MicrometerConnectionPoolMetricsRegistry;
 import com.mongodb.internal.session.ServerSessionPool;
 import com.mongodb.internal.observability.micrometer.TracingManager;
 import com.mongodb.lang.Nullable;
@@ -108,8 +114,12 @@ public final class MongoClientImpl implements MongoClient {
                                              settings.getRetryWrites(), settings.getServerApi(),
                                              new ServerSessionPool(cluster, TimeoutSettings.create(settings), settings.getServerApi()),
                                              TimeoutSettings.create(settings), settings.getUuidRepresentation(),
-                                             settings.getWriteConcern(), new TracingManager(settings.getObservabilitySettings()));
+                                             settings.getWriteConcern(), new TracingManager(settings.getObservabilitySettings()),
+                                             settings.getThreadFactory());
         this.closed = new AtomicBoolean();
+        if (settings.getClusterSettings().getHedgeDelayPercentile() != null) {
+            LOGGER.warn("The hedgeDelayPercentile cluster setting is ignored because the synchronous driver does not hedge reads");
+        }
 
         BsonDocument clientMetadataDocument = delegate.getCluster().getClientMetadata().getBsonDocument();
         LOGGER.info(format("MongoClient with metadata %s created with settings %s", clientMetadataDocument.toJson(), settings));
@@ -122,6 +132,7 @@ public final class MongoClientImpl implements MongoClient {
             if (crypt != null) {
                 crypt.close();
             }
+            delegate.getClientBulkWriteExecutor().close();
             delegate.getServerSessionPool().close();
             delegate.getCluster().close();
             if (externalResourceCloser != null) {
@@ -146,6 +157,13 @@ public final class MongoClientImpl implements MongoClient {
         LOGGER.info(format("MongoClient metadata has been updated to %s", clientMetadata.getBsonDocument()));
     }
 
+    @Override
+    public void warmUpConnectionPools(final int targetSize) {
+        ConnectionPoolWarmUp.warmUpConnectionPools(getCluster(), targetSize,
+                new OperationContext(IgnorableRequestContext.INSTANCE, NoOpSessionContext.INSTANCE,
+                        new TimeoutContext(getTimeoutSettings()), settings.getServerApi()));
+    }
+
     @Override
     public CodecRegistry getCodecRegistry() {
         return delegate.getCodecRegistry();
@@ -316,12 +334,15 @@ public final class MongoClientImpl implements MongoClient {
                                          final StreamFactory streamFactory, final StreamFactory heartbeatStreamFactory) {
         notNull("settings", settings);
         return new DefaultClusterFactory().createCluster(settings.getClusterSettings(), settings.getServerSettings(),
-                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder().build(),
+                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder()
+                        .metricsRegistry(MicrometerConnectionPoolMetricsRegistry.create(settings.getObservabilitySettings()))
+                        .fieldNameCacheSize(settings.getFieldNameCacheSize())
+                        .build(),
                 TimeoutSettings.create(settings), streamFactory,
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
                 settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getDnsClient(), settings.getThreadFactory(), settings.getBackgroundScheduler());
     }
 
     private static StreamFactory getStreamFactory(
@@ -54,6 +54,8 @@ import com.mongodb.internal.connection.OperationContext;
 import com.mongodb.internal.connection.ReadConcernAwareNoOpSessionContext;
 import com.mongodb.internal.observability.micrometer.Span;
 import com.mongodb.internal.observability.micrometer.TracingManager;
+import com.mongodb.internal.operation.ClientBulkWriteOperation;
+import com.mongodb.internal.operation.ClientBulkWriteResultCombiner;
 import com.mongodb.internal.operation.OperationHelper;
 import com.mongodb.internal.operation.Operations;
 import com.mongodb.internal.operation.ReadOperation;
@@ -66,9 +68,14 @@ import org.bson.UuidRepresentation;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
@@ -78,6 +85,8 @@ import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.TimeoutContext.createTimeoutContext;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 final class MongoClusterImpl implements MongoCluster {
@@ -103,6 +112,9 @@ final class MongoClusterImpl implements MongoCluster {
     private final WriteConcern writeConcern;
     private final Operations<BsonDocument> operations;
     private final TracingManager tracingManager;
+    @Nullable
+    private final ThreadFactory threadFactory;
+    private final ClientBulkWriteExecutor clientBulkWriteExecutor;
 
     MongoClusterImpl(
             @Nullable final AutoEncryptionSettings autoEncryptionSettings, final Cluster cluster, final CodecRegistry codecRegistry,
@@ -111,7 +123,20 @@ final class MongoClusterImpl implements MongoCluster {
             final boolean retryReads, final boolean retryWrites, @Nullable final ServerApi serverApi,
             final ServerSessionPool serverSessionPool, final TimeoutSettings timeoutSettings, final UuidRepresentation uuidRepresentation,
             final WriteConcern writeConcern,
-            final TracingManager tracingManager) {
+            final TracingManager tracingManager, @Nullable final ThreadFactory threadFactory) {
+        this(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor, readConcern,
+                readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings, uuidRepresentation, writeConcern,
+                tracingManager, threadFactory, new ClientBulkWriteExecutor(threadFactory));
+    }
+
+    private MongoClusterImpl(
+            @Nullable final AutoEncryptionSettings autoEncryptionSettings, final Cluster cluster, final CodecRegistry codecRegistry,
+            @Nullable final SynchronousContextProvider contextProvider, @Nullable final Crypt crypt, final Object originator,
+            @Nullable final OperationExecutor operationExecutor, final ReadConcern readConcern, final ReadPreference readPreference,
+            final boolean retryReads, final boolean retryWrites, @Nullable final ServerApi serverApi,
+            final ServerSessionPool serverSessionPool, final TimeoutSettings timeoutSettings, final UuidRepresentation uuidRepresentation,
+            final WriteConcern writeConcern, final TracingManager tracingManager, @Nullable final ThreadFactory threadFactory,
+            final ClientBulkWriteExecutor clientBulkWriteExecutor) {
         this.autoEncryptionSettings = autoEncryptionSettings;
         this.cluster = cluster;
         this.codecRegistry = codecRegistry;
@@ -129,6 +154,8 @@ final class MongoClusterImpl implements MongoCluster {
         this.uuidRepresentation = uuidRepresentation;
         this.writeConcern = writeConcern;
         this.tracingManager = tracingManager;
+        this.threadFactory = threadFactory;
+        this.clientBulkWriteExecutor = clientBulkWriteExecutor;
         operations = new Operations<>(
                 null,
                 BsonDocument.class,
@@ -173,35 +200,40 @@ final class MongoClusterImpl implements MongoCluster {
     public MongoCluster withCodecRegistry(final CodecRegistry codecRegistry) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern, tracingManager);
+                uuidRepresentation, writeConcern, tracingManager, threadFactory,
+                clientBulkWriteExecutor);
     }
 
     @Override
     public MongoCluster withReadPreference(final ReadPreference readPreference) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern, tracingManager);
+                uuidRepresentation, writeConcern, tracingManager, threadFactory,
+                clientBulkWriteExecutor);
     }
 
     @Override
     public MongoCluster withWriteConcern(final WriteConcern writeConcern) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern, tracingManager);
+                uuidRepresentation, writeConcern, tracingManager, threadFactory,
+                clientBulkWriteExecutor);
     }
 
     @Override
     public MongoCluster withReadConcern(final ReadConcern readConcern) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern, tracingManager);
+                uuidRepresentation, writeConcern, tracingManager, threadFactory,
+                clientBulkWriteExecutor);
     }
 
     @Override
     public MongoCluster withTimeout(final long timeout, final TimeUnit timeUnit) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool,
-                timeoutSettings.withTimeout(timeout, timeUnit), uuidRepresentation, writeConcern, tracingManager);
+                timeoutSettings.withTimeout(timeout, timeUnit), uuidRepresentation, writeConcern, tracingManager, threadFactory,
+                clientBulkWriteExecutor);
     }
 
     @Override
@@ -231,6 +263,10 @@ final class MongoClusterImpl implements MongoCluster {
         return timeoutSettings;
     }
 
+    ClientBulkWriteExecutor getClientBulkWriteExecutor() {
+        return clientBulkWriteExecutor;
+    }
+
     @Override
     public ClientSession startSession() {
         return startSession(ClientSessionOptions
@@ -395,7 +431,46 @@ final class MongoClusterImpl implements MongoCluster {
             final List<? extends ClientNamespacedWriteModel> clientWriteModels,
             @Nullable final ClientBulkWriteOptions options) {
         isTrue("`autoEncryptionSettings` is null, as bulkWrite does not currently support automatic encryption", autoEncryptionSettings == null);
-        return operationExecutor.execute(operations.clientBulkWriteOperation(clientWriteModels, options), readConcern, clientSession);
+        ClientBulkWriteOperation operation = operations.clientBulkWriteOperation(clientWriteModels, options);
+        List<ClientBulkWriteOperation> parts = clientSession == null ? operation.split() : singletonList(operation);
+        if (parts.size() == 1) {
+            return operationExecutor.execute(operation, readConcern, clientSession);
+        }
+        return executeBulkWriteConcurrently(parts);
+    }
+
+    /**
+     * Executes each part in its own implicit session, the first one on the calling thread,
+     * and the others on the threads of the {@link ClientBulkWriteExecutor} of the client.
+     */
+    private ClientBulkWriteResult executeBulkWriteConcurrently(final List<ClientBulkWriteOperation> parts) {
+        ClientBulkWriteResultCombiner combiner = new ClientBulkWriteResultCombiner();
+        ExecutorService executor = clientBulkWriteExecutor.get();
+        List<Future<?>> futures = new ArrayList<>(parts.size() - 1);
+        try {
+            for (ClientBulkWriteOperation part : parts.subList(1, parts.size())) {
+                futures.add(executor.submit(() -> executeBulkWritePart(part, combiner)));
+            }
+            executeBulkWritePart(parts.get(0), combiner);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for concurrent bulk writes", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new MongoInternalException(cause.getMessage(), cause);
+        }
+        return combiner.build();
+    }
+
+    private void executeBulkWritePart(final ClientBulkWriteOperation part, final ClientBulkWriteResultCombiner combiner) {
+        try {
+            combiner.onResult(operationExecutor.execute(part, readConcern, null));
+        } catch (MongoException e) {
+            combiner.onError(e);
+        }
     }
 
     final class OperationExecutorImpl implements OperationExecutor {
@@ -502,6 +577,12 @@ final class MongoClusterImpl implements MongoCluster {
             return executorTimeoutSettings;
         }
 
+        @Override
+        @Nullable
+        public ThreadFactory getThreadFactory() {
+            return threadFactory;
+        }
+
         WriteBinding getWriteBinding(final ClientSession session, final boolean ownsSession) {
             return getReadWriteBinding(primary(), session, ownsSession);
         }
@@ -65,6 +65,7 @@ import com.mongodb.internal.client.model.AggregationLevel;
 import com.mongodb.internal.client.model.changestream.ChangeStreamLevel;
 import com.mongodb.internal.operation.IndexHelper;
 import com.mongodb.internal.operation.Operations;
+import com.mongodb.internal.operation.ShardRoutingTable;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
@@ -77,6 +78,7 @@ import org.bson.conversions.Bson;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.notNull;
@@ -1171,6 +1173,15 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         }
     }
 
+    ShardRoutingTable getShardRoutingTable() {
+        return getExecutor(timeoutSettings).execute(operations.shardRoutingTable(), readPreference, readConcern, null);
+    }
+
+    @Nullable
+    ThreadFactory getThreadFactory() {
+        return executor.getThreadFactory();
+    }
+
     private OperationExecutor getExecutor(final TimeoutSettings timeoutSettings) {
         return executor.withTimeoutSettings(timeoutSettings);
     }
@@ -24,6 +24,8 @@ import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.lang.Nullable;
 
+import java.util.concurrent.ThreadFactory;
+
 /**
  * An interface describing the execution of a read or a write operation.
  *
@@ -91,4 +93,13 @@ public interface OperationExecutor {
      * @since 5.2
      */
     TimeoutSettings getTimeoutSettings();
+
+    /**
+     * Returns the thread factory of the client, with which to create the threads that execute operations concurrently
+     *
+     * @return the thread factory, or null to create daemon platform threads
+     * @see com.mongodb.MongoClientSettings#getThreadFactory()
+     */
+    @Nullable
+    ThreadFactory getThreadFactory();
 }
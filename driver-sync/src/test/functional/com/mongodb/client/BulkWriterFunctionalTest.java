@@ -0,0 +1,123 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriterOptions;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BulkWriterFunctionalTest extends DatabaseTestCase {
+
+    @Test
+    public void shouldInsertAllDocumentsInBatches() {
+        BulkWriteResult result;
+        try (BulkWriter<Document> writer = BulkWriters.create(collection, new BulkWriterOptions().maxBatchCount(7))) {
+            for (int i = 0; i < 100; i++) {
+                writer.insert(new Document("_id", i));
+            }
+            result = writer.flush();
+        }
+
+        assertEquals(100, result.getInsertedCount());
+        assertEquals(100, result.getInserts().size());
+        assertEquals(99, result.getInserts().get(99).getIndex());
+        assertEquals(100, collection.countDocuments());
+    }
+
+    @Test
+    public void shouldReportTheResultOfEachBatch() {
+        List<BulkWriteResult> batchResults = new CopyOnWriteArrayList<>();
+        BulkWriterOptions options = new BulkWriterOptions().ordered(false).maxBatchCount(10).maxInFlightBatches(4);
+        try (BulkWriter<Document> writer = BulkWriters.create(collection, options, batchResults::add)) {
+            for (int i = 0; i < 25; i++) {
+                writer.insert(new Document("_id", i == 24 ? 20 : i));
+            }
+            assertThrows(MongoBulkWriteException.class, writer::flush);
+        }
+
+        assertEquals(2, batchResults.size());
+        List<Integer> indexes = batchResults.stream()
+                .flatMap(result -> result.getInserts().stream())
+                .map(BulkWriteInsert::getIndex)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), indexes);
+    }
+
+    @Test
+    public void shouldWriteUnorderedBatchesConcurrently() {
+        BulkWriterOptions options = new BulkWriterOptions().ordered(false).maxBatchCount(10).maxInFlightBatches(4);
+        MongoBulkWriteException exception;
+        try (BulkWriter<Document> writer = BulkWriters.create(collection, options)) {
+            for (int i = 0; i < 100; i++) {
+                writer.insert(new Document("_id", i % 50 == 49 ? 0 : i));
+            }
+            exception = assertThrows(MongoBulkWriteException.class, writer::flush);
+
+            writer.insert(new Document("_id", 100));
+            assertEquals(1, writer.flush().getInsertedCount());
+        }
+
+        assertEquals(98, exception.getWriteResult().getInsertedCount());
+        assertEquals(2, exception.getWriteErrors().size());
+        assertEquals(49, exception.getWriteErrors().get(0).getIndex());
+        assertEquals(99, exception.getWriteErrors().get(1).getIndex());
+        assertEquals(99, collection.countDocuments());
+    }
+
+    @Test
+    public void shouldInsertAllDocumentsWhenGroupingByShard() {
+        BulkWriterOptions options = new BulkWriterOptions().ordered(false).maxBatchCount(10).groupByShard(true);
+        BulkWriteResult result;
+        try (BulkWriter<Document> writer = BulkWriters.create(collection, options)) {
+            for (int i = 0; i < 100; i++) {
+                writer.insert(new Document("_id", i));
+            }
+            result = writer.flush();
+        }
+
+        assertEquals(100, result.getInsertedCount());
+        assertEquals(99, result.getInserts().get(99).getIndex());
+        assertEquals(100, collection.countDocuments());
+    }
+
+    @Test
+    public void shouldStopOrderedWritesOnTheFirstFailedBatch() {
+        try (BulkWriter<Document> writer = BulkWriters.create(collection, new BulkWriterOptions().maxBatchCount(10))) {
+            MongoBulkWriteException exception = assertThrows(MongoBulkWriteException.class, () -> {
+                for (int i = 0; i < 100; i++) {
+                    writer.insert(new Document("_id", i == 15 ? 0 : i));
+                }
+            });
+
+            assertEquals(15, exception.getWriteResult().getInsertedCount());
+            assertEquals(15, exception.getWriteErrors().get(0).getIndex());
+        }
+        assertEquals(15, collection.countDocuments());
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.gridfs
+
+import com.mongodb.MongoGridFSException
+import com.mongodb.client.FindIterable
+import com.mongodb.client.MongoCollection
+import com.mongodb.client.MongoCursor
+import com.mongodb.client.gridfs.model.GridFSFile
+import org.bson.BsonBinary
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonObjectId
+import org.bson.Document
+import org.bson.types.ObjectId
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.channels.NonWritableChannelException
+
+class GridFSDownloadChannelSpecification extends Specification {
+    def fileId = new BsonObjectId(new ObjectId())
+    List<BsonDocument> queries = []
+
+    def 'should return the file info and size'() {
+        given:
+        def fileInfo = fileInfo(5, 2)
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo, Stub(MongoCollection), null)
+
+        expect:
+        channel.getGridFSFile() == fileInfo
+        channel.size() == 5
+        channel.position() == 0
+        channel.isOpen()
+    }
+
+    def 'should only read the chunks holding the range'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(5, 2), chunksCollection([[1, 2], [3, 4], [5]]), null)
+        def buffer = ByteBuffer.allocate(2)
+
+        when:
+        def bytesRead = channel.position(3).read(buffer)
+
+        then:
+        bytesRead == 2
+        buffer.array() as List == [4, 5]
+        channel.position() == 5
+        queries == [chunksQuery(1, 2), chunksQuery(2, 3)]
+
+        when:
+        buffer.clear()
+        bytesRead = channel.position(1).read(buffer)
+
+        then:
+        bytesRead == 2
+        buffer.array() as List == [2, 3]
+        queries == [chunksQuery(1, 2), chunksQuery(2, 3), chunksQuery(0, 1)]
+
+        when:
+        buffer.clear()
+        bytesRead = channel.position(2).read(buffer)
+
+        then:
+        bytesRead == 2
+        buffer.array() as List == [3, 4]
+        queries == [chunksQuery(1, 2), chunksQuery(2, 3), chunksQuery(0, 1)]
+    }
+
+    def 'should read ahead when reading sequentially'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(8, 1), chunksCollection((1..8).collect { [it] }), null)
+        def buffer = ByteBuffer.allocate(1)
+        def bytes = []
+
+        when:
+        while (channel.read(buffer.clear()) != -1) {
+            bytes.add(buffer.get(0))
+        }
+
+        then:
+        bytes == (1..8).toList()
+        queries == [chunksQuery(0, 1), chunksQuery(1, 3), chunksQuery(3, 7), chunksQuery(7, 8)]
+    }
+
+    def 'should bound the read ahead by the cache size'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(8, 1), chunksCollection((1..8).collect { [it] }), null)
+                .maxCachedChunks(4)
+
+        when:
+        channel.read(ByteBuffer.allocate(8))
+
+        then:
+        queries == [chunksQuery(0, 1), chunksQuery(1, 3), chunksQuery(3, 5), chunksQuery(5, 7), chunksQuery(7, 8)]
+    }
+
+    def 'should return -1 at or past the end of the file'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(5, 2), chunksCollection([[1, 2], [3, 4], [5]]), null)
+
+        expect:
+        channel.position(position).read(ByteBuffer.allocate(2)) == -1
+        queries.isEmpty()
+
+        where:
+        position << [5, 10]
+    }
+
+    def 'should throw if a chunk is missing'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(5, 2), chunksCollection([[1, 2], [3, 4]]), null)
+
+        when:
+        channel.position(4).read(ByteBuffer.allocate(1))
+
+        then:
+        thrown(MongoGridFSException)
+    }
+
+    def 'should throw if a chunk has an unexpected size'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(5, 2), chunksCollection([[1, 2], [3], [5]]), null)
+
+        when:
+        channel.position(2).read(ByteBuffer.allocate(1))
+
+        then:
+        thrown(MongoGridFSException)
+    }
+
+    def 'should not be writable'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(5, 2), Stub(MongoCollection), null)
+
+        when:
+        channel.write(ByteBuffer.allocate(1))
+
+        then:
+        thrown(NonWritableChannelException)
+
+        when:
+        channel.truncate(0)
+
+        then:
+        thrown(NonWritableChannelException)
+    }
+
+    def 'should throw if used after being closed'() {
+        given:
+        def channel = new GridFSDownloadChannelImpl(null, fileInfo(5, 2), Stub(MongoCollection), null)
+
+        when:
+        channel.close()
+
+        then:
+        !channel.isOpen()
+
+        when:
+        channel.read(ByteBuffer.allocate(1))
+
+        then:
+        thrown(MongoGridFSException)
+
+        when:
+        channel.position(1)
+
+        then:
+        thrown(MongoGridFSException)
+    }
+
+    private GridFSFile fileInfo(final long length, final int chunkSize) {
+        new GridFSFile(fileId, 'filename', length, chunkSize, new Date(), new Document())
+    }
+
+    private BsonDocument chunksQuery(final int start, final int end) {
+        new BsonDocument('files_id', fileId)
+                .append('n', new BsonDocument('$gte', new BsonInt32(start)).append('$lt', new BsonInt32(end)))
+    }
+
+    private MongoCollection chunksCollection(final List<List<Integer>> chunksData) {
+        def chunks = (0..<chunksData.size()).collect { n ->
+            new BsonDocument('files_id', fileId).append('n', new BsonInt32(n)).append('data', new BsonBinary(chunksData[n] as byte[]))
+        }
+        BsonDocument lastQuery = null
+        def findIterable = Stub(FindIterable)
+        findIterable.batchSize(_) >> findIterable
+        findIterable.sort(_) >> findIterable
+        findIterable.iterator() >> {
+            def start = lastQuery.getDocument('n').getInt32('$gte').getValue()
+            def end = lastQuery.getDocument('n').getInt32('$lt').getValue()
+            def iterator = chunks.findAll { it.getInt32('n').getValue() >= start && it.getInt32('n').getValue() < end }.iterator()
+            [hasNext: { iterator.hasNext() }, next: { iterator.next() }, close: { }] as MongoCursor
+        }
+        def chunksCollection = Stub(MongoCollection)
+        chunksCollection.find(_) >> { BsonDocument query ->
+            lastQuery = query
+            queries.add(query)
+            findIterable
+        }
+        chunksCollection
+    }
+}
@@ -30,8 +30,14 @@ import org.bson.Document
 import org.bson.types.ObjectId
 import spock.lang.Specification
 
+import java.util.concurrent.CopyOnWriteArrayList
+
 class GridFSDownloadStreamSpecification extends Specification {
+    // half of the size of the chunk ranges read ahead, so that each range holds two chunks
+    static final int LARGE_CHUNK_SIZE = 8 * 1024 * 1024
+    static final byte[] LARGE_CHUNK_DATA = new byte[LARGE_CHUNK_SIZE]
     def fileInfo = new GridFSFile(new BsonObjectId(new ObjectId()), 'filename', 3L, 2, new Date(), new Document())
+    List<BsonDocument> queries = new CopyOnWriteArrayList<>()
 
     def 'should return the file info'() {
         when:
@@ -672,4 +678,144 @@ class GridFSDownloadStreamSpecification extends Specification {
         where:
         clientSession << [null, Stub(ClientSession)]
     }
+
+    def 'should read ahead the ranges of chunks of a large file'() {
+        given:
+        def largeFileInfo = largeFileInfo(5)
+        def downloadStream = new GridFSDownloadStreamImpl(null, largeFileInfo, largeChunksCollection(5, 0..4), null).parallelism(2)
+
+        when:
+        def bytesRead = readAll(downloadStream)
+
+        then:
+        bytesRead == largeFileInfo.getLength()
+        queries.size() == 3
+        queries as Set == [rangeQuery(0, 2), rangeQuery(2, 4), lastRangeQuery(4)] as Set
+
+        cleanup:
+        downloadStream.close()
+    }
+
+    def 'should read the chunks with a single query when not reading ahead'() {
+        given:
+        def largeFileInfo = largeFileInfo(numberOfChunks)
+        def chunksCollection = largeChunksCollection(numberOfChunks, 0..<numberOfChunks)
+        def downloadStream = new GridFSDownloadStreamImpl(null, largeFileInfo, chunksCollection, null).parallelism(parallelism)
+
+        when:
+        def bytesRead = readAll(downloadStream)
+
+        then:
+        bytesRead == largeFileInfo.getLength()
+        queries == [lastRangeQuery(0)]
+
+        where:
+        numberOfChunks | parallelism
+        5              | 1
+        2              | 2
+    }
+
+    def 'should not read ahead with a client session'() {
+        given:
+        def clientSession = Stub(ClientSession)
+        def chunksCollection = Mock(MongoCollection)
+        def findIterable = Mock(FindIterable)
+        def mongoCursor = Mock(MongoCursor)
+        def downloadStream = new GridFSDownloadStreamImpl(clientSession, largeFileInfo(5), chunksCollection, null).parallelism(2)
+
+        when:
+        downloadStream.read()
+
+        then:
+        1 * chunksCollection.find(clientSession, lastRangeQuery(0)) >> findIterable
+        1 * findIterable.batchSize(0) >> findIterable
+        1 * findIterable.sort(_) >> findIterable
+        1 * findIterable.iterator() >> mongoCursor
+        1 * mongoCursor.hasNext() >> true
+        1 * mongoCursor.next() >> largeChunk(0, 5)
+        0 * chunksCollection.find(_)
+    }
+
+    def 'should throw if a chunk is missing from a range read ahead'() {
+        given:
+        def downloadStream = new GridFSDownloadStreamImpl(null, largeFileInfo(5), largeChunksCollection(5, [0, 1, 2, 4]), null)
+                .parallelism(2)
+
+        when:
+        readAll(downloadStream)
+
+        then:
+        def e = thrown(MongoGridFSException)
+        e.getMessage().contains('chunk index 3')
+
+        cleanup:
+        downloadStream.close()
+    }
+
+    def 'should read ahead anew from the chunk skipped to'() {
+        given:
+        def largeFileInfo = largeFileInfo(5)
+        def downloadStream = new GridFSDownloadStreamImpl(null, largeFileInfo, largeChunksCollection(5, 0..4), null).parallelism(2)
+
+        when:
+        downloadStream.read()
+        downloadStream.skip(3 * LARGE_CHUNK_SIZE)
+        def bytesRead = readAll(downloadStream)
+
+        then:
+        bytesRead == largeFileInfo.getLength() - 3 * LARGE_CHUNK_SIZE - 1
+        queries.contains(rangeQuery(0, 2))
+        queries.contains(lastRangeQuery(3))
+        !queries.contains(lastRangeQuery(4))
+
+        cleanup:
+        downloadStream.close()
+    }
+
+    private static long readAll(final GridFSDownloadStream downloadStream) {
+        def buffer = new byte[1024 * 1024]
+        long bytesRead = 0
+        int r
+        while ((r = downloadStream.read(buffer)) != -1) {
+            bytesRead += r
+        }
+        bytesRead
+    }
+
+    private GridFSFile largeFileInfo(final int numberOfChunks) {
+        new GridFSFile(fileInfo.getId(), 'filename', (numberOfChunks - 1) * (long) LARGE_CHUNK_SIZE + 1, LARGE_CHUNK_SIZE, new Date(),
+                new Document())
+    }
+
+    private BsonDocument largeChunk(final int n, final int numberOfChunks) {
+        new BsonDocument('files_id', fileInfo.getId()).append('n', new BsonInt32(n))
+                .append('data', new BsonBinary(n == numberOfChunks - 1 ? new byte[1] : LARGE_CHUNK_DATA))
+    }
+
+    private BsonDocument rangeQuery(final int start, final int end) {
+        new BsonDocument('files_id', fileInfo.getId())
+                .append('n', new BsonDocument('$gte', new BsonInt32(start)).append('$lt', new BsonInt32(end)))
+    }
+
+    private BsonDocument lastRangeQuery(final int start) {
+        new BsonDocument('files_id', fileInfo.getId()).append('n', new BsonDocument('$gte', new BsonInt32(start)))
+    }
+
+    /**
+     * A chunks collection that is safe to query from the threads reading ahead, unlike Spock mocks.
+     */
+    private MongoCollection largeChunksCollection(final int numberOfChunks, final Iterable<Integer> chunkIndexes) {
+        def chunks = chunkIndexes.collect { largeChunk(it, numberOfChunks) }
+        [find: { BsonDocument query ->
+            queries.add(query)
+            def range = query.getDocument('n')
+            def start = range.getInt32('$gte').getValue()
+            def end = range.containsKey('$lt') ? range.getInt32('$lt').getValue() : Integer.MAX_VALUE
+            def iterator = chunks.findAll { it.getInt32('n').getValue() >= start && it.getInt32('n').getValue() < end }.iterator()
+            def mongoCursor = [hasNext: { iterator.hasNext() }, next: { iterator.next() }, close: { }] as MongoCursor
+            FindIterable findIterable
+            findIterable = [batchSize: { findIterable }, sort: { findIterable }, iterator: { mongoCursor }] as FindIterable
+            findIterable
+        }] as MongoCollection
+    }
 }
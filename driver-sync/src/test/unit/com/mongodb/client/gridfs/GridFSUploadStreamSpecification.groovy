@@ -66,6 +66,51 @@ class GridFSUploadStreamSpecification extends Specification {
         clientSession << [null, Stub(ClientSession)]
     }
 
+    def 'should insert the chunks in batches'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(clientSession, filesCollection, chunksCollection, fileId, filename, 2
+                , metadata, null, 2)
+        when:
+        uploadStream.write([1, 2, 3] as byte[])
+
+        then:
+        0 * chunksCollection.insertOne(*_)
+        0 * chunksCollection.insertMany(*_)
+
+        when:
+        uploadStream.write([4] as byte[])
+
+        then:
+        if (clientSession != null) {
+            1 * chunksCollection.insertMany(clientSession, { List<BsonDocument> chunks ->
+                chunks*.getInt32('n')*.getValue() == [0, 1] && chunks*.getBinary('data')*.getData()*.toList() == [[1, 2], [3, 4]]
+            })
+        } else {
+            1 * chunksCollection.insertMany({ List<BsonDocument> chunks ->
+                chunks*.getInt32('n')*.getValue() == [0, 1] && chunks*.getBinary('data')*.getData()*.toList() == [[1, 2], [3, 4]]
+            })
+        }
+
+        when:
+        uploadStream.write([5] as byte[])
+        uploadStream.close()
+
+        then:
+        if (clientSession != null) {
+            1 * chunksCollection.insertMany(clientSession, { List<BsonDocument> chunks -> chunks*.getInt32('n')*.getValue() == [2] })
+            1 * filesCollection.insertOne(clientSession, _)
+        } else {
+            1 * chunksCollection.insertMany({ List<BsonDocument> chunks -> chunks*.getInt32('n')*.getValue() == [2] })
+            1 * filesCollection.insertOne(_)
+        }
+        0 * chunksCollection.insertOne(*_)
+
+        where:
+        clientSession << [null, Stub(ClientSession)]
+    }
+
     def 'should write to the files collection on close'() {
         given:
         def filesCollection = Mock(MongoCollection)
@@ -260,6 +260,6 @@ class MongoClusterSpecification extends Specification {
         new MongoClusterImpl(null, cluster, settings.codecRegistry, null, null,
                 originator, operationExecutor, settings.readConcern, settings.readPreference, settings.retryReads, settings.retryWrites,
                 null, serverSessionPool, TimeoutSettings.create(settings), settings.uuidRepresentation,
-                settings.writeConcern, TracingManager.NO_OP)
+                settings.writeConcern, TracingManager.NO_OP, null)
     }
 }
@@ -26,6 +26,7 @@ import com.mongodb.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 @SuppressWarnings("rawtypes")
 public class TestOperationExecutor implements OperationExecutor {
@@ -79,6 +80,12 @@ public class TestOperationExecutor implements OperationExecutor {
         throw new UnsupportedOperationException("Not supported");
     }
 
+    @Override
+    @Nullable
+    public ThreadFactory getThreadFactory() {
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T getResponse() {
         Object response = responses.remove(0);